@@ -0,0 +1,31 @@
+package com.microservice.stock.application.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Per-resource counter bumped whenever a write to that resource commits here, or once the remote change poll sees one
+// committed by another instance, so list tags move on within the settle time and a poll interval
+public class CatalogVersions {
+
+    // Counters restart with the process, so tags carry a per-process prefix to never match an older one
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    public long current(String resource) {
+        return version(resource).get();
+    }
+
+    public String tag(String resource) {
+        return epoch + "-" + current(resource);
+    }
+
+    public void bump(String resource) {
+        version(resource).incrementAndGet();
+    }
+
+    private AtomicLong version(String resource) {
+        return versions.computeIfAbsent(resource, ignored -> new AtomicLong());
+    }
+}
@@ -0,0 +1,13 @@
+package com.microservice.stock.application.cache;
+
+import com.microservice.stock.application.dto.response.PaginationResponse;
+
+import java.util.function.Supplier;
+
+// Finished list pages, kept until a write to their resource commits or they expire
+public interface IPaginationResponseCache {
+    <T> PaginationResponse<T> get(PageKey key, Supplier<PaginationResponse<T>> loader);
+    void invalidateAfterCommit(String resource);
+    // For writes already committed, such as those another instance made
+    void invalidate(String resource);
+}
@@ -0,0 +1,21 @@
+package com.microservice.stock.application.cache;
+
+public record PageKey(String resource, String mode, Integer pageNumber, Integer pageSize,
+                      String sortBy, String sortDirection, String after) {
+
+    public static final String BRAND = "brand";
+    public static final String CATEGORY = "category";
+    public static final String ARTICLE = "article";
+
+    public static PageKey page(String resource, Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        return new PageKey(resource, "page", pageNumber, pageSize, sortBy, sortDirection, null);
+    }
+
+    public static PageKey slice(String resource, Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        return new PageKey(resource, "slice", pageNumber, pageSize, sortBy, sortDirection, null);
+    }
+
+    public static PageKey after(String resource, Integer pageSize, String sortBy, String sortDirection, String after) {
+        return new PageKey(resource, "after", null, pageSize, sortBy, sortDirection, after);
+    }
+}
@@ -0,0 +1,25 @@
+package com.microservice.stock.application.dto.request;
+
+import com.microservice.stock.domain.util.DomainConstants;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class ReservationRequest {
+
+    @NotNull(message = DomainConstants.FIELD_ARTICLE_ID_NOT_NULL_MESSAGE)
+    private Long articleId;
+
+    @NotNull(message = DomainConstants.RESERVATION_QUANTITY_MESSAGE)
+    @Positive(message = DomainConstants.RESERVATION_QUANTITY_MESSAGE)
+    private Integer quantity;
+
+    @NotNull(message = DomainConstants.RESERVATION_TTL_MESSAGE)
+    @Positive(message = DomainConstants.RESERVATION_TTL_MESSAGE)
+    @Max(value = DomainConstants.RESERVATION_TTL_MAX_SECONDS, message = DomainConstants.RESERVATION_TTL_MESSAGE)
+    private Integer ttlSeconds;
+}
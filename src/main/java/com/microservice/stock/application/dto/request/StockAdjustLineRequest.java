@@ -0,0 +1,11 @@
+package com.microservice.stock.application.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@AllArgsConstructor
+@Getter
+public class StockAdjustLineRequest {
+    private Long articleId;
+    private Integer delta;
+}
@@ -0,0 +1,18 @@
+package com.microservice.stock.application.dto.request;
+
+import com.microservice.stock.domain.util.DomainConstants;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class StockAvailabilityRequest {
+
+    @NotEmpty(message = DomainConstants.AVAILABILITY_EMPTY_MESSAGE)
+    private List<Long> articleIds;
+}
@@ -0,0 +1,16 @@
+package com.microservice.stock.application.dto.request;
+
+import com.microservice.stock.domain.util.DomainConstants;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class StockSlotsRequest {
+
+    @NotNull(message = DomainConstants.STOCK_SLOTS_RANGE_MESSAGE)
+    private Integer slots;
+}
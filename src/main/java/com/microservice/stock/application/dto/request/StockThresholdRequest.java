@@ -0,0 +1,18 @@
+package com.microservice.stock.application.dto.request;
+
+import com.microservice.stock.domain.util.DomainConstants;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class StockThresholdRequest {
+
+    @NotNull(message = DomainConstants.REORDER_THRESHOLD_MESSAGE)
+    @PositiveOrZero(message = DomainConstants.REORDER_THRESHOLD_MESSAGE)
+    private Integer threshold;
+}
@@ -0,0 +1,25 @@
+package com.microservice.stock.application.dto.request;
+
+import com.microservice.stock.domain.util.DomainConstants;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class StockTransferRequest {
+
+    @NotBlank(message = DomainConstants.LOCATION_NULL_MESSAGE)
+    private String fromLocation;
+
+    @NotBlank(message = DomainConstants.LOCATION_NULL_MESSAGE)
+    private String toLocation;
+
+    @NotNull(message = DomainConstants.TRANSFER_QUANTITY_MESSAGE)
+    @Positive(message = DomainConstants.TRANSFER_QUANTITY_MESSAGE)
+    private Integer quantity;
+}
@@ -0,0 +1,15 @@
+package com.microservice.stock.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class ArticleBatchResponse {
+    private int created;
+    private int failed;
+    private Map<Integer, List<String>> errors;
+}
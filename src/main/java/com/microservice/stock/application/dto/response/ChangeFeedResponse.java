@@ -0,0 +1,13 @@
+package com.microservice.stock.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ChangeFeedResponse {
+    private List<ChangeResponse> changes;
+    private long next;
+}
@@ -0,0 +1,15 @@
+package com.microservice.stock.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ChangeResponse {
+    private String type;
+    private Long id;
+    private long version;
+    private ArticleResponse article;
+    private BrandResponse brand;
+    private CategoryResponse category;
+}
@@ -0,0 +1,12 @@
+package com.microservice.stock.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LowStockResponse {
+    private Long articleId;
+    private int quantity;
+    private int threshold;
+}
@@ -13,7 +13,9 @@ public class PaginationResponse<T> {
     private Integer size;
     private long totalElements;
     private int totalPages;
+    private boolean totalKnown;
     private boolean first;
     private boolean last;
     private boolean empty;
+    private String nextCursor;
 }
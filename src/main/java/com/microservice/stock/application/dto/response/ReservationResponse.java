@@ -0,0 +1,15 @@
+package com.microservice.stock.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@AllArgsConstructor
+@Getter
+public class ReservationResponse {
+    private final String id;
+    private final Long articleId;
+    private final Integer quantity;
+    private final Instant expiresAt;
+}
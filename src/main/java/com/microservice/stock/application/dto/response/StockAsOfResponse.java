@@ -0,0 +1,14 @@
+package com.microservice.stock.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class StockAsOfResponse {
+    private Long articleId;
+    private Instant at;
+    private int quantity;
+}
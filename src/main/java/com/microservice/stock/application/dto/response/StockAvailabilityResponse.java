@@ -0,0 +1,11 @@
+package com.microservice.stock.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StockAvailabilityResponse {
+    private Long articleId;
+    private int quantity;
+}
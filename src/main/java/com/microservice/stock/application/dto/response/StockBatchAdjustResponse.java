@@ -0,0 +1,15 @@
+package com.microservice.stock.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class StockBatchAdjustResponse {
+    private boolean applied;
+    private Map<Long, Integer> quantities;
+    private Map<Integer, List<String>> errors;
+}
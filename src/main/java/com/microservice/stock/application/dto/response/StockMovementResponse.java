@@ -0,0 +1,13 @@
+package com.microservice.stock.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class StockMovementResponse {
+    private int delta;
+    private Instant occurredAt;
+}
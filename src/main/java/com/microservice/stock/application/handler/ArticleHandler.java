@@ -1,16 +1,29 @@
 package com.microservice.stock.application.handler;
 
+import com.microservice.stock.application.cache.IPaginationResponseCache;
+import com.microservice.stock.application.cache.PageKey;
 import com.microservice.stock.application.dto.request.ArticleRequest;
+import com.microservice.stock.application.dto.request.StockAdjustLineRequest;
+import com.microservice.stock.application.dto.request.StockAdjustRequest;
+import com.microservice.stock.application.dto.request.StockSlotsRequest;
+import com.microservice.stock.application.dto.response.ArticleBatchResponse;
 import com.microservice.stock.application.dto.response.ArticleResponse;
 import com.microservice.stock.application.dto.response.PaginationResponse;
+import com.microservice.stock.application.dto.response.StockAdjustResponse;
+import com.microservice.stock.application.dto.response.StockBatchAdjustResponse;
 import com.microservice.stock.application.mapper.IArticleRequestMapper;
 import com.microservice.stock.application.mapper.IArticleResponseMapper;
 import com.microservice.stock.domain.api.IArticleServicePort;
 import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.model.ArticleBatchResult;
+import com.microservice.stock.domain.model.StockAdjustment;
+import com.microservice.stock.domain.model.StockAdjustmentResult;
 import com.microservice.stock.domain.util.Pagination;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -22,27 +35,84 @@ public class ArticleHandler implements IArticleHandler {
     private final IArticleServicePort articleServicePort;
     private final IArticleRequestMapper articleRequestMapper;
     private final IArticleResponseMapper articleResponseMapper;
+    private final IPaginationResponseCache paginationResponseCache;
 
     @Override
     public void createArticle(ArticleRequest articleRequest) {
         Article article = articleRequestMapper.toArticle(articleRequest);
         articleServicePort.createArticle(article);
+        paginationResponseCache.invalidateAfterCommit(PageKey.ARTICLE);
     }
 
     @Override
-    public PaginationResponse<ArticleResponse> listArticles(int pageNumber, int pageSize, String sortBy, String sortDirection) {
-        Pagination<Article> articlePagination = articleServicePort.listArticles(pageNumber,pageSize,sortBy,sortDirection);
+    public ArticleBatchResponse createArticles(List<ArticleRequest> articleRequests) {
+        List<Article> articles = articleRequests == null ? null : articleRequests.stream()
+                .map(articleRequestMapper::toArticle)
+                .toList();
+        ArticleBatchResult articleBatchResult = articleServicePort.createArticles(articles);
+        if (articleBatchResult.getCreated() > 0) {
+            paginationResponseCache.invalidateAfterCommit(PageKey.ARTICLE);
+        }
+        return articleResponseMapper.toArticleBatchResponse(articleBatchResult);
+    }
+
+    // No transaction here, so the stock coalescer may batch the delta; the persistence adapter commits it otherwise
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public StockAdjustResponse adjustStock(Long articleId, StockAdjustRequest stockAdjustRequest) {
+        int quantity = articleServicePort.adjustStock(articleId, stockAdjustRequest.getDelta());
+        paginationResponseCache.invalidateAfterCommit(PageKey.ARTICLE);
+        return new StockAdjustResponse(articleId, quantity);
+    }
 
-        List<ArticleResponse> articleResponses = articlePagination.getContent().stream()
-                .map(articleResponseMapper::toArticleResponse)
+    // Under READ COMMITTED a stock slot that rejects the delta is unlocked again, so trying the next slot cannot deadlock
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public StockBatchAdjustResponse adjustStocks(List<StockAdjustLineRequest> stockAdjustLineRequests) {
+        List<StockAdjustment> adjustments = stockAdjustLineRequests == null ? null : stockAdjustLineRequests.stream()
+                .map(articleRequestMapper::toStockAdjustment)
                 .toList();
+        StockAdjustmentResult stockAdjustmentResult = articleServicePort.adjustStocks(adjustments);
+        if (stockAdjustmentResult.isApplied()) {
+            paginationResponseCache.invalidateAfterCommit(PageKey.ARTICLE);
+        }
+        return articleResponseMapper.toStockBatchAdjustResponse(stockAdjustmentResult);
+    }
+
+    // Spreading and folding the total write the same slots, so they run at the isolation of the adjustments
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void shardStock(Long articleId, StockSlotsRequest stockSlotsRequest) {
+        articleServicePort.shardStock(articleId, stockSlotsRequest.getSlots());
+    }
 
-        Pagination<ArticleResponse> responsePagination = new Pagination<>(
-                articleResponses,
-                articlePagination.getPageNumber(),
-                articlePagination.getPageSize(),
-                articlePagination.getTotalElements()
-        );
-        return articleResponseMapper.toPaginationResponse(responsePagination);
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void unshardStock(Long articleId) {
+        articleServicePort.unshardStock(articleId);
+    }
+
+    @Override
+    public PaginationResponse<ArticleResponse> listArticles(int pageNumber, int pageSize, String sortBy, String sortDirection) {
+        return paginationResponseCache.get(PageKey.page(PageKey.ARTICLE, pageNumber, pageSize, sortBy, sortDirection), () -> {
+            Pagination<Article> articlePagination = articleServicePort.listArticles(pageNumber,pageSize,sortBy,sortDirection);
+            return articleResponseMapper.toPaginationResponse(articlePagination.map(articleResponseMapper::toArticleResponse));
+        });
+    }
+
+    @Override
+    public PaginationResponse<ArticleResponse> listArticlesSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        return paginationResponseCache.get(PageKey.slice(PageKey.ARTICLE, pageNumber, pageSize, sortBy, sortDirection), () -> {
+            Pagination<Article> articlePagination = articleServicePort.listArticlesSlice(pageNumber, pageSize, sortBy, sortDirection);
+            return articleResponseMapper.toPaginationResponse(articlePagination.map(articleResponseMapper::toArticleResponse));
+        });
+    }
+
+    @Override
+    public PaginationResponse<ArticleResponse> listArticlesAfter(Integer pageSize, String sortBy, String sortDirection, String after) {
+        return paginationResponseCache.get(PageKey.after(PageKey.ARTICLE, pageSize, sortBy, sortDirection, after), () -> {
+            Pagination<Article> articlePagination = articleServicePort.listArticlesAfter(pageSize, sortBy, sortDirection, after);
+            return articleResponseMapper.toPaginationResponse(articlePagination.map(articleResponseMapper::toArticleResponse));
+        });
     }
 }
@@ -0,0 +1,26 @@
+package com.microservice.stock.application.handler;
+
+import com.microservice.stock.application.dto.response.ArticleResponse;
+import com.microservice.stock.application.dto.response.PaginationResponse;
+import com.microservice.stock.application.mapper.IArticleResponseMapper;
+import com.microservice.stock.domain.api.IArticleSearchServicePort;
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.util.Pagination;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ArticleSearchHandler implements IArticleSearchHandler {
+
+    private final IArticleSearchServicePort articleSearchServicePort;
+    private final IArticleResponseMapper articleResponseMapper;
+
+    @Override
+    public PaginationResponse<ArticleResponse> searchArticles(String query, Integer pageNumber, Integer pageSize) {
+        Pagination<Article> articlePagination = articleSearchServicePort.searchArticles(query, pageNumber, pageSize);
+        return articleResponseMapper.toPaginationResponse(articlePagination.map(articleResponseMapper::toArticleResponse));
+    }
+}
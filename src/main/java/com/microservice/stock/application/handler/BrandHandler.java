@@ -1,5 +1,7 @@
 package com.microservice.stock.application.handler;
 
+import com.microservice.stock.application.cache.IPaginationResponseCache;
+import com.microservice.stock.application.cache.PageKey;
 import com.microservice.stock.application.dto.request.BrandRequest;
 import com.microservice.stock.application.dto.response.BrandResponse;
 import com.microservice.stock.application.dto.response.PaginationResponse;
@@ -12,8 +14,6 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -22,28 +22,36 @@ public class BrandHandler implements IBrandHandler {
     private final IBrandServicePort brandServicePort;
     private final IBrandRequestMapper brandRequestMapper;
     private final IBrandResponseMapper brandResponseMapper;
+    private final IPaginationResponseCache paginationResponseCache;
 
     @Override
     public void createBrand(BrandRequest brandRequest) {
         Brand brand = brandRequestMapper.toBrand(brandRequest);
         brandServicePort.createBrand(brand);
+        paginationResponseCache.invalidateAfterCommit(PageKey.BRAND);
     }
 
     @Override
     public PaginationResponse<BrandResponse> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        return paginationResponseCache.get(PageKey.page(PageKey.BRAND, pageNumber, pageSize, sortBy, sortDirection), () -> {
+            Pagination<Brand> brandPagination = brandServicePort.listBrands(pageNumber,pageSize,sortBy,sortDirection);
+            return brandResponseMapper.toPaginationResponse(brandPagination.map(brandResponseMapper::toBrandResponse));
+        });
+    }
 
-        Pagination<Brand> brandPagination = brandServicePort.listBrands(pageNumber,pageSize,sortBy,sortDirection);
-
-        List<BrandResponse> brandResponses = brandPagination.getContent().stream()
-                .map(brandResponseMapper::toBrandResponse)
-                .toList();
+    @Override
+    public PaginationResponse<BrandResponse> listBrandsSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        return paginationResponseCache.get(PageKey.slice(PageKey.BRAND, pageNumber, pageSize, sortBy, sortDirection), () -> {
+            Pagination<Brand> brandPagination = brandServicePort.listBrandsSlice(pageNumber, pageSize, sortBy, sortDirection);
+            return brandResponseMapper.toPaginationResponse(brandPagination.map(brandResponseMapper::toBrandResponse));
+        });
+    }
 
-        Pagination<BrandResponse> responsePagination = new Pagination<>(
-                brandResponses,
-                brandPagination.getPageNumber(),
-                brandPagination.getPageSize(),
-                brandPagination.getTotalElements()
-        );
-        return brandResponseMapper.toPaginationResponse(responsePagination);
+    @Override
+    public PaginationResponse<BrandResponse> listBrandsAfter(Integer pageSize, String sortBy, String sortDirection, String after) {
+        return paginationResponseCache.get(PageKey.after(PageKey.BRAND, pageSize, sortBy, sortDirection, after), () -> {
+            Pagination<Brand> brandPagination = brandServicePort.listBrandsAfter(pageSize, sortBy, sortDirection, after);
+            return brandResponseMapper.toPaginationResponse(brandPagination.map(brandResponseMapper::toBrandResponse));
+        });
     }
 }
@@ -1,5 +1,7 @@
 package com.microservice.stock.application.handler;
 
+import com.microservice.stock.application.cache.IPaginationResponseCache;
+import com.microservice.stock.application.cache.PageKey;
 import com.microservice.stock.application.dto.request.CategoryRequest;
 import com.microservice.stock.application.dto.response.CategoryResponse;
 import com.microservice.stock.application.dto.response.PaginationResponse;
@@ -12,8 +14,6 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -22,30 +22,39 @@ public class CategoryHandler implements ICategoryHandler {
     private final ICategoryServicePort categoryServicePort;
     private final ICategoryRequestMapper categoryRequestMapper;
     private final ICategoryResponseMapper categoryResponseMapper;
+    private final IPaginationResponseCache paginationResponseCache;
 
     @Override
     public void createCategory(CategoryRequest categoryRequest) {
         Category category = categoryRequestMapper.toCategory(categoryRequest);
         categoryServicePort.createCategory(category);
+        paginationResponseCache.invalidateAfterCommit(PageKey.CATEGORY);
     }
 
     @Override
     public PaginationResponse<CategoryResponse> listCategories(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
-        // Retrieve the category pagination from the service
-        Pagination<Category> categoryPagination = categoryServicePort.listCategory(pageNumber, pageSize, sortBy, sortDirection);
-
-        // Convert categories to DTOs
-        List<CategoryResponse> categoryResponses = categoryPagination.getContent().stream()
-                .map(categoryResponseMapper::toCategoryResponse)
-                .toList();
-
-        // Create the Pagination object for the response
-        Pagination<CategoryResponse> responsePagination = new Pagination<>(
-                categoryResponses,
-                categoryPagination.getPageNumber(),
-                categoryPagination.getPageSize(),
-                categoryPagination.getTotalElements()
-        );
-        return categoryResponseMapper.toPaginationResponse(responsePagination);
+        return paginationResponseCache.get(PageKey.page(PageKey.CATEGORY, pageNumber, pageSize, sortBy, sortDirection), () -> {
+            // Retrieve the category pagination from the service
+            Pagination<Category> categoryPagination = categoryServicePort.listCategory(pageNumber, pageSize, sortBy, sortDirection);
+
+            // Convert categories to DTOs, keeping the pagination metadata from the persistence layer
+            return categoryResponseMapper.toPaginationResponse(categoryPagination.map(categoryResponseMapper::toCategoryResponse));
+        });
+    }
+
+    @Override
+    public PaginationResponse<CategoryResponse> listCategoriesSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        return paginationResponseCache.get(PageKey.slice(PageKey.CATEGORY, pageNumber, pageSize, sortBy, sortDirection), () -> {
+            Pagination<Category> categoryPagination = categoryServicePort.listCategorySlice(pageNumber, pageSize, sortBy, sortDirection);
+            return categoryResponseMapper.toPaginationResponse(categoryPagination.map(categoryResponseMapper::toCategoryResponse));
+        });
+    }
+
+    @Override
+    public PaginationResponse<CategoryResponse> listCategoriesAfter(Integer pageSize, String sortBy, String sortDirection, String after) {
+        return paginationResponseCache.get(PageKey.after(PageKey.CATEGORY, pageSize, sortBy, sortDirection, after), () -> {
+            Pagination<Category> categoryPagination = categoryServicePort.listCategoryAfter(pageSize, sortBy, sortDirection, after);
+            return categoryResponseMapper.toPaginationResponse(categoryPagination.map(categoryResponseMapper::toCategoryResponse));
+        });
     }
 }
@@ -0,0 +1,22 @@
+package com.microservice.stock.application.handler;
+
+import com.microservice.stock.application.dto.response.ChangeFeedResponse;
+import com.microservice.stock.application.mapper.IChangeFeedResponseMapper;
+import com.microservice.stock.domain.api.IChangeFeedServicePort;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ChangeFeedHandler implements IChangeFeedHandler {
+
+    private final IChangeFeedServicePort changeFeedServicePort;
+    private final IChangeFeedResponseMapper changeFeedResponseMapper;
+
+    @Override
+    public ChangeFeedResponse listChanges(Long since, Integer limit) {
+        return changeFeedResponseMapper.toChangeFeedResponse(changeFeedServicePort.listChanges(since, limit));
+    }
+}
@@ -1,10 +1,25 @@
 package com.microservice.stock.application.handler;
 
 import com.microservice.stock.application.dto.request.ArticleRequest;
+import com.microservice.stock.application.dto.request.StockAdjustLineRequest;
+import com.microservice.stock.application.dto.request.StockAdjustRequest;
+import com.microservice.stock.application.dto.request.StockSlotsRequest;
+import com.microservice.stock.application.dto.response.ArticleBatchResponse;
 import com.microservice.stock.application.dto.response.ArticleResponse;
 import com.microservice.stock.application.dto.response.PaginationResponse;
+import com.microservice.stock.application.dto.response.StockAdjustResponse;
+import com.microservice.stock.application.dto.response.StockBatchAdjustResponse;
+
+import java.util.List;
 
 public interface IArticleHandler {
     void createArticle(ArticleRequest articleRequest);
+    ArticleBatchResponse createArticles(List<ArticleRequest> articleRequests);
+    StockAdjustResponse adjustStock(Long articleId, StockAdjustRequest stockAdjustRequest);
+    StockBatchAdjustResponse adjustStocks(List<StockAdjustLineRequest> stockAdjustLineRequests);
+    void shardStock(Long articleId, StockSlotsRequest stockSlotsRequest);
+    void unshardStock(Long articleId);
     PaginationResponse<ArticleResponse> listArticles(int pageNumber, int pageSize, String sortBy, String sortDirection);
+    PaginationResponse<ArticleResponse> listArticlesSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    PaginationResponse<ArticleResponse> listArticlesAfter(Integer pageSize, String sortBy, String sortDirection, String after);
 }
@@ -0,0 +1,8 @@
+package com.microservice.stock.application.handler;
+
+import com.microservice.stock.application.dto.response.ArticleResponse;
+import com.microservice.stock.application.dto.response.PaginationResponse;
+
+public interface IArticleSearchHandler {
+    PaginationResponse<ArticleResponse> searchArticles(String query, Integer pageNumber, Integer pageSize);
+}
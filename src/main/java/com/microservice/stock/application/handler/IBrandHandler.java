@@ -7,4 +7,6 @@ import com.microservice.stock.application.dto.response.PaginationResponse;
 public interface IBrandHandler {
     void createBrand(BrandRequest brandRequest);
     PaginationResponse<BrandResponse> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    PaginationResponse<BrandResponse> listBrandsSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    PaginationResponse<BrandResponse> listBrandsAfter(Integer pageSize, String sortBy, String sortDirection, String after);
 }
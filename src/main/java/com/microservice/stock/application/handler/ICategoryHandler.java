@@ -7,6 +7,8 @@ import com.microservice.stock.application.dto.response.PaginationResponse;
 public interface ICategoryHandler {
     void createCategory(CategoryRequest categoryRequest);
     PaginationResponse<CategoryResponse> listCategories(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    PaginationResponse<CategoryResponse> listCategoriesSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    PaginationResponse<CategoryResponse> listCategoriesAfter(Integer pageSize, String sortBy, String sortDirection, String after);
 
 }
 
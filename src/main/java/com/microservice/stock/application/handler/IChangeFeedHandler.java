@@ -0,0 +1,7 @@
+package com.microservice.stock.application.handler;
+
+import com.microservice.stock.application.dto.response.ChangeFeedResponse;
+
+public interface IChangeFeedHandler {
+    ChangeFeedResponse listChanges(Long since, Integer limit);
+}
@@ -0,0 +1,14 @@
+package com.microservice.stock.application.handler;
+
+import com.microservice.stock.application.dto.request.StockAdjustRequest;
+import com.microservice.stock.application.dto.request.StockTransferRequest;
+import com.microservice.stock.application.dto.response.LocationStockResponse;
+import com.microservice.stock.application.dto.response.StockAdjustResponse;
+
+import java.util.List;
+
+public interface ILocationStockHandler {
+    StockAdjustResponse adjustLocationStock(Long articleId, String location, StockAdjustRequest stockAdjustRequest);
+    void transferStock(Long articleId, StockTransferRequest stockTransferRequest);
+    List<LocationStockResponse> listLocationStock(Long articleId);
+}
@@ -0,0 +1,13 @@
+package com.microservice.stock.application.handler;
+
+import com.microservice.stock.application.dto.request.ReservationRequest;
+import com.microservice.stock.application.dto.response.AvailableStockResponse;
+import com.microservice.stock.application.dto.response.ReservationResponse;
+
+public interface IReservationHandler {
+    ReservationResponse reserve(ReservationRequest reservationRequest);
+    void confirm(String reservationId);
+    void release(String reservationId);
+    void expire(String reservationId);
+    AvailableStockResponse availableStock(Long articleId);
+}
@@ -0,0 +1,10 @@
+package com.microservice.stock.application.handler;
+
+import com.microservice.stock.application.dto.request.StockAvailabilityRequest;
+import com.microservice.stock.application.dto.response.StockAvailabilityResponse;
+
+import java.util.List;
+
+public interface IStockAvailabilityHandler {
+    List<StockAvailabilityResponse> checkAvailability(StockAvailabilityRequest stockAvailabilityRequest);
+}
@@ -0,0 +1,12 @@
+package com.microservice.stock.application.handler;
+
+import com.microservice.stock.application.dto.response.StockAsOfResponse;
+import com.microservice.stock.application.dto.response.StockMovementResponse;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface IStockLedgerHandler {
+    StockAsOfResponse stockAsOf(Long articleId, Instant at);
+    List<StockMovementResponse> listMovements(Long articleId, Instant before, Integer limit);
+}
@@ -0,0 +1,12 @@
+package com.microservice.stock.application.handler;
+
+import com.microservice.stock.application.dto.request.StockThresholdRequest;
+import com.microservice.stock.application.dto.response.LowStockResponse;
+
+import java.util.List;
+
+public interface IStockThresholdHandler {
+    void setThreshold(Long articleId, StockThresholdRequest stockThresholdRequest);
+    void clearThreshold(Long articleId);
+    List<LowStockResponse> listLowStock(Integer limit);
+}
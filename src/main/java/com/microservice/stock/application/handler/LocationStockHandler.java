@@ -0,0 +1,46 @@
+package com.microservice.stock.application.handler;
+
+import com.microservice.stock.application.cache.IPaginationResponseCache;
+import com.microservice.stock.application.cache.PageKey;
+import com.microservice.stock.application.dto.request.StockAdjustRequest;
+import com.microservice.stock.application.dto.request.StockTransferRequest;
+import com.microservice.stock.application.dto.response.LocationStockResponse;
+import com.microservice.stock.application.dto.response.StockAdjustResponse;
+import com.microservice.stock.application.mapper.ILocationStockResponseMapper;
+import com.microservice.stock.domain.api.ILocationStockServicePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LocationStockHandler implements ILocationStockHandler {
+
+    private final ILocationStockServicePort locationStockServicePort;
+    private final ILocationStockResponseMapper locationStockResponseMapper;
+    private final IPaginationResponseCache paginationResponseCache;
+
+    // Same isolation as the article adjustment, since the total may live in stock slots
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public StockAdjustResponse adjustLocationStock(Long articleId, String location, StockAdjustRequest stockAdjustRequest) {
+        int quantity = locationStockServicePort.adjustLocationStock(articleId, location, stockAdjustRequest.getDelta());
+        paginationResponseCache.invalidateAfterCommit(PageKey.ARTICLE);
+        return new StockAdjustResponse(articleId, quantity);
+    }
+
+    @Override
+    public void transferStock(Long articleId, StockTransferRequest stockTransferRequest) {
+        locationStockServicePort.transferStock(articleId, stockTransferRequest.getFromLocation(),
+                stockTransferRequest.getToLocation(), stockTransferRequest.getQuantity());
+    }
+
+    @Override
+    public List<LocationStockResponse> listLocationStock(Long articleId) {
+        return locationStockResponseMapper.toLocationStockResponseList(locationStockServicePort.listLocationStock(articleId));
+    }
+}
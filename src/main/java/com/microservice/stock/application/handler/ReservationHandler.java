@@ -0,0 +1,53 @@
+package com.microservice.stock.application.handler;
+
+import com.microservice.stock.application.cache.IPaginationResponseCache;
+import com.microservice.stock.application.cache.PageKey;
+import com.microservice.stock.application.dto.request.ReservationRequest;
+import com.microservice.stock.application.dto.response.AvailableStockResponse;
+import com.microservice.stock.application.dto.response.ReservationResponse;
+import com.microservice.stock.application.mapper.IReservationResponseMapper;
+import com.microservice.stock.domain.api.IReservationServicePort;
+import com.microservice.stock.domain.model.Reservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+// A hold on a sharded article moves units out of its stock slots, at the isolation of the other slot adjustments
+@Service
+@RequiredArgsConstructor
+@Transactional(isolation = Isolation.READ_COMMITTED)
+public class ReservationHandler implements IReservationHandler {
+
+    private final IReservationServicePort reservationServicePort;
+    private final IReservationResponseMapper reservationResponseMapper;
+    private final IPaginationResponseCache paginationResponseCache;
+
+    @Override
+    public ReservationResponse reserve(ReservationRequest reservationRequest) {
+        Reservation reservation = reservationServicePort.reserve(reservationRequest.getArticleId(),
+                reservationRequest.getQuantity(), reservationRequest.getTtlSeconds());
+        return reservationResponseMapper.toReservationResponse(reservation);
+    }
+
+    @Override
+    public void confirm(String reservationId) {
+        reservationServicePort.confirm(reservationId);
+        paginationResponseCache.invalidateAfterCommit(PageKey.ARTICLE);
+    }
+
+    @Override
+    public void release(String reservationId) {
+        reservationServicePort.release(reservationId);
+    }
+
+    @Override
+    public void expire(String reservationId) {
+        reservationServicePort.expire(reservationId);
+    }
+
+    @Override
+    public AvailableStockResponse availableStock(Long articleId) {
+        return new AvailableStockResponse(articleId, reservationServicePort.availableStock(articleId));
+    }
+}
@@ -0,0 +1,25 @@
+package com.microservice.stock.application.handler;
+
+import com.microservice.stock.application.dto.request.StockAvailabilityRequest;
+import com.microservice.stock.application.dto.response.StockAvailabilityResponse;
+import com.microservice.stock.application.mapper.IStockAvailabilityResponseMapper;
+import com.microservice.stock.domain.api.IStockAvailabilityServicePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+// Not transactional: checks are answered from memory, and opening a transaction would take a pooled connection
+@Service
+@RequiredArgsConstructor
+public class StockAvailabilityHandler implements IStockAvailabilityHandler {
+
+    private final IStockAvailabilityServicePort stockAvailabilityServicePort;
+    private final IStockAvailabilityResponseMapper stockAvailabilityResponseMapper;
+
+    @Override
+    public List<StockAvailabilityResponse> checkAvailability(StockAvailabilityRequest stockAvailabilityRequest) {
+        return stockAvailabilityResponseMapper.toStockAvailabilityResponseList(
+                stockAvailabilityServicePort.checkAvailability(stockAvailabilityRequest.getArticleIds()));
+    }
+}
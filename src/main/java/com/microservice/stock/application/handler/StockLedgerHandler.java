@@ -0,0 +1,32 @@
+package com.microservice.stock.application.handler;
+
+import com.microservice.stock.application.dto.response.StockAsOfResponse;
+import com.microservice.stock.application.dto.response.StockMovementResponse;
+import com.microservice.stock.application.mapper.IStockMovementResponseMapper;
+import com.microservice.stock.domain.api.IStockLedgerServicePort;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StockLedgerHandler implements IStockLedgerHandler {
+
+    private final IStockLedgerServicePort stockLedgerServicePort;
+    private final IStockMovementResponseMapper stockMovementResponseMapper;
+
+    @Override
+    public StockAsOfResponse stockAsOf(Long articleId, Instant at) {
+        return new StockAsOfResponse(articleId, at, stockLedgerServicePort.stockAsOf(articleId, at));
+    }
+
+    @Override
+    public List<StockMovementResponse> listMovements(Long articleId, Instant before, Integer limit) {
+        return stockMovementResponseMapper.toStockMovementResponseList(
+                stockLedgerServicePort.listMovements(articleId, before, limit));
+    }
+}
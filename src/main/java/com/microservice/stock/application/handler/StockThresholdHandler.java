@@ -0,0 +1,35 @@
+package com.microservice.stock.application.handler;
+
+import com.microservice.stock.application.dto.request.StockThresholdRequest;
+import com.microservice.stock.application.dto.response.LowStockResponse;
+import com.microservice.stock.application.mapper.ILowStockResponseMapper;
+import com.microservice.stock.domain.api.IStockThresholdServicePort;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StockThresholdHandler implements IStockThresholdHandler {
+
+    private final IStockThresholdServicePort stockThresholdServicePort;
+    private final ILowStockResponseMapper lowStockResponseMapper;
+
+    @Override
+    public void setThreshold(Long articleId, StockThresholdRequest stockThresholdRequest) {
+        stockThresholdServicePort.setThreshold(articleId, stockThresholdRequest.getThreshold());
+    }
+
+    @Override
+    public void clearThreshold(Long articleId) {
+        stockThresholdServicePort.clearThreshold(articleId);
+    }
+
+    @Override
+    public List<LowStockResponse> listLowStock(Integer limit) {
+        return lowStockResponseMapper.toLowStockResponseList(stockThresholdServicePort.listLowStock(limit));
+    }
+}
@@ -2,8 +2,10 @@ package com.microservice.stock.application.mapper;
 
 import com.microservice.stock.domain.model.Article;
 import com.microservice.stock.application.dto.request.ArticleRequest;
+import com.microservice.stock.application.dto.request.StockAdjustLineRequest;
 import com.microservice.stock.domain.model.Brand;
 import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.model.StockAdjustment;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
@@ -18,13 +20,18 @@ public interface IArticleRequestMapper {
     @Mapping(target = "id", ignore = true)
     Article toArticle(ArticleRequest articleRequest);
 
+    StockAdjustment toStockAdjustment(StockAdjustLineRequest stockAdjustLineRequest);
+
     @Named("mapCategoryIdsToCategories")
     default List<Category> mapCategoryIdsToCategories(List<Long> categoryIds) {
+        if (categoryIds == null) {
+            return List.of();
+        }
         return categoryIds.stream().map(id -> new Category(id, null, null)).toList();
     }
 
     @Named("mapBrandIdToBrand")
     default Brand mapBrandIdToBrand(Long brandId) {
-        return new Brand(brandId, null, null);
+        return brandId == null ? null : new Brand(brandId, null, null);
     }
 }
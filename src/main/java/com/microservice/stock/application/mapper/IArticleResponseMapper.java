@@ -1,10 +1,14 @@
 package com.microservice.stock.application.mapper;
 
+import com.microservice.stock.application.dto.response.ArticleBatchResponse;
 import com.microservice.stock.application.dto.response.ArticleResponse;
 import com.microservice.stock.application.dto.response.PaginationResponse;
+import com.microservice.stock.application.dto.response.StockBatchAdjustResponse;
 import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.model.ArticleBatchResult;
 import com.microservice.stock.domain.model.Brand;
 import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.model.StockAdjustmentResult;
 import com.microservice.stock.domain.util.Pagination;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -41,9 +45,15 @@ public interface IArticleResponseMapper {
     @Mapping(target = "size", source = "pagination.pageSize")
     @Mapping(target = "totalElements", source = "pagination.totalElements")
     @Mapping(target = "totalPages", source = "pagination.totalPages")
+    @Mapping(target = "totalKnown", source = "pagination.totalKnown")
     @Mapping(target = "first", source = "pagination.first")
     @Mapping(target = "last", source = "pagination.last")
     @Mapping(target = "empty", source = "pagination.empty")
     @Mapping(target = "content", source = "pagination.content")
+    @Mapping(target = "nextCursor", source = "pagination.nextCursor")
     PaginationResponse<ArticleResponse> toPaginationResponse(Pagination<ArticleResponse> pagination);
+
+    ArticleBatchResponse toArticleBatchResponse(ArticleBatchResult articleBatchResult);
+
+    StockBatchAdjustResponse toStockBatchAdjustResponse(StockAdjustmentResult stockAdjustmentResult);
 }
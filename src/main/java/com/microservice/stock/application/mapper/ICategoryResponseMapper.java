@@ -16,10 +16,12 @@ public interface ICategoryResponseMapper {
     @Mapping(target = "size", source = "pagination.pageSize")
     @Mapping(target = "totalElements", source = "pagination.totalElements")
     @Mapping(target = "totalPages", source = "pagination.totalPages")
+    @Mapping(target = "totalKnown", source = "pagination.totalKnown")
     @Mapping(target = "first", source = "pagination.first")
     @Mapping(target = "last", source = "pagination.last")
     @Mapping(target = "empty", source = "pagination.empty")
     @Mapping(target = "content", source = "pagination.content")
+    @Mapping(target = "nextCursor", source = "pagination.nextCursor")
     PaginationResponse<CategoryResponse> toPaginationResponse(Pagination<CategoryResponse> pagination);
 
 }
@@ -0,0 +1,14 @@
+package com.microservice.stock.application.mapper;
+
+import com.microservice.stock.application.dto.response.ChangeFeedResponse;
+import com.microservice.stock.application.dto.response.ChangeResponse;
+import com.microservice.stock.domain.model.CatalogChange;
+import com.microservice.stock.domain.model.ChangeFeed;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring",
+        uses = { IArticleResponseMapper.class, IBrandResponseMapper.class, ICategoryResponseMapper.class })
+public interface IChangeFeedResponseMapper {
+    ChangeResponse toChangeResponse(CatalogChange catalogChange);
+    ChangeFeedResponse toChangeFeedResponse(ChangeFeed changeFeed);
+}
@@ -0,0 +1,13 @@
+package com.microservice.stock.application.mapper;
+
+import com.microservice.stock.application.dto.response.LocationStockResponse;
+import com.microservice.stock.domain.model.LocationStock;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ILocationStockResponseMapper {
+    LocationStockResponse toLocationStockResponse(LocationStock locationStock);
+    List<LocationStockResponse> toLocationStockResponseList(List<LocationStock> locationStocks);
+}
@@ -0,0 +1,13 @@
+package com.microservice.stock.application.mapper;
+
+import com.microservice.stock.application.dto.response.LowStockResponse;
+import com.microservice.stock.domain.model.LowStock;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ILowStockResponseMapper {
+    LowStockResponse toLowStockResponse(LowStock lowStock);
+    List<LowStockResponse> toLowStockResponseList(List<LowStock> lowStocks);
+}
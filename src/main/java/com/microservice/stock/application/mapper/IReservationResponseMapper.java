@@ -0,0 +1,10 @@
+package com.microservice.stock.application.mapper;
+
+import com.microservice.stock.application.dto.response.ReservationResponse;
+import com.microservice.stock.domain.model.Reservation;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface IReservationResponseMapper {
+    ReservationResponse toReservationResponse(Reservation reservation);
+}
@@ -0,0 +1,13 @@
+package com.microservice.stock.application.mapper;
+
+import com.microservice.stock.application.dto.response.StockAvailabilityResponse;
+import com.microservice.stock.domain.model.StockAvailability;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface IStockAvailabilityResponseMapper {
+    StockAvailabilityResponse toStockAvailabilityResponse(StockAvailability stockAvailability);
+    List<StockAvailabilityResponse> toStockAvailabilityResponseList(List<StockAvailability> stockAvailabilities);
+}
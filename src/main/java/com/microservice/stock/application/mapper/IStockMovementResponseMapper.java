@@ -0,0 +1,13 @@
+package com.microservice.stock.application.mapper;
+
+import com.microservice.stock.application.dto.response.StockMovementResponse;
+import com.microservice.stock.domain.model.StockMovement;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface IStockMovementResponseMapper {
+    StockMovementResponse toStockMovementResponse(StockMovement stockMovement);
+    List<StockMovementResponse> toStockMovementResponseList(List<StockMovement> stockMovements);
+}
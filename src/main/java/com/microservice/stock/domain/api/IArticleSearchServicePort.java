@@ -0,0 +1,8 @@
+package com.microservice.stock.domain.api;
+
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.util.Pagination;
+
+public interface IArticleSearchServicePort {
+    Pagination<Article> searchArticles(String query, Integer pageNumber, Integer pageSize);
+}
@@ -1,9 +1,21 @@
 package com.microservice.stock.domain.api;
 
 import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.model.ArticleBatchResult;
+import com.microservice.stock.domain.model.StockAdjustment;
+import com.microservice.stock.domain.model.StockAdjustmentResult;
 import com.microservice.stock.domain.util.Pagination;
 
+import java.util.List;
+
 public interface IArticleServicePort {
     void createArticle(Article article);
+    ArticleBatchResult createArticles(List<Article> articles);
+    int adjustStock(Long articleId, Integer delta);
+    StockAdjustmentResult adjustStocks(List<StockAdjustment> adjustments);
+    void shardStock(Long articleId, Integer slots);
+    void unshardStock(Long articleId);
     Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Pagination<Article> listArticlesSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Pagination<Article> listArticlesAfter(Integer pageSize, String sortBy, String sortDirection, String after);
 }
@@ -6,4 +6,6 @@ import com.microservice.stock.domain.util.Pagination;
 public interface IBrandServicePort {
     void createBrand(Brand brand);
     Pagination<Brand> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Pagination<Brand> listBrandsSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Pagination<Brand> listBrandsAfter(Integer pageSize, String sortBy, String sortDirection, String after);
 }
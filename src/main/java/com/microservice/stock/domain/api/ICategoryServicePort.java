@@ -7,4 +7,6 @@ import com.microservice.stock.domain.util.Pagination;
 public interface ICategoryServicePort {
     void createCategory(Category category);
     Pagination<Category> listCategory(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Pagination<Category> listCategorySlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Pagination<Category> listCategoryAfter(Integer pageSize, String sortBy, String sortDirection, String after);
 }
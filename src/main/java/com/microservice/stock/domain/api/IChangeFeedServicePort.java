@@ -0,0 +1,7 @@
+package com.microservice.stock.domain.api;
+
+import com.microservice.stock.domain.model.ChangeFeed;
+
+public interface IChangeFeedServicePort {
+    ChangeFeed listChanges(Long since, Integer limit);
+}
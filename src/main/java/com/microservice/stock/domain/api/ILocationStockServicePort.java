@@ -0,0 +1,11 @@
+package com.microservice.stock.domain.api;
+
+import com.microservice.stock.domain.model.LocationStock;
+
+import java.util.List;
+
+public interface ILocationStockServicePort {
+    int adjustLocationStock(Long articleId, String location, Integer delta);
+    void transferStock(Long articleId, String fromLocation, String toLocation, Integer quantity);
+    List<LocationStock> listLocationStock(Long articleId);
+}
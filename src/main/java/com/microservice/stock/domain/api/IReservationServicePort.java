@@ -0,0 +1,12 @@
+package com.microservice.stock.domain.api;
+
+import com.microservice.stock.domain.model.Reservation;
+
+public interface IReservationServicePort {
+    Reservation reserve(Long articleId, Integer quantity, Integer ttlSeconds);
+    void confirm(String reservationId);
+    void release(String reservationId);
+    void expire(String reservationId);
+    int availableStock(Long articleId);
+    void recoverReservations();
+}
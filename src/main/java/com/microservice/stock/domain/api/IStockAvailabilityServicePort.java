@@ -0,0 +1,9 @@
+package com.microservice.stock.domain.api;
+
+import com.microservice.stock.domain.model.StockAvailability;
+
+import java.util.List;
+
+public interface IStockAvailabilityServicePort {
+    List<StockAvailability> checkAvailability(List<Long> articleIds);
+}
@@ -0,0 +1,11 @@
+package com.microservice.stock.domain.api;
+
+import com.microservice.stock.domain.model.StockMovement;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface IStockLedgerServicePort {
+    int stockAsOf(Long articleId, Instant at);
+    List<StockMovement> listMovements(Long articleId, Instant before, Integer limit);
+}
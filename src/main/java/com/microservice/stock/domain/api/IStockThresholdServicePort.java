@@ -0,0 +1,11 @@
+package com.microservice.stock.domain.api;
+
+import com.microservice.stock.domain.model.LowStock;
+
+import java.util.List;
+
+public interface IStockThresholdServicePort {
+    void setThreshold(Long articleId, Integer threshold);
+    void clearThreshold(Long articleId);
+    List<LowStock> listLowStock(Integer limit);
+}
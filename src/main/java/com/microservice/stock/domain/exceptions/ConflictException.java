@@ -0,0 +1,16 @@
+package com.microservice.stock.domain.exceptions;
+
+import java.util.ArrayList;
+
+public class ConflictException extends RuntimeException {
+    private final ArrayList<String> errors;
+
+    public ConflictException(ArrayList<String> errors) {
+        super();
+        this.errors = errors;
+    }
+
+    public ArrayList<String> getErrors() {
+        return errors;
+    }
+}
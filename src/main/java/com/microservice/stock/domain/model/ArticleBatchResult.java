@@ -0,0 +1,30 @@
+package com.microservice.stock.domain.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class ArticleBatchResult {
+    private int created;
+    private final Map<Integer, List<String>> errors = new TreeMap<>();
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getFailed() {
+        return errors.size();
+    }
+
+    public Map<Integer, List<String>> getErrors() {
+        return errors;
+    }
+
+    public void addCreated(int count) {
+        this.created += count;
+    }
+
+    public void addErrors(int index, List<String> itemErrors) {
+        errors.put(index, itemErrors);
+    }
+}
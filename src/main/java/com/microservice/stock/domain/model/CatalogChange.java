@@ -0,0 +1,58 @@
+package com.microservice.stock.domain.model;
+
+// Current state of one catalog row that changed; exactly one of article, brand or category is set, matching the type
+public class CatalogChange {
+    public enum Type { ARTICLE, BRAND, CATEGORY }
+
+    private final Type type;
+    private final Long id;
+    private final long version;
+    private final Article article;
+    private final Brand brand;
+    private final Category category;
+
+    private CatalogChange(Type type, Long id, long version, Article article, Brand brand, Category category) {
+        this.type = type;
+        this.id = id;
+        this.version = version;
+        this.article = article;
+        this.brand = brand;
+        this.category = category;
+    }
+
+    public static CatalogChange ofArticle(Article article, long version) {
+        return new CatalogChange(Type.ARTICLE, article.getId(), version, article, null, null);
+    }
+
+    public static CatalogChange ofBrand(Brand brand, long version) {
+        return new CatalogChange(Type.BRAND, brand.getId(), version, null, brand, null);
+    }
+
+    public static CatalogChange ofCategory(Category category, long version) {
+        return new CatalogChange(Type.CATEGORY, category.getId(), version, null, null, category);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Article getArticle() {
+        return article;
+    }
+
+    public Brand getBrand() {
+        return brand;
+    }
+
+    public Category getCategory() {
+        return category;
+    }
+}
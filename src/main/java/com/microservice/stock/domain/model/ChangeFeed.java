@@ -0,0 +1,22 @@
+package com.microservice.stock.domain.model;
+
+import java.util.List;
+
+// The next version is the one to ask from on the following call; it stays put when nothing changed
+public class ChangeFeed {
+    private final List<CatalogChange> changes;
+    private final long next;
+
+    public ChangeFeed(List<CatalogChange> changes, long next) {
+        this.changes = changes;
+        this.next = next;
+    }
+
+    public List<CatalogChange> getChanges() {
+        return changes;
+    }
+
+    public long getNext() {
+        return next;
+    }
+}
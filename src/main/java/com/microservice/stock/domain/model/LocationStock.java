@@ -0,0 +1,25 @@
+package com.microservice.stock.domain.model;
+
+public class LocationStock {
+    private final Long articleId;
+    private final String location;
+    private final int quantity;
+
+    public LocationStock(Long articleId, String location, int quantity) {
+        this.articleId = articleId;
+        this.location = location;
+        this.quantity = quantity;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+}
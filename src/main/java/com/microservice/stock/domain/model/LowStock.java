@@ -0,0 +1,25 @@
+package com.microservice.stock.domain.model;
+
+public class LowStock {
+    private final Long articleId;
+    private final int quantity;
+    private final int threshold;
+
+    public LowStock(Long articleId, int quantity, int threshold) {
+        this.articleId = articleId;
+        this.quantity = quantity;
+        this.threshold = threshold;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+}
@@ -0,0 +1,49 @@
+package com.microservice.stock.domain.model;
+
+import java.time.Instant;
+
+public class Reservation {
+    private String id;
+    private Long articleId;
+    private Integer quantity;
+    private Instant expiresAt;
+
+    public Reservation(String id, Long articleId, Integer quantity, Instant expiresAt) {
+        this.id = id;
+        this.articleId = articleId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public void setArticleId(Long articleId) {
+        this.articleId = articleId;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
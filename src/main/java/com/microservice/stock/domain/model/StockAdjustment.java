@@ -0,0 +1,27 @@
+package com.microservice.stock.domain.model;
+
+public class StockAdjustment {
+    private Long articleId;
+    private Integer delta;
+
+    public StockAdjustment(Long articleId, Integer delta) {
+        this.articleId = articleId;
+        this.delta = delta;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public void setArticleId(Long articleId) {
+        this.articleId = articleId;
+    }
+
+    public Integer getDelta() {
+        return delta;
+    }
+
+    public void setDelta(Integer delta) {
+        this.delta = delta;
+    }
+}
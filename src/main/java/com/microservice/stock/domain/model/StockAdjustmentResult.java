@@ -0,0 +1,31 @@
+package com.microservice.stock.domain.model;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class StockAdjustmentResult {
+    private final Map<Long, Integer> quantities = new LinkedHashMap<>();
+    private final Map<Integer, List<String>> errors = new TreeMap<>();
+
+    public boolean isApplied() {
+        return errors.isEmpty();
+    }
+
+    public Map<Long, Integer> getQuantities() {
+        return quantities;
+    }
+
+    public Map<Integer, List<String>> getErrors() {
+        return errors;
+    }
+
+    public void putQuantity(Long articleId, int quantity) {
+        quantities.put(articleId, quantity);
+    }
+
+    public void addErrors(int index, List<String> lineErrors) {
+        errors.put(index, lineErrors);
+    }
+}
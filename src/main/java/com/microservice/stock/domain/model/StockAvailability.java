@@ -0,0 +1,19 @@
+package com.microservice.stock.domain.model;
+
+public class StockAvailability {
+    private final Long articleId;
+    private final int quantity;
+
+    public StockAvailability(Long articleId, int quantity) {
+        this.articleId = articleId;
+        this.quantity = quantity;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+}
@@ -0,0 +1,25 @@
+package com.microservice.stock.domain.model;
+
+public class StockLevel {
+    private final Long articleId;
+    private final int quantity;
+    private final int reserved;
+
+    public StockLevel(Long articleId, int quantity, int reserved) {
+        this.articleId = articleId;
+        this.quantity = quantity;
+        this.reserved = reserved;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public int getReserved() {
+        return reserved;
+    }
+}
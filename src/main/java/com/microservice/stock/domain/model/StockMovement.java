@@ -0,0 +1,27 @@
+package com.microservice.stock.domain.model;
+
+import java.time.Instant;
+
+public class StockMovement {
+    private final Long articleId;
+    private final int delta;
+    private final Instant occurredAt;
+
+    public StockMovement(Long articleId, int delta, Instant occurredAt) {
+        this.articleId = articleId;
+        this.delta = delta;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public int getDelta() {
+        return delta;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -1,11 +1,30 @@
 package com.microservice.stock.domain.spi;
 
 import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.model.StockLevel;
 
+import com.microservice.stock.domain.util.Cursor;
 import com.microservice.stock.domain.util.Pagination;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 public interface IArticlePersistencePort {
     void createArticle(Article article);
+    void createArticles(List<Article> articles);
     boolean existByName(String name);
+    Set<String> findExistingNames(Collection<String> names);
+    boolean existById(Long id);
+    Optional<Integer> adjustQuantity(Long id, int delta);
+    Optional<Integer> findAvailableQuantity(Long id);
+    boolean shardStock(Long id, int slots);
+    boolean unshardStock(Long id);
+    Map<Long, StockLevel> lockStockLevels(Collection<Long> ids);
+    void updateQuantities(Map<Long, Integer> quantities);
     Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Pagination<Article> listArticlesSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Pagination<Article> listArticlesAfter(Integer pageSize, String sortBy, String sortDirection, Cursor after);
 }
@@ -0,0 +1,8 @@
+package com.microservice.stock.domain.spi;
+
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.util.Pagination;
+
+public interface IArticleSearchPersistencePort {
+    Pagination<Article> searchArticles(String query, int pageNumber, int pageSize);
+}
@@ -1,11 +1,18 @@
 package com.microservice.stock.domain.spi;
 
 import com.microservice.stock.domain.model.Brand;
+import com.microservice.stock.domain.util.Cursor;
 import com.microservice.stock.domain.util.Pagination;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface IBrandPersistencePort {
     void createBrand(Brand brand);
     boolean existsByName(String name);
     boolean existById(Long id);
+    Set<Long> findMissingIds(Collection<Long> ids);
     Pagination<Brand> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Pagination<Brand> listBrandsSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Pagination<Brand> listBrandsAfter(Integer pageSize, String sortBy, String sortDirection, Cursor after);
 }
@@ -1,11 +1,18 @@
 package com.microservice.stock.domain.spi;
 
 import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.util.Cursor;
 import com.microservice.stock.domain.util.Pagination;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface ICategoryPersistencePort {
     void createCategory(Category category);
     boolean existsByName(String name);
     boolean existById(Long id);
+    Set<Long> findMissingIds(Collection<Long> ids);
     Pagination<Category> listCategory(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Pagination<Category> listCategorySlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection);
+    Pagination<Category> listCategoryAfter(Integer pageSize, String sortBy, String sortDirection, Cursor after);
 }
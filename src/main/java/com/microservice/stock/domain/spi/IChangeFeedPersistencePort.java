@@ -0,0 +1,7 @@
+package com.microservice.stock.domain.spi;
+
+import com.microservice.stock.domain.model.ChangeFeed;
+
+public interface IChangeFeedPersistencePort {
+    ChangeFeed findChangesSince(long since, int limit);
+}
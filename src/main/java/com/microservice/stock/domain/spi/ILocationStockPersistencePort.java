@@ -0,0 +1,11 @@
+package com.microservice.stock.domain.spi;
+
+import com.microservice.stock.domain.model.LocationStock;
+
+import java.util.List;
+
+public interface ILocationStockPersistencePort {
+    boolean adjustLocationQuantity(Long articleId, String location, int delta);
+    boolean transfer(Long articleId, String fromLocation, String toLocation, int quantity);
+    List<LocationStock> findLocationStock(Long articleId);
+}
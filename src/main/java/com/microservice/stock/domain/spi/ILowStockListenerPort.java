@@ -0,0 +1,7 @@
+package com.microservice.stock.domain.spi;
+
+import com.microservice.stock.domain.model.LowStock;
+
+public interface ILowStockListenerPort {
+    void stockBelowThreshold(LowStock lowStock);
+}
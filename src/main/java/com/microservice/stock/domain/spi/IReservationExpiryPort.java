@@ -0,0 +1,8 @@
+package com.microservice.stock.domain.spi;
+
+import java.time.Instant;
+
+public interface IReservationExpiryPort {
+    void scheduleExpiry(String reservationId, Instant expiresAt);
+    void cancelExpiry(String reservationId);
+}
@@ -0,0 +1,16 @@
+package com.microservice.stock.domain.spi;
+
+import com.microservice.stock.domain.model.Reservation;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface IReservationPersistencePort {
+    boolean reserve(Reservation reservation);
+    Optional<Reservation> findReservation(String id);
+    Optional<Reservation> removeReservation(String id);
+    boolean confirm(Reservation reservation);
+    void release(Reservation reservation);
+    Optional<Integer> findAvailableQuantity(Long articleId);
+    List<Reservation> findReservationsAfter(String afterId, int limit);
+}
@@ -0,0 +1,8 @@
+package com.microservice.stock.domain.spi;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface IStockAvailabilityPersistencePort {
+    Map<Long, Integer> findQuantities(Collection<Long> articleIds);
+}
@@ -0,0 +1,11 @@
+package com.microservice.stock.domain.spi;
+
+import com.microservice.stock.domain.model.StockMovement;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface IStockLedgerPersistencePort {
+    int findQuantityAsOf(Long articleId, Instant at);
+    List<StockMovement> findMovementsBefore(Long articleId, Instant before, int limit);
+}
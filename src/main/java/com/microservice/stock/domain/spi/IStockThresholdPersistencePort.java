@@ -0,0 +1,10 @@
+package com.microservice.stock.domain.spi;
+
+import com.microservice.stock.domain.model.LowStock;
+
+import java.util.List;
+
+public interface IStockThresholdPersistencePort {
+    boolean setThreshold(Long articleId, Integer threshold);
+    List<LowStock> findLowStock(int limit);
+}
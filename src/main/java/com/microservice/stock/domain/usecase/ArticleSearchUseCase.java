@@ -0,0 +1,48 @@
+package com.microservice.stock.domain.usecase;
+
+import com.microservice.stock.domain.api.IArticleSearchServicePort;
+import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.spi.IArticleSearchPersistencePort;
+import com.microservice.stock.domain.util.DomainConstants;
+import com.microservice.stock.domain.util.Pagination;
+
+import java.util.ArrayList;
+
+public class ArticleSearchUseCase implements IArticleSearchServicePort {
+
+    private final IArticleSearchPersistencePort articleSearchPersistencePort;
+
+    public ArticleSearchUseCase(IArticleSearchPersistencePort articleSearchPersistencePort) {
+        this.articleSearchPersistencePort = articleSearchPersistencePort;
+    }
+
+    // Best matches first; an article matches when it contains any of the query words
+    @Override
+    public Pagination<Article> searchArticles(String query, Integer pageNumber, Integer pageSize) {
+        ArrayList<String> errors = new ArrayList<>();
+        if (query == null || query.isBlank()) {
+            errors.add(DomainConstants.SEARCH_QUERY_EMPTY_MESSAGE);
+        } else if (query.length() > DomainConstants.SEARCH_QUERY_SIZE_MAX) {
+            errors.add(DomainConstants.SEARCH_QUERY_SIZE_MESSAGE);
+        }
+        if (pageNumber == null) {
+            errors.add(DomainConstants.INVALID_PAGE_NUMBER_NULL_MESSAGE);
+        } else if (pageNumber < 0) {
+            errors.add(DomainConstants.INVALID_PAGE_NUMBER_MESSAGE);
+        }
+        if (pageSize == null) {
+            errors.add(DomainConstants.INVALID_PAGE_SIZE_NULL_MESSAGE);
+        } else if (pageSize <= 0) {
+            errors.add(DomainConstants.INVALID_PAGE_SIZE_MESSAGE);
+        }
+        // Every page is ranked from the first hit, so deep pages are refused rather than made slow
+        if (errors.isEmpty() && ((long) pageNumber + 1) * pageSize > DomainConstants.SEARCH_WINDOW_MAX) {
+            errors.add(DomainConstants.SEARCH_WINDOW_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+        return articleSearchPersistencePort.searchArticles(query, pageNumber, pageSize);
+    }
+}
@@ -3,16 +3,31 @@ package com.microservice.stock.domain.usecase;
 import com.microservice.stock.domain.api.IArticleServicePort;
 import com.microservice.stock.domain.exceptions.ValidationException;
 import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.model.ArticleBatchResult;
+import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.model.StockAdjustment;
+import com.microservice.stock.domain.model.StockAdjustmentResult;
+import com.microservice.stock.domain.model.StockLevel;
 import com.microservice.stock.domain.spi.IArticlePersistencePort;
 import com.microservice.stock.domain.spi.IBrandPersistencePort;
 import com.microservice.stock.domain.spi.ICategoryPersistencePort;
+import com.microservice.stock.domain.util.Cursor;
 import com.microservice.stock.domain.util.DomainConstants;
+import com.microservice.stock.domain.util.NameKey;
 import com.microservice.stock.domain.util.Pagination;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 public class ArticleUseCase implements IArticleServicePort {
 
@@ -28,12 +43,190 @@ public class ArticleUseCase implements IArticleServicePort {
 
     @Override
     public void createArticle(Article article) {
+        ArrayList<String> errors = validateFields(article);
+
+        for(Long categoryId: categoryPersistencePort.findMissingIds(categoryIdsOf(article))){
+            errors.add(String.format(DomainConstants.CATEGORY_DOES_NOT_EXISTS, categoryId));
+        }
+
+        Long brandId = brandIdOf(article);
+        if(brandId != null && !brandPersistencePort.findMissingIds(Set.of(brandId)).isEmpty()){
+            errors.add(String.format(DomainConstants.BRAND_DOES_NOT_EXISTS, brandId));
+        }
+
+        if(article.getName() != null && articlePersistencePort.existByName(article.getName())){
+            errors.add(DomainConstants.ARTICLE_EXISTS_MESSAGE);
+        }
+
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+        articlePersistencePort.createArticle(article);
+    }
+
+    @Override
+    public int adjustStock(Long articleId, Integer delta) {
         ArrayList<String> errors = new ArrayList<>();
+        if (delta == null || delta == 0) {
+            errors.add(DomainConstants.STOCK_DELTA_NOT_ZERO_MESSAGE);
+            throw new ValidationException(errors);
+        }
+
+        Optional<Integer> quantity = articlePersistencePort.adjustQuantity(articleId, delta);
+        if (quantity.isPresent()) {
+            return quantity.get();
+        }
+        // Nothing was updated: either the article is missing or the stock would go below zero
+        errors.add(articlePersistencePort.existById(articleId)
+                ? String.format(DomainConstants.INSUFFICIENT_STOCK_MESSAGE, articleId)
+                : String.format(DomainConstants.ARTICLE_DOES_NOT_EXISTS, articleId));
+        throw new ValidationException(errors);
+    }
+
+    @Override
+    public StockAdjustmentResult adjustStocks(List<StockAdjustment> adjustments) {
+        ArrayList<String> errors = new ArrayList<>();
+        if (adjustments == null || adjustments.isEmpty()) {
+            errors.add(DomainConstants.STOCK_BATCH_EMPTY_MESSAGE);
+        } else if (adjustments.size() > DomainConstants.STOCK_BATCH_MAX) {
+            errors.add(DomainConstants.STOCK_BATCH_SIZE_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        // Ascending id order, so two batches touching the same articles always lock them in the same order
+        Set<Long> articleIds = adjustments.stream()
+                .filter(Objects::nonNull)
+                .map(StockAdjustment::getArticleId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+        Map<Long, StockLevel> stockLevels = articleIds.isEmpty() ? Map.of() : articlePersistencePort.lockStockLevels(articleIds);
+
+        StockAdjustmentResult result = new StockAdjustmentResult();
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (int index = 0; index < adjustments.size(); index++) {
+            List<String> lineErrors = adjustStockLine(adjustments.get(index), stockLevels, quantities);
+            if (!lineErrors.isEmpty()) {
+                result.addErrors(index, lineErrors);
+            }
+        }
+        if (result.isApplied()) {
+            articlePersistencePort.updateQuantities(quantities);
+            quantities.forEach(result::putQuantity);
+        }
+        return result;
+    }
+
+    @Override
+    public void shardStock(Long articleId, Integer slots) {
+        ArrayList<String> errors = new ArrayList<>();
+        if (slots == null || slots < DomainConstants.STOCK_SLOTS_MIN || slots > DomainConstants.STOCK_SLOTS_MAX) {
+            errors.add(DomainConstants.STOCK_SLOTS_RANGE_MESSAGE);
+            throw new ValidationException(errors);
+        }
+        if (!articlePersistencePort.shardStock(articleId, slots)) {
+            errors.add(String.format(DomainConstants.ARTICLE_DOES_NOT_EXISTS, articleId));
+            throw new ValidationException(errors);
+        }
+    }
+
+    @Override
+    public void unshardStock(Long articleId) {
+        if (!articlePersistencePort.unshardStock(articleId)) {
+            ArrayList<String> errors = new ArrayList<>();
+            errors.add(String.format(DomainConstants.ARTICLE_DOES_NOT_EXISTS, articleId));
+            throw new ValidationException(errors);
+        }
+    }
+
+    @Override
+    public ArticleBatchResult createArticles(List<Article> articles) {
+        ArrayList<String> errors = new ArrayList<>();
+
+        if (articles == null || articles.isEmpty()) {
+            errors.add(DomainConstants.ARTICLE_BATCH_EMPTY_MESSAGE);
+        } else if (articles.size() > DomainConstants.ARTICLE_BATCH_MAX) {
+            errors.add(DomainConstants.ARTICLE_BATCH_SIZE_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        ArticleBatchResult result = new ArticleBatchResult();
+        Set<String> batchNames = new HashSet<>();
+        for (int from = 0; from < articles.size(); from += DomainConstants.ARTICLE_BATCH_CHUNK_SIZE) {
+            int to = Math.min(from + DomainConstants.ARTICLE_BATCH_CHUNK_SIZE, articles.size());
+            createArticleChunk(articles.subList(from, to), from, result, batchNames);
+        }
+        return result;
+    }
 
-        if(article.getName().trim().isEmpty()){
+    private void createArticleChunk(List<Article> chunk, int offset, ArticleBatchResult result, Set<String> batchNames) {
+        List<Article> articles = chunk.stream()
+                .filter(Objects::nonNull)
+                .toList();
+        Set<Long> missingCategoryIds = categoryPersistencePort.findMissingIds(articles.stream()
+                .flatMap(article -> categoryIdsOf(article).stream())
+                .collect(Collectors.toSet()));
+        Set<Long> missingBrandIds = brandPersistencePort.findMissingIds(articles.stream()
+                .map(this::brandIdOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        Set<String> existingNames = articlePersistencePort.findExistingNames(articles.stream()
+                        .map(Article::getName)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .stream()
+                .map(NameKey::of)
+                .collect(Collectors.toSet());
+
+        List<Article> validArticles = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            Article article = chunk.get(i);
+            if (article == null) {
+                result.addErrors(offset + i, List.of(DomainConstants.ARTICLE_NULL_MESSAGE));
+                continue;
+            }
+            ArrayList<String> errors = validateFields(article);
+
+            for (Long categoryId : categoryIdsOf(article)) {
+                if (missingCategoryIds.contains(categoryId)) {
+                    errors.add(String.format(DomainConstants.CATEGORY_DOES_NOT_EXISTS, categoryId));
+                }
+            }
+            Long brandId = brandIdOf(article);
+            if (brandId != null && missingBrandIds.contains(brandId)) {
+                errors.add(String.format(DomainConstants.BRAND_DOES_NOT_EXISTS, brandId));
+            }
+            String nameKey = NameKey.of(article.getName());
+            if (existingNames.contains(nameKey)) {
+                errors.add(DomainConstants.ARTICLE_EXISTS_MESSAGE);
+            } else if (batchNames.contains(nameKey)) {
+                errors.add(DomainConstants.ARTICLE_DUPLICATE_IN_BATCH_MESSAGE);
+            }
+
+            if (errors.isEmpty()) {
+                batchNames.add(nameKey);
+                validArticles.add(article);
+            } else {
+                result.addErrors(offset + i, errors);
+            }
+        }
+
+        if (!validArticles.isEmpty()) {
+            articlePersistencePort.createArticles(validArticles);
+            result.addCreated(validArticles.size());
+        }
+    }
+
+    private ArrayList<String> validateFields(Article article) {
+        ArrayList<String> errors = new ArrayList<>();
+
+        if(isBlank(article.getName())){
             errors.add(DomainConstants.FIELD_NAME_NULL_MESSAGE);
         }
-        if(article.getDescription().trim().isEmpty()){
+        if(isBlank(article.getDescription())){
             errors.add(DomainConstants.FIELD_DESCRIPTION_NULL_MESSAGE);
         }
         if(article.getPrice() == null){
@@ -46,41 +239,111 @@ public class ArticleUseCase implements IArticleServicePort {
         }else if(article.getQuantity() < 0){
             errors.add(DomainConstants.FIELD_QUANTITY_NOT_POSITIVE_OR_ZERO_MESSAGE);
         }
-        if (article.getCategories().isEmpty()) {
+        if (article.getCategories() == null || article.getCategories().isEmpty()) {
             errors.add(DomainConstants.CATEGORY_AT_LEAST_ONE_MESSAGE);
         } else if (article.getCategories().size() > DomainConstants.FIELD_CATEGORIES_MAX) {
             errors.add(DomainConstants.CATEGORY_MORE_THAN_THREE_MESSAGE);
         }
 
         Set<Long> categoryIds = new HashSet<>();
-        article.getCategories().forEach(category -> {
-            if (!categoryIds.add(category.getId())) {
+        for (Category category : categoriesOf(article)) {
+            if (category == null || category.getId() == null) {
+                errors.add(DomainConstants.FIELD_CATEGORY_ID_NOT_NULL_MESSAGE);
+            } else if (!categoryIds.add(category.getId())) {
                 errors.add(DomainConstants.CATEGORY_DUPLICATE_MESSAGE);
             }
-        });
+        }
+
+        if(brandIdOf(article) == null){
+            errors.add(DomainConstants.FIELD_BRAND_ID_NOT_NULL_MESSAGE);
+        }
+        return errors;
+    }
+
+    private List<Category> categoriesOf(Article article) {
+        return article.getCategories() == null ? List.of() : article.getCategories();
+    }
 
-        for(Long categoryId: categoryIds){
-            if(!categoryPersistencePort.existById(categoryId)){
-                errors.add(String.format(DomainConstants.CATEGORY_DOES_NOT_EXISTS, categoryId));
+    private Set<Long> categoryIdsOf(Article article) {
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        for (Category category : categoriesOf(article)) {
+            if (category != null && category.getId() != null) {
+                categoryIds.add(category.getId());
             }
         }
+        return categoryIds;
+    }
+
+    private Long brandIdOf(Article article) {
+        return article.getBrand() == null ? null : article.getBrand().getId();
+    }
 
-        if(!brandPersistencePort.existById(article.getBrand().getId())){
-            errors.add(String.format(DomainConstants.BRAND_DOES_NOT_EXISTS, article.getBrand().getId()));
+    private boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    // Lines for the same article apply one after the other, each checked against the units still reserved
+    private List<String> adjustStockLine(StockAdjustment adjustment, Map<Long, StockLevel> stockLevels, Map<Long, Integer> quantities) {
+        List<String> lineErrors = new ArrayList<>();
+        if (adjustment == null) {
+            lineErrors.add(DomainConstants.STOCK_ADJUSTMENT_NULL_MESSAGE);
+            return lineErrors;
+        }
+        Long articleId = adjustment.getArticleId();
+        if (articleId == null) {
+            lineErrors.add(DomainConstants.FIELD_ARTICLE_ID_NOT_NULL_MESSAGE);
+        }
+        if (adjustment.getDelta() == null || adjustment.getDelta() == 0) {
+            lineErrors.add(DomainConstants.STOCK_DELTA_NOT_ZERO_MESSAGE);
+        }
+        if (!lineErrors.isEmpty()) {
+            return lineErrors;
         }
 
-        if(articlePersistencePort.existByName(article.getName())){
-            errors.add(DomainConstants.ARTICLE_EXISTS_MESSAGE);
+        StockLevel stockLevel = stockLevels.get(articleId);
+        if (stockLevel == null) {
+            lineErrors.add(String.format(DomainConstants.ARTICLE_DOES_NOT_EXISTS, articleId));
+            return lineErrors;
         }
+        long quantity = (long) quantities.getOrDefault(articleId, stockLevel.getQuantity()) + adjustment.getDelta();
+        if (quantity < stockLevel.getReserved() || quantity > Integer.MAX_VALUE) {
+            lineErrors.add(String.format(DomainConstants.INSUFFICIENT_STOCK_MESSAGE, articleId));
+            return lineErrors;
+        }
+        quantities.put(articleId, (int) quantity);
+        return lineErrors;
+    }
+
+    @Override
+    public Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        validatePageRequest(pageNumber, pageSize, sortBy, sortDirection);
+        return articlePersistencePort.listArticles(pageNumber, pageSize,sortBy,sortDirection);
+    }
+
+    @Override
+    public Pagination<Article> listArticlesSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        validatePageRequest(pageNumber, pageSize, sortBy, sortDirection);
+        return articlePersistencePort.listArticlesSlice(pageNumber, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public Pagination<Article> listArticlesAfter(Integer pageSize, String sortBy, String sortDirection, String after) {
+        ArrayList<String> errors = new ArrayList<>();
 
+        validatePageSizeAndSort(errors, pageSize, sortBy, sortDirection);
+        Cursor cursor = null;
+        try {
+            cursor = Cursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            errors.add(DomainConstants.INVALID_CURSOR_MESSAGE);
+        }
         if (!errors.isEmpty()) {
             throw new ValidationException(errors);
         }
-        articlePersistencePort.createArticle(article);
+        return articlePersistencePort.listArticlesAfter(pageSize, sortBy, sortDirection, cursor);
     }
 
-    @Override
-    public Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+    private void validatePageRequest(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
         ArrayList<String> errors = new ArrayList<>();
 
         if(pageNumber == null){
@@ -88,6 +351,13 @@ public class ArticleUseCase implements IArticleServicePort {
         } else if(pageNumber < 0) {
             errors.add(DomainConstants.INVALID_PAGE_NUMBER_MESSAGE);
         }
+        validatePageSizeAndSort(errors, pageSize, sortBy, sortDirection);
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+    }
+
+    private void validatePageSizeAndSort(ArrayList<String> errors, Integer pageSize, String sortBy, String sortDirection) {
         if(pageSize == null){
             errors.add(DomainConstants.INVALID_PAGE_SIZE_NULL_MESSAGE);
         } else if (pageSize <= 0) {
@@ -99,9 +369,5 @@ public class ArticleUseCase implements IArticleServicePort {
         if (!sortDirection.equalsIgnoreCase(DomainConstants.ORDER_ASC) && !sortDirection.equalsIgnoreCase(DomainConstants.ORDER_DESC)) {
             errors.add(DomainConstants.INVALID_SORT_DIRECTION_MESSAGE);
         }
-        if (!errors.isEmpty()) {
-            throw new ValidationException(errors);
-        }
-        return articlePersistencePort.listArticles(pageNumber, pageSize,sortBy,sortDirection);
     }
 }
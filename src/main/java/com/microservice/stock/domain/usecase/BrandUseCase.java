@@ -4,6 +4,7 @@ import com.microservice.stock.domain.api.IBrandServicePort;
 import com.microservice.stock.domain.exceptions.ValidationException;
 import com.microservice.stock.domain.model.Brand;
 import com.microservice.stock.domain.spi.IBrandPersistencePort;
+import com.microservice.stock.domain.util.Cursor;
 import com.microservice.stock.domain.util.DomainConstants;
 import com.microservice.stock.domain.util.Pagination;
 
@@ -44,6 +45,34 @@ public class BrandUseCase implements IBrandServicePort {
 
     @Override
     public Pagination<Brand> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        validatePageRequest(pageNumber, pageSize, sortBy, sortDirection);
+        return brandPersistencePort.listBrands(pageNumber,pageSize,sortBy,sortDirection);
+    }
+
+    @Override
+    public Pagination<Brand> listBrandsSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        validatePageRequest(pageNumber, pageSize, sortBy, sortDirection);
+        return brandPersistencePort.listBrandsSlice(pageNumber, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public Pagination<Brand> listBrandsAfter(Integer pageSize, String sortBy, String sortDirection, String after) {
+        ArrayList<String> errors = new ArrayList<>();
+
+        validatePageSizeAndSort(errors, pageSize, sortBy, sortDirection);
+        Cursor cursor = null;
+        try {
+            cursor = Cursor.decode(after);
+        } catch (IllegalArgumentException e) {
+            errors.add(DomainConstants.INVALID_CURSOR_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+        return brandPersistencePort.listBrandsAfter(pageSize, sortBy, sortDirection, cursor);
+    }
+
+    private void validatePageRequest(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
         ArrayList<String> errors = new ArrayList<>();
 
         if(pageNumber == null){
@@ -51,6 +80,13 @@ public class BrandUseCase implements IBrandServicePort {
         } else if(pageNumber < 0) {
             errors.add(DomainConstants.INVALID_PAGE_NUMBER_MESSAGE);
         }
+        validatePageSizeAndSort(errors, pageSize, sortBy, sortDirection);
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+    }
+
+    private void validatePageSizeAndSort(ArrayList<String> errors, Integer pageSize, String sortBy, String sortDirection) {
         if(pageSize == null){
             errors.add(DomainConstants.INVALID_PAGE_SIZE_NULL_MESSAGE);
         } else if (pageSize <= 0) {
@@ -62,11 +98,5 @@ public class BrandUseCase implements IBrandServicePort {
         if (!sortDirection.equalsIgnoreCase(DomainConstants.ORDER_ASC) && !sortDirection.equalsIgnoreCase(DomainConstants.ORDER_DESC)) {
             errors.add(DomainConstants.INVALID_SORT_DIRECTION_MESSAGE);
         }
-        if (!errors.isEmpty()) {
-            throw new ValidationException(errors);
-        }
-        return brandPersistencePort.listBrands(pageNumber,pageSize,sortBy,sortDirection);
     }
-
-
 }
@@ -0,0 +1,34 @@
+package com.microservice.stock.domain.usecase;
+
+import com.microservice.stock.domain.api.IChangeFeedServicePort;
+import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.domain.model.ChangeFeed;
+import com.microservice.stock.domain.spi.IChangeFeedPersistencePort;
+import com.microservice.stock.domain.util.DomainConstants;
+
+import java.util.ArrayList;
+
+public class ChangeFeedUseCase implements IChangeFeedServicePort {
+
+    private final IChangeFeedPersistencePort changeFeedPersistencePort;
+
+    public ChangeFeedUseCase(IChangeFeedPersistencePort changeFeedPersistencePort) {
+        this.changeFeedPersistencePort = changeFeedPersistencePort;
+    }
+
+    // A consumer starts from zero and then passes back the next version of each response
+    @Override
+    public ChangeFeed listChanges(Long since, Integer limit) {
+        ArrayList<String> errors = new ArrayList<>();
+        if (since == null || since < 0) {
+            errors.add(DomainConstants.CHANGE_VERSION_MESSAGE);
+        }
+        if (limit == null || limit <= 0 || limit > DomainConstants.CHANGE_LIMIT_MAX) {
+            errors.add(DomainConstants.CHANGE_LIMIT_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+        return changeFeedPersistencePort.findChangesSince(since, limit);
+    }
+}
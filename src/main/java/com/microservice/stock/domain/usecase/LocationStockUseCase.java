@@ -0,0 +1,103 @@
+package com.microservice.stock.domain.usecase;
+
+import com.microservice.stock.domain.api.ILocationStockServicePort;
+import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.domain.model.LocationStock;
+import com.microservice.stock.domain.spi.IArticlePersistencePort;
+import com.microservice.stock.domain.spi.ILocationStockPersistencePort;
+import com.microservice.stock.domain.util.DomainConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+// The article quantity is the maintained total: every location delta moves it in the same transaction,
+// so listings and availability checks keep reading one column. Stock adjusted without a location stays unassigned.
+public class LocationStockUseCase implements ILocationStockServicePort {
+
+    private final ILocationStockPersistencePort locationStockPersistencePort;
+    private final IArticlePersistencePort articlePersistencePort;
+
+    public LocationStockUseCase(ILocationStockPersistencePort locationStockPersistencePort,
+                                IArticlePersistencePort articlePersistencePort) {
+        this.locationStockPersistencePort = locationStockPersistencePort;
+        this.articlePersistencePort = articlePersistencePort;
+    }
+
+    @Override
+    public int adjustLocationStock(Long articleId, String location, Integer delta) {
+        ArrayList<String> errors = new ArrayList<>();
+        if (delta == null || delta == 0) {
+            errors.add(DomainConstants.STOCK_DELTA_NOT_ZERO_MESSAGE);
+        }
+        validateLocation(location, errors);
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+        requireArticle(articleId);
+
+        String code = normalize(location);
+        if (!locationStockPersistencePort.adjustLocationQuantity(articleId, code, delta)) {
+            errors.add(String.format(DomainConstants.INSUFFICIENT_LOCATION_STOCK_MESSAGE, code, articleId));
+            throw new ValidationException(errors);
+        }
+        // Throwing rolls the location change back with the transaction
+        Optional<Integer> quantity = articlePersistencePort.adjustQuantity(articleId, delta);
+        if (quantity.isEmpty()) {
+            errors.add(String.format(DomainConstants.INSUFFICIENT_STOCK_MESSAGE, articleId));
+            throw new ValidationException(errors);
+        }
+        return quantity.get();
+    }
+
+    // A transfer leaves the total untouched, so it never locks the article row
+    @Override
+    public void transferStock(Long articleId, String fromLocation, String toLocation, Integer quantity) {
+        ArrayList<String> errors = new ArrayList<>();
+        if (quantity == null || quantity <= 0) {
+            errors.add(DomainConstants.TRANSFER_QUANTITY_MESSAGE);
+        }
+        validateLocation(fromLocation, errors);
+        validateLocation(toLocation, errors);
+        if (errors.isEmpty() && normalize(fromLocation).equals(normalize(toLocation))) {
+            errors.add(DomainConstants.TRANSFER_SAME_LOCATION_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+        requireArticle(articleId);
+
+        String from = normalize(fromLocation);
+        if (!locationStockPersistencePort.transfer(articleId, from, normalize(toLocation), quantity)) {
+            errors.add(String.format(DomainConstants.INSUFFICIENT_LOCATION_STOCK_MESSAGE, from, articleId));
+            throw new ValidationException(errors);
+        }
+    }
+
+    @Override
+    public List<LocationStock> listLocationStock(Long articleId) {
+        requireArticle(articleId);
+        return locationStockPersistencePort.findLocationStock(articleId);
+    }
+
+    private void requireArticle(Long articleId) {
+        if (!articlePersistencePort.existById(articleId)) {
+            ArrayList<String> errors = new ArrayList<>();
+            errors.add(String.format(DomainConstants.ARTICLE_DOES_NOT_EXISTS, articleId));
+            throw new ValidationException(errors);
+        }
+    }
+
+    private static void validateLocation(String location, List<String> errors) {
+        if (location == null || location.isBlank()) {
+            errors.add(DomainConstants.LOCATION_NULL_MESSAGE);
+        } else if (location.trim().length() > DomainConstants.LOCATION_SIZE_MAX) {
+            errors.add(DomainConstants.LOCATION_SIZE_MESSAGE);
+        }
+    }
+
+    private static String normalize(String location) {
+        return location.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,125 @@
+package com.microservice.stock.domain.usecase;
+
+import com.microservice.stock.domain.api.IReservationServicePort;
+import com.microservice.stock.domain.exceptions.ConflictException;
+import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.domain.model.Reservation;
+import com.microservice.stock.domain.spi.IArticlePersistencePort;
+import com.microservice.stock.domain.spi.IReservationExpiryPort;
+import com.microservice.stock.domain.spi.IReservationPersistencePort;
+import com.microservice.stock.domain.util.DomainConstants;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public class ReservationUseCase implements IReservationServicePort {
+
+    private final IReservationPersistencePort reservationPersistencePort;
+    private final IArticlePersistencePort articlePersistencePort;
+    private final IReservationExpiryPort reservationExpiryPort;
+    private final Clock clock;
+
+    public ReservationUseCase(IReservationPersistencePort reservationPersistencePort, IArticlePersistencePort articlePersistencePort,
+                              IReservationExpiryPort reservationExpiryPort, Clock clock) {
+        this.reservationPersistencePort = reservationPersistencePort;
+        this.articlePersistencePort = articlePersistencePort;
+        this.reservationExpiryPort = reservationExpiryPort;
+        this.clock = clock;
+    }
+
+    @Override
+    public Reservation reserve(Long articleId, Integer quantity, Integer ttlSeconds) {
+        ArrayList<String> errors = new ArrayList<>();
+        if (quantity == null || quantity <= 0) {
+            errors.add(DomainConstants.RESERVATION_QUANTITY_MESSAGE);
+        }
+        if (ttlSeconds == null || ttlSeconds <= 0 || ttlSeconds > DomainConstants.RESERVATION_TTL_MAX_SECONDS) {
+            errors.add(DomainConstants.RESERVATION_TTL_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        Reservation reservation = new Reservation(UUID.randomUUID().toString(), articleId, quantity,
+                clock.instant().plusSeconds(ttlSeconds));
+        if (!reservationPersistencePort.reserve(reservation)) {
+            errors.add(articlePersistencePort.existById(articleId)
+                    ? String.format(DomainConstants.INSUFFICIENT_AVAILABLE_STOCK_MESSAGE, articleId)
+                    : String.format(DomainConstants.ARTICLE_DOES_NOT_EXISTS, articleId));
+            throw new ValidationException(errors);
+        }
+        reservationExpiryPort.scheduleExpiry(reservation.getId(), reservation.getExpiresAt());
+        return reservation;
+    }
+
+    @Override
+    public void confirm(String reservationId) {
+        Optional<Reservation> found = reservationPersistencePort.findReservation(reservationId);
+        // An expired hold still waiting for its tick is not confirmable; it is left in place for the expiry
+        if (found.isPresent() && !found.get().getExpiresAt().isAfter(clock.instant())) {
+            ArrayList<String> errors = new ArrayList<>();
+            errors.add(String.format(DomainConstants.RESERVATION_EXPIRED_MESSAGE, reservationId));
+            throw new ValidationException(errors);
+        }
+        Reservation reservation = removeReservation(reservationId);
+        if (!reservationPersistencePort.confirm(reservation)) {
+            ArrayList<String> errors = new ArrayList<>();
+            errors.add(String.format(DomainConstants.RESERVATION_NOT_BACKED_MESSAGE, reservationId,
+                    reservation.getArticleId()));
+            throw new ConflictException(errors);
+        }
+        reservationExpiryPort.cancelExpiry(reservationId);
+    }
+
+    @Override
+    public void release(String reservationId) {
+        Reservation reservation = removeReservation(reservationId);
+        reservationPersistencePort.release(reservation);
+        reservationExpiryPort.cancelExpiry(reservationId);
+    }
+
+    // Confirm, release and expiry race for the same hold; only the one that deletes it applies its change
+    @Override
+    public void expire(String reservationId) {
+        reservationPersistencePort.removeReservation(reservationId)
+                .ifPresent(reservationPersistencePort::release);
+    }
+
+    @Override
+    public int availableStock(Long articleId) {
+        Optional<Integer> available = reservationPersistencePort.findAvailableQuantity(articleId);
+        if (available.isEmpty()) {
+            ArrayList<String> errors = new ArrayList<>();
+            errors.add(String.format(DomainConstants.ARTICLE_DOES_NOT_EXISTS, articleId));
+            throw new ValidationException(errors);
+        }
+        return available.get();
+    }
+
+    // Holds already past their deadline are scheduled too and expire on the next tick
+    @Override
+    public void recoverReservations() {
+        String after = "";
+        List<Reservation> reservations;
+        do {
+            reservations = reservationPersistencePort.findReservationsAfter(after, DomainConstants.RESERVATION_RECOVERY_PAGE_SIZE);
+            for (Reservation reservation : reservations) {
+                reservationExpiryPort.scheduleExpiry(reservation.getId(), reservation.getExpiresAt());
+                after = reservation.getId();
+            }
+        } while (reservations.size() == DomainConstants.RESERVATION_RECOVERY_PAGE_SIZE);
+    }
+
+    private Reservation removeReservation(String reservationId) {
+        Optional<Reservation> reservation = reservationPersistencePort.removeReservation(reservationId);
+        if (reservation.isEmpty()) {
+            ArrayList<String> errors = new ArrayList<>();
+            errors.add(String.format(DomainConstants.RESERVATION_DOES_NOT_EXISTS, reservationId));
+            throw new ValidationException(errors);
+        }
+        return reservation.get();
+    }
+}
@@ -0,0 +1,50 @@
+package com.microservice.stock.domain.usecase;
+
+import com.microservice.stock.domain.api.IStockAvailabilityServicePort;
+import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.domain.model.StockAvailability;
+import com.microservice.stock.domain.spi.IStockAvailabilityPersistencePort;
+import com.microservice.stock.domain.util.DomainConstants;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+public class StockAvailabilityUseCase implements IStockAvailabilityServicePort {
+
+    private final IStockAvailabilityPersistencePort stockAvailabilityPersistencePort;
+
+    public StockAvailabilityUseCase(IStockAvailabilityPersistencePort stockAvailabilityPersistencePort) {
+        this.stockAvailabilityPersistencePort = stockAvailabilityPersistencePort;
+    }
+
+    // One entry per distinct article, in request order; articles that do not exist are left out
+    @Override
+    public List<StockAvailability> checkAvailability(List<Long> articleIds) {
+        ArrayList<String> errors = new ArrayList<>();
+        if (articleIds == null || articleIds.isEmpty()) {
+            errors.add(DomainConstants.AVAILABILITY_EMPTY_MESSAGE);
+        } else if (articleIds.size() > DomainConstants.AVAILABILITY_MAX) {
+            errors.add(DomainConstants.AVAILABILITY_SIZE_MESSAGE);
+        } else if (articleIds.stream().anyMatch(Objects::isNull)) {
+            errors.add(DomainConstants.FIELD_ARTICLE_ID_NOT_NULL_MESSAGE);
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException(errors);
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(articleIds);
+        Map<Long, Integer> quantities = stockAvailabilityPersistencePort.findQuantities(distinctIds);
+        List<StockAvailability> availability = new ArrayList<>(quantities.size());
+        for (Long articleId : distinctIds) {
+            Integer quantity = quantities.get(articleId);
+            if (quantity != null) {
+                availability.add(new StockAvailability(articleId, quantity));
+            }
+        }
+        return availability;
+    }
+}
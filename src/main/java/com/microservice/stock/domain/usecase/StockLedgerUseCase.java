@@ -0,0 +1,58 @@
+package com.microservice.stock.domain.usecase;
+
+import com.microservice.stock.domain.api.IStockLedgerServicePort;
+import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.domain.model.StockMovement;
+import com.microservice.stock.domain.spi.IArticlePersistencePort;
+import com.microservice.stock.domain.spi.IStockLedgerPersistencePort;
+import com.microservice.stock.domain.util.DomainConstants;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+public class StockLedgerUseCase implements IStockLedgerServicePort {
+
+    private final IStockLedgerPersistencePort stockLedgerPersistencePort;
+    private final IArticlePersistencePort articlePersistencePort;
+    private final Clock clock;
+
+    public StockLedgerUseCase(IStockLedgerPersistencePort stockLedgerPersistencePort,
+                              IArticlePersistencePort articlePersistencePort, Clock clock) {
+        this.stockLedgerPersistencePort = stockLedgerPersistencePort;
+        this.articlePersistencePort = articlePersistencePort;
+        this.clock = clock;
+    }
+
+    @Override
+    public int stockAsOf(Long articleId, Instant at) {
+        ArrayList<String> errors = new ArrayList<>();
+        if (at == null) {
+            errors.add(DomainConstants.STOCK_AS_OF_NULL_MESSAGE);
+            throw new ValidationException(errors);
+        }
+        requireArticle(articleId);
+        return stockLedgerPersistencePort.findQuantityAsOf(articleId, at);
+    }
+
+    // Newest first; the occurredAt of the last movement is the "before" of the next page
+    @Override
+    public List<StockMovement> listMovements(Long articleId, Instant before, Integer limit) {
+        ArrayList<String> errors = new ArrayList<>();
+        if (limit == null || limit <= 0 || limit > DomainConstants.STOCK_MOVEMENT_LIMIT_MAX) {
+            errors.add(DomainConstants.STOCK_MOVEMENT_LIMIT_MESSAGE);
+            throw new ValidationException(errors);
+        }
+        requireArticle(articleId);
+        return stockLedgerPersistencePort.findMovementsBefore(articleId, before == null ? clock.instant() : before, limit);
+    }
+
+    private void requireArticle(Long articleId) {
+        if (!articlePersistencePort.existById(articleId)) {
+            ArrayList<String> errors = new ArrayList<>();
+            errors.add(String.format(DomainConstants.ARTICLE_DOES_NOT_EXISTS, articleId));
+            throw new ValidationException(errors);
+        }
+    }
+}
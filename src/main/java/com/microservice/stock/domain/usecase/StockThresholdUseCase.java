@@ -0,0 +1,53 @@
+package com.microservice.stock.domain.usecase;
+
+import com.microservice.stock.domain.api.IStockThresholdServicePort;
+import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.domain.model.LowStock;
+import com.microservice.stock.domain.spi.IStockThresholdPersistencePort;
+import com.microservice.stock.domain.util.DomainConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class StockThresholdUseCase implements IStockThresholdServicePort {
+
+    private final IStockThresholdPersistencePort stockThresholdPersistencePort;
+
+    public StockThresholdUseCase(IStockThresholdPersistencePort stockThresholdPersistencePort) {
+        this.stockThresholdPersistencePort = stockThresholdPersistencePort;
+    }
+
+    @Override
+    public void setThreshold(Long articleId, Integer threshold) {
+        if (threshold == null || threshold < 0) {
+            ArrayList<String> errors = new ArrayList<>();
+            errors.add(DomainConstants.REORDER_THRESHOLD_MESSAGE);
+            throw new ValidationException(errors);
+        }
+        saveThreshold(articleId, threshold);
+    }
+
+    @Override
+    public void clearThreshold(Long articleId) {
+        saveThreshold(articleId, null);
+    }
+
+    // Most urgent first: the articles furthest below their threshold
+    @Override
+    public List<LowStock> listLowStock(Integer limit) {
+        if (limit == null || limit <= 0 || limit > DomainConstants.LOW_STOCK_LIMIT_MAX) {
+            ArrayList<String> errors = new ArrayList<>();
+            errors.add(DomainConstants.LOW_STOCK_LIMIT_MESSAGE);
+            throw new ValidationException(errors);
+        }
+        return stockThresholdPersistencePort.findLowStock(limit);
+    }
+
+    private void saveThreshold(Long articleId, Integer threshold) {
+        if (!stockThresholdPersistencePort.setThreshold(articleId, threshold)) {
+            ArrayList<String> errors = new ArrayList<>();
+            errors.add(String.format(DomainConstants.ARTICLE_DOES_NOT_EXISTS, articleId));
+            throw new ValidationException(errors);
+        }
+    }
+}
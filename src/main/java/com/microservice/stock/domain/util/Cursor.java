@@ -0,0 +1,47 @@
+package com.microservice.stock.domain.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class Cursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final String sortKey;
+    private final Long id;
+
+    public Cursor(String sortKey, Long id) {
+        this.sortKey = sortKey == null ? "" : sortKey;
+        this.id = id;
+    }
+
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String encode() {
+        String raw = id + SEPARATOR + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}. A blank token means "first page" and yields null.
+     *
+     * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = raw.indexOf(SEPARATOR);
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        return new Cursor(raw.substring(separator + 1), Long.parseLong(raw.substring(0, separator)));
+    }
+}
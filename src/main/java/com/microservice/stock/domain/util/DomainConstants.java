@@ -31,6 +31,8 @@ public final class DomainConstants {
     public static final String ORDER_DESC = "desc";
     public static final String INVALID_PAGE_NUMBER_NULL_MESSAGE = "Page number cannot be null.";
     public static final String INVALID_PAGE_SIZE_NULL_MESSAGE = "Page size cannot be null.";
+    public static final String INVALID_CURSOR_MESSAGE = "The cursor is invalid.";
+    public static final long UNKNOWN_TOTAL = -1;
   
     public static final String CATEGORY_AT_LEAST_ONE_MESSAGE = "Article must have at least one category.";
     public static final String CATEGORY_MORE_THAN_THREE_MESSAGE = "Article cannot have more than three categories.";
@@ -48,6 +50,56 @@ public final class DomainConstants {
     public static final String FIELD_BRAND_ID_NOT_NULL_MESSAGE = "Brand ID cannot be null.";
     public static final String FIELD_BRAND_ID_NOT_POSITIVE_MESSAGE = "Brand ID must be a positive value.";
     public static final String ARTICLE_EXISTS_MESSAGE = "Article already exists";
+    public static final String NAME_ALREADY_TAKEN_MESSAGE = "The name is already in use.";
+    public static final String ARTICLE_NULL_MESSAGE = "Article cannot be null.";
+    public static final String FIELD_CATEGORY_ID_NOT_NULL_MESSAGE = "Category ID cannot be null.";
+    public static final String ARTICLE_DUPLICATE_IN_BATCH_MESSAGE = "Article name is repeated in the batch.";
+    public static final String ARTICLE_BATCH_EMPTY_MESSAGE = "The batch must contain at least one article.";
+    public static final String ARTICLE_BATCH_SIZE_MESSAGE = "The batch cannot contain more than 5000 articles.";
+    public static final int ARTICLE_BATCH_MAX = 5000;
+    public static final int ARTICLE_BATCH_CHUNK_SIZE = 500;
+    public static final String ARTICLE_DOES_NOT_EXISTS = "Article with id %d does not exist.";
+    public static final String STOCK_DELTA_NOT_ZERO_MESSAGE = "Stock delta cannot be null or zero.";
+    public static final String INSUFFICIENT_STOCK_MESSAGE = "Article with id %d does not have enough stock for this adjustment.";
+    public static final String STOCK_ADJUSTMENT_NULL_MESSAGE = "Stock adjustment cannot be null.";
+    public static final String STOCK_BATCH_EMPTY_MESSAGE = "The stock batch must contain at least one line.";
+    public static final String STOCK_BATCH_SIZE_MESSAGE = "The stock batch cannot contain more than 500 lines.";
+    public static final int STOCK_BATCH_MAX = 500;
+    public static final String STOCK_SLOTS_RANGE_MESSAGE = "Stock slots must be between 2 and 64.";
+    public static final int STOCK_SLOTS_MIN = 2;
+    public static final int STOCK_SLOTS_MAX = 64;
+    public static final String LOCATION_NULL_MESSAGE = "Location cannot be null or empty.";
+    public static final String LOCATION_SIZE_MESSAGE = "Location cannot be longer than 20 characters.";
+    public static final int LOCATION_SIZE_MAX = 20;
+    public static final String TRANSFER_QUANTITY_MESSAGE = "Transfer quantity must be a positive value.";
+    public static final String TRANSFER_SAME_LOCATION_MESSAGE = "Transfer source and target locations must be different.";
+    public static final String INSUFFICIENT_LOCATION_STOCK_MESSAGE = "Location %s does not have enough stock of article with id %d.";
+    public static final String STOCK_AS_OF_NULL_MESSAGE = "The point in time cannot be null.";
+    public static final String STOCK_MOVEMENT_LIMIT_MESSAGE = "The movement limit must be between 1 and 500.";
+    public static final int STOCK_MOVEMENT_LIMIT_MAX = 500;
+    public static final String REORDER_THRESHOLD_MESSAGE = "Reorder threshold must be zero or a positive value.";
+    public static final String LOW_STOCK_LIMIT_MESSAGE = "The low-stock limit must be between 1 and 500.";
+    public static final int LOW_STOCK_LIMIT_MAX = 500;
+    public static final String CHANGE_VERSION_MESSAGE = "The change version must be zero or a positive value.";
+    public static final String CHANGE_LIMIT_MESSAGE = "The change limit must be between 1 and 500.";
+    public static final int CHANGE_LIMIT_MAX = 500;
+    public static final String AVAILABILITY_EMPTY_MESSAGE = "The availability check must contain at least one article ID.";
+    public static final String AVAILABILITY_SIZE_MESSAGE = "The availability check cannot contain more than 500 article IDs.";
+    public static final int AVAILABILITY_MAX = 500;
+    public static final String SEARCH_QUERY_EMPTY_MESSAGE = "The search query cannot be empty.";
+    public static final String SEARCH_QUERY_SIZE_MESSAGE = "The search query cannot be longer than 100 characters.";
+    public static final int SEARCH_QUERY_SIZE_MAX = 100;
+    public static final String SEARCH_WINDOW_MESSAGE = "Only the first 10000 search results can be paged through.";
+    public static final int SEARCH_WINDOW_MAX = 10_000;
+    public static final String FIELD_ARTICLE_ID_NOT_NULL_MESSAGE = "Article ID cannot be null.";
+    public static final String RESERVATION_QUANTITY_MESSAGE = "Reservation quantity must be a positive value.";
+    public static final String RESERVATION_TTL_MESSAGE = "Reservation TTL must be between 1 and 3600 seconds.";
+    public static final int RESERVATION_TTL_MAX_SECONDS = 3600;
+    public static final String RESERVATION_DOES_NOT_EXISTS = "Reservation %s does not exist.";
+    public static final String RESERVATION_EXPIRED_MESSAGE = "Reservation %s has expired.";
+    public static final String RESERVATION_NOT_BACKED_MESSAGE = "Reservation %s holds more units than article %d has reserved.";
+    public static final String INSUFFICIENT_AVAILABLE_STOCK_MESSAGE = "Article with id %d does not have enough available stock.";
+    public static final int RESERVATION_RECOVERY_PAGE_SIZE = 1000;
 
     public static final List<String> VALID_SORT_FIELDS = Arrays.asList("name", "brandName", "categoryName");
 }
@@ -0,0 +1,15 @@
+package com.microservice.stock.domain.util;
+
+import java.util.Locale;
+
+public final class NameKey {
+
+    private NameKey() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    // Form used to decide whether two names are the same: trimmed and lower-cased
+    public static String of(String name) {
+        return name == null ? null : name.trim().toLowerCase(Locale.ROOT);
+    }
+}
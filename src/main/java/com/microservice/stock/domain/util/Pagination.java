@@ -1,6 +1,7 @@
 package com.microservice.stock.domain.util;
 
 import java.util.List;
+import java.util.function.Function;
 
 public class Pagination<T> {
 
@@ -11,6 +12,7 @@ public class Pagination<T> {
     private int totalPages;
     private boolean first;
     private boolean last;
+    private String nextCursor;
 
     public Pagination(){}
 
@@ -52,6 +54,14 @@ public class Pagination<T> {
         return last;
     }
 
+    public boolean isTotalKnown() {
+        return totalElements != DomainConstants.UNKNOWN_TOTAL;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
     public boolean isEmpty() {
         return content == null || content.isEmpty();
     }
@@ -83,5 +93,22 @@ public class Pagination<T> {
     public void setLast(boolean last) {
         this.last = last;
     }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public <R> Pagination<R> map(Function<T, R> mapper) {
+        Pagination<R> pagination = new Pagination<>();
+        pagination.content = content.stream().map(mapper).toList();
+        pagination.pageNumber = pageNumber;
+        pagination.pageSize = pageSize;
+        pagination.totalElements = totalElements;
+        pagination.totalPages = totalPages;
+        pagination.first = first;
+        pagination.last = last;
+        pagination.nextCursor = nextCursor;
+        return pagination;
+    }
 }
 
@@ -0,0 +1,20 @@
+package com.microservice.stock.infraestructure.configuration;
+
+import com.microservice.stock.infraestructure.out.jpa.entity.ArticleEntity;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// Runs before the web server starts, so no article is inserted with an id from the unseeded sequence
+@Component
+@RequiredArgsConstructor
+public class ArticleIdSequenceInitializer {
+
+    private final IArticleRepository articleRepository;
+
+    @PostConstruct
+    public void seedIdSequence() {
+        articleRepository.seedIdSequence(ArticleEntity.ID_ALLOCATION_SIZE);
+    }
+}
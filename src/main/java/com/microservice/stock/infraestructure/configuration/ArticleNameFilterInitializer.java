@@ -0,0 +1,35 @@
+package com.microservice.stock.infraestructure.configuration;
+
+import com.microservice.stock.infraestructure.out.cache.ArticleNameFilterAdapter;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class ArticleNameFilterInitializer {
+
+    private static final int PAGE_SIZE = 10_000;
+
+    private final IArticleRepository articleRepository;
+    private final ArticleNameFilterAdapter articleNameFilterAdapter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadArticleNames() {
+        String after = "";
+        List<String> nameKeys;
+        do {
+            nameKeys = articleRepository.findNameKeysAfter(after, PageRequest.of(0, PAGE_SIZE));
+            articleNameFilterAdapter.addExistingNames(nameKeys);
+            if (!nameKeys.isEmpty()) {
+                after = nameKeys.get(nameKeys.size() - 1);
+            }
+        } while (nameKeys.size() == PAGE_SIZE);
+        articleNameFilterAdapter.markLoaded();
+    }
+}
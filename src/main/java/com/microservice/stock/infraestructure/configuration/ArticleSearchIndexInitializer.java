@@ -0,0 +1,35 @@
+package com.microservice.stock.infraestructure.configuration;
+
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.search.ArticleSearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Reads the catalog in id order; articles created meanwhile reach the index through the outbox hook
+@Component
+@RequiredArgsConstructor
+public class ArticleSearchIndexInitializer {
+
+    private static final int PAGE_SIZE = 10_000;
+
+    private final IArticleRepository articleRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadArticles() {
+        long after = 0;
+        List<IArticleRepository.ArticleText> rows;
+        do {
+            rows = articleRepository.findTextsAfter(after, PageRequest.of(0, PAGE_SIZE));
+            rows.forEach(row -> articleSearchIndex.load(row.getId(), row.getName(), row.getDescription()));
+            if (!rows.isEmpty()) {
+                after = rows.get(rows.size() - 1).getId();
+            }
+        } while (rows.size() == PAGE_SIZE);
+    }
+}
@@ -0,0 +1,19 @@
+package com.microservice.stock.infraestructure.configuration;
+
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ArticleSortKeyInitializer {
+
+    private final IArticleRepository articleRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void fillMissingCategorySortNames() {
+        articleRepository.fillMissingCategorySortNames();
+    }
+}
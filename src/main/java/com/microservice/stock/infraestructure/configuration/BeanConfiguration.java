@@ -1,67 +1,412 @@
 package com.microservice.stock.infraestructure.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.stock.application.cache.CatalogVersions;
+import com.microservice.stock.application.cache.IPaginationResponseCache;
+import com.microservice.stock.domain.api.IArticleSearchServicePort;
 import com.microservice.stock.domain.api.IArticleServicePort;
 import com.microservice.stock.domain.api.IBrandServicePort;
 import com.microservice.stock.domain.api.ICategoryServicePort;
+import com.microservice.stock.domain.api.IChangeFeedServicePort;
+import com.microservice.stock.domain.api.ILocationStockServicePort;
+import com.microservice.stock.domain.api.IReservationServicePort;
+import com.microservice.stock.domain.api.IStockAvailabilityServicePort;
+import com.microservice.stock.domain.api.IStockLedgerServicePort;
+import com.microservice.stock.domain.api.IStockThresholdServicePort;
 import com.microservice.stock.domain.spi.IArticlePersistencePort;
+import com.microservice.stock.domain.spi.IArticleSearchPersistencePort;
 import com.microservice.stock.domain.spi.IBrandPersistencePort;
 import com.microservice.stock.domain.spi.ICategoryPersistencePort;
+import com.microservice.stock.domain.spi.IChangeFeedPersistencePort;
+import com.microservice.stock.domain.spi.ILocationStockPersistencePort;
+import com.microservice.stock.domain.spi.ILowStockListenerPort;
+import com.microservice.stock.domain.spi.IReservationExpiryPort;
+import com.microservice.stock.domain.spi.IReservationPersistencePort;
+import com.microservice.stock.domain.spi.IStockAvailabilityPersistencePort;
+import com.microservice.stock.domain.spi.IStockLedgerPersistencePort;
+import com.microservice.stock.domain.spi.IStockThresholdPersistencePort;
+import com.microservice.stock.domain.usecase.ArticleSearchUseCase;
 import com.microservice.stock.domain.usecase.ArticleUseCase;
 import com.microservice.stock.domain.usecase.BrandUseCase;
 import com.microservice.stock.domain.usecase.CategoryUseCase;
+import com.microservice.stock.domain.usecase.ChangeFeedUseCase;
+import com.microservice.stock.domain.usecase.LocationStockUseCase;
+import com.microservice.stock.domain.usecase.ReservationUseCase;
+import com.microservice.stock.domain.usecase.StockAvailabilityUseCase;
+import com.microservice.stock.domain.usecase.StockLedgerUseCase;
+import com.microservice.stock.domain.usecase.StockThresholdUseCase;
+import com.microservice.stock.infraestructure.out.availability.StockAvailabilityIndexAdapter;
+import com.microservice.stock.infraestructure.out.availability.StockQuantityIndex;
+import com.microservice.stock.infraestructure.out.cache.ArticleNameFilterAdapter;
+import com.microservice.stock.infraestructure.out.cache.BrandCacheAdapter;
+import com.microservice.stock.infraestructure.out.cache.CategoryCacheAdapter;
+import com.microservice.stock.infraestructure.out.cache.PaginationResponseCache;
+import com.microservice.stock.infraestructure.out.changes.RemoteChangePoller;
+import com.microservice.stock.infraestructure.out.coalescing.CoalescingArticleAdapter;
+import com.microservice.stock.infraestructure.out.jdbc.adapter.ArticleJdbcAdapter;
+import com.microservice.stock.infraestructure.out.jpa.adapter.ArticleDetailsLoader;
 import com.microservice.stock.infraestructure.out.jpa.adapter.ArticleJpaAdapter;
 import com.microservice.stock.infraestructure.out.jpa.adapter.BrandJpaAdapter;
 import com.microservice.stock.infraestructure.out.jpa.adapter.CategoryJpaAdapter;
+import com.microservice.stock.infraestructure.out.jpa.adapter.ChangeFeedJpaAdapter;
+import com.microservice.stock.infraestructure.out.jpa.adapter.LocationStockJpaAdapter;
+import com.microservice.stock.infraestructure.out.jpa.adapter.ReservationJpaAdapter;
+import com.microservice.stock.infraestructure.out.jpa.adapter.ShardedStock;
+import com.microservice.stock.infraestructure.out.jpa.adapter.StockLedgerJpaAdapter;
+import com.microservice.stock.infraestructure.out.jpa.adapter.StockThresholdJpaAdapter;
 import com.microservice.stock.infraestructure.out.jpa.mapper.BrandEntityMapper;
 import com.microservice.stock.infraestructure.out.jpa.mapper.CategoryEntityMapper;
 import com.microservice.stock.infraestructure.out.jpa.mapper.ArticleEntityMapper;
+import com.microservice.stock.infraestructure.out.jpa.mapper.LocationStockEntityMapper;
+import com.microservice.stock.infraestructure.out.jpa.mapper.StockMovementEntityMapper;
+import com.microservice.stock.infraestructure.out.jpa.mapper.StockReservationEntityMapper;
 import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
 import com.microservice.stock.infraestructure.out.jpa.repository.IBrandRepository;
 import com.microservice.stock.infraestructure.out.jpa.repository.ICategoryRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.ILocationStockRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IOutboxEventRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockMovementRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockReservationRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSlotRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSnapshotRepository;
+import com.microservice.stock.infraestructure.out.ledger.LedgerOutboxPublisher;
+import com.microservice.stock.infraestructure.out.ledger.OpeningSnapshotWriter;
+import com.microservice.stock.infraestructure.out.ledger.StockSnapshotJob;
+import com.microservice.stock.infraestructure.out.lowstock.LoggingLowStockListener;
+import com.microservice.stock.infraestructure.out.lowstock.LowStockIndex;
+import com.microservice.stock.infraestructure.out.outbox.FileOutboxPublisher;
+import com.microservice.stock.infraestructure.out.outbox.ICatalogChangeListener;
+import com.microservice.stock.infraestructure.out.outbox.IOutboxPublisher;
+import com.microservice.stock.infraestructure.out.outbox.IStockChangeListener;
+import com.microservice.stock.infraestructure.out.outbox.IStockDeltaListener;
+import com.microservice.stock.infraestructure.out.outbox.InMemoryOutboxPublisher;
+import com.microservice.stock.infraestructure.out.outbox.OutboxRelay;
+import com.microservice.stock.infraestructure.out.outbox.OutboxWriter;
+import com.microservice.stock.infraestructure.out.search.ArticleSearchIndex;
+import com.microservice.stock.infraestructure.out.search.ArticleSearchIndexAdapter;
+import com.microservice.stock.infraestructure.out.stream.StockStreamBroadcaster;
+import com.microservice.stock.infraestructure.out.timer.TimerWheelExpiryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
 public class BeanConfiguration {
 
+    private static final String JPA_READ_ADAPTER = "jpa";
+    private static final String JDBC_READ_ADAPTER = "jdbc";
+    private static final long NAME_FILTER_GROWTH = 2;
+    private static final long NAME_FILTER_MIN_CAPACITY = 100_000;
+    private static final String REFERENCE_CACHE_NEGATIVE_TTL = "30s";
+    private static final String LIST_CACHE_MAX_SIZE = "64MB";
+    private static final String LIST_CACHE_TTL = "30s";
+    private static final String RESERVATION_TICK = "1s";
+    private static final String STOCK_COALESCING_WINDOW = "5ms";
+    private static final String STOCK_COALESCING_FLUSH_TIMEOUT = "2s";
+    private static final String MEMORY_OUTBOX_PUBLISHER = "memory";
+    private static final String FILE_OUTBOX_PUBLISHER = "file";
+    private static final String OUTBOX_FILE = "outbox-events.jsonl";
+    private static final String OUTBOX_BATCH_SIZE = "200";
+    private static final String OUTBOX_POLL_INTERVAL = "500ms";
+    private static final String LEDGER_SNAPSHOT_INTERVAL = "1h";
+    private static final String LEDGER_SETTLE_TIME = "1m";
+    private static final String CHANGES_SETTLE_TIME = "5s";
+    private static final String CHANGES_BATCH_SIZE = "500";
+    private static final String CHANGES_POLL_INTERVAL = "1s";
+    private static final String STREAM_BUFFER_SIZE = "1024";
+    private static final String STREAM_DISPATCHER_THREADS = "4";
+    private static final String STREAM_HEARTBEAT_INTERVAL = "30s";
+    private static final String STREAM_SEND_TIMEOUT = "10s";
+
     private final ICategoryRepository categoryRepository;
     private final CategoryEntityMapper categoryEntityMapper;
     private final IBrandRepository brandRepository;
     private final BrandEntityMapper brandEntityMapper;
     private final IArticleRepository articleRepository;
     private final ArticleEntityMapper articleEntityMapper;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final IStockReservationRepository stockReservationRepository;
+    private final StockReservationEntityMapper stockReservationEntityMapper;
+    private final IOutboxEventRepository outboxEventRepository;
+    private final IStockSlotRepository stockSlotRepository;
+    private final ILocationStockRepository locationStockRepository;
+    private final LocationStockEntityMapper locationStockEntityMapper;
+    private final IStockMovementRepository stockMovementRepository;
+    private final IStockSnapshotRepository stockSnapshotRepository;
+    private final StockMovementEntityMapper stockMovementEntityMapper;
+
+    @Bean
+    public ShardedStock shardedStock() {
+        return new ShardedStock(articleRepository, stockSlotRepository);
+    }
+
+    @Bean
+    public ArticleDetailsLoader articleDetailsLoader() {
+        return new ArticleDetailsLoader(articleRepository, articleEntityMapper, shardedStock());
+    }
+
+    @Bean
+    public OutboxWriter outboxWriter(ObjectMapper objectMapper, List<IStockDeltaListener> stockDeltaListeners,
+                                     List<ICatalogChangeListener> catalogChangeListeners) {
+        return new OutboxWriter(outboxEventRepository, objectMapper, Clock.systemUTC(), stockDeltaListeners,
+                catalogChangeListeners);
+    }
+
+    @Bean
+    public StockStreamBroadcaster stockStreamBroadcaster(
+            @Value("${stock.stream.buffer-size:" + STREAM_BUFFER_SIZE + "}") int bufferSize,
+            @Value("${stock.stream.dispatcher-threads:" + STREAM_DISPATCHER_THREADS + "}") int dispatcherThreads,
+            @Value("${stock.stream.heartbeat-interval:" + STREAM_HEARTBEAT_INTERVAL + "}") Duration heartbeatInterval,
+            @Value("${stock.stream.send-timeout:" + STREAM_SEND_TIMEOUT + "}") Duration sendTimeout,
+            MeterRegistry meterRegistry) {
+        return new StockStreamBroadcaster(bufferSize, dispatcherThreads, heartbeatInterval, sendTimeout, meterRegistry);
+    }
+
+    @Bean
+    public ILowStockListenerPort lowStockListenerPort() {
+        return new LoggingLowStockListener();
+    }
+
+    @Bean
+    public LowStockIndex lowStockIndex(MeterRegistry meterRegistry) {
+        return new LowStockIndex(lowStockListenerPort(), meterRegistry);
+    }
+
+    @Bean
+    public IOutboxPublisher outboxPublisher(
+            @Value("${stock.outbox.publisher:" + MEMORY_OUTBOX_PUBLISHER + "}") String publisher,
+            @Value("${stock.outbox.file:" + OUTBOX_FILE + "}") String file,
+            ObjectMapper objectMapper) {
+        IOutboxPublisher outboxPublisher = FILE_OUTBOX_PUBLISHER.equalsIgnoreCase(publisher)
+                ? new FileOutboxPublisher(Path.of(file), objectMapper)
+                : new InMemoryOutboxPublisher();
+        return new LedgerOutboxPublisher(outboxPublisher, stockMovementRepository, objectMapper);
+    }
+
+    @Bean
+    public StockSnapshotJob stockSnapshotJob(PlatformTransactionManager transactionManager,
+                                             @Value("${stock.ledger.snapshot-interval:" + LEDGER_SNAPSHOT_INTERVAL + "}") Duration interval,
+                                             @Value("${stock.ledger.settle-time:" + LEDGER_SETTLE_TIME + "}") Duration settleTime) {
+        return new StockSnapshotJob(stockMovementRepository, stockSnapshotRepository, outboxEventRepository,
+                new TransactionTemplate(transactionManager), interval, settleTime, Clock.systemUTC());
+    }
+
+    @Bean
+    public OpeningSnapshotWriter openingSnapshotWriter(PlatformTransactionManager transactionManager,
+                                                       ObjectMapper objectMapper) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        return new OpeningSnapshotWriter(articleRepository, stockMovementRepository, stockSnapshotRepository,
+                outboxEventRepository, objectMapper, transactionTemplate);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(IOutboxPublisher outboxPublisher,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${stock.outbox.batch-size:" + OUTBOX_BATCH_SIZE + "}") int batchSize,
+                                   @Value("${stock.outbox.poll-interval:" + OUTBOX_POLL_INTERVAL + "}") Duration pollInterval,
+                                   MeterRegistry meterRegistry) {
+        return new OutboxRelay(outboxEventRepository, outboxPublisher, new TransactionTemplate(transactionManager),
+                batchSize, pollInterval, Clock.systemUTC(), meterRegistry);
+    }
+
+    @Bean
+    public ICategoryPersistencePort categoryPersistencePort(
+            @Value("${stock.reference-cache.negative-ttl:" + REFERENCE_CACHE_NEGATIVE_TTL + "}") Duration negativeTtl,
+            OutboxWriter outboxWriter) {
+        return new CategoryCacheAdapter(new CategoryJpaAdapter(categoryRepository, categoryEntityMapper, outboxWriter),
+                negativeTtl);
+    }
+
+    @Bean
+    public ICategoryServicePort categoryServicePort(ICategoryPersistencePort categoryPersistencePort) {
+        return new CategoryUseCase(categoryPersistencePort);
+    }
+
+    @Bean
+    public IBrandPersistencePort brandPersistencePort(
+            @Value("${stock.reference-cache.negative-ttl:" + REFERENCE_CACHE_NEGATIVE_TTL + "}") Duration negativeTtl,
+            OutboxWriter outboxWriter) {
+        return new BrandCacheAdapter(new BrandJpaAdapter(brandRepository, brandEntityMapper, outboxWriter), negativeTtl);
+    }
+
+    @Bean
+    public IBrandServicePort brandServicePort(IBrandPersistencePort brandPersistencePort) {
+        return new BrandUseCase(brandPersistencePort);
+    }
+
+    @Bean
+    public ArticleNameFilterAdapter articlePersistencePort(
+            @Value("${stock.article.read-adapter:" + JPA_READ_ADAPTER + "}") String readAdapter,
+            @Value("${stock.article.stock-coalescing.enabled:false}") boolean stockCoalescing,
+            @Value("${stock.article.stock-coalescing.window:" + STOCK_COALESCING_WINDOW + "}") Duration coalescingWindow,
+            @Value("${stock.article.stock-coalescing.flush-timeout:" + STOCK_COALESCING_FLUSH_TIMEOUT + "}") Duration flushTimeout,
+            PlatformTransactionManager transactionManager,
+            OutboxWriter outboxWriter,
+            MeterRegistry meterRegistry) {
+        TransactionTemplate stockTransactions = new TransactionTemplate(transactionManager);
+        stockTransactions.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        IArticlePersistencePort articleJpaAdapter = new ArticleJpaAdapter(articleRepository, articleEntityMapper, outboxWriter,
+                shardedStock(), stockTransactions);
+        IArticlePersistencePort articleAdapter = JDBC_READ_ADAPTER.equalsIgnoreCase(readAdapter)
+                ? new ArticleJdbcAdapter(jdbcTemplate, articleJpaAdapter)
+                : articleJpaAdapter;
+        if (stockCoalescing) {
+            TransactionTemplate flushTransactions = new TransactionTemplate(transactionManager);
+            flushTransactions.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+            flushTransactions.setTimeout(Math.toIntExact(Math.max(1, flushTimeout.toSeconds())));
+            articleAdapter = new CoalescingArticleAdapter(articleAdapter, flushTransactions, coalescingWindow,
+                    flushTimeout, meterRegistry);
+        }
+        long expectedNames = Math.max(articleRepository.count() * NAME_FILTER_GROWTH, NAME_FILTER_MIN_CAPACITY);
+        return new ArticleNameFilterAdapter(articleAdapter, expectedNames, meterRegistry);
+    }
+
+    @Bean
+    public CatalogVersions catalogVersions() {
+        return new CatalogVersions();
+    }
+
+    @Bean
+    public IPaginationResponseCache paginationResponseCache(
+            @Value("${stock.list-cache.max-size:" + LIST_CACHE_MAX_SIZE + "}") DataSize maxSize,
+            @Value("${stock.list-cache.ttl:" + LIST_CACHE_TTL + "}") Duration ttl,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        return new PaginationResponseCache(maxSize, ttl, objectMapper, catalogVersions(), meterRegistry);
+    }
 
     @Bean
-    public ICategoryPersistencePort categoryPersistencePort() {
-        return new CategoryJpaAdapter(categoryRepository, categoryEntityMapper);
+    public IArticleServicePort articleServicePort(IArticlePersistencePort articlePersistencePort,
+                                                  ICategoryPersistencePort categoryPersistencePort,
+                                                  IBrandPersistencePort brandPersistencePort) {
+        return new ArticleUseCase(articlePersistencePort, categoryPersistencePort, brandPersistencePort);
     }
 
     @Bean
-    public ICategoryServicePort categoryServicePort() {
-        return new CategoryUseCase(categoryPersistencePort());
+    public ILocationStockPersistencePort locationStockPersistencePort() {
+        return new LocationStockJpaAdapter(locationStockRepository, locationStockEntityMapper);
     }
 
     @Bean
-    public IBrandPersistencePort brandPersistencePort() {
-        return new BrandJpaAdapter(brandRepository, brandEntityMapper);
+    public ILocationStockServicePort locationStockServicePort(IArticlePersistencePort articlePersistencePort) {
+        return new LocationStockUseCase(locationStockPersistencePort(), articlePersistencePort);
     }
 
     @Bean
-    public IBrandServicePort brandServicePort() {
-        return new BrandUseCase(brandPersistencePort());
+    public IStockLedgerPersistencePort stockLedgerPersistencePort() {
+        return new StockLedgerJpaAdapter(stockMovementRepository, stockSnapshotRepository, stockMovementEntityMapper);
     }
 
     @Bean
-    public IArticlePersistencePort articlePersistencePort() {
-        return new ArticleJpaAdapter(articleRepository, articleEntityMapper);
+    public IStockLedgerServicePort stockLedgerServicePort(IArticlePersistencePort articlePersistencePort) {
+        return new StockLedgerUseCase(stockLedgerPersistencePort(), articlePersistencePort, Clock.systemUTC());
     }
 
     @Bean
-    public IArticleServicePort articleServicePort() {
-        return new ArticleUseCase(articlePersistencePort(), categoryPersistencePort(), brandPersistencePort());
+    public StockQuantityIndex stockQuantityIndex(MeterRegistry meterRegistry,
+                                                 List<IStockChangeListener> stockChangeListeners) {
+        return new StockQuantityIndex(meterRegistry, stockChangeListeners);
     }
 
+    @Bean
+    public IStockAvailabilityPersistencePort stockAvailabilityPersistencePort(StockQuantityIndex stockQuantityIndex,
+                                                                              MeterRegistry meterRegistry) {
+        return new StockAvailabilityIndexAdapter(stockQuantityIndex, articleRepository, meterRegistry);
+    }
 
+    @Bean
+    public IStockAvailabilityServicePort stockAvailabilityServicePort(
+            IStockAvailabilityPersistencePort stockAvailabilityPersistencePort) {
+        return new StockAvailabilityUseCase(stockAvailabilityPersistencePort);
+    }
+
+    @Bean
+    public ArticleSearchIndex articleSearchIndex(MeterRegistry meterRegistry) {
+        return new ArticleSearchIndex(meterRegistry);
+    }
+
+    @Bean
+    public IArticleSearchPersistencePort articleSearchPersistencePort(ArticleSearchIndex articleSearchIndex) {
+        return new ArticleSearchIndexAdapter(articleSearchIndex, articleDetailsLoader());
+    }
+
+    @Bean
+    public IArticleSearchServicePort articleSearchServicePort(IArticleSearchPersistencePort articleSearchPersistencePort) {
+        return new ArticleSearchUseCase(articleSearchPersistencePort);
+    }
+
+    @Bean
+    public IChangeFeedPersistencePort changeFeedPersistencePort(
+            @Value("${stock.changes.settle-time:" + CHANGES_SETTLE_TIME + "}") Duration settleTime) {
+        return new ChangeFeedJpaAdapter(articleRepository, stockSlotRepository, brandRepository, categoryRepository,
+                brandEntityMapper, categoryEntityMapper, articleDetailsLoader(), settleTime);
+    }
+
+    // Polls from the start of the process, before any index read the catalog
+    @Bean
+    public RemoteChangePoller remoteChangePoller(
+            StockQuantityIndex stockQuantityIndex,
+            LowStockIndex lowStockIndex,
+            ArticleSearchIndex articleSearchIndex,
+            IPaginationResponseCache paginationResponseCache,
+            @Value("${stock.changes.settle-time:" + CHANGES_SETTLE_TIME + "}") Duration settleTime,
+            @Value("${stock.changes.batch-size:" + CHANGES_BATCH_SIZE + "}") int batchSize,
+            @Value("${stock.changes.poll-interval:" + CHANGES_POLL_INTERVAL + "}") Duration pollInterval,
+            MeterRegistry meterRegistry) {
+        Instant processStart = Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime());
+        return new RemoteChangePoller(articleRepository, stockSlotRepository, brandRepository, categoryRepository,
+                stockQuantityIndex, lowStockIndex, articleSearchIndex, paginationResponseCache, processStart, settleTime,
+                batchSize, pollInterval, meterRegistry);
+    }
+
+    @Bean
+    public IChangeFeedServicePort changeFeedServicePort(IChangeFeedPersistencePort changeFeedPersistencePort) {
+        return new ChangeFeedUseCase(changeFeedPersistencePort);
+    }
+
+    @Bean
+    public IStockThresholdPersistencePort stockThresholdPersistencePort(LowStockIndex lowStockIndex) {
+        return new StockThresholdJpaAdapter(articleRepository, lowStockIndex);
+    }
+
+    @Bean
+    public IStockThresholdServicePort stockThresholdServicePort(IStockThresholdPersistencePort stockThresholdPersistencePort) {
+        return new StockThresholdUseCase(stockThresholdPersistencePort);
+    }
+
+    @Bean
+    public TimerWheelExpiryAdapter reservationExpiryPort(
+            @Value("${stock.reservation.tick:" + RESERVATION_TICK + "}") Duration tick,
+            MeterRegistry meterRegistry) {
+        return new TimerWheelExpiryAdapter(tick, Clock.systemUTC(), meterRegistry);
+    }
+
+    @Bean
+    public IReservationPersistencePort reservationPersistencePort(OutboxWriter outboxWriter) {
+        return new ReservationJpaAdapter(stockReservationRepository, articleRepository, stockReservationEntityMapper,
+                outboxWriter, shardedStock());
+    }
+
+    @Bean
+    public IReservationServicePort reservationServicePort(IReservationPersistencePort reservationPersistencePort,
+                                                          IArticlePersistencePort articlePersistencePort,
+                                                          IReservationExpiryPort reservationExpiryPort) {
+        return new ReservationUseCase(reservationPersistencePort, articlePersistencePort, reservationExpiryPort, Clock.systemUTC());
+    }
 }
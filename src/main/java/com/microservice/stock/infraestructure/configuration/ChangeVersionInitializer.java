@@ -0,0 +1,41 @@
+package com.microservice.stock.infraestructure.configuration;
+
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IBrandRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.ICategoryRepository;
+import com.microservice.stock.infraestructure.out.transaction.ChangeVersion;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// Limits how long a transaction may hold a change version, then gives rows created before the change_version columns
+// existed a version each, so the feed returns them once
+@Component
+@RequiredArgsConstructor
+public class ChangeVersionInitializer {
+
+    private final IBrandRepository brandRepository;
+    private final ICategoryRepository categoryRepository;
+    private final IArticleRepository articleRepository;
+
+    @Value("${stock.changes.settle-time:5s}")
+    private Duration settleTime;
+    @Value("${stock.changes.max-transaction-time:2s}")
+    private Duration maxTransactionTime;
+
+    @PostConstruct
+    public void fillMissingChangeVersions() {
+        // The feed trusts versions of other instances once they are older than the settle time
+        if (maxTransactionTime.compareTo(settleTime) >= 0) {
+            throw new IllegalStateException("stock.changes.max-transaction-time must be shorter than "
+                    + "stock.changes.settle-time, or the change feed can skip rows committed late");
+        }
+        ChangeVersion.limitTransactionTime(maxTransactionTime);
+        brandRepository.fillMissingChangeVersions(ChangeVersion.reserve(Math.max(1, brandRepository.findMaxId())));
+        categoryRepository.fillMissingChangeVersions(ChangeVersion.reserve(Math.max(1, categoryRepository.findMaxId())));
+        articleRepository.fillMissingChangeVersions(ChangeVersion.reserve(Math.max(1, articleRepository.findMaxId())));
+    }
+}
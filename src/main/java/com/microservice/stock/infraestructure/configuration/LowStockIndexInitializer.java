@@ -0,0 +1,23 @@
+package com.microservice.stock.infraestructure.configuration;
+
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.lowstock.LowStockIndex;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// Only articles with a threshold are read, through the reorder_threshold index, so startup does not scan the whole
+// catalog. It runs before the web server starts, so no change made here can commit between the read and the track.
+@Component
+@RequiredArgsConstructor
+public class LowStockIndexInitializer {
+
+    private final IArticleRepository articleRepository;
+    private final LowStockIndex lowStockIndex;
+
+    @PostConstruct
+    public void loadThresholds() {
+        articleRepository.findReorderThresholds().forEach(row -> lowStockIndex.track(row.getArticleId(),
+                Math.toIntExact(row.getQuantity()), row.getThreshold()));
+    }
+}
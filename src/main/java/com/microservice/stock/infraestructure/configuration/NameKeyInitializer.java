@@ -0,0 +1,25 @@
+package com.microservice.stock.infraestructure.configuration;
+
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IBrandRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.ICategoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// Backfills the normalized names of rows created before the name_key columns existed
+@Component
+@RequiredArgsConstructor
+public class NameKeyInitializer {
+
+    private final IBrandRepository brandRepository;
+    private final ICategoryRepository categoryRepository;
+    private final IArticleRepository articleRepository;
+
+    @PostConstruct
+    public void fillMissingNameKeys() {
+        brandRepository.fillMissingNameKeys();
+        categoryRepository.fillMissingNameKeys();
+        articleRepository.fillMissingNameKeys();
+    }
+}
@@ -0,0 +1,20 @@
+package com.microservice.stock.infraestructure.configuration;
+
+import com.microservice.stock.infraestructure.out.outbox.OutboxRelay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Starts polling once the application is ready; events written while it was down are still in the table
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayInitializer {
+
+    private final OutboxRelay outboxRelay;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRelay() {
+        outboxRelay.start();
+    }
+}
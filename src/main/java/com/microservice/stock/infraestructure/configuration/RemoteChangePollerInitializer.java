@@ -0,0 +1,20 @@
+package com.microservice.stock.infraestructure.configuration;
+
+import com.microservice.stock.infraestructure.out.changes.RemoteChangePoller;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Starts polling once the indexes are loaded; it reads from before they were, so nothing committed meanwhile is lost
+@Component
+@RequiredArgsConstructor
+public class RemoteChangePollerInitializer {
+
+    private final RemoteChangePoller remoteChangePoller;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPolling() {
+        remoteChangePoller.start();
+    }
+}
@@ -0,0 +1,25 @@
+package com.microservice.stock.infraestructure.configuration;
+
+import com.microservice.stock.application.handler.IReservationHandler;
+import com.microservice.stock.domain.api.IReservationServicePort;
+import com.microservice.stock.infraestructure.out.timer.TimerWheelExpiryAdapter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Starts the expiry ticks and puts the holds that survived a restart back on the timer wheel
+@Component
+@RequiredArgsConstructor
+public class ReservationExpiryInitializer {
+
+    private final TimerWheelExpiryAdapter timerWheelExpiryAdapter;
+    private final IReservationHandler reservationHandler;
+    private final IReservationServicePort reservationServicePort;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverReservations() {
+        timerWheelExpiryAdapter.start(reservationHandler::expire);
+        reservationServicePort.recoverReservations();
+    }
+}
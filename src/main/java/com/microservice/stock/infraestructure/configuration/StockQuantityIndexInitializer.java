@@ -0,0 +1,36 @@
+package com.microservice.stock.infraestructure.configuration;
+
+import com.microservice.stock.infraestructure.out.availability.StockQuantityIndex;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Reads the catalog in id order before the web server starts, so no change made here can commit while the totals are
+// read; every later one reaches the index as a delta on top of them
+@Component
+@RequiredArgsConstructor
+public class StockQuantityIndexInitializer {
+
+    private static final int PAGE_SIZE = 10_000;
+
+    private final IArticleRepository articleRepository;
+    private final StockQuantityIndex stockQuantityIndex;
+
+    @PostConstruct
+    public void loadQuantities() {
+        long after = 0;
+        List<IArticleRepository.ArticleStock> rows;
+        do {
+            rows = articleRepository.findStockAfter(after, PageRequest.of(0, PAGE_SIZE));
+            rows.forEach(row -> stockQuantityIndex.load(row.getId(), Math.toIntExact(row.getQuantity()),
+                    row.getReserved()));
+            if (!rows.isEmpty()) {
+                after = rows.get(rows.size() - 1).getId();
+            }
+        } while (rows.size() == PAGE_SIZE);
+    }
+}
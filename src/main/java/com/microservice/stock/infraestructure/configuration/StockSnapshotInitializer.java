@@ -0,0 +1,29 @@
+package com.microservice.stock.infraestructure.configuration;
+
+import com.microservice.stock.infraestructure.out.ledger.OpeningSnapshotWriter;
+import com.microservice.stock.infraestructure.out.ledger.StockSnapshotJob;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Articles that predate the ledger get their opening snapshot before the job first runs; the first run after a restart
+// then covers every movement since the latest snapshot
+@Component
+@RequiredArgsConstructor
+public class StockSnapshotInitializer {
+
+    private final OpeningSnapshotWriter openingSnapshotWriter;
+    private final StockSnapshotJob stockSnapshotJob;
+
+    @PostConstruct
+    public void writeOpeningSnapshots() {
+        openingSnapshotWriter.writeOpeningSnapshots();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startSnapshots() {
+        stockSnapshotJob.start();
+    }
+}
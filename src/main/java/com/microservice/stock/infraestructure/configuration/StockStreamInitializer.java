@@ -0,0 +1,20 @@
+package com.microservice.stock.infraestructure.configuration;
+
+import com.microservice.stock.infraestructure.out.stream.StockStreamBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Starts the heartbeats that let the stream notice connections closed by their clients
+@Component
+@RequiredArgsConstructor
+public class StockStreamInitializer {
+
+    private final StockStreamBroadcaster stockStreamBroadcaster;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startHeartbeats() {
+        stockStreamBroadcaster.start();
+    }
+}
@@ -1,6 +1,10 @@
 package com.microservice.stock.infraestructure.exceptionhandler;
 
+import com.microservice.stock.domain.exceptions.ConflictException;
 import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.domain.util.DomainConstants;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -11,12 +15,15 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 @ControllerAdvice
 public class ControllerAdvisor {
 
     private static final String TIMESTAMP = "timestamp";
     private static final String ERRORS = "errors";
+    // MySQL reports the key as table.uk_article_name_key, H2 in upper case with a suffix
+    private static final Pattern NAME_KEY_CONSTRAINT = Pattern.compile("uk_[a-z]+_name_key", Pattern.CASE_INSENSITIVE);
 
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<Map<String, Object>> handleValidationException(ValidationException ex) {
@@ -26,6 +33,14 @@ public class ControllerAdvisor {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleConflictException(ConflictException ex) {
+        Map<String, Object> response = new HashMap<>();
+        response.put(TIMESTAMP, LocalDateTime.now().toString());
+        response.put(ERRORS, ex.getErrors());
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(MethodArgumentNotValidException ex) {
         ArrayList<String> errors = new ArrayList<>();
@@ -38,5 +53,29 @@ public class ControllerAdvisor {
 
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
-}
 
+    // A concurrent create can still pass the existence check; the unique name index rejects it here.
+    // Any other violation is a bug rather than a conflict, so it is left to the default error handling.
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<Map<String, Object>> handleDataIntegrityViolationException(DataIntegrityViolationException ex) {
+        if (!isNameKeyViolation(ex)) {
+            throw ex;
+        }
+        ArrayList<String> errors = new ArrayList<>();
+        errors.add(DomainConstants.NAME_ALREADY_TAKEN_MESSAGE);
+        Map<String, Object> response = new HashMap<>();
+        response.put(TIMESTAMP, LocalDateTime.now().toString());
+        response.put(ERRORS, errors);
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    private static boolean isNameKeyViolation(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                return constraintName != null && NAME_KEY_CONSTRAINT.matcher(constraintName).find();
+            }
+        }
+        return false;
+    }
+}
@@ -1,8 +1,16 @@
 package com.microservice.stock.infraestructure.input.rest;
 
+import com.microservice.stock.application.cache.CatalogVersions;
+import com.microservice.stock.application.cache.PageKey;
 import com.microservice.stock.application.dto.request.ArticleRequest;
+import com.microservice.stock.application.dto.request.StockAdjustLineRequest;
+import com.microservice.stock.application.dto.request.StockAdjustRequest;
+import com.microservice.stock.application.dto.request.StockSlotsRequest;
+import com.microservice.stock.application.dto.response.ArticleBatchResponse;
 import com.microservice.stock.application.dto.response.ArticleResponse;
 import com.microservice.stock.application.dto.response.PaginationResponse;
+import com.microservice.stock.application.dto.response.StockAdjustResponse;
+import com.microservice.stock.application.dto.response.StockBatchAdjustResponse;
 import com.microservice.stock.application.handler.IArticleHandler;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -11,16 +19,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/article")
 @RequiredArgsConstructor
 public class ArticleRestController {
 
     private final IArticleHandler articleHandler;
+    private final CatalogVersions catalogVersions;
 
     @Operation(summary = "Create article",
             tags = {"Article"},
@@ -42,12 +54,114 @@ public class ArticleRestController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
+    @Operation(summary = "Create articles in batch",
+            tags = {"Article"},
+            description = "This operation creates up to 5000 articles in a single request. "
+                    + "Every article follows the same validation rules as the single creation, but an invalid article "
+                    + "does not stop the others: the response reports how many were created and the errors of each "
+                    + "rejected article by its position in the request. "
+                    + "A status code of 201 is returned when all of them are created, and 207 otherwise."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "All articles created successfully",
+                    content = @Content),
+            @ApiResponse(responseCode = "207", description = "Some articles were not created",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "The batch is empty or too large",
+                    content = @Content),
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<ArticleBatchResponse> createArticles(@RequestBody List<ArticleRequest> articleRequests) {
+        ArticleBatchResponse response = articleHandler.createArticles(articleRequests);
+        HttpStatus status = response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @Operation(summary = "Adjust article stock",
+            tags = { "Article", "Stock" },
+            description = "This operation adds the given delta to the stock of an article, a negative delta takes "
+                    + "units out. The adjustment is applied atomically and is rejected if it would leave the stock "
+                    + "below zero. The new quantity is returned with a status code of 200."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stock adjusted successfully",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Article not found, zero delta or not enough stock",
+                    content = @Content),
+    })
+    @PostMapping("/{id}/stock/adjust")
+    public ResponseEntity<StockAdjustResponse> adjustStock(@PathVariable Long id,
+                                                           @Valid @RequestBody StockAdjustRequest stockAdjustRequest) {
+        return ResponseEntity.ok(articleHandler.adjustStock(id, stockAdjustRequest));
+    }
+
+    @Operation(summary = "Adjust stock of several articles",
+            tags = { "Article", "Stock" },
+            description = "This operation applies a list of (articleId, delta) lines in one transaction. Either every "
+                    + "line is applied or none is: if any line fails, the response lists the errors of each failing "
+                    + "line by its position and no stock changes. A status code of 200 is returned with the new "
+                    + "quantities when the batch is applied, and 409 otherwise."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "All lines applied",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "The batch is empty or too large",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "Some lines failed and nothing was applied",
+                    content = @Content),
+    })
+    @PostMapping("/stock/adjust")
+    public ResponseEntity<StockBatchAdjustResponse> adjustStocks(@RequestBody List<StockAdjustLineRequest> stockAdjustLineRequests) {
+        StockBatchAdjustResponse response = articleHandler.adjustStocks(stockAdjustLineRequests);
+        HttpStatus status = response.isApplied() ? HttpStatus.OK : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @Operation(summary = "Shard article stock",
+            tags = { "Article", "Stock" },
+            description = "This operation spreads the free stock of a hot article over the given number of slots (2 to 64), "
+                    + "so concurrent adjustments update different rows. Reserved units stay on the article. Sending it "
+                    + "again for a sharded article re-spreads its stock. A status code of 204 is returned."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Stock sharded successfully",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Article not found or slot count out of range",
+                    content = @Content),
+    })
+    @PutMapping("/{id}/stock/slots")
+    public ResponseEntity<Void> shardStock(@PathVariable Long id, @Valid @RequestBody StockSlotsRequest stockSlotsRequest) {
+        articleHandler.shardStock(id, stockSlotsRequest);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Unshard article stock",
+            tags = { "Article", "Stock" },
+            description = "This operation folds the stock slots of an article back into the article itself. "
+                    + "It does nothing for an article that is not sharded. A status code of 204 is returned."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Stock unsharded successfully",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Article not found",
+                    content = @Content),
+    })
+    @DeleteMapping("/{id}/stock/slots")
+    public ResponseEntity<Void> unshardStock(@PathVariable Long id) {
+        articleHandler.unshardStock(id);
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "Article Pagination",
             tags = { "Article", "Pagination" },
-            description = "This operation retrieves a paginated list of available articles in the system. Clients can specify the desired page number and page size, as well as sort the brands in ascending or descending order by their name, brand name or category name.")
+            description = "This operation retrieves a paginated list of available articles in the system. Clients can specify the desired page number and page size, as well as sort the brands in ascending or descending order by their name, brand name or category name. "
+                    + "Sending the 'after' parameter switches to cursor pagination: pass it empty for the first page and then the 'nextCursor' of the previous response; totals are reported as -1 in this mode. "
+                    + "Setting 'includeTotal' to false skips the count query in page-number mode and reports the totals as unknown as well.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successful retrieval",
                     content = @Content),
+            @ApiResponse(responseCode = "304", description = "The page has not changed since the given ETag",
+                    content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid parameters",
                     content = @Content),
     })
@@ -60,9 +174,27 @@ public class ArticleRestController {
             @Parameter(description = "Sorting criteria 'name', 'brandName' or 'categoryName'")
             @RequestParam(required = false) String sortBy,
             @Parameter(description = "Sorting criteria, 'asc' or 'desc'")
-            @RequestParam(defaultValue = "asc") String sortDirection
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @Parameter(description = "Opaque cursor returned as 'nextCursor' by the previous page, empty for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Whether to count the total number of elements; false only reports if there is a next page")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @Parameter(description = "ETag of a previous response; 304 is returned if the page has not changed since")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ){
-        PaginationResponse<ArticleResponse> response = articleHandler.listArticles(page, size, sortBy, sortDirection);
-        return ResponseEntity.ok(response);
+        String eTag = ListETag.of(catalogVersions.tag(PageKey.ARTICLE), page, size, sortBy, sortDirection, after, includeTotal);
+        PaginationResponse<ArticleResponse> response;
+        if (after != null) {
+            response = articleHandler.listArticlesAfter(size, sortBy, sortDirection, after);
+        } else if (!includeTotal) {
+            response = articleHandler.listArticlesSlice(page, size, sortBy, sortDirection);
+        } else {
+            response = articleHandler.listArticles(page, size, sortBy, sortDirection);
+        }
+        // Compared once the handler has validated the query, which the list cache answers without the database
+        if (ListETag.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
 }
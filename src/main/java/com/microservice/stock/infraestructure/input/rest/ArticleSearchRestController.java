@@ -0,0 +1,49 @@
+package com.microservice.stock.infraestructure.input.rest;
+
+import com.microservice.stock.application.dto.response.ArticleResponse;
+import com.microservice.stock.application.dto.response.PaginationResponse;
+import com.microservice.stock.application.handler.IArticleSearchHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/article")
+@RequiredArgsConstructor
+public class ArticleSearchRestController {
+
+    private final IArticleSearchHandler articleSearchHandler;
+
+    @Operation(summary = "Search articles",
+            tags = { "Article", "Pagination" },
+            description = "This operation searches the name and description of the articles and returns a page of "
+                    + "the matches, best first. Case and accents are ignored, and an article matches when it contains "
+                    + "any of the query words; words in the name weigh more than words in the description. Only the "
+                    + "first 10000 results can be paged through."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful retrieval",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Empty or too long query, or invalid page parameters",
+                    content = @Content),
+    })
+    @GetMapping("/search")
+    public ResponseEntity<PaginationResponse<ArticleResponse>> searchArticles(
+            @Parameter(description = "Words to search for in the article name and description")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "Page number to retrieve (starting from 0)")
+            @RequestParam(defaultValue = "0") Integer page,
+            @Parameter(description = "Number of elements per page")
+            @RequestParam(defaultValue = "20") Integer size
+    ) {
+        return ResponseEntity.ok(articleSearchHandler.searchArticles(q, page, size));
+    }
+}
@@ -1,5 +1,7 @@
 package com.microservice.stock.infraestructure.input.rest;
 
+import com.microservice.stock.application.cache.CatalogVersions;
+import com.microservice.stock.application.cache.PageKey;
 import com.microservice.stock.application.dto.request.CategoryRequest;
 import com.microservice.stock.application.dto.response.CategoryResponse;
 import com.microservice.stock.application.dto.response.PaginationResponse;
@@ -11,6 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,6 +24,7 @@ import org.springframework.web.bind.annotation.*;
 public class CategoryRestController {
 
     private final ICategoryHandler categoryHandler;
+    private final CatalogVersions catalogVersions;
 
     @Operation(summary = "Create category",
                tags = { "Category"},
@@ -44,10 +48,14 @@ public class CategoryRestController {
 
     @Operation(summary = "Category Pagination",
               tags = { "Category", "Pagination" },
-              description = "This operation retrieves a paginated list of available categories in the system. Clients can specify the desired page number and page size, as well as sort the categories in ascending or descending order by their name.")
+              description = "This operation retrieves a paginated list of available categories in the system. Clients can specify the desired page number and page size, as well as sort the categories in ascending or descending order by their name. "
+                    + "Sending the 'after' parameter switches to cursor pagination: pass it empty for the first page and then the 'nextCursor' of the previous response; totals are reported as -1 in this mode. "
+                    + "Setting 'includeTotal' to false skips the count query in page-number mode and reports the totals as unknown as well.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successful retrieval",
                     content = @Content),
+            @ApiResponse(responseCode = "304", description = "The page has not changed since the given ETag",
+                    content = @Content),
             @ApiResponse(responseCode = "400", description = "Invalid parameters",
                     content = @Content),
     })
@@ -60,9 +68,27 @@ public class CategoryRestController {
             @Parameter(description = "Sorting criteria 'name'")
             @RequestParam(required = false) String sortBy,
             @Parameter(description = "Sorting criteria, 'asc' or 'desc'")
-            @RequestParam(defaultValue = "asc") String sortDirection
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @Parameter(description = "Opaque cursor returned as 'nextCursor' by the previous page, empty for the first page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Whether to count the total number of elements; false only reports if there is a next page")
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            @Parameter(description = "ETag of a previous response; 304 is returned if the page has not changed since")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        PaginationResponse<CategoryResponse> response = categoryHandler.listCategories(page, size, sortBy, sortDirection);
-        return ResponseEntity.ok(response);
+        String eTag = ListETag.of(catalogVersions.tag(PageKey.CATEGORY), page, size, sortBy, sortDirection, after, includeTotal);
+        PaginationResponse<CategoryResponse> response;
+        if (after != null) {
+            response = categoryHandler.listCategoriesAfter(size, sortBy, sortDirection, after);
+        } else if (!includeTotal) {
+            response = categoryHandler.listCategoriesSlice(page, size, sortBy, sortDirection);
+        } else {
+            response = categoryHandler.listCategories(page, size, sortBy, sortDirection);
+        }
+        // Compared once the handler has validated the query, which the list cache answers without the database
+        if (ListETag.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+        return ResponseEntity.ok().eTag(eTag).body(response);
     }
 }
@@ -0,0 +1,40 @@
+package com.microservice.stock.infraestructure.input.rest;
+
+import com.microservice.stock.application.dto.response.ChangeFeedResponse;
+import com.microservice.stock.application.handler.IChangeFeedHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/changes")
+@RequiredArgsConstructor
+public class ChangeFeedRestController {
+
+    private final IChangeFeedHandler changeFeedHandler;
+
+    @Operation(summary = "Catalog changes",
+            tags = { "Article", "Brand", "Category" },
+            description = "This operation returns the articles, brands and categories changed after the given version, "
+                    + "oldest change first, each with its current data. Start from version 0 and pass the next version "
+                    + "of each response to the following call. Changes show up a few seconds after they commit."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful retrieval",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Negative version or limit out of range",
+                    content = @Content),
+    })
+    @GetMapping
+    public ResponseEntity<ChangeFeedResponse> listChanges(@RequestParam(defaultValue = "0") Long since,
+                                                          @RequestParam(defaultValue = "100") Integer limit) {
+        return ResponseEntity.ok(changeFeedHandler.listChanges(since, limit));
+    }
+}
@@ -0,0 +1,32 @@
+package com.microservice.stock.infraestructure.input.rest;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Strong ETag of a list page: the catalog version it was read at plus the query that produced it
+final class ListETag {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private ListETag() {
+    }
+
+    static String of(String version, Object... queryParams) {
+        String query = Arrays.toString(queryParams);
+        return "\"" + version + "-" + DigestUtils.md5DigestAsHex(query.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // If-None-Match uses the weak comparison, so a W/ prefix sent back by a proxy still matches
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag)
+                .anyMatch(tag -> ANY.equals(tag) || eTag.equals(tag));
+    }
+}
@@ -0,0 +1,77 @@
+package com.microservice.stock.infraestructure.input.rest;
+
+import com.microservice.stock.application.dto.request.StockAdjustRequest;
+import com.microservice.stock.application.dto.request.StockTransferRequest;
+import com.microservice.stock.application.dto.response.LocationStockResponse;
+import com.microservice.stock.application.dto.response.StockAdjustResponse;
+import com.microservice.stock.application.handler.ILocationStockHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/article/{articleId}/location")
+@RequiredArgsConstructor
+public class LocationStockRestController {
+
+    private final ILocationStockHandler locationStockHandler;
+
+    @Operation(summary = "Adjust stock at a location",
+            tags = { "Article", "Stock" },
+            description = "This operation adds the given delta to the stock an article has at a location and to the "
+                    + "article total in the same transaction. The first positive delta creates the location. It is "
+                    + "rejected if the location or the available total would go below zero. The new article total is "
+                    + "returned with a status code of 200."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stock adjusted successfully",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Article not found, invalid location, zero delta or not enough stock",
+                    content = @Content),
+    })
+    @PostMapping("/{location}/stock/adjust")
+    public ResponseEntity<StockAdjustResponse> adjustLocationStock(@PathVariable Long articleId, @PathVariable String location,
+                                                                   @Valid @RequestBody StockAdjustRequest stockAdjustRequest) {
+        return ResponseEntity.ok(locationStockHandler.adjustLocationStock(articleId, location, stockAdjustRequest));
+    }
+
+    @Operation(summary = "Transfer stock between locations",
+            tags = { "Article", "Stock" },
+            description = "This operation moves units of an article from one location to another. The article total "
+                    + "does not change. A status code of 204 is returned."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Stock transferred successfully",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Article not found, invalid locations or not enough stock at the source",
+                    content = @Content),
+    })
+    @PostMapping("/transfer")
+    public ResponseEntity<Void> transferStock(@PathVariable Long articleId,
+                                              @Valid @RequestBody StockTransferRequest stockTransferRequest) {
+        locationStockHandler.transferStock(articleId, stockTransferRequest);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Stock by location",
+            tags = { "Article", "Stock" },
+            description = "This operation returns the stock an article has at each location, ordered by location."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful retrieval",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Article not found",
+                    content = @Content),
+    })
+    @GetMapping
+    public ResponseEntity<List<LocationStockResponse>> listLocationStock(@PathVariable Long articleId) {
+        return ResponseEntity.ok(locationStockHandler.listLocationStock(articleId));
+    }
+}
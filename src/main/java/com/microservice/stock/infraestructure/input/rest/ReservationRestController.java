@@ -0,0 +1,90 @@
+package com.microservice.stock.infraestructure.input.rest;
+
+import com.microservice.stock.application.dto.request.ReservationRequest;
+import com.microservice.stock.application.dto.response.AvailableStockResponse;
+import com.microservice.stock.application.dto.response.ReservationResponse;
+import com.microservice.stock.application.handler.IReservationHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/reservation")
+@RequiredArgsConstructor
+public class ReservationRestController {
+
+    private final IReservationHandler reservationHandler;
+
+    @Operation(summary = "Reserve stock",
+            tags = { "Reservation" },
+            description = "This operation holds units of an article for the given number of seconds without taking "
+                    + "them out of its quantity. Held units are not available to other reservations or adjustments. "
+                    + "If the hold is not confirmed or released before it expires, the units become available again. "
+                    + "If the reservation is created, a status code of 201 is returned."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Reservation created successfully",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Article not found, invalid fields or not enough available stock",
+                    content = @Content),
+    })
+    @PostMapping
+    public ResponseEntity<ReservationResponse> reserve(@Valid @RequestBody ReservationRequest reservationRequest) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservationHandler.reserve(reservationRequest));
+    }
+
+    @Operation(summary = "Confirm reservation",
+            tags = { "Reservation" },
+            description = "This operation takes the held units out of the article quantity and closes the reservation."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Reservation confirmed",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Reservation not found or expired",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "The article no longer has the held units reserved",
+                    content = @Content),
+    })
+    @PostMapping("/{id}/confirm")
+    public ResponseEntity<Void> confirm(@PathVariable String id) {
+        reservationHandler.confirm(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Release reservation",
+            tags = { "Reservation" },
+            description = "This operation gives the held units back to the available stock and closes the reservation."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Reservation released",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Reservation not found",
+                    content = @Content),
+    })
+    @PostMapping("/{id}/release")
+    public ResponseEntity<Void> release(@PathVariable String id) {
+        reservationHandler.release(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Available stock",
+            tags = { "Reservation", "Stock" },
+            description = "This operation returns the quantity of an article minus the units held by open reservations."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful retrieval",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Article not found",
+                    content = @Content),
+    })
+    @GetMapping("/available/{articleId}")
+    public ResponseEntity<AvailableStockResponse> availableStock(@PathVariable Long articleId) {
+        return ResponseEntity.ok(reservationHandler.availableStock(articleId));
+    }
+}
@@ -0,0 +1,45 @@
+package com.microservice.stock.infraestructure.input.rest;
+
+import com.microservice.stock.application.dto.request.StockAvailabilityRequest;
+import com.microservice.stock.application.dto.response.StockAvailabilityResponse;
+import com.microservice.stock.application.handler.IStockAvailabilityHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/article")
+@RequiredArgsConstructor
+public class StockAvailabilityRestController {
+
+    private final IStockAvailabilityHandler stockAvailabilityHandler;
+
+    @Operation(summary = "Check stock of several articles",
+            tags = { "Article", "Stock" },
+            description = "This operation returns the quantity available of up to 500 articles, once per article and "
+                    + "in request order: the stock minus the units held by open reservations, as in the available "
+                    + "stock of a single article. Articles that do not exist are left out. It is answered from memory "
+                    + "without querying the catalog."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful retrieval",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Empty, null or too many article IDs",
+                    content = @Content),
+    })
+    @PostMapping("/availability")
+    public ResponseEntity<List<StockAvailabilityResponse>> checkAvailability(
+            @Valid @RequestBody StockAvailabilityRequest stockAvailabilityRequest) {
+        return ResponseEntity.ok(stockAvailabilityHandler.checkAvailability(stockAvailabilityRequest));
+    }
+}
@@ -0,0 +1,64 @@
+package com.microservice.stock.infraestructure.input.rest;
+
+import com.microservice.stock.application.dto.response.StockAsOfResponse;
+import com.microservice.stock.application.dto.response.StockMovementResponse;
+import com.microservice.stock.application.handler.IStockLedgerHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@RestController
+@RequestMapping("/article/{articleId}/stock")
+@RequiredArgsConstructor
+public class StockLedgerRestController {
+
+    private final IStockLedgerHandler stockLedgerHandler;
+
+    @Operation(summary = "Stock at a point in time",
+            tags = { "Article", "Stock" },
+            description = "This operation returns the quantity an article had at the given instant, rebuilt from the "
+                    + "nearest earlier snapshot and the movements recorded after it. Movements reach the ledger through "
+                    + "the outbox relay, so the last few hundred milliseconds may not be counted yet."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful retrieval",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Article not found or missing instant",
+                    content = @Content),
+    })
+    @GetMapping("/as-of")
+    public ResponseEntity<StockAsOfResponse> stockAsOf(
+            @PathVariable Long articleId,
+            @Parameter(description = "ISO-8601 instant, e.g. 2024-09-01T10:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at) {
+        return ResponseEntity.ok(stockLedgerHandler.stockAsOf(articleId, at));
+    }
+
+    @Operation(summary = "Stock movements",
+            tags = { "Article", "Stock" },
+            description = "This operation lists the recorded quantity changes of an article, newest first. Pass the "
+                    + "occurredAt of the last movement as 'before' to get the next page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful retrieval",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Article not found or limit out of range",
+                    content = @Content),
+    })
+    @GetMapping("/movements")
+    public ResponseEntity<List<StockMovementResponse>> listMovements(
+            @PathVariable Long articleId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant before,
+            @RequestParam(defaultValue = "100") Integer limit) {
+        return ResponseEntity.ok(stockLedgerHandler.listMovements(articleId, before, limit));
+    }
+}
@@ -0,0 +1,38 @@
+package com.microservice.stock.infraestructure.input.rest;
+
+import com.microservice.stock.infraestructure.out.stream.StockStreamBroadcaster;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/stream")
+@RequiredArgsConstructor
+public class StockStreamRestController {
+
+    private final StockStreamBroadcaster stockStreamBroadcaster;
+
+    @Operation(summary = "Stock and catalog change stream",
+            tags = { "Article", "Stock" },
+            description = "This operation opens a Server-Sent Events stream. A stock event carries the new quantity "
+                    + "of an article and a catalog event a newly created article, brand or category; both carry a "
+                    + "version that only grows for the same article. A client that reads slowly receives only the "
+                    + "latest event per article, and one that falls too far behind is disconnected and should "
+                    + "catch up from /changes before reconnecting."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stream opened",
+                    content = @Content),
+    })
+    @GetMapping(value = "/stock", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamStock() {
+        return stockStreamBroadcaster.subscribe();
+    }
+}
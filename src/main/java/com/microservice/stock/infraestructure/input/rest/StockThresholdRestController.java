@@ -0,0 +1,74 @@
+package com.microservice.stock.infraestructure.input.rest;
+
+import com.microservice.stock.application.dto.request.StockThresholdRequest;
+import com.microservice.stock.application.dto.response.LowStockResponse;
+import com.microservice.stock.application.handler.IStockThresholdHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/article")
+@RequiredArgsConstructor
+public class StockThresholdRestController {
+
+    private final IStockThresholdHandler stockThresholdHandler;
+
+    @Operation(summary = "Set reorder threshold",
+            tags = { "Article", "Stock" },
+            description = "This operation sets the quantity below which an article is reported as low on stock. "
+                    + "A notification is sent as soon as a stock change takes the article below it, or right away "
+                    + "if the article is already below. A status code of 204 is returned."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Threshold set successfully",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Article not found or negative threshold",
+                    content = @Content),
+    })
+    @PutMapping("/{id}/stock/threshold")
+    public ResponseEntity<Void> setThreshold(@PathVariable Long id,
+                                             @Valid @RequestBody StockThresholdRequest stockThresholdRequest) {
+        stockThresholdHandler.setThreshold(id, stockThresholdRequest);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Remove reorder threshold",
+            tags = { "Article", "Stock" },
+            description = "This operation stops watching the stock of an article. A status code of 204 is returned."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Threshold removed successfully",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Article not found",
+                    content = @Content),
+    })
+    @DeleteMapping("/{id}/stock/threshold")
+    public ResponseEntity<Void> clearThreshold(@PathVariable Long id) {
+        stockThresholdHandler.clearThreshold(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Low-stock articles",
+            tags = { "Article", "Stock" },
+            description = "This operation lists the articles below their reorder threshold, furthest below first. "
+                    + "It is answered from memory without querying the catalog."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful retrieval",
+                    content = @Content),
+            @ApiResponse(responseCode = "400", description = "Limit out of range",
+                    content = @Content),
+    })
+    @GetMapping("/low-stock")
+    public ResponseEntity<List<LowStockResponse>> listLowStock(@RequestParam(defaultValue = "100") Integer limit) {
+        return ResponseEntity.ok(stockThresholdHandler.listLowStock(limit));
+    }
+}
@@ -0,0 +1,255 @@
+package com.microservice.stock.infraestructure.out.availability;
+
+import com.microservice.stock.infraestructure.out.outbox.IStockChangeListener;
+import com.microservice.stock.infraestructure.out.outbox.IStockDeltaListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+// Quantity and reserved units of every article in open-addressing arrays, so an entry costs two long and two int
+// slots, with no boxing and no node objects. Writers take the lock; readers look up a whole batch under an optimistic
+// stamp and only take the read lock when a write overlapped. The totals are loaded before this instance takes writes
+// and then move by the deltas it commits, so they stay exact however those commits interleave; each new quantity is
+// passed on with a growing version to the listeners that need totals. Changes made by another instance arrive as
+// totals re-read from the database, which replace those of articles this instance has not changed since.
+@Slf4j
+public class StockQuantityIndex implements IStockDeltaListener {
+    private static final long EMPTY = 0;
+    private static final int INITIAL_CAPACITY = 1 << 16;
+
+    private final StampedLock lock = new StampedLock();
+    private final List<IStockChangeListener> stockChangeListeners;
+    private Table table = new Table(INITIAL_CAPACITY);
+    private long sequence;
+    // Counts every write, holds included, to tell which entries changed after a point
+    private long changeCount;
+
+    public StockQuantityIndex(MeterRegistry meterRegistry) {
+        this(meterRegistry, List.of());
+    }
+
+    public StockQuantityIndex(MeterRegistry meterRegistry, List<IStockChangeListener> stockChangeListeners) {
+        this.stockChangeListeners = List.copyOf(stockChangeListeners);
+        Gauge.builder("stock.availability.articles", this, StockQuantityIndex::size)
+                .description("Articles whose quantity is held in memory")
+                .register(meterRegistry);
+    }
+
+    // Only called before the first write, so a loaded total never replaces one that already counts a delta
+    public void load(Long articleId, int quantity, int reserved) {
+        long stamp = lock.writeLock();
+        try {
+            if (!contains(articleId)) {
+                int slot = claim(articleId);
+                table.quantities[slot] = quantity;
+                table.reserved[slot] = reserved;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    // Taken before totals are read for a refresh, to tell the changes applied since from those the read includes
+    public long changeCount() {
+        long stamp = lock.readLock();
+        try {
+            return changeCount;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Totals read from the database after the given change count was taken. An article changed here since then keeps
+    // its totals, which may lack a remote change the read saw; the refresh that follows the local write settles it.
+    public void refresh(Long articleId, int quantity, int reserved, long readAfter) {
+        long version;
+        long stamp = lock.writeLock();
+        try {
+            boolean known = contains(articleId);
+            int slot = claim(articleId);
+            if (known && (table.changes[slot] > readAfter
+                    || table.quantities[slot] == quantity && table.reserved[slot] == reserved)) {
+                return;
+            }
+            boolean quantityChanged = !known || table.quantities[slot] != quantity;
+            table.quantities[slot] = quantity;
+            table.reserved[slot] = reserved;
+            table.changes[slot] = ++changeCount;
+            if (!quantityChanged) {
+                return;
+            }
+            version = ++sequence;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        notifyListeners(version, articleId, quantity);
+    }
+
+    @Override
+    public void articleCreated(Long articleId, int quantity) {
+        long version;
+        long stamp = lock.writeLock();
+        try {
+            int slot = claim(articleId);
+            table.quantities[slot] = quantity;
+            table.reserved[slot] = 0;
+            table.changes[slot] = ++changeCount;
+            version = ++sequence;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        notifyListeners(version, articleId, quantity);
+    }
+
+    // Articles created by another instance have no total to start from until a refresh brings one, so their deltas are
+    // dropped; a change to the holds alone leaves the quantity as it was and is not passed on
+    @Override
+    public void stockAdjusted(Long articleId, int delta, int reservedDelta) {
+        long version;
+        int quantity;
+        long stamp = lock.writeLock();
+        try {
+            if (!contains(articleId)) {
+                return;
+            }
+            int slot = table.slotOf(articleId);
+            table.reserved[slot] += reservedDelta;
+            table.changes[slot] = ++changeCount;
+            if (delta == 0) {
+                return;
+            }
+            quantity = table.quantities[slot] += delta;
+            version = ++sequence;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        notifyListeners(version, articleId, quantity);
+    }
+
+    // Quantity not held by an open reservation; articles that are not in the index are left out of the result
+    public Map<Long, Integer> findAvailableQuantities(Collection<Long> articleIds) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            Map<Long, Integer> quantities = lookup(table, articleIds);
+            if (lock.validate(stamp)) {
+                return quantities;
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return lookup(table, articleIds);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return table.size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private boolean contains(Long articleId) {
+        int slot = table.slotOf(articleId);
+        return slot >= 0 && table.keys[slot] == articleId;
+    }
+
+    // The slot holding the key, which is added when missing
+    private int claim(Long articleId) {
+        long key = articleId;
+        int slot = table.slotOf(key);
+        if (table.keys[slot] != key) {
+            if ((table.size + 1) * 2 > table.keys.length) {
+                table = table.resized();
+                slot = table.slotOf(key);
+            }
+            table.keys[slot] = key;
+            table.size++;
+        }
+        return slot;
+    }
+
+    // Called outside the lock, so listeners can get the totals out of order and drop the late ones by version
+    private void notifyListeners(long version, Long articleId, int quantity) {
+        for (IStockChangeListener listener : stockChangeListeners) {
+            try {
+                listener.stockChanged(version, articleId, quantity);
+            } catch (RuntimeException e) {
+                log.warn("Stock change listener failed for article {}", articleId, e);
+            }
+        }
+    }
+
+    // An optimistic reader may see a table in the middle of a write; the probe is bounded so it always ends
+    private static Map<Long, Integer> lookup(Table table, Collection<Long> articleIds) {
+        Map<Long, Integer> quantities = new HashMap<>(articleIds.size() * 2);
+        for (Long articleId : articleIds) {
+            int slot = table.slotOf(articleId);
+            if (slot >= 0 && table.keys[slot] == articleId) {
+                quantities.put(articleId, table.quantities[slot] - table.reserved[slot]);
+            }
+        }
+        return quantities;
+    }
+
+    // Article ids start at 1, so a zero key marks a free slot
+    private static final class Table {
+        private final long[] keys;
+        private final int[] quantities;
+        private final int[] reserved;
+        // Change count at the last write to the entry, zero for a total loaded at startup
+        private final long[] changes;
+        private final int mask;
+        private int size;
+
+        private Table(int capacity) {
+            keys = new long[capacity];
+            quantities = new int[capacity];
+            reserved = new int[capacity];
+            changes = new long[capacity];
+            mask = capacity - 1;
+        }
+
+        // The slot holding the key, or the free slot where it would go; -1 when neither was found
+        private int slotOf(long key) {
+            int slot = mix(key) & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                long current = keys[slot];
+                if (current == key || current == EMPTY) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private Table resized() {
+            Table resized = new Table(keys.length * 2);
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != EMPTY) {
+                    int target = resized.slotOf(keys[slot]);
+                    resized.keys[target] = keys[slot];
+                    resized.quantities[target] = quantities[slot];
+                    resized.reserved[target] = reserved[slot];
+                    resized.changes[target] = changes[slot];
+                    resized.size++;
+                }
+            }
+            return resized;
+        }
+
+        private static int mix(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32));
+        }
+    }
+}
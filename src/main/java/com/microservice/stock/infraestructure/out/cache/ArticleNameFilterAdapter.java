@@ -0,0 +1,159 @@
+package com.microservice.stock.infraestructure.out.cache;
+
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.model.StockLevel;
+import com.microservice.stock.domain.spi.IArticlePersistencePort;
+import com.microservice.stock.domain.util.Cursor;
+import com.microservice.stock.domain.util.NameKey;
+import com.microservice.stock.domain.util.Pagination;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Answers name checks for names the filter has never seen without going to the database
+public class ArticleNameFilterAdapter implements IArticlePersistencePort {
+    public static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final IArticlePersistencePort articlePersistencePort;
+    private final BloomFilter nameFilter;
+    private final Counter absentCounter;
+    private final Counter maybePresentCounter;
+    private final Counter falsePositiveCounter;
+    private volatile boolean loaded;
+
+    public ArticleNameFilterAdapter(IArticlePersistencePort articlePersistencePort, long expectedNames, MeterRegistry meterRegistry) {
+        this.articlePersistencePort = articlePersistencePort;
+        this.nameFilter = new BloomFilter(expectedNames, FALSE_POSITIVE_RATE);
+        this.absentCounter = Counter.builder("stock.article.name.filter.checks")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        this.maybePresentCounter = Counter.builder("stock.article.name.filter.checks")
+                .tag("result", "maybe_present")
+                .register(meterRegistry);
+        this.falsePositiveCounter = Counter.builder("stock.article.name.filter.false.positives")
+                .description("Names the filter reported as maybe present that the database did not have")
+                .register(meterRegistry);
+        Gauge.builder("stock.article.name.filter.expected.false.positive.rate", nameFilter, BloomFilter::expectedFalsePositiveRate)
+                .register(meterRegistry);
+    }
+
+    // Until the existing names are loaded every check goes to the database
+    public void addExistingNames(Collection<String> nameKeys) {
+        nameKeys.forEach(nameFilter::put);
+    }
+
+    public void markLoaded() {
+        this.loaded = true;
+    }
+
+    @Override
+    public void createArticle(Article article) {
+        articlePersistencePort.createArticle(article);
+        nameFilter.put(NameKey.of(article.getName()));
+    }
+
+    @Override
+    public void createArticles(List<Article> articles) {
+        articlePersistencePort.createArticles(articles);
+        articles.forEach(article -> nameFilter.put(NameKey.of(article.getName())));
+    }
+
+    @Override
+    public boolean existByName(String name) {
+        if (!loaded) {
+            return articlePersistencePort.existByName(name);
+        }
+        if (!nameFilter.mightContain(NameKey.of(name))) {
+            absentCounter.increment();
+            return false;
+        }
+        maybePresentCounter.increment();
+        boolean exists = articlePersistencePort.existByName(name);
+        if (!exists) {
+            falsePositiveCounter.increment();
+        }
+        return exists;
+    }
+
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        if (!loaded) {
+            return articlePersistencePort.findExistingNames(names);
+        }
+        List<String> maybePresent = names.stream()
+                .filter(name -> nameFilter.mightContain(NameKey.of(name)))
+                .toList();
+        absentCounter.increment(names.size() - (double) maybePresent.size());
+        maybePresentCounter.increment(maybePresent.size());
+        if (maybePresent.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> existingNames = articlePersistencePort.findExistingNames(maybePresent);
+        Set<String> existingNameKeys = existingNames.stream()
+                .map(NameKey::of)
+                .collect(Collectors.toSet());
+        falsePositiveCounter.increment(maybePresent.stream()
+                .map(NameKey::of)
+                .distinct()
+                .filter(nameKey -> !existingNameKeys.contains(nameKey))
+                .count());
+        return existingNames;
+    }
+
+    @Override
+    public boolean existById(Long id) {
+        return articlePersistencePort.existById(id);
+    }
+
+    @Override
+    public Optional<Integer> adjustQuantity(Long id, int delta) {
+        return articlePersistencePort.adjustQuantity(id, delta);
+    }
+
+    @Override
+    public Optional<Integer> findAvailableQuantity(Long id) {
+        return articlePersistencePort.findAvailableQuantity(id);
+    }
+
+    @Override
+    public boolean shardStock(Long id, int slots) {
+        return articlePersistencePort.shardStock(id, slots);
+    }
+
+    @Override
+    public boolean unshardStock(Long id) {
+        return articlePersistencePort.unshardStock(id);
+    }
+
+    @Override
+    public Map<Long, StockLevel> lockStockLevels(Collection<Long> ids) {
+        return articlePersistencePort.lockStockLevels(ids);
+    }
+
+    @Override
+    public void updateQuantities(Map<Long, Integer> quantities) {
+        articlePersistencePort.updateQuantities(quantities);
+    }
+
+    @Override
+    public Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        return articlePersistencePort.listArticles(pageNumber, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public Pagination<Article> listArticlesSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        return articlePersistencePort.listArticlesSlice(pageNumber, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public Pagination<Article> listArticlesAfter(Integer pageSize, String sortBy, String sortDirection, Cursor after) {
+        return articlePersistencePort.listArticlesAfter(pageSize, sortBy, sortDirection, after);
+    }
+}
@@ -0,0 +1,76 @@
+package com.microservice.stock.infraestructure.out.cache;
+
+import com.microservice.stock.domain.model.Brand;
+import com.microservice.stock.domain.spi.IBrandPersistencePort;
+import com.microservice.stock.domain.util.Cursor;
+import com.microservice.stock.domain.util.DomainConstants;
+import com.microservice.stock.domain.util.Pagination;
+import com.microservice.stock.infraestructure.out.transaction.TransactionHooks;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Serves brand existence checks from memory; listings always go to the delegate
+public class BrandCacheAdapter implements IBrandPersistencePort {
+    private static final int LOAD_PAGE_SIZE = 500;
+
+    private final IBrandPersistencePort brandPersistencePort;
+    private final ReferenceDataIndex brandIndex;
+
+    public BrandCacheAdapter(IBrandPersistencePort brandPersistencePort, Duration negativeTtl) {
+        this.brandPersistencePort = brandPersistencePort;
+        this.brandIndex = new ReferenceDataIndex(this::loadBrandNames, brandPersistencePort::findMissingIds, negativeTtl);
+    }
+
+    @Override
+    public void createBrand(Brand brand) {
+        brandPersistencePort.createBrand(brand);
+        // Invalidating before commit lets a concurrent reload miss the new row and keep that snapshot
+        TransactionHooks.afterCommit(brandIndex::invalidate);
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return brandIndex.containsName(name) || brandPersistencePort.existsByName(name);
+    }
+
+    @Override
+    public boolean existById(Long id) {
+        return brandIndex.exists(id);
+    }
+
+    @Override
+    public Set<Long> findMissingIds(Collection<Long> ids) {
+        return brandIndex.findMissingIds(ids);
+    }
+
+    @Override
+    public Pagination<Brand> listBrands(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        return brandPersistencePort.listBrands(pageNumber, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public Pagination<Brand> listBrandsSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        return brandPersistencePort.listBrandsSlice(pageNumber, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public Pagination<Brand> listBrandsAfter(Integer pageSize, String sortBy, String sortDirection, Cursor after) {
+        return brandPersistencePort.listBrandsAfter(pageSize, sortBy, sortDirection, after);
+    }
+
+    private Map<Long, String> loadBrandNames() {
+        Map<Long, String> namesById = new HashMap<>();
+        Cursor after = null;
+        do {
+            Pagination<Brand> page = brandPersistencePort.listBrandsAfter(LOAD_PAGE_SIZE,
+                    DomainConstants.VALID_SORT_FIELD, DomainConstants.ORDER_ASC, after);
+            page.getContent().forEach(brand -> namesById.put(brand.getId(), brand.getName()));
+            after = Cursor.decode(page.getNextCursor());
+        } while (after != null);
+        return namesById;
+    }
+}
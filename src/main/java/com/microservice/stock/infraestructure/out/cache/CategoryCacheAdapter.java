@@ -0,0 +1,76 @@
+package com.microservice.stock.infraestructure.out.cache;
+
+import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.spi.ICategoryPersistencePort;
+import com.microservice.stock.domain.util.Cursor;
+import com.microservice.stock.domain.util.DomainConstants;
+import com.microservice.stock.domain.util.Pagination;
+import com.microservice.stock.infraestructure.out.transaction.TransactionHooks;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Serves category existence checks from memory; listings always go to the delegate
+public class CategoryCacheAdapter implements ICategoryPersistencePort {
+    private static final int LOAD_PAGE_SIZE = 500;
+
+    private final ICategoryPersistencePort categoryPersistencePort;
+    private final ReferenceDataIndex categoryIndex;
+
+    public CategoryCacheAdapter(ICategoryPersistencePort categoryPersistencePort, Duration negativeTtl) {
+        this.categoryPersistencePort = categoryPersistencePort;
+        this.categoryIndex = new ReferenceDataIndex(this::loadCategoryNames, categoryPersistencePort::findMissingIds, negativeTtl);
+    }
+
+    @Override
+    public void createCategory(Category category) {
+        categoryPersistencePort.createCategory(category);
+        // Invalidating before commit lets a concurrent reload miss the new row and keep that snapshot
+        TransactionHooks.afterCommit(categoryIndex::invalidate);
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return categoryIndex.containsName(name) || categoryPersistencePort.existsByName(name);
+    }
+
+    @Override
+    public boolean existById(Long id) {
+        return categoryIndex.exists(id);
+    }
+
+    @Override
+    public Set<Long> findMissingIds(Collection<Long> ids) {
+        return categoryIndex.findMissingIds(ids);
+    }
+
+    @Override
+    public Pagination<Category> listCategory(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        return categoryPersistencePort.listCategory(pageNumber, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public Pagination<Category> listCategorySlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        return categoryPersistencePort.listCategorySlice(pageNumber, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public Pagination<Category> listCategoryAfter(Integer pageSize, String sortBy, String sortDirection, Cursor after) {
+        return categoryPersistencePort.listCategoryAfter(pageSize, sortBy, sortDirection, after);
+    }
+
+    private Map<Long, String> loadCategoryNames() {
+        Map<Long, String> namesById = new HashMap<>();
+        Cursor after = null;
+        do {
+            Pagination<Category> page = categoryPersistencePort.listCategoryAfter(LOAD_PAGE_SIZE,
+                    DomainConstants.VALID_SORT_FIELD, DomainConstants.ORDER_ASC, after);
+            page.getContent().forEach(category -> namesById.put(category.getId(), category.getName()));
+            after = Cursor.decode(page.getNextCursor());
+        } while (after != null);
+        return namesById;
+    }
+}
@@ -0,0 +1,71 @@
+package com.microservice.stock.infraestructure.out.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.microservice.stock.application.cache.CatalogVersions;
+import com.microservice.stock.application.cache.IPaginationResponseCache;
+import com.microservice.stock.application.cache.PageKey;
+import com.microservice.stock.application.dto.response.PaginationResponse;
+import com.microservice.stock.infraestructure.out.transaction.TransactionHooks;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+// Finished list pages, bounded by their serialized size and dropped per resource once a write commits here or is
+// polled from another instance. Pages also expire, which bounds how stale they get when the poll falls behind.
+public class PaginationResponseCache implements IPaginationResponseCache {
+    public static final String CACHE_NAME = "stock.list.pages";
+
+    private final Cache<Entry, PaginationResponse<?>> cache;
+    private final ObjectMapper objectMapper;
+    private final CatalogVersions catalogVersions;
+
+    public PaginationResponseCache(DataSize maxSize, Duration ttl, ObjectMapper objectMapper,
+                                   CatalogVersions catalogVersions, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.catalogVersions = catalogVersions;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Entry key, PaginationResponse<?> value) -> weigh(value))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> PaginationResponse<T> get(PageKey key, Supplier<PaginationResponse<T>> loader) {
+        // A page loaded while a create commits lands under the old version and is never served
+        Entry entry = new Entry(catalogVersions.current(key.resource()), key);
+        return (PaginationResponse<T>) cache.get(entry, ignored -> loader.get());
+    }
+
+    @Override
+    public void invalidateAfterCommit(String resource) {
+        TransactionHooks.afterCommit(() -> invalidate(resource));
+    }
+
+    @Override
+    public void invalidate(String resource) {
+        catalogVersions.bump(resource);
+        cache.asMap().keySet().removeIf(entry -> entry.key().resource().equals(resource));
+    }
+
+    // The JSON size is what the page costs to keep around, give or take the object headers
+    private int weigh(PaginationResponse<?> value) {
+        try {
+            return objectMapper.writeValueAsBytes(value).length;
+        } catch (JsonProcessingException e) {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private record Entry(long version, PageKey key) {
+    }
+}
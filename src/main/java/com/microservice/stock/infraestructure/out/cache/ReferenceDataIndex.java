@@ -0,0 +1,101 @@
+package com.microservice.stock.infraestructure.out.cache;
+
+import com.microservice.stock.domain.util.NameKey;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Id/name index of a small reference table, with a short-lived memory of ids the database did not have
+public class ReferenceDataIndex {
+
+    private final Supplier<Map<Long, String>> loader;
+    private final Function<Collection<Long>, Set<Long>> missingIdsQuery;
+    private final long negativeTtlNanos;
+    private final Map<Long, Long> missingIdsExpiry = new ConcurrentHashMap<>();
+    private volatile Snapshot snapshot;
+
+    public ReferenceDataIndex(Supplier<Map<Long, String>> loader,
+                              Function<Collection<Long>, Set<Long>> missingIdsQuery,
+                              Duration negativeTtl) {
+        this.loader = loader;
+        this.missingIdsQuery = missingIdsQuery;
+        this.negativeTtlNanos = negativeTtl.toNanos();
+    }
+
+    public Set<Long> findMissingIds(Collection<Long> ids) {
+        Map<Long, String> namesById = snapshot().namesById();
+        long now = System.nanoTime();
+        Set<Long> unknownIds = new LinkedHashSet<>();
+        Set<Long> missingIds = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (namesById.containsKey(id)) {
+                continue;
+            }
+            Long expiry = missingIdsExpiry.get(id);
+            if (expiry != null && expiry - now > 0) {
+                missingIds.add(id);
+            } else {
+                unknownIds.add(id);
+            }
+        }
+        if (unknownIds.isEmpty()) {
+            return missingIds;
+        }
+
+        Set<Long> stillMissing = missingIdsQuery.apply(unknownIds);
+        long expiry = System.nanoTime() + negativeTtlNanos;
+        stillMissing.forEach(id -> missingIdsExpiry.put(id, expiry));
+        if (stillMissing.size() < unknownIds.size()) {
+            // Rows this index has not seen, e.g. written by another instance: reload on the next lookup
+            snapshot = null;
+        }
+        missingIds.addAll(stillMissing);
+        return ids.stream()
+                .filter(missingIds::contains)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    public boolean exists(Long id) {
+        return findMissingIds(List.of(id)).isEmpty();
+    }
+
+    // Rows are never deleted, so a name in the index is taken; a name outside it still needs the database
+    public boolean containsName(String name) {
+        return snapshot().nameKeys().contains(NameKey.of(name));
+    }
+
+    // Called after a successful insert: the new id is not in the index and may have been cached as missing
+    public void invalidate() {
+        snapshot = null;
+        missingIdsExpiry.clear();
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    Map<Long, String> namesById = Map.copyOf(loader.get());
+                    Set<String> nameKeys = namesById.values().stream()
+                            .map(NameKey::of)
+                            .collect(Collectors.toUnmodifiableSet());
+                    current = new Snapshot(namesById, nameKeys);
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private record Snapshot(Map<Long, String> namesById, Set<String> nameKeys) {
+    }
+}
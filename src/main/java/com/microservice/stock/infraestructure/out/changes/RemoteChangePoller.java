@@ -0,0 +1,172 @@
+package com.microservice.stock.infraestructure.out.changes;
+
+import com.microservice.stock.application.cache.IPaginationResponseCache;
+import com.microservice.stock.application.cache.PageKey;
+import com.microservice.stock.infraestructure.out.availability.StockQuantityIndex;
+import com.microservice.stock.infraestructure.out.jpa.repository.ChangedRow;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IBrandRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.ICategoryRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSlotRepository;
+import com.microservice.stock.infraestructure.out.lowstock.LowStockIndex;
+import com.microservice.stock.infraestructure.out.search.ArticleSearchIndex;
+import com.microservice.stock.infraestructure.out.transaction.ChangeVersion;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Keeps the in-memory indexes in step with writes made by other instances. Article and slot rows are read on their
+// change_version index from the last version applied up to the settle watermark, and every article found is read
+// again as a whole and handed to the indexes, which take the totals unless this instance changed it meanwhile. List
+// pages of a resource with changed rows are dropped, which also moves their tags on. Writes of this instance come
+// back here as well; re-reading them costs a query and one more page miss.
+@Slf4j
+public class RemoteChangePoller implements AutoCloseable {
+    // Brands and categories only drop their pages, so one row tells enough
+    private static final Pageable ANY_ROW = PageRequest.of(0, 1);
+
+    private final IArticleRepository articleRepository;
+    private final IStockSlotRepository stockSlotRepository;
+    private final IBrandRepository brandRepository;
+    private final ICategoryRepository categoryRepository;
+    private final StockQuantityIndex stockQuantityIndex;
+    private final LowStockIndex lowStockIndex;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final IPaginationResponseCache paginationResponseCache;
+    private final Duration settleTime;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final Counter refreshedArticles;
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "remote-change-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long articlesSince;
+    private long slotsSince;
+    private long brandsSince;
+    private long categoriesSince;
+    private boolean started;
+
+    // Starts from the versions of transactions that could still commit when the indexes began loading, so a change
+    // the startup reads missed is applied once polling begins
+    public RemoteChangePoller(IArticleRepository articleRepository, IStockSlotRepository stockSlotRepository,
+                              IBrandRepository brandRepository, ICategoryRepository categoryRepository,
+                              StockQuantityIndex stockQuantityIndex, LowStockIndex lowStockIndex,
+                              ArticleSearchIndex articleSearchIndex, IPaginationResponseCache paginationResponseCache,
+                              Instant loadedFrom, Duration settleTime, int batchSize, Duration pollInterval,
+                              MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.stockSlotRepository = stockSlotRepository;
+        this.brandRepository = brandRepository;
+        this.categoryRepository = categoryRepository;
+        this.stockQuantityIndex = stockQuantityIndex;
+        this.lowStockIndex = lowStockIndex;
+        this.articleSearchIndex = articleSearchIndex;
+        this.paginationResponseCache = paginationResponseCache;
+        this.settleTime = settleTime;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollInterval.toMillis();
+        this.articlesSince = ChangeVersion.of(loadedFrom.minus(settleTime));
+        this.slotsSince = articlesSince;
+        this.brandsSince = articlesSince;
+        this.categoriesSince = articlesSince;
+        this.refreshedArticles = Counter.builder("stock.changes.refreshed")
+                .description("Articles read again after a change, to catch up with other instances")
+                .register(meterRegistry);
+    }
+
+    public synchronized void start() {
+        if (!started) {
+            started = true;
+            poller.scheduleWithFixedDelay(this::catchUp, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Returns the number of articles read again; called by the poller thread only
+    public int pollBatch() {
+        long until = ChangeVersion.watermark(settleTime);
+        // Taken before the rows are read, so a delta applied meanwhile keeps the index from taking an older total
+        long readAfter = stockQuantityIndex.changeCount();
+        Set<Long> ids = new LinkedHashSet<>();
+        long nextArticles = advance(ids, articleRepository.findChangedSince(articlesSince, until,
+                PageRequest.of(0, batchSize + 1)), until);
+        long nextSlots = advance(ids, stockSlotRepository.findChangedSince(slotsSince, until,
+                PageRequest.of(0, batchSize + 1)), until);
+        if (!ids.isEmpty()) {
+            articleRepository.findStatesByIdIn(ids).forEach(state -> apply(state, readAfter));
+            refreshedArticles.increment(ids.size());
+            paginationResponseCache.invalidate(PageKey.ARTICLE);
+        }
+        articlesSince = Math.max(articlesSince, nextArticles);
+        slotsSince = Math.max(slotsSince, nextSlots);
+
+        if (!brandRepository.findChangedSince(brandsSince, until, ANY_ROW).isEmpty()) {
+            paginationResponseCache.invalidate(PageKey.BRAND);
+        }
+        brandsSince = Math.max(brandsSince, until);
+        if (!categoryRepository.findChangedSince(categoriesSince, until, ANY_ROW).isEmpty()) {
+            paginationResponseCache.invalidate(PageKey.CATEGORY);
+        }
+        categoriesSince = Math.max(categoriesSince, until);
+        return ids.size();
+    }
+
+    @Override
+    public void close() {
+        poller.shutdownNow();
+    }
+
+    // Keeps reading while a table returns a full page, then waits for the next poll
+    private void catchUp() {
+        try {
+            int refreshed;
+            do {
+                refreshed = pollBatch();
+            } while (refreshed >= batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Could not read changes of other instances, retrying in {} ms", pollIntervalMillis, e);
+        }
+    }
+
+    private void apply(IArticleRepository.ArticleState state, long readAfter) {
+        int quantity = Math.toIntExact(state.getQuantity());
+        stockQuantityIndex.refresh(state.getId(), quantity, state.getReserved(), readAfter);
+        if (state.getThreshold() == null) {
+            lowStockIndex.untrack(state.getId());
+        } else {
+            lowStockIndex.track(state.getId(), quantity, state.getThreshold());
+        }
+        // Articles are never renamed, so only those created elsewhere are missing from the search index
+        articleSearchIndex.load(state.getId(), state.getName(), state.getDescription());
+    }
+
+    // The version to read from next time. A page that ends inside a version stops before it, unless the whole page
+    // shares that version.
+    private long advance(Set<Long> ids, List<ChangedRow> rows, long until) {
+        if (rows.size() <= batchSize) {
+            rows.forEach(row -> ids.add(row.getId()));
+            return until;
+        }
+        long boundary = rows.get(batchSize).getVersion();
+        List<ChangedRow> window = rows.stream()
+                .filter(row -> row.getVersion() < boundary)
+                .toList();
+        if (window.isEmpty()) {
+            window = rows.subList(0, batchSize);
+        }
+        window.forEach(row -> ids.add(row.getId()));
+        return window.get(window.size() - 1).getVersion();
+    }
+}
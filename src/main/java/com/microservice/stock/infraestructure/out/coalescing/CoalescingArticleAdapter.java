@@ -0,0 +1,106 @@
+package com.microservice.stock.infraestructure.out.coalescing;
+
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.model.StockLevel;
+import com.microservice.stock.domain.spi.IArticlePersistencePort;
+import com.microservice.stock.domain.util.Cursor;
+import com.microservice.stock.domain.util.Pagination;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// Single-article stock adjustments made outside a transaction go through the coalescer; a delta made inside one has to
+// commit or roll back with it, so it reaches the delegate unchanged like everything else
+public class CoalescingArticleAdapter implements IArticlePersistencePort {
+
+    private final IArticlePersistencePort articlePersistencePort;
+    private final StockDeltaCoalescer stockDeltaCoalescer;
+
+    public CoalescingArticleAdapter(IArticlePersistencePort articlePersistencePort,
+                                    TransactionOperations flushTransactions, Duration window, Duration flushTimeout,
+                                    MeterRegistry meterRegistry) {
+        this.articlePersistencePort = articlePersistencePort;
+        this.stockDeltaCoalescer = new StockDeltaCoalescer(articlePersistencePort::findAvailableQuantity,
+                articlePersistencePort::adjustQuantity, flushTransactions, window, flushTimeout, meterRegistry);
+    }
+
+    @Override
+    public void createArticle(Article article) {
+        articlePersistencePort.createArticle(article);
+    }
+
+    @Override
+    public void createArticles(List<Article> articles) {
+        articlePersistencePort.createArticles(articles);
+    }
+
+    @Override
+    public boolean existByName(String name) {
+        return articlePersistencePort.existByName(name);
+    }
+
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        return articlePersistencePort.findExistingNames(names);
+    }
+
+    @Override
+    public boolean existById(Long id) {
+        return articlePersistencePort.existById(id);
+    }
+
+    @Override
+    public Optional<Integer> adjustQuantity(Long id, int delta) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return articlePersistencePort.adjustQuantity(id, delta);
+        }
+        return stockDeltaCoalescer.adjust(id, delta);
+    }
+
+    @Override
+    public Optional<Integer> findAvailableQuantity(Long id) {
+        return articlePersistencePort.findAvailableQuantity(id);
+    }
+
+    @Override
+    public boolean shardStock(Long id, int slots) {
+        return articlePersistencePort.shardStock(id, slots);
+    }
+
+    @Override
+    public boolean unshardStock(Long id) {
+        return articlePersistencePort.unshardStock(id);
+    }
+
+    @Override
+    public Map<Long, StockLevel> lockStockLevels(Collection<Long> ids) {
+        return articlePersistencePort.lockStockLevels(ids);
+    }
+
+    @Override
+    public void updateQuantities(Map<Long, Integer> quantities) {
+        articlePersistencePort.updateQuantities(quantities);
+    }
+
+    @Override
+    public Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        return articlePersistencePort.listArticles(pageNumber, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public Pagination<Article> listArticlesSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        return articlePersistencePort.listArticlesSlice(pageNumber, pageSize, sortBy, sortDirection);
+    }
+
+    @Override
+    public Pagination<Article> listArticlesAfter(Integer pageSize, String sortBy, String sortDirection, Cursor after) {
+        return articlePersistencePort.listArticlesAfter(pageSize, sortBy, sortDirection, after);
+    }
+}
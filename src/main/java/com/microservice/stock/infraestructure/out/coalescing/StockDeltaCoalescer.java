@@ -0,0 +1,245 @@
+package com.microservice.stock.infraestructure.out.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// Turns the deltas one article receives within a window into a single conditional update. Callers are answered from a
+// locally tracked available count and wait, without a transaction or a connection, for a background flusher that
+// writes the net delta of the window in a transaction of its own.
+@Slf4j
+public class StockDeltaCoalescer {
+    private static final int STRIPES = 64;
+    private static final Optional<Integer> RETRY_ALONE = Optional.empty();
+
+    private final Function<Long, Optional<Integer>> availableLoader;
+    private final BiFunction<Long, Integer, Optional<Integer>> conditionalUpdate;
+    private final TransactionOperations flushTransactions;
+    private final long windowNanos;
+    private final long flushTimeoutNanos;
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final Counter adjustments;
+    private final Counter rejections;
+    private final Counter flushes;
+    private final Counter retries;
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stock-coalescing-flusher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Flush transactions must time out within the flush timeout, which bounds the wait for a delta being written
+    public StockDeltaCoalescer(Function<Long, Optional<Integer>> availableLoader,
+                               BiFunction<Long, Integer, Optional<Integer>> conditionalUpdate,
+                               TransactionOperations flushTransactions, Duration window, Duration flushTimeout,
+                               MeterRegistry meterRegistry) {
+        this.availableLoader = availableLoader;
+        this.conditionalUpdate = conditionalUpdate;
+        this.flushTransactions = flushTransactions;
+        this.windowNanos = window.toNanos();
+        this.flushTimeoutNanos = flushTimeout.toNanos();
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.adjustments = Counter.builder("stock.coalescing.adjustments")
+                .description("Stock deltas received by the coalescer")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("stock.coalescing.rejections")
+                .description("Stock deltas rejected against the local available count")
+                .register(meterRegistry);
+        this.flushes = Counter.builder("stock.coalescing.flushes")
+                .description("Conditional updates written, one row lock each")
+                .register(meterRegistry);
+        this.retries = Counter.builder("stock.coalescing.retries")
+                .description("Stock deltas written on their own after their window could not be, or was too slow")
+                .register(meterRegistry);
+    }
+
+    // Returns the quantity after the write, or empty when the article is missing or short of stock.
+    // Only for callers outside a transaction: the delta commits in the flusher's transaction, not the caller's.
+    public Optional<Integer> adjust(Long articleId, int delta) {
+        adjustments.increment();
+        Stripe stripe = stripes[Math.floorMod(articleId.hashCode(), STRIPES)];
+        PendingDelta pending = new PendingDelta(delta);
+        while (true) {
+            Accumulator accumulator = stripe.get(articleId);
+            if (accumulator == null) {
+                Optional<Integer> available = availableLoader.apply(articleId);
+                if (available.isEmpty()) {
+                    return Optional.empty();
+                }
+                accumulator = stripe.putIfAbsent(articleId, new Accumulator(available.get()));
+            }
+
+            boolean schedule;
+            synchronized (stripe) {
+                if (accumulator.evicted) {
+                    continue;
+                }
+                if (accumulator.available + delta < 0) {
+                    rejections.increment();
+                    return Optional.empty();
+                }
+                accumulator.available += delta;
+                accumulator.pending.add(pending);
+                schedule = !accumulator.scheduled;
+                accumulator.scheduled = true;
+            }
+            if (schedule) {
+                Accumulator scheduled = accumulator;
+                flusher.schedule(() -> flush(stripe, articleId, scheduled), windowNanos, TimeUnit.NANOSECONDS);
+            }
+            return await(stripe, articleId, accumulator, pending);
+        }
+    }
+
+    private Optional<Integer> await(Stripe stripe, Long articleId, Accumulator accumulator, PendingDelta pending) {
+        boolean alone = !settled(pending, windowNanos + flushTimeoutNanos)
+                && withdraw(stripe, articleId, accumulator, pending);
+        // Otherwise the delta is part of a flush, whose transaction ends within the flush timeout
+        if (!alone && !settled(pending, flushTimeoutNanos)) {
+            throw new TransactionTimedOutException("Stock delta for article " + articleId + " is still being written");
+        }
+        Optional<Integer> quantity = alone ? RETRY_ALONE : pending.result.join();
+        if (quantity.isPresent()) {
+            return quantity;
+        }
+        retries.increment();
+        return flushTransactions.execute(status -> conditionalUpdate.apply(articleId, pending.delta));
+    }
+
+    private static boolean settled(PendingDelta pending, long timeoutNanos) {
+        try {
+            pending.result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Takes a delta back while its window is still open, so the caller can write it on its own
+    private static boolean withdraw(Stripe stripe, Long articleId, Accumulator accumulator, PendingDelta pending) {
+        synchronized (stripe) {
+            if (!accumulator.pending.remove(pending)) {
+                return false;
+            }
+            accumulator.available -= pending.delta;
+            evictIfQuiet(stripe, articleId, accumulator);
+            return true;
+        }
+    }
+
+    private void flush(Stripe stripe, Long articleId, Accumulator accumulator) {
+        List<PendingDelta> window;
+        int netDelta;
+        synchronized (stripe) {
+            window = accumulator.pending;
+            accumulator.pending = new ArrayList<>();
+            accumulator.scheduled = false;
+            netDelta = sum(window);
+            if (window.isEmpty()) {
+                evictIfQuiet(stripe, articleId, accumulator);
+                return;
+            }
+        }
+
+        flushes.increment();
+        Flushed flushed;
+        try {
+            flushed = flushTransactions.execute(status -> {
+                Optional<Integer> quantity = conditionalUpdate.apply(articleId, netDelta);
+                // Re-read after the write, so changes made outside the coalescer are picked up
+                return new Flushed(quantity, quantity.flatMap(ignored -> availableLoader.apply(articleId)));
+            });
+        } catch (RuntimeException e) {
+            log.warn("Could not flush the stock deltas of article {}, writing them one by one", articleId, e);
+            flushed = new Flushed(RETRY_ALONE, Optional.empty());
+        }
+
+        // When the database rejects the net delta or the write fails, every delta of the window is tried alone
+        Optional<Integer> outcome = flushed == null ? RETRY_ALONE : flushed.quantity();
+        synchronized (stripe) {
+            if (outcome.isEmpty()) {
+                accumulator.available -= netDelta;
+            } else if (flushed.available().isPresent()) {
+                accumulator.available = flushed.available().get() + sum(accumulator.pending);
+            }
+            evictIfQuiet(stripe, articleId, accumulator);
+        }
+        window.forEach(pending -> pending.result.complete(outcome));
+    }
+
+    // The caller holds the stripe lock
+    private static void evictIfQuiet(Stripe stripe, Long articleId, Accumulator accumulator) {
+        if (!accumulator.scheduled && accumulator.pending.isEmpty()) {
+            accumulator.evicted = true;
+            stripe.accumulators.remove(articleId);
+        }
+    }
+
+    private static int sum(List<PendingDelta> deltas) {
+        int total = 0;
+        for (PendingDelta pending : deltas) {
+            total += pending.delta;
+        }
+        return total;
+    }
+
+    private static final class Stripe {
+        private final Map<Long, Accumulator> accumulators = new HashMap<>();
+
+        synchronized Accumulator get(Long articleId) {
+            return accumulators.get(articleId);
+        }
+
+        synchronized Accumulator putIfAbsent(Long articleId, Accumulator accumulator) {
+            Accumulator existing = accumulators.putIfAbsent(articleId, accumulator);
+            return existing == null ? accumulator : existing;
+        }
+    }
+
+    private static final class Accumulator {
+        private int available;
+        private List<PendingDelta> pending = new ArrayList<>();
+        private boolean scheduled;
+        private boolean evicted;
+
+        private Accumulator(int available) {
+            this.available = available;
+        }
+    }
+
+    private static final class PendingDelta {
+        private final int delta;
+        private final CompletableFuture<Optional<Integer>> result = new CompletableFuture<>();
+
+        private PendingDelta(int delta) {
+            this.delta = delta;
+        }
+    }
+
+    private record Flushed(Optional<Integer> quantity, Optional<Integer> available) {
+    }
+}
@@ -0,0 +1,220 @@
+package com.microservice.stock.infraestructure.out.jdbc.adapter;
+
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.model.StockLevel;
+import com.microservice.stock.domain.spi.IArticlePersistencePort;
+import com.microservice.stock.domain.util.Cursor;
+import com.microservice.stock.domain.util.DomainConstants;
+import com.microservice.stock.domain.util.Pagination;
+import com.microservice.stock.infraestructure.out.jdbc.mapper.ArticleRowMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Read path that maps rows straight into the domain model; writes stay on the JPA adapter
+@RequiredArgsConstructor
+public class ArticleJdbcAdapter implements IArticlePersistencePort {
+    private static final String BRAND_NAME_SORT_FIELD = "brandName";
+    private static final String CATEGORY_NAME_SORT_FIELD = "categoryName";
+    private static final String NAME_COLUMN = "a.name";
+    private static final String BRAND_NAME_COLUMN = "b.name";
+    private static final String CATEGORY_SORT_NAME_COLUMN = "a.category_sort_name";
+
+    // Only sharded articles pay for the slot subquery
+    private static final String SELECT_ARTICLES = "SELECT a.id, a.name, a.description, a.quantity + CASE WHEN a.stock_slots = 0 THEN 0 "
+            + "ELSE (SELECT COALESCE(SUM(s.quantity), 0) FROM stock_slot s WHERE s.id_article = a.id) END AS quantity, a.price, "
+            + "b.id AS brand_id, b.name AS brand_name, b.description AS brand_description "
+            + "FROM article a JOIN brand b ON b.id = a.id_brand ";
+    private static final String SELECT_CATEGORIES = "SELECT ac.id_article, c.id, c.name, c.description "
+            + "FROM article_category ac JOIN category c ON c.id = ac.id_category "
+            + "WHERE ac.id_article IN (:ids)";
+    private static final String COUNT_ARTICLES = "SELECT COUNT(*) FROM article";
+    private static final String LIMIT_OFFSET = " LIMIT :limit OFFSET :offset";
+
+    private static final ArticleRowMapper ARTICLE_ROW_MAPPER = new ArticleRowMapper();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final IArticlePersistencePort articleJpaAdapter;
+
+    @Override
+    public void createArticle(Article article) {
+        articleJpaAdapter.createArticle(article);
+    }
+
+    @Override
+    public void createArticles(List<Article> articles) {
+        articleJpaAdapter.createArticles(articles);
+    }
+
+    @Override
+    public boolean existByName(String name) {
+        return articleJpaAdapter.existByName(name);
+    }
+
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        return articleJpaAdapter.findExistingNames(names);
+    }
+
+    @Override
+    public boolean existById(Long id) {
+        return articleJpaAdapter.existById(id);
+    }
+
+    @Override
+    public Optional<Integer> adjustQuantity(Long id, int delta) {
+        return articleJpaAdapter.adjustQuantity(id, delta);
+    }
+
+    @Override
+    public Optional<Integer> findAvailableQuantity(Long id) {
+        return articleJpaAdapter.findAvailableQuantity(id);
+    }
+
+    @Override
+    public boolean shardStock(Long id, int slots) {
+        return articleJpaAdapter.shardStock(id, slots);
+    }
+
+    @Override
+    public boolean unshardStock(Long id) {
+        return articleJpaAdapter.unshardStock(id);
+    }
+
+    @Override
+    public Map<Long, StockLevel> lockStockLevels(Collection<Long> ids) {
+        return articleJpaAdapter.lockStockLevels(ids);
+    }
+
+    @Override
+    public void updateQuantities(Map<Long, Integer> quantities) {
+        articleJpaAdapter.updateQuantities(quantities);
+    }
+
+    @Override
+    public Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        long offset = (long) pageNumber * pageSize;
+        List<Article> articles = findPage(sortBy, sortDirection, pageSize, offset);
+        fetchCategories(articles);
+
+        // Same shortcut as Spring Data: a partial, non-empty page already tells the total
+        long totalElements = !articles.isEmpty() && articles.size() < pageSize
+                ? offset + articles.size()
+                : jdbcTemplate.getJdbcTemplate().queryForObject(COUNT_ARTICLES, Long.class);
+
+        Pagination<Article> pagination = new Pagination<>(articles, pageNumber, pageSize, totalElements);
+        pagination.setLast(offset + articles.size() >= totalElements);
+        return pagination;
+    }
+
+    @Override
+    public Pagination<Article> listArticlesSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        List<Article> articles = findPage(sortBy, sortDirection, pageSize + 1, (long) pageNumber * pageSize);
+        boolean hasNext = articles.size() > pageSize;
+        List<Article> content = hasNext ? articles.subList(0, pageSize) : articles;
+        fetchCategories(content);
+
+        Pagination<Article> pagination = toUnknownTotalPagination(content, pageSize, pageNumber == 0, hasNext);
+        pagination.setPageNumber(pageNumber);
+        return pagination;
+    }
+
+    @Override
+    public Pagination<Article> listArticlesAfter(Integer pageSize, String sortBy, String sortDirection, Cursor after) {
+        String column = toSortColumn(sortBy);
+        boolean ascending = DomainConstants.ORDER_ASC.equalsIgnoreCase(sortDirection);
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", pageSize + 1)
+                .addValue("offset", 0);
+
+        StringBuilder sql = new StringBuilder(SELECT_ARTICLES);
+        if (after != null) {
+            String comparison = ascending ? " > " : " < ";
+            sql.append("WHERE ").append(column).append(comparison).append(":sortKey OR (")
+                    .append(column).append(" = :sortKey AND a.id").append(comparison).append(":id) ");
+            params.addValue("sortKey", after.getSortKey()).addValue("id", after.getId());
+        }
+        sql.append(orderBy(column, ascending)).append(LIMIT_OFFSET);
+
+        List<Article> articles = jdbcTemplate.query(sql.toString(), params, ARTICLE_ROW_MAPPER);
+        boolean hasNext = articles.size() > pageSize;
+        List<Article> content = hasNext ? articles.subList(0, pageSize) : articles;
+        fetchCategories(content);
+
+        Pagination<Article> pagination = toUnknownTotalPagination(content, pageSize, after == null, hasNext);
+        if (hasNext) {
+            Article last = content.get(pageSize - 1);
+            pagination.setNextCursor(new Cursor(toSortKey(sortBy).apply(last), last.getId()).encode());
+        }
+        return pagination;
+    }
+
+    private List<Article> findPage(String sortBy, String sortDirection, int limit, long offset) {
+        boolean ascending = DomainConstants.ORDER_ASC.equalsIgnoreCase(sortDirection);
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit)
+                .addValue("offset", offset);
+        return jdbcTemplate.query(SELECT_ARTICLES + orderBy(toSortColumn(sortBy), ascending) + LIMIT_OFFSET,
+                params, ARTICLE_ROW_MAPPER);
+    }
+
+    private void fetchCategories(List<Article> articles) {
+        if (articles.isEmpty()) {
+            return;
+        }
+        Map<Long, Article> articlesById = articles.stream()
+                .collect(Collectors.toMap(Article::getId, Function.identity()));
+        jdbcTemplate.query(SELECT_CATEGORIES, new MapSqlParameterSource("ids", articlesById.keySet()),
+                (RowCallbackHandler) rs -> articlesById.get(rs.getLong("id_article")).getCategories().add(
+                        new Category(rs.getLong("id"), rs.getString("name"), rs.getString("description"))
+                ));
+    }
+
+    private Pagination<Article> toUnknownTotalPagination(List<Article> content, int pageSize, boolean first, boolean hasNext) {
+        Pagination<Article> pagination = new Pagination<>();
+        pagination.setContent(content);
+        pagination.setPageSize(pageSize);
+        pagination.setTotalElements(DomainConstants.UNKNOWN_TOTAL);
+        pagination.setTotalPages((int) DomainConstants.UNKNOWN_TOTAL);
+        pagination.setFirst(first);
+        pagination.setLast(!hasNext);
+        return pagination;
+    }
+
+    private String orderBy(String column, boolean ascending) {
+        String direction = ascending ? "ASC" : "DESC";
+        return "ORDER BY " + column + " " + direction + ", a.id " + direction;
+    }
+
+    // Only whitelisted columns ever reach the SQL text
+    private String toSortColumn(String sortBy) {
+        if (BRAND_NAME_SORT_FIELD.equalsIgnoreCase(sortBy)) {
+            return BRAND_NAME_COLUMN;
+        }
+        return CATEGORY_NAME_SORT_FIELD.equalsIgnoreCase(sortBy) ? CATEGORY_SORT_NAME_COLUMN : NAME_COLUMN;
+    }
+
+    // The category sort key is the lower-cased name of the first category, as stored in category_sort_name
+    private Function<Article, String> toSortKey(String sortBy) {
+        if (BRAND_NAME_SORT_FIELD.equalsIgnoreCase(sortBy)) {
+            return article -> article.getBrand().getName();
+        }
+        if (CATEGORY_NAME_SORT_FIELD.equalsIgnoreCase(sortBy)) {
+            return article -> article.getCategories().stream()
+                    .map(category -> category.getName().toLowerCase(Locale.ROOT))
+                    .min(Comparator.naturalOrder())
+                    .orElse(null);
+        }
+        return Article::getName;
+    }
+}
@@ -0,0 +1,30 @@
+package com.microservice.stock.infraestructure.out.jdbc.mapper;
+
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.model.Brand;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+
+public class ArticleRowMapper implements RowMapper<Article> {
+
+    @Override
+    public Article mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Brand brand = new Brand(
+                rs.getLong("brand_id"),
+                rs.getString("brand_name"),
+                rs.getString("brand_description")
+        );
+        return new Article(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getInt("quantity"),
+                rs.getBigDecimal("price"),
+                brand,
+                new ArrayList<>()
+        );
+    }
+}
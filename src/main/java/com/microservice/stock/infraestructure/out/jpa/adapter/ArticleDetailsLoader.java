@@ -0,0 +1,42 @@
+package com.microservice.stock.infraestructure.out.jpa.adapter;
+
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.infraestructure.out.jpa.entity.ArticleEntity;
+import com.microservice.stock.infraestructure.out.jpa.mapper.ArticleEntityMapper;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Loads articles picked by id elsewhere: brand in the same query and categories in one more, as the listings do,
+// with the slot stock added to the quantity of sharded articles
+@RequiredArgsConstructor
+public class ArticleDetailsLoader {
+
+    private final IArticleRepository articleRepository;
+    private final ArticleEntityMapper articleEntityMapper;
+    private final ShardedStock shardedStock;
+
+    public Map<Long, Article> findArticles(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<ArticleEntity> entities = articleRepository.findWithBrandByIdIn(ids);
+        articleRepository.findWithCategoriesByIdIn(ids);
+        List<Long> shardedIds = entities.stream()
+                .filter(entity -> entity.getStockSlots() > 0)
+                .map(ArticleEntity::getId)
+                .toList();
+        Map<Long, Integer> slotTotals = shardedIds.isEmpty() ? Map.of() : shardedStock.slotTotals(shardedIds);
+        Map<Long, Article> articles = new HashMap<>();
+        for (ArticleEntity entity : entities) {
+            Article article = articleEntityMapper.toDomain(entity);
+            article.setQuantity(article.getQuantity() + slotTotals.getOrDefault(article.getId(), 0));
+            articles.put(article.getId(), article);
+        }
+        return articles;
+    }
+}
@@ -1,65 +1,272 @@
 package com.microservice.stock.infraestructure.out.jpa.adapter;
 
 import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.model.StockLevel;
 import com.microservice.stock.domain.spi.IArticlePersistencePort;
-import com.microservice.stock.domain.util.DomainConstants;
+import com.microservice.stock.domain.util.Cursor;
+import com.microservice.stock.domain.util.NameKey;
 import com.microservice.stock.domain.util.Pagination;
 import com.microservice.stock.infraestructure.out.jpa.entity.ArticleEntity;
+import com.microservice.stock.infraestructure.out.jpa.entity.CategoryEntity;
 import com.microservice.stock.infraestructure.out.jpa.mapper.ArticleEntityMapper;
 import com.microservice.stock.infraestructure.out.jpa.mapper.ArticlePageMapper;
 import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.outbox.OutboxWriter;
+import com.microservice.stock.infraestructure.out.transaction.ChangeVersion;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 public class ArticleJpaAdapter implements IArticlePersistencePort {
+    private static final String BRAND_NAME_SORT_FIELD = "brandName";
+    private static final String CATEGORY_NAME_SORT_FIELD = "categoryName";
+    private static final String BRAND_NAME_PROPERTY = "brand.name";
+    private static final String CATEGORY_SORT_NAME_PROPERTY = "categorySortName";
+    private static final String ID_PROPERTY = "id";
+
     private final IArticleRepository articleRepository;
     private final ArticleEntityMapper articleEntityMapper;
+    private final OutboxWriter outboxWriter;
+    private final ShardedStock shardedStock;
+    private final TransactionOperations stockTransactions;
 
     @Override
     public void createArticle(Article article) {
         ArticleEntity articleEntity = articleEntityMapper.toEntity(article);
-        articleRepository.save(articleEntity);
+        List<Long> categoryIds = article.getCategories().stream()
+                .map(Category::getId)
+                .toList();
+        articleEntity.setCategorySortName(articleRepository.findCategorySortName(categoryIds));
+        outboxWriter.articleCreated(articleRepository.save(articleEntity));
+    }
+
+    @Override
+    public void createArticles(List<Article> articles) {
+        Set<Long> categoryIds = articles.stream()
+                .flatMap(article -> article.getCategories().stream())
+                .map(Category::getId)
+                .collect(Collectors.toSet());
+        Map<Long, CategoryEntity> categories = articleRepository.findCategoriesByIdIn(categoryIds).stream()
+                .collect(Collectors.toMap(CategoryEntity::getId, Function.identity()));
+
+        List<ArticleEntity> articleEntities = articles.stream()
+                .map(article -> {
+                    ArticleEntity articleEntity = articleEntityMapper.toEntity(article);
+                    List<CategoryEntity> articleCategories = article.getCategories().stream()
+                            .map(category -> categories.get(category.getId()))
+                            .toList();
+                    articleEntity.setCategories(articleCategories);
+                    articleEntity.setCategorySortName(articleCategories.stream()
+                            .map(category -> category.getName().toLowerCase(Locale.ROOT))
+                            .min(Comparator.naturalOrder())
+                            .orElse(null));
+                    return articleEntity;
+                })
+                .toList();
+        // Ids come from the pooled sequences, so the article and outbox inserts are queued and sent as JDBC batches on flush
+        articleRepository.saveAll(articleEntities).forEach(outboxWriter::articleCreated);
+        articleRepository.flush();
     }
 
     @Override
     public boolean existByName(String name) {
-        return articleRepository.findByName(name).isPresent();
+        return articleRepository.existsByNameKey(NameKey.of(name));
+    }
+
+    @Override
+    public Set<String> findExistingNames(Collection<String> names) {
+        List<String> nameKeys = names.stream()
+                .map(NameKey::of)
+                .toList();
+        return new HashSet<>(articleRepository.findNamesByNameKeyIn(nameKeys));
+    }
+
+    @Override
+    public boolean existById(Long id) {
+        return articleRepository.existsById(id);
+    }
+
+    // A single adjustment arrives without a transaction, so the update and its outbox row commit together here;
+    // a batch, location or reservation change joins the transaction it runs in
+    @Override
+    public Optional<Integer> adjustQuantity(Long id, int delta) {
+        return stockTransactions.execute(status -> applyDelta(id, delta));
+    }
+
+    @Override
+    public Optional<Integer> findAvailableQuantity(Long id) {
+        return Optional.ofNullable(articleRepository.findAvailableQuantityById(id)).map(Math::toIntExact);
+    }
+
+    @Override
+    public boolean shardStock(Long id, int slots) {
+        return shardedStock.shard(id, slots);
+    }
+
+    @Override
+    public boolean unshardStock(Long id) {
+        return shardedStock.unshard(id);
+    }
+
+    @Override
+    public Map<Long, StockLevel> lockStockLevels(Collection<Long> ids) {
+        List<ArticleEntity> entities = articleRepository.findForUpdateByIdIn(ids);
+        Map<Long, Integer> quantities = shardedStock.lockedQuantities(entities);
+        return entities.stream()
+                .collect(Collectors.toMap(ArticleEntity::getId,
+                        entity -> new StockLevel(entity.getId(), quantities.get(entity.getId()), entity.getReserved())));
+    }
+
+    // The rows and slots are already managed and locked by lockStockLevels; the flush sends the updates as JDBC batches
+    @Override
+    public void updateQuantities(Map<Long, Integer> quantities) {
+        List<ArticleEntity> entities = quantities.keySet().stream()
+                .map(articleRepository::getReferenceById)
+                .toList();
+        Map<Long, Integer> current = shardedStock.lockedQuantities(entities);
+        for (ArticleEntity articleEntity : entities) {
+            int quantity = quantities.get(articleEntity.getId());
+            int delta = quantity - current.get(articleEntity.getId());
+            if (delta != 0) {
+                shardedStock.applyLocked(articleEntity, delta);
+                outboxWriter.stockChanged(articleEntity.getId(), quantity, delta);
+            }
+        }
+        articleRepository.flush();
     }
 
     @Override
     public Pagination<Article> listArticles(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
-        Page<ArticleEntity> page;
-        if ("categoryName".equalsIgnoreCase(sortBy)) {
-            Page<ArticleEntity> allArticles = articleRepository.findAll(PageRequest.of(pageNumber, pageSize));
-
-            List<ArticleEntity> sortedArticles = allArticles.getContent().stream()
-                    .sorted((a1, a2) -> {
-                        String firstCategoryName1 = a1.getCategories().isEmpty() ? "" : a1.getCategories().get(0).getName();
-                        String firstCategoryName2 = a2.getCategories().isEmpty() ? "" : a2.getCategories().get(0).getName();
-                        if(DomainConstants.ORDER_ASC.equalsIgnoreCase(sortDirection)){
-                            return firstCategoryName1.compareToIgnoreCase(firstCategoryName2);
-                        }
-                        else {
-                            return firstCategoryName2.compareToIgnoreCase(firstCategoryName1);
-                        }
-                    })
-                    .toList();
-            Page<ArticleEntity> sortedPage = new PageImpl<>(sortedArticles, PageRequest.of(pageNumber, pageSize), allArticles.getTotalElements());
-
-            ArticlePageMapper articlePageMapper = new ArticlePageMapper(articleEntityMapper);
-            return articlePageMapper.toPagination(sortedPage);
-        } else {
-            Sort sort = Sort.by(Sort.Order.by(sortBy).with(Sort.Direction.fromString(sortDirection)));
-            Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
-
-            page = articleRepository.findAll(pageable);
-            ArticlePageMapper articlePageMapper = new ArticlePageMapper(articleEntityMapper);
-            return articlePageMapper.toPagination(page);
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        Sort sort = Sort.by(direction, toSortProperty(sortBy)).and(Sort.by(direction, ID_PROPERTY));
+        Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
+
+        Page<ArticleEntity> page = articleRepository.findAll(pageable);
+        fetchCategories(page.getContent());
+        ArticlePageMapper articlePageMapper = new ArticlePageMapper(articleEntityMapper);
+        return addSlotQuantities(page.getContent(), articlePageMapper.toPagination(page));
+    }
+
+    @Override
+    public Pagination<Article> listArticlesSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        Sort sort = Sort.by(direction, toSortProperty(sortBy)).and(Sort.by(direction, ID_PROPERTY));
+        Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
+
+        Slice<ArticleEntity> slice = articleRepository.findSliceBy(pageable);
+        fetchCategories(slice.getContent());
+        ArticlePageMapper articlePageMapper = new ArticlePageMapper(articleEntityMapper);
+        return addSlotQuantities(slice.getContent(), articlePageMapper.toSlicePagination(slice));
+    }
+
+    @Override
+    public Pagination<Article> listArticlesAfter(Integer pageSize, String sortBy, String sortDirection, Cursor after) {
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        Sort sort = Sort.by(direction, toSortProperty(sortBy)).and(Sort.by(direction, ID_PROPERTY));
+        Pageable pageable = PageRequest.of(0, pageSize + 1, sort);
+
+        List<ArticleEntity> entities = after == null
+                ? articleRepository.findAllBy(pageable)
+                : findAfter(sortBy, direction, after, pageable);
+        Function<ArticleEntity, String> sortKeyOf = toSortKey(sortBy);
+        fetchCategories(entities);
+
+        ArticlePageMapper articlePageMapper = new ArticlePageMapper(articleEntityMapper);
+        return addSlotQuantities(entities, articlePageMapper.toCursorPagination(entities, pageSize, after == null,
+                entity -> new Cursor(sortKeyOf.apply(entity), entity.getId())));
+    }
+
+    // Sharded articles try their slots first; the locked path settles what a single conditional update could not
+    private Optional<Integer> applyDelta(Long id, int delta) {
+        Integer stockSlots = articleRepository.findStockSlotsById(id);
+        if (stockSlots == null) {
+            return Optional.empty();
+        }
+        if (stockSlots == 0) {
+            if (articleRepository.adjustQuantity(id, delta, ChangeVersion.next()) == 1) {
+                return Optional.of(stockChanged(id, delta));
+            }
+            // A miss is short stock and takes no lock, unless the article was sharded since its slot count was read
+            stockSlots = articleRepository.findStockSlotsById(id);
+            if (stockSlots == null || stockSlots == 0) {
+                return Optional.empty();
+            }
         }
+        if (!shardedStock.tryAdjust(id, stockSlots, delta) && !shardedStock.adjustLocked(id, delta)) {
+            return Optional.empty();
+        }
+        return Optional.of(stockChanged(id, delta));
     }
-}
 
+    private int stockChanged(Long id, int delta) {
+        int quantity = Math.toIntExact(articleRepository.findQuantityById(id));
+        outboxWriter.stockChanged(id, quantity, delta);
+        return quantity;
+    }
 
+    // Set on the domain copies, since changing the managed rows would write the totals back on commit
+    private Pagination<Article> addSlotQuantities(List<ArticleEntity> entities, Pagination<Article> pagination) {
+        List<Long> shardedIds = entities.stream()
+                .filter(entity -> entity.getStockSlots() > 0)
+                .map(ArticleEntity::getId)
+                .toList();
+        if (!shardedIds.isEmpty()) {
+            Map<Long, Integer> slotTotals = shardedStock.slotTotals(shardedIds);
+            pagination.getContent().forEach(article -> article.setQuantity(
+                    article.getQuantity() + slotTotals.getOrDefault(article.getId(), 0)));
+        }
+        return pagination;
+    }
+
+    // Initializes the categories of the whole page with one query instead of one lazy load per article
+    private void fetchCategories(List<ArticleEntity> entities) {
+        if (!entities.isEmpty()) {
+            articleRepository.findWithCategoriesByIdIn(entities.stream().map(ArticleEntity::getId).toList());
+        }
+    }
+
+    private List<ArticleEntity> findAfter(String sortBy, Sort.Direction direction, Cursor after, Pageable pageable) {
+        String sortKey = after.getSortKey();
+        Long id = after.getId();
+        if (BRAND_NAME_SORT_FIELD.equalsIgnoreCase(sortBy)) {
+            return direction.isAscending()
+                    ? articleRepository.findAfterBrandNameAscending(sortKey, id, pageable)
+                    : articleRepository.findAfterBrandNameDescending(sortKey, id, pageable);
+        }
+        if (CATEGORY_NAME_SORT_FIELD.equalsIgnoreCase(sortBy)) {
+            return direction.isAscending()
+                    ? articleRepository.findAfterCategorySortNameAscending(sortKey, id, pageable)
+                    : articleRepository.findAfterCategorySortNameDescending(sortKey, id, pageable);
+        }
+        return direction.isAscending()
+                ? articleRepository.findAfterNameAscending(sortKey, id, pageable)
+                : articleRepository.findAfterNameDescending(sortKey, id, pageable);
+    }
+
+    private Function<ArticleEntity, String> toSortKey(String sortBy) {
+        if (BRAND_NAME_SORT_FIELD.equalsIgnoreCase(sortBy)) {
+            return entity -> entity.getBrand().getName();
+        }
+        return CATEGORY_NAME_SORT_FIELD.equalsIgnoreCase(sortBy) ? ArticleEntity::getCategorySortName : ArticleEntity::getName;
+    }
+
+    private String toSortProperty(String sortBy) {
+        if (BRAND_NAME_SORT_FIELD.equalsIgnoreCase(sortBy)) {
+            return BRAND_NAME_PROPERTY;
+        }
+        return CATEGORY_NAME_SORT_FIELD.equalsIgnoreCase(sortBy) ? CATEGORY_SORT_NAME_PROPERTY : sortBy;
+    }
+}
@@ -2,36 +2,62 @@ package com.microservice.stock.infraestructure.out.jpa.adapter;
 
 import com.microservice.stock.domain.model.Brand;
 import com.microservice.stock.domain.spi.IBrandPersistencePort;
+import com.microservice.stock.domain.util.Cursor;
+import com.microservice.stock.domain.util.NameKey;
+import com.microservice.stock.domain.util.DomainConstants;
 import com.microservice.stock.domain.util.Pagination;
 import com.microservice.stock.infraestructure.out.jpa.entity.BrandEntity;
 import com.microservice.stock.infraestructure.out.jpa.mapper.BrandEntityMapper;
 import com.microservice.stock.infraestructure.out.jpa.mapper.BrandPageMapper;
 import com.microservice.stock.infraestructure.out.jpa.repository.IBrandRepository;
+import com.microservice.stock.infraestructure.out.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @RequiredArgsConstructor
 public class BrandJpaAdapter implements IBrandPersistencePort {
 
+    private static final String ID_PROPERTY = "id";
+
     private final IBrandRepository brandRepository;
     private final BrandEntityMapper brandEntityMapper;
+    private final OutboxWriter outboxWriter;
 
     @Override
     public void createBrand(Brand brand) {
-        brandRepository.save(brandEntityMapper.toEntity(brand));
+        outboxWriter.brandCreated(brandRepository.save(brandEntityMapper.toEntity(brand)));
     }
 
     @Override
     public boolean existsByName(String name) {
-        return brandRepository.findByName(name).isPresent();
+        return brandRepository.existsByNameKey(NameKey.of(name));
     }
 
     @Override
     public boolean existById(Long id) {
-        return brandRepository.findById(id).isPresent();
+        return brandRepository.existsById(id);
+    }
+
+    @Override
+    public Set<Long> findMissingIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> existingIds = new HashSet<>(brandRepository.findIdsByIdIn(ids));
+        return ids.stream()
+                .filter(id -> !existingIds.contains(id))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     @Override
@@ -44,4 +70,30 @@ public class BrandJpaAdapter implements IBrandPersistencePort {
         return brandPageMapper.toPagination(page);
     }
 
+    @Override
+    public Pagination<Brand> listBrandsSlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        Sort sort = Sort.by(Sort.Order.by(sortBy).with(Sort.Direction.fromString(sortDirection)));
+        Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
+
+        Slice<BrandEntity> slice = brandRepository.findSliceBy(pageable);
+        BrandPageMapper brandPageMapper = new BrandPageMapper(brandEntityMapper);
+        return brandPageMapper.toSlicePagination(slice);
+    }
+
+    @Override
+    public Pagination<Brand> listBrandsAfter(Integer pageSize, String sortBy, String sortDirection, Cursor after) {
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        Pageable pageable = PageRequest.of(0, pageSize + 1, Sort.by(direction, DomainConstants.VALID_SORT_FIELD).and(Sort.by(direction, ID_PROPERTY)));
+
+        List<BrandEntity> entities;
+        if (after == null) {
+            entities = brandRepository.findAllBy(pageable);
+        } else if (direction.isAscending()) {
+            entities = brandRepository.findAfterNameAscending(after.getSortKey(), after.getId(), pageable);
+        } else {
+            entities = brandRepository.findAfterNameDescending(after.getSortKey(), after.getId(), pageable);
+        }
+        BrandPageMapper brandPageMapper = new BrandPageMapper(brandEntityMapper);
+        return brandPageMapper.toCursorPagination(entities, pageSize, after == null);
+    }
 }
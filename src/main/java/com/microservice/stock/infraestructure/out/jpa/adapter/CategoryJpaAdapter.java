@@ -2,36 +2,62 @@ package com.microservice.stock.infraestructure.out.jpa.adapter;
 
 import com.microservice.stock.domain.model.Category;
 import com.microservice.stock.domain.spi.ICategoryPersistencePort;
+import com.microservice.stock.domain.util.Cursor;
+import com.microservice.stock.domain.util.NameKey;
+import com.microservice.stock.domain.util.DomainConstants;
 import com.microservice.stock.domain.util.Pagination;
 import com.microservice.stock.infraestructure.out.jpa.entity.CategoryEntity;
 import com.microservice.stock.infraestructure.out.jpa.mapper.CategoryEntityMapper;
 import com.microservice.stock.infraestructure.out.jpa.mapper.CategoryPageMapper;
 import com.microservice.stock.infraestructure.out.jpa.repository.ICategoryRepository;
+import com.microservice.stock.infraestructure.out.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @RequiredArgsConstructor
 public class CategoryJpaAdapter implements ICategoryPersistencePort {
 
+    private static final String ID_PROPERTY = "id";
+
     private final ICategoryRepository categoryRepository;
     private final CategoryEntityMapper categoryEntityMapper;
+    private final OutboxWriter outboxWriter;
 
     @Override
     public void createCategory(Category category) {
-        categoryRepository.save(categoryEntityMapper.toEntity(category));
-    } 
+        outboxWriter.categoryCreated(categoryRepository.save(categoryEntityMapper.toEntity(category)));
+    }
 
     @Override
     public boolean existsByName(String name) {
-        return categoryRepository.findByName(name).isPresent();
+        return categoryRepository.existsByNameKey(NameKey.of(name));
     }
 
     @Override
     public boolean existById(Long id) {
-        return categoryRepository.findById(id).isPresent();
+        return categoryRepository.existsById(id);
+    }
+
+    @Override
+    public Set<Long> findMissingIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> existingIds = new HashSet<>(categoryRepository.findIdsByIdIn(ids));
+        return ids.stream()
+                .filter(id -> !existingIds.contains(id))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
     }
 
     @Override
@@ -44,4 +70,31 @@ public class CategoryJpaAdapter implements ICategoryPersistencePort {
         CategoryPageMapper categoryPageMapper = new CategoryPageMapper(categoryEntityMapper);
         return categoryPageMapper.toPagination(page);
     }
+
+    @Override
+    public Pagination<Category> listCategorySlice(Integer pageNumber, Integer pageSize, String sortBy, String sortDirection) {
+        Sort sort = Sort.by(Sort.Order.by(sortBy).with(Sort.Direction.fromString(sortDirection)));
+        Pageable pageable = PageRequest.of(pageNumber, pageSize, sort);
+
+        Slice<CategoryEntity> slice = categoryRepository.findSliceBy(pageable);
+        CategoryPageMapper categoryPageMapper = new CategoryPageMapper(categoryEntityMapper);
+        return categoryPageMapper.toSlicePagination(slice);
+    }
+
+    @Override
+    public Pagination<Category> listCategoryAfter(Integer pageSize, String sortBy, String sortDirection, Cursor after) {
+        Sort.Direction direction = Sort.Direction.fromString(sortDirection);
+        Pageable pageable = PageRequest.of(0, pageSize + 1, Sort.by(direction, DomainConstants.VALID_SORT_FIELD).and(Sort.by(direction, ID_PROPERTY)));
+
+        List<CategoryEntity> entities;
+        if (after == null) {
+            entities = categoryRepository.findAllBy(pageable);
+        } else if (direction.isAscending()) {
+            entities = categoryRepository.findAfterNameAscending(after.getSortKey(), after.getId(), pageable);
+        } else {
+            entities = categoryRepository.findAfterNameDescending(after.getSortKey(), after.getId(), pageable);
+        }
+        CategoryPageMapper categoryPageMapper = new CategoryPageMapper(categoryEntityMapper);
+        return categoryPageMapper.toCursorPagination(entities, pageSize, after == null);
+    }
 }
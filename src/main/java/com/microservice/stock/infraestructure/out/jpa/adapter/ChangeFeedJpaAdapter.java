@@ -0,0 +1,124 @@
+package com.microservice.stock.infraestructure.out.jpa.adapter;
+
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.model.Brand;
+import com.microservice.stock.domain.model.CatalogChange;
+import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.model.ChangeFeed;
+import com.microservice.stock.domain.spi.IChangeFeedPersistencePort;
+import com.microservice.stock.infraestructure.out.jpa.entity.BrandEntity;
+import com.microservice.stock.infraestructure.out.jpa.entity.CategoryEntity;
+import com.microservice.stock.infraestructure.out.jpa.mapper.BrandEntityMapper;
+import com.microservice.stock.infraestructure.out.jpa.mapper.CategoryEntityMapper;
+import com.microservice.stock.infraestructure.out.jpa.repository.ChangedRow;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IBrandRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.ICategoryRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSlotRepository;
+import com.microservice.stock.infraestructure.out.transaction.ChangeVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+// Each table is read on its change_version index from the requested version on, so a consumer pays for the rows it
+// is behind and nothing more. Only versions older than the settle time are served, which keeps a version stamped by a
+// transaction that has not committed yet from being skipped once a later one is returned.
+@RequiredArgsConstructor
+public class ChangeFeedJpaAdapter implements IChangeFeedPersistencePort {
+
+    private final IArticleRepository articleRepository;
+    private final IStockSlotRepository stockSlotRepository;
+    private final IBrandRepository brandRepository;
+    private final ICategoryRepository categoryRepository;
+    private final BrandEntityMapper brandEntityMapper;
+    private final CategoryEntityMapper categoryEntityMapper;
+    private final ArticleDetailsLoader articleDetailsLoader;
+    private final Duration settleTime;
+
+    @Override
+    public ChangeFeed findChangesSince(long since, int limit) {
+        long until = ChangeVersion.watermark(settleTime);
+        if (until <= since) {
+            return new ChangeFeed(List.of(), since);
+        }
+        // One extra row per table tells whether the page ends in the middle of a version
+        Pageable page = PageRequest.of(0, limit + 1);
+        List<ChangedKey> keys = new ArrayList<>();
+        addKeys(keys, CatalogChange.Type.ARTICLE, articleRepository.findChangedSince(since, until, page));
+        addKeys(keys, CatalogChange.Type.ARTICLE, stockSlotRepository.findChangedSince(since, until, page));
+        addKeys(keys, CatalogChange.Type.BRAND, brandRepository.findChangedSince(since, until, page));
+        addKeys(keys, CatalogChange.Type.CATEGORY, categoryRepository.findChangedSince(since, until, page));
+        keys.sort(Comparator.comparingLong(ChangedKey::version));
+
+        if (keys.size() <= limit) {
+            // Every table is read up to the watermark, so the consumer can skip the empty stretch before it
+            return new ChangeFeed(toChanges(keys), until);
+        }
+        List<ChangedKey> window = cutAtVersionBoundary(keys, limit);
+        return new ChangeFeed(toChanges(window), window.get(window.size() - 1).version());
+    }
+
+    // The next call starts after the last version returned, so a page never ends between rows sharing one version
+    static List<ChangedKey> cutAtVersionBoundary(List<ChangedKey> keys, int limit) {
+        int end = limit;
+        while (end > 0 && keys.get(end - 1).version() == keys.get(end).version()) {
+            end--;
+        }
+        if (end == 0) {
+            long version = keys.get(0).version();
+            end = (int) keys.stream().filter(key -> key.version() == version).count();
+        }
+        return keys.subList(0, end);
+    }
+
+    private List<CatalogChange> toChanges(List<ChangedKey> keys) {
+        // A row changed several times in the window is returned once, at its latest version
+        Map<RowKey, Long> latest = new LinkedHashMap<>();
+        for (ChangedKey key : keys) {
+            latest.remove(key.row());
+            latest.put(key.row(), key.version());
+        }
+        Map<CatalogChange.Type, List<Long>> idsByType = latest.keySet().stream()
+                .collect(Collectors.groupingBy(RowKey::type, Collectors.mapping(RowKey::id, Collectors.toList())));
+
+        Map<Long, Article> articles = articleDetailsLoader.findArticles(idsByType.getOrDefault(CatalogChange.Type.ARTICLE, List.of()));
+        Map<Long, Brand> brands = brandRepository.findAllById(idsByType.getOrDefault(CatalogChange.Type.BRAND, List.of()))
+                .stream()
+                .collect(Collectors.toMap(BrandEntity::getId, brandEntityMapper::toDomain));
+        Map<Long, Category> categories = categoryRepository.findAllById(idsByType.getOrDefault(CatalogChange.Type.CATEGORY, List.of()))
+                .stream()
+                .collect(Collectors.toMap(CategoryEntity::getId, categoryEntityMapper::toDomain));
+
+        List<CatalogChange> changes = new ArrayList<>(latest.size());
+        latest.forEach((row, version) -> {
+            switch (row.type()) {
+                case ARTICLE -> Optional.ofNullable(articles.get(row.id()))
+                        .ifPresent(article -> changes.add(CatalogChange.ofArticle(article, version)));
+                case BRAND -> Optional.ofNullable(brands.get(row.id()))
+                        .ifPresent(brand -> changes.add(CatalogChange.ofBrand(brand, version)));
+                case CATEGORY -> Optional.ofNullable(categories.get(row.id()))
+                        .ifPresent(category -> changes.add(CatalogChange.ofCategory(category, version)));
+            }
+        });
+        return changes;
+    }
+
+    private static void addKeys(List<ChangedKey> keys, CatalogChange.Type type, List<ChangedRow> rows) {
+        rows.forEach(row -> keys.add(new ChangedKey(new RowKey(type, row.getId()), row.getVersion())));
+    }
+
+    record RowKey(CatalogChange.Type type, Long id) {
+    }
+
+    record ChangedKey(RowKey row, long version) {
+    }
+}
@@ -0,0 +1,58 @@
+package com.microservice.stock.infraestructure.out.jpa.adapter;
+
+import com.microservice.stock.domain.model.LocationStock;
+import com.microservice.stock.domain.spi.ILocationStockPersistencePort;
+import com.microservice.stock.infraestructure.out.jpa.entity.LocationStockEntity;
+import com.microservice.stock.infraestructure.out.jpa.mapper.LocationStockEntityMapper;
+import com.microservice.stock.infraestructure.out.jpa.repository.ILocationStockRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Location rows are always locked before the article row, and transfers never touch the article row
+@RequiredArgsConstructor
+public class LocationStockJpaAdapter implements ILocationStockPersistencePort {
+
+    private final ILocationStockRepository locationStockRepository;
+    private final LocationStockEntityMapper locationStockEntityMapper;
+
+    @Override
+    public boolean adjustLocationQuantity(Long articleId, String location, int delta) {
+        if (locationStockRepository.adjustQuantity(articleId, location, delta) == 1) {
+            return true;
+        }
+        if (delta < 0) {
+            return false;
+        }
+        // First units received at this location; an insert that failed on the unique key would roll back the caller
+        locationStockRepository.addLocation(articleId, location, delta);
+        return true;
+    }
+
+    @Override
+    public boolean transfer(Long articleId, String fromLocation, String toLocation, int quantity) {
+        Map<String, LocationStockEntity> rows = locationStockRepository
+                .findForUpdateByArticleIdAndLocationIn(articleId, List.of(fromLocation, toLocation)).stream()
+                .collect(Collectors.toMap(LocationStockEntity::getLocation, Function.identity()));
+        LocationStockEntity source = rows.get(fromLocation);
+        if (source == null || source.getQuantity() < quantity) {
+            return false;
+        }
+        source.setQuantity(source.getQuantity() - quantity);
+        LocationStockEntity target = rows.get(toLocation);
+        if (target == null) {
+            locationStockRepository.addLocation(articleId, toLocation, quantity);
+        } else {
+            target.setQuantity(target.getQuantity() + quantity);
+        }
+        return true;
+    }
+
+    @Override
+    public List<LocationStock> findLocationStock(Long articleId) {
+        return locationStockEntityMapper.toDomainList(locationStockRepository.findByArticleIdOrderByLocation(articleId));
+    }
+}
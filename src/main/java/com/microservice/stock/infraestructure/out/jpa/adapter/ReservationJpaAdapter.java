@@ -0,0 +1,83 @@
+package com.microservice.stock.infraestructure.out.jpa.adapter;
+
+import com.microservice.stock.domain.model.Reservation;
+import com.microservice.stock.domain.spi.IReservationPersistencePort;
+import com.microservice.stock.infraestructure.out.jpa.mapper.StockReservationEntityMapper;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockReservationRepository;
+import com.microservice.stock.infraestructure.out.outbox.OutboxWriter;
+import com.microservice.stock.infraestructure.out.transaction.ChangeVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class ReservationJpaAdapter implements IReservationPersistencePort {
+
+    private final IStockReservationRepository stockReservationRepository;
+    private final IArticleRepository articleRepository;
+    private final StockReservationEntityMapper stockReservationEntityMapper;
+    private final OutboxWriter outboxWriter;
+    private final ShardedStock shardedStock;
+
+    @Override
+    public boolean reserve(Reservation reservation) {
+        Long articleId = reservation.getArticleId();
+        if (articleRepository.reserveQuantity(articleId, reservation.getQuantity()) == 0
+                && !reserveFromSlots(articleId, reservation.getQuantity())) {
+            return false;
+        }
+        stockReservationRepository.save(stockReservationEntityMapper.toEntity(reservation));
+        outboxWriter.reservedChanged(articleId, reservation.getQuantity());
+        return true;
+    }
+
+    @Override
+    public Optional<Reservation> findReservation(String id) {
+        return stockReservationRepository.findById(id).map(stockReservationEntityMapper::toDomain);
+    }
+
+    @Override
+    public Optional<Reservation> removeReservation(String id) {
+        return stockReservationRepository.findById(id)
+                .filter(entity -> stockReservationRepository.deleteReservation(id) == 1)
+                .map(stockReservationEntityMapper::toDomain);
+    }
+
+    @Override
+    public boolean confirm(Reservation reservation) {
+        Long articleId = reservation.getArticleId();
+        if (articleRepository.confirmReservedQuantity(articleId, reservation.getQuantity(), ChangeVersion.next()) == 0) {
+            return false;
+        }
+        outboxWriter.reservationConfirmed(articleId, Math.toIntExact(articleRepository.findQuantityById(articleId)),
+                reservation.getQuantity());
+        return true;
+    }
+
+    @Override
+    public void release(Reservation reservation) {
+        if (articleRepository.releaseReservedQuantity(reservation.getArticleId(), reservation.getQuantity()) == 1) {
+            outboxWriter.reservedChanged(reservation.getArticleId(), -reservation.getQuantity());
+        }
+    }
+
+    @Override
+    public Optional<Integer> findAvailableQuantity(Long articleId) {
+        return Optional.ofNullable(articleRepository.findAvailableQuantityById(articleId)).map(Math::toIntExact);
+    }
+
+    @Override
+    public List<Reservation> findReservationsAfter(String afterId, int limit) {
+        return stockReservationRepository.findAfter(afterId, PageRequest.of(0, limit)).stream()
+                .map(stockReservationEntityMapper::toDomain)
+                .toList();
+    }
+
+    // A sharded article keeps its free units in slots, so they move into the row that backs the holds first
+    private boolean reserveFromSlots(Long articleId, int quantity) {
+        return shardedStock.moveToRow(articleId, quantity) && articleRepository.reserveQuantity(articleId, quantity) == 1;
+    }
+}
@@ -0,0 +1,162 @@
+package com.microservice.stock.infraestructure.out.jpa.adapter;
+
+import com.microservice.stock.infraestructure.out.jpa.entity.ArticleEntity;
+import com.microservice.stock.infraestructure.out.jpa.entity.StockSlotEntity;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSlotRepository;
+import com.microservice.stock.infraestructure.out.transaction.ChangeVersion;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+// The stock of a sharded article is its row, which backs the reservations, plus the free units spread over its slots.
+// Slow paths lock the article row first and then its slots by number, so they never deadlock with each other.
+@RequiredArgsConstructor
+public class ShardedStock {
+
+    private final IArticleRepository articleRepository;
+    private final IStockSlotRepository stockSlotRepository;
+
+    // One conditional update on a random slot, then on the others; under READ COMMITTED a miss keeps no lock
+    public boolean tryAdjust(Long articleId, int slots, int delta) {
+        int first = ThreadLocalRandom.current().nextInt(slots);
+        int attempts = delta > 0 ? 1 : slots;
+        for (int i = 0; i < attempts; i++) {
+            if (stockSlotRepository.adjustSlot(articleId, (first + i) % slots, delta, ChangeVersion.next()) == 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Used when no single slot can take the delta; false when the stock would fall below the reserved units
+    public boolean adjustLocked(Long articleId, int delta) {
+        Optional<ArticleEntity> article = lockArticle(articleId);
+        return article.isPresent() && applyLocked(article.get(), delta);
+    }
+
+    // The caller holds the article row locked
+    public boolean applyLocked(ArticleEntity article, int delta) {
+        List<StockSlotEntity> slots = lockSlots(article);
+        long total = (long) article.getQuantity() + sum(slots);
+        if (total + delta < article.getReserved()) {
+            return false;
+        }
+        int remaining = delta;
+        if (delta > 0 && !slots.isEmpty()) {
+            StockSlotEntity slot = slots.get(0);
+            slot.setQuantity(slot.getQuantity() + delta);
+            remaining = 0;
+        }
+        for (int i = 0; remaining < 0 && i < slots.size(); i++) {
+            StockSlotEntity slot = slots.get(i);
+            int taken = Math.min(slot.getQuantity(), -remaining);
+            slot.setQuantity(slot.getQuantity() - taken);
+            remaining += taken;
+        }
+        article.setQuantity(article.getQuantity() + remaining);
+        return true;
+    }
+
+    // Stock of each locked article, slots included
+    public Map<Long, Integer> lockedQuantities(Collection<ArticleEntity> lockedArticles) {
+        List<Long> shardedIds = lockedArticles.stream()
+                .filter(article -> article.getStockSlots() > 0)
+                .map(ArticleEntity::getId)
+                .toList();
+        Map<Long, Integer> slotTotals = shardedIds.isEmpty() ? Map.of()
+                : stockSlotRepository.findForUpdateByArticleIdIn(shardedIds).stream()
+                .collect(Collectors.groupingBy(StockSlotEntity::getArticleId,
+                        Collectors.summingInt(StockSlotEntity::getQuantity)));
+        return lockedArticles.stream()
+                .collect(Collectors.toMap(ArticleEntity::getId,
+                        article -> article.getQuantity() + slotTotals.getOrDefault(article.getId(), 0)));
+    }
+
+    public Map<Long, Integer> slotTotals(Collection<Long> articleIds) {
+        return stockSlotRepository.sumByArticleIdIn(articleIds).stream()
+                .collect(Collectors.toMap(IStockSlotRepository.SlotTotal::getArticleId,
+                        total -> Math.toIntExact(total.getQuantity())));
+    }
+
+    // Spreads the free units over the slots; the reserved units stay in the article row
+    public boolean shard(Long articleId, int slotCount) {
+        Optional<ArticleEntity> locked = lockArticle(articleId);
+        if (locked.isEmpty()) {
+            return false;
+        }
+        ArticleEntity article = locked.get();
+        foldSlots(article);
+        int free = Math.max(0, article.getQuantity() - article.getReserved());
+        List<StockSlotEntity> slots = new ArrayList<>(slotCount);
+        for (int slot = 0; slot < slotCount; slot++) {
+            int share = free / slotCount + (slot < free % slotCount ? 1 : 0);
+            slots.add(new StockSlotEntity(null, articleId, slot, share));
+        }
+        stockSlotRepository.saveAll(slots);
+        article.setQuantity(article.getQuantity() - free);
+        article.setStockSlots(slotCount);
+        return true;
+    }
+
+    public boolean unshard(Long articleId) {
+        Optional<ArticleEntity> locked = lockArticle(articleId);
+        locked.ifPresent(this::foldSlots);
+        return locked.isPresent();
+    }
+
+    // Moves units from the slots into the article row so a reservation can hold them
+    public boolean moveToRow(Long articleId, int units) {
+        Optional<ArticleEntity> locked = lockArticle(articleId).filter(article -> article.getStockSlots() > 0);
+        if (locked.isEmpty()) {
+            return false;
+        }
+        ArticleEntity article = locked.get();
+        List<StockSlotEntity> slots = lockSlots(article);
+        int missing = units - (article.getQuantity() - article.getReserved());
+        if (missing > sum(slots)) {
+            return false;
+        }
+        for (int i = 0; missing > 0 && i < slots.size(); i++) {
+            StockSlotEntity slot = slots.get(i);
+            int taken = Math.min(slot.getQuantity(), missing);
+            slot.setQuantity(slot.getQuantity() - taken);
+            article.setQuantity(article.getQuantity() + taken);
+            missing -= taken;
+        }
+        // The reservation update that follows is a bulk query, so the moved units must reach the database first
+        articleRepository.flush();
+        return true;
+    }
+
+    private void foldSlots(ArticleEntity article) {
+        if (article.getStockSlots() == 0) {
+            return;
+        }
+        List<StockSlotEntity> slots = lockSlots(article);
+        article.setQuantity(article.getQuantity() + (int) sum(slots));
+        article.setStockSlots(0);
+        stockSlotRepository.deleteAll(slots);
+        // Hibernate runs inserts before deletes, so re-sharding needs the old slots gone first
+        stockSlotRepository.flush();
+    }
+
+    private Optional<ArticleEntity> lockArticle(Long articleId) {
+        return articleRepository.findForUpdateByIdIn(List.of(articleId)).stream().findFirst();
+    }
+
+    private List<StockSlotEntity> lockSlots(ArticleEntity article) {
+        return article.getStockSlots() == 0 ? List.of()
+                : stockSlotRepository.findForUpdateByArticleIdIn(List.of(article.getId()));
+    }
+
+    private static long sum(List<StockSlotEntity> slots) {
+        return slots.stream().mapToLong(StockSlotEntity::getQuantity).sum();
+    }
+}
@@ -0,0 +1,38 @@
+package com.microservice.stock.infraestructure.out.jpa.adapter;
+
+import com.microservice.stock.domain.model.StockMovement;
+import com.microservice.stock.domain.spi.IStockLedgerPersistencePort;
+import com.microservice.stock.infraestructure.out.jpa.entity.StockSnapshotEntity;
+import com.microservice.stock.infraestructure.out.jpa.mapper.StockMovementEntityMapper;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockMovementRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class StockLedgerJpaAdapter implements IStockLedgerPersistencePort {
+
+    private final IStockMovementRepository stockMovementRepository;
+    private final IStockSnapshotRepository stockSnapshotRepository;
+    private final StockMovementEntityMapper stockMovementEntityMapper;
+
+    // The latest snapshot at or before the instant, plus the movements between the two on the (article, time) index
+    @Override
+    public int findQuantityAsOf(Long articleId, Instant at) {
+        Optional<StockSnapshotEntity> snapshot = stockSnapshotRepository
+                .findFirstByArticleIdAndTakenAtLessThanEqualOrderByTakenAtDesc(articleId, at);
+        Instant from = snapshot.map(StockSnapshotEntity::getTakenAt).orElse(Instant.EPOCH);
+        long replayed = stockMovementRepository.sumDelta(articleId, from, at);
+        return Math.toIntExact(snapshot.map(StockSnapshotEntity::getQuantity).orElse(0) + replayed);
+    }
+
+    @Override
+    public List<StockMovement> findMovementsBefore(Long articleId, Instant before, int limit) {
+        return stockMovementEntityMapper.toDomainList(stockMovementRepository
+                .findByArticleIdAndOccurredAtBeforeOrderByOccurredAtDescIdDesc(articleId, before, PageRequest.of(0, limit)));
+    }
+}
@@ -0,0 +1,45 @@
+package com.microservice.stock.infraestructure.out.jpa.adapter;
+
+import com.microservice.stock.domain.model.LowStock;
+import com.microservice.stock.domain.spi.IStockThresholdPersistencePort;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.lowstock.LowStockIndex;
+import com.microservice.stock.infraestructure.out.transaction.ChangeVersion;
+import com.microservice.stock.infraestructure.out.transaction.TransactionHooks;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// Thresholds are stored on the article row and applied to the index once the change commits; reads never hit the database
+@RequiredArgsConstructor
+public class StockThresholdJpaAdapter implements IStockThresholdPersistencePort {
+
+    private final IArticleRepository articleRepository;
+    private final LowStockIndex lowStockIndex;
+
+    @Override
+    public boolean setThreshold(Long articleId, Integer threshold) {
+        if (articleRepository.updateReorderThreshold(articleId, threshold, ChangeVersion.next()) == 0) {
+            return false;
+        }
+        if (threshold == null) {
+            TransactionHooks.afterCommit(() -> lowStockIndex.untrack(articleId));
+        } else {
+            // A stock change committing after the read may be notified before the track below; the index keeps it
+            lowStockIndex.expect(articleId);
+            int quantity = Math.toIntExact(articleRepository.findQuantityById(articleId));
+            TransactionHooks.afterCompletion(committed -> {
+                if (committed) {
+                    lowStockIndex.track(articleId, quantity, threshold);
+                }
+                lowStockIndex.forget(articleId);
+            });
+        }
+        return true;
+    }
+
+    @Override
+    public List<LowStock> findLowStock(int limit) {
+        return lowStockIndex.findLowStock(limit);
+    }
+}
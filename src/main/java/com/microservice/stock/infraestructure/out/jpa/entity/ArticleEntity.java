@@ -1,23 +1,40 @@
 package com.microservice.stock.infraestructure.out.jpa.entity;
 
+import com.microservice.stock.domain.util.DomainConstants;
+import com.microservice.stock.domain.util.NameKey;
+import com.microservice.stock.infraestructure.out.transaction.ChangeVersion;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.math.BigDecimal;
 import java.util.List;
 
 @Entity
-@Table(name = "article")
+@NamedEntityGraph(name = ArticleEntity.BRAND_GRAPH, attributeNodes = @NamedAttributeNode("brand"))
+@Table(name = "article",
+        uniqueConstraints = @UniqueConstraint(name = "uk_article_name_key", columnNames = "name_key"),
+        indexes = {
+                @Index(name = "idx_article_name", columnList = "name, id"),
+                @Index(name = "idx_article_category_sort_name", columnList = "category_sort_name, id"),
+                @Index(name = "idx_article_change_version", columnList = "change_version"),
+                @Index(name = "idx_article_reorder_threshold", columnList = "reorder_threshold")
+        }
+)
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 @Setter
 public class ArticleEntity {
+    public static final String BRAND_GRAPH = "ArticleEntity.brand";
+    public static final String ID_SEQUENCE = "article_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY would force one insert per persist; a pooled sequence lets Hibernate batch the inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
     private String name;
     private String description;
@@ -32,7 +49,55 @@ public class ArticleEntity {
     @JoinTable(
             name = "article_category",
             joinColumns = @JoinColumn(name = "id_article"),
-            inverseJoinColumns = @JoinColumn(name = "id_category")
+            inverseJoinColumns = @JoinColumn(name = "id_category"),
+            indexes = {
+                    @Index(name = "idx_article_category_article", columnList = "id_article, id_category"),
+                    @Index(name = "idx_article_category_category", columnList = "id_category, id_article")
+            }
     )
     private List<CategoryEntity> categories;
-}
\ No newline at end of file
+
+    // Lower-cased name of the alphabetically first category, so "categoryName" sorting runs on an index
+    @Column(name = "category_sort_name", length = DomainConstants.FIELD_NAME_CATEGORY_SIZE_MAX)
+    private String categorySortName;
+
+    @Column(name = "name_key")
+    private String nameKey;
+
+    // Units held by open reservations; available stock is quantity minus reserved
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int reserved;
+
+    // Number of stock slots holding the free stock of a hot article; zero keeps the whole stock in this row
+    @ColumnDefault("0")
+    @Column(name = "stock_slots", nullable = false)
+    private int stockSlots;
+
+    // Quantity below which the article needs reordering; null when nobody watches it
+    @Column(name = "reorder_threshold")
+    private Integer reorderThreshold;
+
+    // Stamped on every write so the change feed can find what changed since a version
+    @ColumnDefault("0")
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
+    public ArticleEntity(Long id, String name, String description, Integer quantity, BigDecimal price,
+                         BrandEntity brand, List<CategoryEntity> categories) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.quantity = quantity;
+        this.price = price;
+        this.brand = brand;
+        this.categories = categories;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void beforeWrite() {
+        nameKey = NameKey.of(name);
+        changeVersion = ChangeVersion.next();
+    }
+}
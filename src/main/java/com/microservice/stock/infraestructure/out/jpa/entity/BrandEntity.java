@@ -1,19 +1,32 @@
 package com.microservice.stock.infraestructure.out.jpa.entity;
 
+import com.microservice.stock.domain.util.DomainConstants;
+import com.microservice.stock.domain.util.NameKey;
+import com.microservice.stock.infraestructure.out.transaction.ChangeVersion;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "brand")
+@Table(name = "brand",
+        uniqueConstraints = @UniqueConstraint(name = "uk_brand_name_key", columnNames = "name_key"),
+        indexes = {
+                @Index(name = "idx_brand_name", columnList = "name, id"),
+                @Index(name = "idx_brand_change_version", columnList = "change_version")
+        }
+)
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 @Setter
 public class BrandEntity {
@@ -23,4 +36,24 @@ public class BrandEntity {
     private Long id;
     private String name;
     private String description;
+
+    @Column(name = "name_key", length = DomainConstants.FIELD_NAME_BRAND_SIZE_MAX)
+    private String nameKey;
+
+    @ColumnDefault("0")
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
+    public BrandEntity(Long id, String name, String description) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void beforeWrite() {
+        nameKey = NameKey.of(name);
+        changeVersion = ChangeVersion.next();
+    }
 }
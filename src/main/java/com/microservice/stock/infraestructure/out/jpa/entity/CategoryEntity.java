@@ -1,15 +1,23 @@
 package com.microservice.stock.infraestructure.out.jpa.entity;
 
+import com.microservice.stock.domain.util.DomainConstants;
+import com.microservice.stock.domain.util.NameKey;
+import com.microservice.stock.infraestructure.out.transaction.ChangeVersion;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
-@Table(name = "category")
+@Table(name = "category",
+        uniqueConstraints = @UniqueConstraint(name = "uk_category_name_key", columnNames = "name_key"),
+        indexes = {
+                @Index(name = "idx_category_name", columnList = "name, id"),
+                @Index(name = "idx_category_change_version", columnList = "change_version")
+        }
+)
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 @Setter
 public class CategoryEntity {
@@ -19,4 +27,24 @@ public class CategoryEntity {
     private Long id;
     private String name;
     private String description;
+
+    @Column(name = "name_key", length = DomainConstants.FIELD_NAME_CATEGORY_SIZE_MAX)
+    private String nameKey;
+
+    @ColumnDefault("0")
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
+    public CategoryEntity(Long id, String name, String description) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void beforeWrite() {
+        nameKey = NameKey.of(name);
+        changeVersion = ChangeVersion.next();
+    }
 }
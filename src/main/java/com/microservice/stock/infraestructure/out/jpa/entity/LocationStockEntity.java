@@ -0,0 +1,38 @@
+package com.microservice.stock.infraestructure.out.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Stock of one article at one location; the article row keeps the total of every location
+@Entity
+@Table(name = "location_stock",
+        uniqueConstraints = @UniqueConstraint(name = "uk_location_stock_article_location", columnNames = {"id_article", "location"})
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class LocationStockEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "id_article", nullable = false)
+    private Long articleId;
+
+    @Column(nullable = false, length = 20)
+    private String location;
+
+    @Column(nullable = false)
+    private int quantity;
+}
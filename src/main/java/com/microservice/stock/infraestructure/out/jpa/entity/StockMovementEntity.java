@@ -0,0 +1,62 @@
+package com.microservice.stock.infraestructure.out.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+// Append-only: one compact row per quantity change, never updated. The id is the id of the outbox event it came from,
+// so the repository is told the row is new instead of looking it up before the insert.
+@Entity
+@Table(name = "stock_movement",
+        indexes = {
+                @Index(name = "idx_stock_movement_article_time", columnList = "id_article, occurred_at"),
+                @Index(name = "idx_stock_movement_time", columnList = "occurred_at")
+        }
+)
+@NoArgsConstructor
+@Getter
+public class StockMovementEntity implements Persistable<Long> {
+
+    @Id
+    private Long id;
+
+    @Column(name = "id_article", nullable = false)
+    private Long articleId;
+
+    @Column(nullable = false)
+    private int delta;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Transient
+    private boolean persisted;
+
+    public StockMovementEntity(Long id, Long articleId, int delta, Instant occurredAt) {
+        this.id = id;
+        this.articleId = articleId;
+        this.delta = delta;
+        this.occurredAt = occurredAt;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
@@ -0,0 +1,38 @@
+package com.microservice.stock.infraestructure.out.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+// Durable copy of the in-memory expiry timers, read back after a restart
+@Entity
+@Table(name = "stock_reservation",
+        indexes = @Index(name = "idx_stock_reservation_article", columnList = "id_article")
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class StockReservationEntity {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "id_article", nullable = false)
+    private Long articleId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
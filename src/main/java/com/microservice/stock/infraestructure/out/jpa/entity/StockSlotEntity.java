@@ -0,0 +1,59 @@
+package com.microservice.stock.infraestructure.out.jpa.entity;
+
+import com.microservice.stock.infraestructure.out.transaction.ChangeVersion;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+// One share of a sharded article's free stock; each slot is a separate row, so writers on different slots never wait
+@Entity
+@Table(name = "stock_slot",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stock_slot_article_slot", columnNames = {"id_article", "slot"}),
+        indexes = @Index(name = "idx_stock_slot_change_version", columnList = "change_version")
+)
+@NoArgsConstructor
+@Getter
+@Setter
+public class StockSlotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "id_article", nullable = false)
+    private Long articleId;
+
+    @Column(nullable = false)
+    private int slot;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @ColumnDefault("0")
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
+    public StockSlotEntity(Long id, Long articleId, int slot, int quantity) {
+        this.id = id;
+        this.articleId = articleId;
+        this.slot = slot;
+        this.quantity = quantity;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void beforeWrite() {
+        changeVersion = ChangeVersion.next();
+    }
+}
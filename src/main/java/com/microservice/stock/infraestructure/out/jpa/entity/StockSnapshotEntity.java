@@ -0,0 +1,45 @@
+package com.microservice.stock.infraestructure.out.jpa.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+// Stock of an article counting every movement that occurred before taken_at. An opening snapshot, taken at the epoch,
+// holds the stock an article had before the ledger recorded its movements.
+@Entity
+@Table(name = "stock_snapshot",
+        indexes = @Index(name = "idx_stock_snapshot_article_time", columnList = "id_article, taken_at")
+)
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class StockSnapshotEntity {
+    public static final String ID_SEQUENCE = "stock_snapshot_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(name = "id_article", nullable = false)
+    private Long articleId;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(name = "taken_at", nullable = false)
+    private Instant takenAt;
+}
@@ -3,9 +3,16 @@ package com.microservice.stock.infraestructure.out.jpa.mapper;
 import com.microservice.stock.domain.model.Article;
 import com.microservice.stock.infraestructure.out.jpa.entity.ArticleEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface ArticleEntityMapper {
+    @Mapping(target = "categorySortName", ignore = true)
+    @Mapping(target = "nameKey", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
+    @Mapping(target = "reserved", ignore = true)
+    @Mapping(target = "stockSlots", ignore = true)
+    @Mapping(target = "reorderThreshold", ignore = true)
     ArticleEntity toEntity(Article article);
     Article toDomain(ArticleEntity articleEntity);
 }
@@ -1,10 +1,16 @@
 package com.microservice.stock.infraestructure.out.jpa.mapper;
 
 import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.util.Cursor;
+import com.microservice.stock.domain.util.DomainConstants;
 import com.microservice.stock.domain.util.Pagination;
 import com.microservice.stock.infraestructure.out.jpa.entity.ArticleEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
 
 @RequiredArgsConstructor
 public class ArticlePageMapper {
@@ -20,6 +26,43 @@ public class ArticlePageMapper {
         pagination.setPageSize(page.getSize());
         pagination.setTotalElements(page.getTotalElements());
         pagination.setTotalPages(page.getTotalPages());
+        pagination.setFirst(page.isFirst());
+        pagination.setLast(page.isLast());
+        return pagination;
+    }
+
+    public Pagination<Article> toSlicePagination(Slice<ArticleEntity> slice) {
+        Pagination<Article> pagination = new Pagination<>();
+        pagination.setContent(slice.getContent().stream()
+                .map(articleEntityMapper::toDomain)
+                .toList());
+        pagination.setPageNumber(slice.getNumber());
+        pagination.setPageSize(slice.getSize());
+        pagination.setTotalElements(DomainConstants.UNKNOWN_TOTAL);
+        pagination.setTotalPages((int) DomainConstants.UNKNOWN_TOTAL);
+        pagination.setFirst(slice.isFirst());
+        pagination.setLast(!slice.hasNext());
+        return pagination;
+    }
+
+    public Pagination<Article> toCursorPagination(List<ArticleEntity> entities, int pageSize, boolean first,
+                                                   Function<ArticleEntity, Cursor> cursorOf) {
+        boolean hasNext = entities.size() > pageSize;
+        List<ArticleEntity> pageContent = hasNext ? entities.subList(0, pageSize) : entities;
+
+        Pagination<Article> pagination = new Pagination<>();
+        pagination.setContent(pageContent.stream()
+                .map(articleEntityMapper::toDomain)
+                .toList());
+        pagination.setPageSize(pageSize);
+        pagination.setTotalElements(DomainConstants.UNKNOWN_TOTAL);
+        pagination.setTotalPages((int) DomainConstants.UNKNOWN_TOTAL);
+        pagination.setFirst(first);
+        pagination.setLast(!hasNext);
+        if (hasNext) {
+            ArticleEntity lastEntity = pageContent.get(pageSize - 1);
+            pagination.setNextCursor(cursorOf.apply(lastEntity).encode());
+        }
         return pagination;
     }
 }
@@ -3,9 +3,12 @@ package com.microservice.stock.infraestructure.out.jpa.mapper;
 import com.microservice.stock.domain.model.Brand;
 import com.microservice.stock.infraestructure.out.jpa.entity.BrandEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface BrandEntityMapper {
+    @Mapping(target = "nameKey", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
     BrandEntity toEntity(Brand brand);
     Brand toDomain(BrandEntity brandEntity);
 }
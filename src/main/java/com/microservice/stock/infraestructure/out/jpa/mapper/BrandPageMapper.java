@@ -1,10 +1,15 @@
 package com.microservice.stock.infraestructure.out.jpa.mapper;
 
 import com.microservice.stock.domain.model.Brand;
+import com.microservice.stock.domain.util.Cursor;
+import com.microservice.stock.domain.util.DomainConstants;
 import com.microservice.stock.domain.util.Pagination;
 import com.microservice.stock.infraestructure.out.jpa.entity.BrandEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 @RequiredArgsConstructor
 public class BrandPageMapper {
@@ -20,6 +25,42 @@ public class BrandPageMapper {
         pagination.setPageSize(page.getSize());
         pagination.setTotalElements(page.getTotalElements());
         pagination.setTotalPages(page.getTotalPages());
+        pagination.setFirst(page.isFirst());
+        pagination.setLast(page.isLast());
+        return pagination;
+    }
+
+    public Pagination<Brand> toSlicePagination(Slice<BrandEntity> slice) {
+        Pagination<Brand> pagination = new Pagination<>();
+        pagination.setContent(slice.getContent().stream()
+                .map(brandEntityMapper::toDomain)
+                .toList());
+        pagination.setPageNumber(slice.getNumber());
+        pagination.setPageSize(slice.getSize());
+        pagination.setTotalElements(DomainConstants.UNKNOWN_TOTAL);
+        pagination.setTotalPages((int) DomainConstants.UNKNOWN_TOTAL);
+        pagination.setFirst(slice.isFirst());
+        pagination.setLast(!slice.hasNext());
+        return pagination;
+    }
+
+    public Pagination<Brand> toCursorPagination(List<BrandEntity> entities, int pageSize, boolean first) {
+        boolean hasNext = entities.size() > pageSize;
+        List<BrandEntity> pageContent = hasNext ? entities.subList(0, pageSize) : entities;
+
+        Pagination<Brand> pagination = new Pagination<>();
+        pagination.setContent(pageContent.stream()
+                .map(brandEntityMapper::toDomain)
+                .toList());
+        pagination.setPageSize(pageSize);
+        pagination.setTotalElements(DomainConstants.UNKNOWN_TOTAL);
+        pagination.setTotalPages((int) DomainConstants.UNKNOWN_TOTAL);
+        pagination.setFirst(first);
+        pagination.setLast(!hasNext);
+        if (hasNext) {
+            BrandEntity lastEntity = pageContent.get(pageSize - 1);
+            pagination.setNextCursor(new Cursor(lastEntity.getName(), lastEntity.getId()).encode());
+        }
         return pagination;
     }
 }
@@ -3,9 +3,12 @@ package com.microservice.stock.infraestructure.out.jpa.mapper;
 import com.microservice.stock.domain.model.Category;
 import com.microservice.stock.infraestructure.out.jpa.entity.CategoryEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 @Mapper(componentModel = "spring")
 public interface CategoryEntityMapper {
+    @Mapping(target = "nameKey", ignore = true)
+    @Mapping(target = "changeVersion", ignore = true)
     CategoryEntity toEntity(Category category);
     Category toDomain(CategoryEntity categoryEntity);
 
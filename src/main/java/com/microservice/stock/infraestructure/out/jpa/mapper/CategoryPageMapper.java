@@ -1,10 +1,15 @@
 package com.microservice.stock.infraestructure.out.jpa.mapper;
 
 import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.util.Cursor;
+import com.microservice.stock.domain.util.DomainConstants;
 import com.microservice.stock.domain.util.Pagination;
 import com.microservice.stock.infraestructure.out.jpa.entity.CategoryEntity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 @RequiredArgsConstructor
 public class CategoryPageMapper {
@@ -20,6 +25,42 @@ public class CategoryPageMapper {
         pagination.setPageSize(page.getSize());
         pagination.setTotalElements(page.getTotalElements());
         pagination.setTotalPages(page.getTotalPages());
+        pagination.setFirst(page.isFirst());
+        pagination.setLast(page.isLast());
+        return pagination;
+    }
+
+    public Pagination<Category> toSlicePagination(Slice<CategoryEntity> slice) {
+        Pagination<Category> pagination = new Pagination<>();
+        pagination.setContent(slice.getContent().stream()
+                .map(categoryEntityMapper::toDomain)
+                .toList());
+        pagination.setPageNumber(slice.getNumber());
+        pagination.setPageSize(slice.getSize());
+        pagination.setTotalElements(DomainConstants.UNKNOWN_TOTAL);
+        pagination.setTotalPages((int) DomainConstants.UNKNOWN_TOTAL);
+        pagination.setFirst(slice.isFirst());
+        pagination.setLast(!slice.hasNext());
+        return pagination;
+    }
+
+    public Pagination<Category> toCursorPagination(List<CategoryEntity> entities, int pageSize, boolean first) {
+        boolean hasNext = entities.size() > pageSize;
+        List<CategoryEntity> pageContent = hasNext ? entities.subList(0, pageSize) : entities;
+
+        Pagination<Category> pagination = new Pagination<>();
+        pagination.setContent(pageContent.stream()
+                .map(categoryEntityMapper::toDomain)
+                .toList());
+        pagination.setPageSize(pageSize);
+        pagination.setTotalElements(DomainConstants.UNKNOWN_TOTAL);
+        pagination.setTotalPages((int) DomainConstants.UNKNOWN_TOTAL);
+        pagination.setFirst(first);
+        pagination.setLast(!hasNext);
+        if (hasNext) {
+            CategoryEntity lastEntity = pageContent.get(pageSize - 1);
+            pagination.setNextCursor(new Cursor(lastEntity.getName(), lastEntity.getId()).encode());
+        }
         return pagination;
     }
 }
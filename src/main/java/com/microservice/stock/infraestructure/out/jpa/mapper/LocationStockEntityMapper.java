@@ -0,0 +1,13 @@
+package com.microservice.stock.infraestructure.out.jpa.mapper;
+
+import com.microservice.stock.domain.model.LocationStock;
+import com.microservice.stock.infraestructure.out.jpa.entity.LocationStockEntity;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface LocationStockEntityMapper {
+    LocationStock toDomain(LocationStockEntity locationStockEntity);
+    List<LocationStock> toDomainList(List<LocationStockEntity> locationStockEntities);
+}
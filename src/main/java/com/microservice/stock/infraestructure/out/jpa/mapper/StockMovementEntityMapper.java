@@ -0,0 +1,13 @@
+package com.microservice.stock.infraestructure.out.jpa.mapper;
+
+import com.microservice.stock.domain.model.StockMovement;
+import com.microservice.stock.infraestructure.out.jpa.entity.StockMovementEntity;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface StockMovementEntityMapper {
+    StockMovement toDomain(StockMovementEntity stockMovementEntity);
+    List<StockMovement> toDomainList(List<StockMovementEntity> stockMovementEntities);
+}
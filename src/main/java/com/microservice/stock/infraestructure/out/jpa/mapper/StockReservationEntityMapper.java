@@ -0,0 +1,11 @@
+package com.microservice.stock.infraestructure.out.jpa.mapper;
+
+import com.microservice.stock.domain.model.Reservation;
+import com.microservice.stock.infraestructure.out.jpa.entity.StockReservationEntity;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface StockReservationEntityMapper {
+    StockReservationEntity toEntity(Reservation reservation);
+    Reservation toDomain(StockReservationEntity stockReservationEntity);
+}
@@ -0,0 +1,7 @@
+package com.microservice.stock.infraestructure.out.jpa.repository;
+
+// Id and change version of a row returned by the change feed queries
+public interface ChangedRow {
+    Long getId();
+    Long getVersion();
+}
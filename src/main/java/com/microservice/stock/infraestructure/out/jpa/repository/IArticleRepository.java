@@ -1,10 +1,214 @@
 package com.microservice.stock.infraestructure.out.jpa.repository;
 
 import com.microservice.stock.infraestructure.out.jpa.entity.ArticleEntity;
+import com.microservice.stock.infraestructure.out.jpa.entity.CategoryEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface IArticleRepository extends JpaRepository<ArticleEntity, Long> {
-    Optional<ArticleEntity> findByName(String name);
+    boolean existsByNameKey(String nameKey);
+
+    @Query("SELECT a.name FROM ArticleEntity a WHERE a.nameKey IN :nameKeys")
+    List<String> findNamesByNameKeyIn(@Param("nameKeys") Collection<String> nameKeys);
+
+    @Query("SELECT a.nameKey FROM ArticleEntity a WHERE a.nameKey > :after ORDER BY a.nameKey")
+    List<String> findNameKeysAfter(@Param("after") String after, Pageable pageable);
+
+    @Override
+    @EntityGraph(ArticleEntity.BRAND_GRAPH)
+    Page<ArticleEntity> findAll(Pageable pageable);
+
+    @EntityGraph(ArticleEntity.BRAND_GRAPH)
+    List<ArticleEntity> findAllBy(Pageable pageable);
+
+    @EntityGraph(ArticleEntity.BRAND_GRAPH)
+    Slice<ArticleEntity> findSliceBy(Pageable pageable);
+
+    @EntityGraph(ArticleEntity.BRAND_GRAPH)
+    List<ArticleEntity> findWithBrandByIdIn(Collection<Long> ids);
+
+    @Query("SELECT DISTINCT a FROM ArticleEntity a LEFT JOIN FETCH a.categories WHERE a.id IN :ids")
+    List<ArticleEntity> findWithCategoriesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @EntityGraph(ArticleEntity.BRAND_GRAPH)
+    @Query("SELECT a FROM ArticleEntity a WHERE a.name > :sortKey OR (a.name = :sortKey AND a.id > :id)")
+    List<ArticleEntity> findAfterNameAscending(@Param("sortKey") String sortKey, @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(ArticleEntity.BRAND_GRAPH)
+    @Query("SELECT a FROM ArticleEntity a WHERE a.name < :sortKey OR (a.name = :sortKey AND a.id < :id)")
+    List<ArticleEntity> findAfterNameDescending(@Param("sortKey") String sortKey, @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(ArticleEntity.BRAND_GRAPH)
+    @Query("SELECT a FROM ArticleEntity a WHERE a.brand.name > :sortKey OR (a.brand.name = :sortKey AND a.id > :id)")
+    List<ArticleEntity> findAfterBrandNameAscending(@Param("sortKey") String sortKey, @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(ArticleEntity.BRAND_GRAPH)
+    @Query("SELECT a FROM ArticleEntity a WHERE a.brand.name < :sortKey OR (a.brand.name = :sortKey AND a.id < :id)")
+    List<ArticleEntity> findAfterBrandNameDescending(@Param("sortKey") String sortKey, @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(ArticleEntity.BRAND_GRAPH)
+    @Query("SELECT a FROM ArticleEntity a WHERE a.categorySortName > :sortKey OR (a.categorySortName = :sortKey AND a.id > :id)")
+    List<ArticleEntity> findAfterCategorySortNameAscending(@Param("sortKey") String sortKey, @Param("id") Long id, Pageable pageable);
+
+    @EntityGraph(ArticleEntity.BRAND_GRAPH)
+    @Query("SELECT a FROM ArticleEntity a WHERE a.categorySortName < :sortKey OR (a.categorySortName = :sortKey AND a.id < :id)")
+    List<ArticleEntity> findAfterCategorySortNameDescending(@Param("sortKey") String sortKey, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT MIN(LOWER(c.name)) FROM CategoryEntity c WHERE c.id IN :categoryIds")
+    String findCategorySortName(@Param("categoryIds") List<Long> categoryIds);
+
+    @Query("SELECT c FROM CategoryEntity c WHERE c.id IN :categoryIds")
+    List<CategoryEntity> findCategoriesByIdIn(@Param("categoryIds") Collection<Long> categoryIds);
+
+    // The stock check and the write happen in one statement, so concurrent adjustments cannot lose updates
+    @Transactional
+    @Modifying
+    @Query("UPDATE ArticleEntity a SET a.quantity = a.quantity + :delta, a.changeVersion = :version "
+            + "WHERE a.id = :id AND a.stockSlots = 0 AND a.quantity + :delta >= a.reserved")
+    int adjustQuantity(@Param("id") Long id, @Param("delta") int delta, @Param("version") long version);
+
+    // Rows come back locked in id order, the same order every batch uses, so batches cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM ArticleEntity a WHERE a.id IN :ids ORDER BY a.id")
+    List<ArticleEntity> findForUpdateByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ArticleEntity a SET a.reserved = a.reserved + :quantity WHERE a.id = :id AND a.quantity - a.reserved >= :quantity")
+    int reserveQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ArticleEntity a SET a.reserved = a.reserved - :quantity WHERE a.id = :id AND a.reserved >= :quantity")
+    int releaseReservedQuantity(@Param("id") Long id, @Param("quantity") int quantity);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ArticleEntity a SET a.quantity = a.quantity - :quantity, a.reserved = a.reserved - :quantity, "
+            + "a.changeVersion = :version WHERE a.id = :id AND a.reserved >= :quantity")
+    int confirmReservedQuantity(@Param("id") Long id, @Param("quantity") int quantity, @Param("version") long version);
+
+    // Sharded articles keep their free stock in slots, so both totals add the slots to the article row
+    @Query("SELECT a.quantity - a.reserved + COALESCE((SELECT SUM(s.quantity) FROM StockSlotEntity s WHERE s.articleId = a.id), 0) "
+            + "FROM ArticleEntity a WHERE a.id = :id")
+    Long findAvailableQuantityById(@Param("id") Long id);
+
+    @Query("SELECT a.quantity + COALESCE((SELECT SUM(s.quantity) FROM StockSlotEntity s WHERE s.articleId = a.id), 0) "
+            + "FROM ArticleEntity a WHERE a.id = :id")
+    Long findQuantityById(@Param("id") Long id);
+
+    @Query("SELECT a.stockSlots FROM ArticleEntity a WHERE a.id = :id")
+    Integer findStockSlotsById(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE ArticleEntity a SET a.reorderThreshold = :threshold, a.changeVersion = :version WHERE a.id = :id")
+    int updateReorderThreshold(@Param("id") Long id, @Param("threshold") Integer threshold,
+                               @Param("version") long version);
+
+    @Query("SELECT a.id AS articleId, a.quantity + COALESCE((SELECT SUM(s.quantity) FROM StockSlotEntity s "
+            + "WHERE s.articleId = a.id), 0) AS quantity, a.reorderThreshold AS threshold "
+            + "FROM ArticleEntity a WHERE a.reorderThreshold IS NOT NULL")
+    List<ReorderThreshold> findReorderThresholds();
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE article a SET a.category_sort_name = ("
+            + "SELECT MIN(LOWER(c.name)) FROM article_category ac JOIN category c ON c.id = ac.id_category "
+            + "WHERE ac.id_article = a.id) WHERE a.category_sort_name IS NULL", nativeQuery = true)
+    int fillMissingCategorySortNames();
+
+    // Moves the emulated MySQL sequence past the ids handed out by the former IDENTITY column
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE article_seq SET next_val = (SELECT COALESCE(MAX(id), 0) + :allocationSize + 1 FROM article) "
+            + "WHERE next_val <= (SELECT COALESCE(MAX(id), 0) + :allocationSize FROM article)", nativeQuery = true)
+    int seedIdSequence(@Param("allocationSize") int allocationSize);
+
+    // Rows whose key would clash with an older row keep a null key instead of failing the update
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE IGNORE article SET name_key = LOWER(TRIM(name)) WHERE name_key IS NULL", nativeQuery = true)
+    int fillMissingNameKeys();
+
+    // Bounded above by the settle watermark, so a version still being committed is not skipped past
+    @Query("SELECT a.id AS id, a.changeVersion AS version FROM ArticleEntity a "
+            + "WHERE a.changeVersion > :since AND a.changeVersion <= :until ORDER BY a.changeVersion")
+    List<ChangedRow> findChangedSince(@Param("since") long since, @Param("until") long until, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(a.id), 0) FROM ArticleEntity a")
+    long findMaxId();
+
+    // Rows created before the change_version column existed get distinct versions from one reserved block
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE article SET change_version = :first + id - 1 WHERE change_version = 0", nativeQuery = true)
+    int fillMissingChangeVersions(@Param("first") long first);
+
+    @Query("SELECT a.id AS id, a.quantity + COALESCE((SELECT SUM(s.quantity) FROM StockSlotEntity s "
+            + "WHERE s.articleId = a.id), 0) AS quantity, a.reserved AS reserved FROM ArticleEntity a "
+            + "WHERE a.id > :after ORDER BY a.id")
+    List<ArticleStock> findStockAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("SELECT a.id AS id, a.quantity + COALESCE((SELECT SUM(s.quantity) FROM StockSlotEntity s "
+            + "WHERE s.articleId = a.id), 0) AS quantity FROM ArticleEntity a WHERE a.id > :after "
+            + "AND NOT EXISTS (SELECT 1 FROM StockSnapshotEntity n WHERE n.articleId = a.id) ORDER BY a.id")
+    List<ArticleQuantity> findQuantitiesWithoutSnapshotAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query("SELECT a.id AS id, a.quantity - a.reserved + COALESCE((SELECT SUM(s.quantity) FROM StockSlotEntity s "
+            + "WHERE s.articleId = a.id), 0) AS quantity FROM ArticleEntity a WHERE a.id IN :ids")
+    List<ArticleQuantity> findAvailableQuantitiesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT a.id AS id, a.name AS name, a.description AS description FROM ArticleEntity a "
+            + "WHERE a.id > :after ORDER BY a.id")
+    List<ArticleText> findTextsAfter(@Param("after") Long after, Pageable pageable);
+
+    // What the in-memory indexes keep of an article, for catching up with changes made by other instances
+    @Query("SELECT a.id AS id, a.quantity + COALESCE((SELECT SUM(s.quantity) FROM StockSlotEntity s "
+            + "WHERE s.articleId = a.id), 0) AS quantity, a.reserved AS reserved, a.reorderThreshold AS threshold, "
+            + "a.name AS name, a.description AS description FROM ArticleEntity a WHERE a.id IN :ids")
+    List<ArticleState> findStatesByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface ReorderThreshold {
+        Long getArticleId();
+        Long getQuantity();
+        Integer getThreshold();
+    }
+
+    interface ArticleQuantity {
+        Long getId();
+        Long getQuantity();
+    }
+
+    interface ArticleStock {
+        Long getId();
+        Long getQuantity();
+        Integer getReserved();
+    }
+
+    interface ArticleText {
+        Long getId();
+        String getName();
+        String getDescription();
+    }
+
+    interface ArticleState {
+        Long getId();
+        Long getQuantity();
+        Integer getReserved();
+        Integer getThreshold();
+        String getName();
+        String getDescription();
+    }
 }
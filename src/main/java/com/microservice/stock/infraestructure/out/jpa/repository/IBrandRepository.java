@@ -1,11 +1,50 @@
 package com.microservice.stock.infraestructure.out.jpa.repository;
 
 import com.microservice.stock.infraestructure.out.jpa.entity.BrandEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface IBrandRepository extends JpaRepository<BrandEntity, Long> {
-    Optional<BrandEntity> findByName(String name);
+    boolean existsByNameKey(String nameKey);
+
     boolean existsById(Long id);
+
+    @Query("SELECT b.id FROM BrandEntity b WHERE b.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    List<BrandEntity> findAllBy(Pageable pageable);
+
+    Slice<BrandEntity> findSliceBy(Pageable pageable);
+
+    @Query("SELECT b FROM BrandEntity b WHERE b.name > :sortKey OR (b.name = :sortKey AND b.id > :id)")
+    List<BrandEntity> findAfterNameAscending(@Param("sortKey") String sortKey, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT b FROM BrandEntity b WHERE b.name < :sortKey OR (b.name = :sortKey AND b.id < :id)")
+    List<BrandEntity> findAfterNameDescending(@Param("sortKey") String sortKey, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT b.id AS id, b.changeVersion AS version FROM BrandEntity b "
+            + "WHERE b.changeVersion > :since AND b.changeVersion <= :until ORDER BY b.changeVersion")
+    List<ChangedRow> findChangedSince(@Param("since") long since, @Param("until") long until, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(b.id), 0) FROM BrandEntity b")
+    long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE brand SET change_version = :first + id - 1 WHERE change_version = 0", nativeQuery = true)
+    int fillMissingChangeVersions(@Param("first") long first);
+
+    // Rows whose key would clash with an older row keep a null key instead of failing the update
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE IGNORE brand SET name_key = LOWER(TRIM(name)) WHERE name_key IS NULL", nativeQuery = true)
+    int fillMissingNameKeys();
 }
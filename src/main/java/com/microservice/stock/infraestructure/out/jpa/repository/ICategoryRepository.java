@@ -1,11 +1,50 @@
 package com.microservice.stock.infraestructure.out.jpa.repository;
 
 import com.microservice.stock.infraestructure.out.jpa.entity.CategoryEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface ICategoryRepository extends JpaRepository<CategoryEntity, Long> {
-    Optional<CategoryEntity> findByName(String name);
+    boolean existsByNameKey(String nameKey);
+
     boolean existsById(Long id);
+
+    @Query("SELECT c.id FROM CategoryEntity c WHERE c.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    List<CategoryEntity> findAllBy(Pageable pageable);
+
+    Slice<CategoryEntity> findSliceBy(Pageable pageable);
+
+    @Query("SELECT c FROM CategoryEntity c WHERE c.name > :sortKey OR (c.name = :sortKey AND c.id > :id)")
+    List<CategoryEntity> findAfterNameAscending(@Param("sortKey") String sortKey, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT c FROM CategoryEntity c WHERE c.name < :sortKey OR (c.name = :sortKey AND c.id < :id)")
+    List<CategoryEntity> findAfterNameDescending(@Param("sortKey") String sortKey, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT c.id AS id, c.changeVersion AS version FROM CategoryEntity c "
+            + "WHERE c.changeVersion > :since AND c.changeVersion <= :until ORDER BY c.changeVersion")
+    List<ChangedRow> findChangedSince(@Param("since") long since, @Param("until") long until, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CategoryEntity c")
+    long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE category SET change_version = :first + id - 1 WHERE change_version = 0", nativeQuery = true)
+    int fillMissingChangeVersions(@Param("first") long first);
+
+    // Rows whose key would clash with an older row keep a null key instead of failing the update
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE IGNORE category SET name_key = LOWER(TRIM(name)) WHERE name_key IS NULL", nativeQuery = true)
+    int fillMissingNameKeys();
 }
@@ -0,0 +1,34 @@
+package com.microservice.stock.infraestructure.out.jpa.repository;
+
+import com.microservice.stock.infraestructure.out.jpa.entity.LocationStockEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ILocationStockRepository extends JpaRepository<LocationStockEntity, Long> {
+
+    @Modifying
+    @Query("UPDATE LocationStockEntity l SET l.quantity = l.quantity + :delta "
+            + "WHERE l.articleId = :articleId AND l.location = :location AND l.quantity + :delta >= 0")
+    int adjustQuantity(@Param("articleId") Long articleId, @Param("location") String location, @Param("delta") int delta);
+
+    // Creates the location, or adds to the row a concurrent first receipt inserted meanwhile
+    @Modifying
+    @Query(value = "INSERT INTO location_stock (id_article, location, quantity) VALUES (:articleId, :location, :quantity) "
+            + "ON DUPLICATE KEY UPDATE quantity = quantity + :quantity", nativeQuery = true)
+    int addLocation(@Param("articleId") Long articleId, @Param("location") String location, @Param("quantity") int quantity);
+
+    // Rows come back locked in location order, so two transfers between the same locations take their locks in the same order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM LocationStockEntity l WHERE l.articleId = :articleId AND l.location IN :locations ORDER BY l.location")
+    List<LocationStockEntity> findForUpdateByArticleIdAndLocationIn(@Param("articleId") Long articleId,
+                                                                    @Param("locations") Collection<String> locations);
+
+    List<LocationStockEntity> findByArticleIdOrderByLocation(Long articleId);
+}
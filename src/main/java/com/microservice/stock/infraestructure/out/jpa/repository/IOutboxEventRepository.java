@@ -0,0 +1,28 @@
+package com.microservice.stock.infraestructure.out.jpa.repository;
+
+import com.microservice.stock.infraestructure.out.jpa.entity.OutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface IOutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    // SKIP LOCKED lets several instances relay at the same time without handing out the same rows twice
+    @Query(value = "SELECT * FROM outbox_event ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEventEntity> lockNextBatch(@Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEventEntity e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEventEntity e")
+    Optional<Instant> findOldestCreatedAt();
+
+    List<OutboxEventEntity> findByEventTypeInAndAggregateIdIn(Collection<String> eventTypes, Collection<Long> aggregateIds);
+}
@@ -0,0 +1,34 @@
+package com.microservice.stock.infraestructure.out.jpa.repository;
+
+import com.microservice.stock.infraestructure.out.jpa.entity.StockMovementEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface IStockMovementRepository extends JpaRepository<StockMovementEntity, Long> {
+
+    @Query("SELECT COALESCE(SUM(m.delta), 0) FROM StockMovementEntity m "
+            + "WHERE m.articleId = :articleId AND m.occurredAt >= :from AND m.occurredAt <= :to")
+    Long sumDelta(@Param("articleId") Long articleId, @Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("SELECT m.articleId AS articleId, SUM(m.delta) AS delta FROM StockMovementEntity m "
+            + "WHERE m.occurredAt >= :from AND m.occurredAt < :to GROUP BY m.articleId")
+    List<MovementTotal> sumByArticleBetween(@Param("from") Instant from, @Param("to") Instant to);
+
+    @Query("SELECT m.articleId AS articleId, SUM(m.delta) AS delta FROM StockMovementEntity m "
+            + "WHERE m.articleId IN :articleIds GROUP BY m.articleId")
+    List<MovementTotal> sumByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
+
+    List<StockMovementEntity> findByArticleIdAndOccurredAtBeforeOrderByOccurredAtDescIdDesc(Long articleId, Instant before,
+                                                                                          Pageable pageable);
+
+    interface MovementTotal {
+        Long getArticleId();
+        Long getDelta();
+    }
+}
@@ -0,0 +1,21 @@
+package com.microservice.stock.infraestructure.out.jpa.repository;
+
+import com.microservice.stock.infraestructure.out.jpa.entity.StockReservationEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface IStockReservationRepository extends JpaRepository<StockReservationEntity, String> {
+
+    // The row count tells which of confirm, release or expiry got the hold when they race
+    @Modifying
+    @Query("DELETE FROM StockReservationEntity r WHERE r.id = :id")
+    int deleteReservation(@Param("id") String id);
+
+    @Query("SELECT r FROM StockReservationEntity r WHERE r.id > :after ORDER BY r.id")
+    List<StockReservationEntity> findAfter(@Param("after") String after, Pageable pageable);
+}
@@ -0,0 +1,41 @@
+package com.microservice.stock.infraestructure.out.jpa.repository;
+
+import com.microservice.stock.infraestructure.out.jpa.entity.StockSlotEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface IStockSlotRepository extends JpaRepository<StockSlotEntity, Long> {
+
+    @Modifying
+    @Query("UPDATE StockSlotEntity s SET s.quantity = s.quantity + :delta, s.changeVersion = :version "
+            + "WHERE s.articleId = :articleId AND s.slot = :slot AND s.quantity + :delta >= 0")
+    int adjustSlot(@Param("articleId") Long articleId, @Param("slot") int slot, @Param("delta") int delta,
+                   @Param("version") long version);
+
+    // Same order as the article rows, so the slow paths always lock articles first and then their slots by number
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StockSlotEntity s WHERE s.articleId IN :articleIds ORDER BY s.articleId, s.slot")
+    List<StockSlotEntity> findForUpdateByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
+
+    @Query("SELECT s.articleId AS articleId, SUM(s.quantity) AS quantity FROM StockSlotEntity s "
+            + "WHERE s.articleId IN :articleIds GROUP BY s.articleId")
+    List<SlotTotal> sumByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
+
+    // A slot write changes its article's stock without touching the article row, so the feed reads the slots too
+    @Query("SELECT s.articleId AS id, s.changeVersion AS version FROM StockSlotEntity s "
+            + "WHERE s.changeVersion > :since AND s.changeVersion <= :until ORDER BY s.changeVersion")
+    List<ChangedRow> findChangedSince(@Param("since") long since, @Param("until") long until, Pageable pageable);
+
+    interface SlotTotal {
+        Long getArticleId();
+        Long getQuantity();
+    }
+}
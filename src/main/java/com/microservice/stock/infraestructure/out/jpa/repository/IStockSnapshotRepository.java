@@ -0,0 +1,23 @@
+package com.microservice.stock.infraestructure.out.jpa.repository;
+
+import com.microservice.stock.infraestructure.out.jpa.entity.StockSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface IStockSnapshotRepository extends JpaRepository<StockSnapshotEntity, Long> {
+
+    @Query("SELECT MAX(s.takenAt) FROM StockSnapshotEntity s")
+    Optional<Instant> findLatestTakenAt();
+
+    Optional<StockSnapshotEntity> findFirstByArticleIdAndTakenAtLessThanEqualOrderByTakenAtDesc(Long articleId, Instant at);
+
+    @Query("SELECT s FROM StockSnapshotEntity s WHERE s.articleId IN :articleIds AND s.takenAt = "
+            + "(SELECT MAX(l.takenAt) FROM StockSnapshotEntity l WHERE l.articleId = s.articleId)")
+    List<StockSnapshotEntity> findLatestByArticleIdIn(@Param("articleIds") Collection<Long> articleIds);
+}
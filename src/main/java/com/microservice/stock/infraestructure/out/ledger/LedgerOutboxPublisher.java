@@ -0,0 +1,57 @@
+package com.microservice.stock.infraestructure.out.ledger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.stock.infraestructure.out.jpa.entity.StockMovementEntity;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockMovementRepository;
+import com.microservice.stock.infraestructure.out.outbox.IOutboxPublisher;
+import com.microservice.stock.infraestructure.out.outbox.OutboxEventType;
+import com.microservice.stock.infraestructure.out.outbox.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Appends the stock movements of each relayed batch to the ledger before handing it on. The relay calls it inside the
+// transaction that deletes the batch, so every movement is written exactly once and adjustments never wait for it.
+@RequiredArgsConstructor
+public class LedgerOutboxPublisher implements IOutboxPublisher {
+    private static final String QUANTITY_FIELD = "quantity";
+    private static final String DELTA_FIELD = "delta";
+
+    private final IOutboxPublisher delegate;
+    private final IStockMovementRepository stockMovementRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(List<OutboxMessage> messages) {
+        List<StockMovementEntity> movements = new ArrayList<>();
+        for (OutboxMessage message : messages) {
+            int delta = delta(objectMapper, message.id(), message.eventType(), message.payload());
+            if (delta != 0) {
+                movements.add(new StockMovementEntity(message.id(), message.aggregateId(), delta, message.createdAt()));
+            }
+        }
+        stockMovementRepository.saveAll(movements);
+        delegate.publish(messages);
+    }
+
+    // The initial quantity of a new article counts as its first movement
+    static int delta(ObjectMapper objectMapper, Long eventId, String eventType, String payload) {
+        String field;
+        if (OutboxEventType.STOCK_CHANGED.name().equals(eventType)) {
+            field = DELTA_FIELD;
+        } else if (OutboxEventType.ARTICLE_CREATED.name().equals(eventType)) {
+            field = QUANTITY_FIELD;
+        } else {
+            return 0;
+        }
+        try {
+            JsonNode node = objectMapper.readTree(payload);
+            return node.path(field).asInt();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read the payload of outbox event " + eventId, e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.microservice.stock.infraestructure.out.ledger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.stock.infraestructure.out.jpa.entity.StockSnapshotEntity;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IOutboxEventRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockMovementRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSnapshotRepository;
+import com.microservice.stock.infraestructure.out.outbox.OutboxEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Articles that existed before the ledger have no opening movement, so replaying their movements from nothing gives
+// the wrong stock. Each article without a snapshot gets an opening one holding what its movements do not explain: the
+// total of its row and slots minus the movements in the ledger and those still waiting in the outbox. A page reads all
+// three in one repeatable-read transaction, where the relay has put every event in exactly one of the two tables, so
+// the opening is exact while other instances keep writing; an article created since the ledger exists gets zero.
+@RequiredArgsConstructor
+public class OpeningSnapshotWriter {
+    private static final int PAGE_SIZE = 1000;
+    private static final List<String> STOCK_EVENT_TYPES = List.of(OutboxEventType.ARTICLE_CREATED.name(),
+            OutboxEventType.STOCK_CHANGED.name());
+
+    private final IArticleRepository articleRepository;
+    private final IStockMovementRepository stockMovementRepository;
+    private final IStockSnapshotRepository stockSnapshotRepository;
+    private final IOutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionOperations transactionOperations;
+
+    // Returns the number of snapshots written
+    public int writeOpeningSnapshots() {
+        int written = 0;
+        long after = 0;
+        List<Long> articleIds;
+        do {
+            long from = after;
+            articleIds = transactionOperations.execute(status -> writePage(from));
+            if (articleIds == null || articleIds.isEmpty()) {
+                break;
+            }
+            written += articleIds.size();
+            after = articleIds.get(articleIds.size() - 1);
+        } while (articleIds.size() == PAGE_SIZE);
+        return written;
+    }
+
+    // Returns the ids of the articles that got an opening snapshot, in id order
+    private List<Long> writePage(long after) {
+        List<IArticleRepository.ArticleQuantity> rows = articleRepository
+                .findQuantitiesWithoutSnapshotAfter(after, PageRequest.of(0, PAGE_SIZE));
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> articleIds = rows.stream()
+                .map(IArticleRepository.ArticleQuantity::getId)
+                .toList();
+        Map<Long, Long> recorded = new HashMap<>();
+        stockMovementRepository.sumByArticleIdIn(articleIds)
+                .forEach(total -> recorded.put(total.getArticleId(), total.getDelta()));
+        outboxEventRepository.findByEventTypeInAndAggregateIdIn(STOCK_EVENT_TYPES, articleIds)
+                .forEach(event -> recorded.merge(event.getAggregateId(), (long) LedgerOutboxPublisher.delta(objectMapper,
+                        event.getId(), event.getEventType(), event.getPayload()), Long::sum));
+        stockSnapshotRepository.saveAll(rows.stream()
+                .map(row -> new StockSnapshotEntity(null, row.getId(),
+                        Math.toIntExact(row.getQuantity() - recorded.getOrDefault(row.getId(), 0L)), Instant.EPOCH))
+                .toList());
+        return articleIds;
+    }
+}
@@ -0,0 +1,111 @@
+package com.microservice.stock.infraestructure.out.ledger;
+
+import com.microservice.stock.infraestructure.out.jpa.entity.StockSnapshotEntity;
+import com.microservice.stock.infraestructure.out.jpa.repository.IOutboxEventRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockMovementRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Writes a snapshot for every article that moved since the previous run, so "stock as of T" replays at most one
+// interval of movements. The cutoff stays behind the oldest unrelayed outbox event, since its movement is not in the
+// ledger yet, and behind the settle time, since transactions still open may commit movements stamped before now.
+@Slf4j
+public class StockSnapshotJob implements AutoCloseable {
+    private static final int ARTICLE_CHUNK_SIZE = 1000;
+
+    private final IStockMovementRepository stockMovementRepository;
+    private final IStockSnapshotRepository stockSnapshotRepository;
+    private final IOutboxEventRepository outboxEventRepository;
+    private final TransactionOperations transactionOperations;
+    private final long intervalMillis;
+    private final Duration settleTime;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stock-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private boolean started;
+
+    public StockSnapshotJob(IStockMovementRepository stockMovementRepository, IStockSnapshotRepository stockSnapshotRepository,
+                            IOutboxEventRepository outboxEventRepository, TransactionOperations transactionOperations,
+                            Duration interval, Duration settleTime, Clock clock) {
+        this.stockMovementRepository = stockMovementRepository;
+        this.stockSnapshotRepository = stockSnapshotRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionOperations = transactionOperations;
+        this.intervalMillis = interval.toMillis();
+        this.settleTime = settleTime;
+        this.clock = clock;
+    }
+
+    public synchronized void start() {
+        if (!started) {
+            started = true;
+            scheduler.scheduleWithFixedDelay(this::run, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Returns the number of snapshots written
+    public int takeSnapshots() {
+        Integer taken = transactionOperations.execute(status -> snapshot());
+        return taken == null ? 0 : taken;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private int snapshot() {
+        Instant from = stockSnapshotRepository.findLatestTakenAt().orElse(Instant.EPOCH);
+        Instant cutoff = clock.instant().minus(settleTime);
+        Instant oldestPending = outboxEventRepository.findOldestCreatedAt().orElse(cutoff);
+        if (oldestPending.isBefore(cutoff)) {
+            cutoff = oldestPending;
+        }
+        if (!cutoff.isAfter(from)) {
+            return 0;
+        }
+
+        Map<Long, Long> deltas = stockMovementRepository.sumByArticleBetween(from, cutoff).stream()
+                .collect(Collectors.toMap(IStockMovementRepository.MovementTotal::getArticleId,
+                        IStockMovementRepository.MovementTotal::getDelta));
+        List<Long> articleIds = new ArrayList<>(deltas.keySet());
+        List<StockSnapshotEntity> snapshots = new ArrayList<>(articleIds.size());
+        for (int start = 0; start < articleIds.size(); start += ARTICLE_CHUNK_SIZE) {
+            List<Long> chunk = articleIds.subList(start, Math.min(start + ARTICLE_CHUNK_SIZE, articleIds.size()));
+            Map<Long, Integer> previous = stockSnapshotRepository.findLatestByArticleIdIn(chunk).stream()
+                    .collect(Collectors.toMap(StockSnapshotEntity::getArticleId, StockSnapshotEntity::getQuantity,
+                            (first, second) -> first));
+            // An article with no snapshot was created after the openings were written, so it started from nothing
+            for (Long articleId : chunk) {
+                int quantity = Math.toIntExact(previous.getOrDefault(articleId, 0) + deltas.get(articleId));
+                snapshots.add(new StockSnapshotEntity(null, articleId, quantity, cutoff));
+            }
+        }
+        stockSnapshotRepository.saveAll(snapshots);
+        return snapshots.size();
+    }
+
+    private void run() {
+        try {
+            int taken = takeSnapshots();
+            log.debug("Wrote {} stock snapshots", taken);
+        } catch (RuntimeException e) {
+            log.warn("Could not write stock snapshots, retrying in {} ms", intervalMillis, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.microservice.stock.infraestructure.out.lowstock;
+
+import com.microservice.stock.domain.model.LowStock;
+import com.microservice.stock.domain.spi.ILowStockListenerPort;
+import lombok.extern.slf4j.Slf4j;
+
+// Default listener until purchasing subscribes; it runs on the thread that committed the change, so it must stay cheap
+@Slf4j
+public class LoggingLowStockListener implements ILowStockListenerPort {
+
+    @Override
+    public void stockBelowThreshold(LowStock lowStock) {
+        log.warn("Article {} fell below its reorder threshold: {} left, threshold {}",
+                lowStock.getArticleId(), lowStock.getQuantity(), lowStock.getThreshold());
+    }
+}
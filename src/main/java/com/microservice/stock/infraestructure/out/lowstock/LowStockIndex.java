@@ -0,0 +1,166 @@
+package com.microservice.stock.infraestructure.out.lowstock;
+
+import com.microservice.stock.domain.model.LowStock;
+import com.microservice.stock.domain.spi.ILowStockListenerPort;
+import com.microservice.stock.infraestructure.out.outbox.IStockChangeListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+// Articles with a reorder threshold, ordered by quantity minus threshold. Every stock change moves one entry in
+// O(log n); the articles below their threshold are the head of the order, so listing k of them costs O(k).
+@Slf4j
+public class LowStockIndex implements IStockChangeListener {
+    private static final Comparator<Entry> BY_DISTANCE = Comparator.comparingLong(Entry::distance)
+            .thenComparing(Entry::articleId);
+    private static final long UNKNOWN_VERSION = 0;
+
+    private final ILowStockListenerPort lowStockListenerPort;
+    private final Counter crossings;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final NavigableSet<Entry> byDistance = new TreeSet<>(BY_DISTANCE);
+    private final Map<Long, Expected> expected = new HashMap<>();
+    private int below;
+
+    public LowStockIndex(ILowStockListenerPort lowStockListenerPort, MeterRegistry meterRegistry) {
+        this.lowStockListenerPort = lowStockListenerPort;
+        this.crossings = Counter.builder("stock.low_stock.crossings")
+                .description("Articles whose quantity fell below their reorder threshold")
+                .register(meterRegistry);
+        Gauge.builder("stock.low_stock.articles", this, LowStockIndex::belowCount)
+                .description("Articles currently below their reorder threshold")
+                .register(meterRegistry);
+    }
+
+    // Called before the quantity of an article about to be tracked is read, so the changes that commit in between
+    // are kept instead of dropped; every call is paired with one to forget once the caller is done
+    public synchronized void expect(Long articleId) {
+        expected.computeIfAbsent(articleId, ignored -> new Expected()).callers++;
+    }
+
+    public synchronized void forget(Long articleId) {
+        Expected seen = expected.get(articleId);
+        if (seen != null && --seen.callers == 0) {
+            expected.remove(articleId);
+        }
+    }
+
+    // The given quantity was read at some point; a change already applied or kept since expect is at least as new
+    public void track(Long articleId, int quantity, int threshold) {
+        LowStock crossed;
+        synchronized (this) {
+            Entry current = entries.get(articleId);
+            Expected seen = expected.get(articleId);
+            long version = UNKNOWN_VERSION;
+            int latest = quantity;
+            if (current != null && current.version() > version) {
+                version = current.version();
+                latest = current.quantity();
+            }
+            if (seen != null && seen.version > version) {
+                version = seen.version;
+                latest = seen.quantity;
+            }
+            crossed = replace(current, new Entry(articleId, latest, threshold, version));
+        }
+        notifyCrossing(crossed);
+    }
+
+    public synchronized void untrack(Long articleId) {
+        replace(entries.get(articleId), null);
+    }
+
+    // Articles without a threshold are not in the map and cost two lookups
+    @Override
+    public void stockChanged(long version, Long articleId, int quantity) {
+        LowStock crossed;
+        synchronized (this) {
+            Entry current = entries.get(articleId);
+            if (current == null) {
+                Expected seen = expected.get(articleId);
+                if (seen != null && version > seen.version) {
+                    seen.version = version;
+                    seen.quantity = quantity;
+                }
+                return;
+            }
+            if (version <= current.version()) {
+                return;
+            }
+            crossed = replace(current, new Entry(articleId, quantity, current.threshold(), version));
+        }
+        notifyCrossing(crossed);
+    }
+
+    public synchronized List<LowStock> findLowStock(int limit) {
+        List<LowStock> lowStock = new ArrayList<>(Math.min(limit, below));
+        for (Entry entry : byDistance) {
+            if (!entry.isBelow() || lowStock.size() == limit) {
+                break;
+            }
+            lowStock.add(entry.toLowStock());
+        }
+        return lowStock;
+    }
+
+    private synchronized int belowCount() {
+        return below;
+    }
+
+    // Returns the entry as a crossing when it went from at or above its threshold to below it
+    private LowStock replace(Entry current, Entry next) {
+        boolean wasBelow = current != null && current.isBelow();
+        if (current != null) {
+            byDistance.remove(current);
+            entries.remove(current.articleId());
+        }
+        if (next != null) {
+            byDistance.add(next);
+            entries.put(next.articleId(), next);
+        }
+        boolean isBelow = next != null && next.isBelow();
+        below += (isBelow ? 1 : 0) - (wasBelow ? 1 : 0);
+        return isBelow && !wasBelow ? next.toLowStock() : null;
+    }
+
+    private void notifyCrossing(LowStock crossed) {
+        if (crossed == null) {
+            return;
+        }
+        crossings.increment();
+        try {
+            lowStockListenerPort.stockBelowThreshold(crossed);
+        } catch (RuntimeException e) {
+            log.warn("Low-stock listener failed for article {}", crossed.getArticleId(), e);
+        }
+    }
+
+    private static final class Expected {
+        private int callers;
+        private long version = UNKNOWN_VERSION;
+        private int quantity;
+    }
+
+    private record Entry(Long articleId, int quantity, int threshold, long version) {
+        long distance() {
+            return (long) quantity - threshold;
+        }
+
+        boolean isBelow() {
+            return quantity < threshold;
+        }
+
+        LowStock toLowStock() {
+            return new LowStock(articleId, quantity, threshold);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.microservice.stock.infraestructure.out.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Appends each batch to a JSON lines file with a single write, for local runs without a broker
+@RequiredArgsConstructor
+public class FileOutboxPublisher implements IOutboxPublisher {
+
+    private final Path file;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) {
+        try {
+            List<String> lines = new ArrayList<>(messages.size());
+            for (OutboxMessage message : messages) {
+                lines.add(objectMapper.writeValueAsString(message));
+            }
+            Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write outbox events to " + file, e);
+        }
+    }
+}
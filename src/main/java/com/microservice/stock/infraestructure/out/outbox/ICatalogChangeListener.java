@@ -0,0 +1,7 @@
+package com.microservice.stock.infraestructure.out.outbox;
+
+// Called after the commit of every article, brand or category created by this instance; the version is the outbox event id
+@FunctionalInterface
+public interface ICatalogChangeListener {
+    void catalogChanged(long version, OutboxEventType type, Long id, String name, String description);
+}
@@ -0,0 +1,9 @@
+package com.microservice.stock.infraestructure.out.outbox;
+
+import java.util.List;
+
+public interface IOutboxPublisher {
+
+    // Throwing leaves the whole batch in the outbox for the next attempt
+    void publish(List<OutboxMessage> messages);
+}
@@ -0,0 +1,9 @@
+package com.microservice.stock.infraestructure.out.outbox;
+
+// Called with the new total of an article each time StockQuantityIndex applies a change made by this instance. The
+// version is the sequence of the index, which grows in the order the totals were computed, so a late call can be
+// recognized and dropped.
+@FunctionalInterface
+public interface IStockChangeListener {
+    void stockChanged(long version, Long articleId, int quantity);
+}
@@ -0,0 +1,14 @@
+package com.microservice.stock.infraestructure.out.outbox;
+
+// Called after the commit of every change made by this instance to the stock of an article or to the units held by
+// its open reservations, with the units added or removed. The total a writer reads is not passed on: writers of a
+// sharded article update different slots, so one of them can miss the change another commits first. Deltas add up in
+// any order, so totals read before this instance took any write stay exact once the deltas are applied to them.
+public interface IStockDeltaListener {
+
+    // A new article starts from nothing, so its first quantity is the whole total
+    void articleCreated(Long articleId, int quantity);
+
+    // A confirmed reservation moves both by the same amount, so the available stock does not change
+    void stockAdjusted(Long articleId, int delta, int reservedDelta);
+}
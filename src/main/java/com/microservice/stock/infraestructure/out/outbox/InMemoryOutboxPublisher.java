@@ -0,0 +1,35 @@
+package com.microservice.stock.infraestructure.out.outbox;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+// Keeps the latest events in memory for local runs and tests
+public class InMemoryOutboxPublisher implements IOutboxPublisher {
+    private static final int DEFAULT_CAPACITY = 10_000;
+
+    private final int capacity;
+    private final Deque<OutboxMessage> published = new ArrayDeque<>();
+
+    public InMemoryOutboxPublisher() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public InMemoryOutboxPublisher(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> messages) {
+        for (OutboxMessage message : messages) {
+            if (published.size() == capacity) {
+                published.removeFirst();
+            }
+            published.addLast(message);
+        }
+    }
+
+    public synchronized List<OutboxMessage> getPublished() {
+        return List.copyOf(published);
+    }
+}
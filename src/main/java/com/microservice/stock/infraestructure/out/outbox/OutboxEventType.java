@@ -0,0 +1,15 @@
+package com.microservice.stock.infraestructure.out.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    ARTICLE_CREATED("article"),
+    BRAND_CREATED("brand"),
+    CATEGORY_CREATED("category"),
+    STOCK_CHANGED("article");
+
+    private final String aggregateType;
+}
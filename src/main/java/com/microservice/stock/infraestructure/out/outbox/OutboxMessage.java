@@ -0,0 +1,10 @@
+package com.microservice.stock.infraestructure.out.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+
+// The id is unique per event, so consumers of the at-least-once relay can drop duplicates with it
+public record OutboxMessage(Long id, String aggregateType, Long aggregateId, String eventType,
+                            @JsonRawValue String payload, Instant createdAt) {
+}
@@ -0,0 +1,117 @@
+package com.microservice.stock.infraestructure.out.outbox;
+
+import com.microservice.stock.infraestructure.out.jpa.entity.OutboxEventEntity;
+import com.microservice.stock.infraestructure.out.jpa.repository.IOutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Drains the outbox in id order; a batch is deleted in the transaction that published it, so delivery is at least once
+@Slf4j
+public class OutboxRelay implements AutoCloseable {
+
+    private final IOutboxEventRepository outboxEventRepository;
+    private final IOutboxPublisher outboxPublisher;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final Clock clock;
+    private final Counter publishedEvents;
+    private final DistributionSummary batchSizes;
+    private final Timer publishTimer;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private boolean started;
+
+    public OutboxRelay(IOutboxEventRepository outboxEventRepository, IOutboxPublisher outboxPublisher,
+                       TransactionOperations transactionOperations, int batchSize, Duration pollInterval,
+                       Clock clock, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxPublisher = outboxPublisher;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollInterval.toMillis();
+        this.clock = clock;
+        this.publishedEvents = Counter.builder("stock.outbox.published")
+                .description("Events handed to the publisher")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("stock.outbox.batch.size")
+                .description("Events per published batch")
+                .register(meterRegistry);
+        this.publishTimer = Timer.builder("stock.outbox.publish")
+                .description("Time spent publishing one batch")
+                .register(meterRegistry);
+        TimeGauge.builder("stock.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("Age of the oldest event in the last batch")
+                .register(meterRegistry);
+    }
+
+    public synchronized void start() {
+        if (!started) {
+            started = true;
+            poller.scheduleWithFixedDelay(this::drain, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Returns the number of events published, zero once the outbox is empty
+    public int relayBatch() {
+        Integer relayed = transactionOperations.execute(status -> {
+            List<OutboxEventEntity> entities = outboxEventRepository.lockNextBatch(batchSize);
+            if (entities.isEmpty()) {
+                lagMillis.set(0);
+                return 0;
+            }
+            List<OutboxMessage> messages = entities.stream()
+                    .map(OutboxRelay::toMessage)
+                    .toList();
+            lagMillis.set(Math.max(0, clock.millis() - messages.get(0).createdAt().toEpochMilli()));
+            publishTimer.record(() -> outboxPublisher.publish(messages));
+            outboxEventRepository.deleteByIdIn(messages.stream().map(OutboxMessage::id).toList());
+            return messages.size();
+        });
+        int count = relayed == null ? 0 : relayed;
+        if (count > 0) {
+            publishedEvents.increment(count);
+            batchSizes.record(count);
+        }
+        return count;
+    }
+
+    @Override
+    public void close() {
+        poller.shutdownNow();
+    }
+
+    // Keeps draining while batches come back full, then waits for the next poll
+    private void drain() {
+        try {
+            int relayed;
+            do {
+                relayed = relayBatch();
+            } while (relayed == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("Could not relay outbox events, retrying in {} ms", pollIntervalMillis, e);
+        }
+    }
+
+    private static OutboxMessage toMessage(OutboxEventEntity entity) {
+        return new OutboxMessage(entity.getId(), entity.getAggregateType(), entity.getAggregateId(),
+                entity.getEventType(), entity.getPayload(), entity.getCreatedAt());
+    }
+}
@@ -0,0 +1,127 @@
+package com.microservice.stock.infraestructure.out.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.stock.infraestructure.out.jpa.entity.ArticleEntity;
+import com.microservice.stock.infraestructure.out.jpa.entity.BrandEntity;
+import com.microservice.stock.infraestructure.out.jpa.entity.CategoryEntity;
+import com.microservice.stock.infraestructure.out.jpa.entity.OutboxEventEntity;
+import com.microservice.stock.infraestructure.out.jpa.repository.IOutboxEventRepository;
+import com.microservice.stock.infraestructure.out.transaction.TransactionHooks;
+import lombok.extern.slf4j.Slf4j;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Only persists the event row, so it commits or rolls back together with the change that caused it
+@Slf4j
+public class OutboxWriter {
+
+    private final IOutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final List<IStockDeltaListener> stockDeltaListeners;
+    private final List<ICatalogChangeListener> catalogChangeListeners;
+
+    public OutboxWriter(IOutboxEventRepository outboxEventRepository, ObjectMapper objectMapper, Clock clock) {
+        this(outboxEventRepository, objectMapper, clock, List.of(), List.of());
+    }
+
+    public OutboxWriter(IOutboxEventRepository outboxEventRepository, ObjectMapper objectMapper, Clock clock,
+                        List<IStockDeltaListener> stockDeltaListeners,
+                        List<ICatalogChangeListener> catalogChangeListeners) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.stockDeltaListeners = List.copyOf(stockDeltaListeners);
+        this.catalogChangeListeners = List.copyOf(catalogChangeListeners);
+    }
+
+    public void articleCreated(ArticleEntity article) {
+        List<Long> categoryIds = article.getCategories().stream()
+                .map(CategoryEntity::getId)
+                .toList();
+        Long version = append(OutboxEventType.ARTICLE_CREATED, article.getId(), new ArticleCreated(article.getId(),
+                article.getName(), article.getQuantity(), article.getPrice(), article.getBrand().getId(), categoryIds));
+        notifyStockDelta(article.getId(), listener -> listener.articleCreated(article.getId(), article.getQuantity()));
+        notifyCatalogChanged(version, OutboxEventType.ARTICLE_CREATED, article.getId(), article.getName(),
+                article.getDescription());
+    }
+
+    public void brandCreated(BrandEntity brand) {
+        Long version = append(OutboxEventType.BRAND_CREATED, brand.getId(),
+                new ReferenceCreated(brand.getId(), brand.getName(), brand.getDescription()));
+        notifyCatalogChanged(version, OutboxEventType.BRAND_CREATED, brand.getId(), brand.getName(),
+                brand.getDescription());
+    }
+
+    public void categoryCreated(CategoryEntity category) {
+        Long version = append(OutboxEventType.CATEGORY_CREATED, category.getId(),
+                new ReferenceCreated(category.getId(), category.getName(), category.getDescription()));
+        notifyCatalogChanged(version, OutboxEventType.CATEGORY_CREATED, category.getId(), category.getName(),
+                category.getDescription());
+    }
+
+    public void stockChanged(Long articleId, int quantity, int delta) {
+        append(OutboxEventType.STOCK_CHANGED, articleId, new StockChanged(articleId, quantity, delta));
+        notifyStockDelta(articleId, listener -> listener.stockAdjusted(articleId, delta, 0));
+    }
+
+    // The confirmed units leave the stock and the holds together
+    public void reservationConfirmed(Long articleId, int quantity, int confirmed) {
+        append(OutboxEventType.STOCK_CHANGED, articleId, new StockChanged(articleId, quantity, -confirmed));
+        notifyStockDelta(articleId, listener -> listener.stockAdjusted(articleId, -confirmed, -confirmed));
+    }
+
+    // Holds are not published, so only the listeners of this instance hear about them
+    public void reservedChanged(Long articleId, int delta) {
+        notifyStockDelta(articleId, listener -> listener.stockAdjusted(articleId, 0, delta));
+    }
+
+    private Long append(OutboxEventType type, Long aggregateId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize the " + type + " event", e);
+        }
+        return outboxEventRepository.save(new OutboxEventEntity(null, type.getAggregateType(), aggregateId, type.name(),
+                json, clock.instant())).getId();
+    }
+
+    private void notifyStockDelta(Long articleId, Consumer<IStockDeltaListener> notification) {
+        if (!stockDeltaListeners.isEmpty()) {
+            TransactionHooks.afterCommit(() -> stockDeltaListeners.forEach(listener -> notifySafely(articleId,
+                    () -> notification.accept(listener))));
+        }
+    }
+
+    private void notifyCatalogChanged(Long version, OutboxEventType type, Long id, String name, String description) {
+        if (!catalogChangeListeners.isEmpty()) {
+            TransactionHooks.afterCommit(() -> catalogChangeListeners.forEach(listener -> notifySafely(id,
+                    () -> listener.catalogChanged(version, type, id, name, description))));
+        }
+    }
+
+    // The change is committed by now, so a failing listener is logged instead of failing the request
+    private static void notifySafely(Long aggregateId, Runnable notification) {
+        try {
+            notification.run();
+        } catch (RuntimeException e) {
+            log.warn("Change listener failed for aggregate {}", aggregateId, e);
+        }
+    }
+
+    record ArticleCreated(Long id, String name, Integer quantity, BigDecimal price, Long brandId, List<Long> categoryIds) {
+    }
+
+    record ReferenceCreated(Long id, String name, String description) {
+    }
+
+    // The quantity is the total this transaction read, which can miss a change another writer of a sharded article
+    // made to a different slot; a consumer that keeps totals applies the delta instead
+    record StockChanged(Long articleId, int quantity, int delta) {
+    }
+}
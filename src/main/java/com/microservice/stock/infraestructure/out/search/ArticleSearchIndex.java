@@ -0,0 +1,237 @@
+package com.microservice.stock.infraestructure.out.search;
+
+import com.microservice.stock.infraestructure.out.outbox.ICatalogChangeListener;
+import com.microservice.stock.infraestructure.out.outbox.OutboxEventType;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// Inverted index over article names and descriptions, ranked with BM25. Each article gets a document number in the
+// order it was indexed, so every posting list is a pair of int arrays, document numbers and term frequencies, kept
+// sorted by appending. A query walks its lists together one document at a time, counting every match and keeping
+// only the best offset + limit in a heap.
+public class ArticleSearchIndex implements ICatalogChangeListener {
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // Name terms count twice, so an article named after the query ranks above one that only mentions it
+    private static final int NAME_WEIGHT = 2;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int INITIAL_DOCUMENTS = 1024;
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Comparator<ScoredDocument> WORST_FIRST = Comparator.comparingDouble(ScoredDocument::score)
+            .thenComparing(Comparator.comparingInt(ScoredDocument::document).reversed());
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> documentsByArticle = new HashMap<>();
+    private final BitSet replaced = new BitSet();
+    private long[] articleIds = new long[INITIAL_DOCUMENTS];
+    private int[] lengths = new int[INITIAL_DOCUMENTS];
+    private int documents;
+    private long totalLength;
+
+    public ArticleSearchIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("stock.search.articles", this, ArticleSearchIndex::size)
+                .description("Articles in the search index")
+                .register(meterRegistry);
+        Gauge.builder("stock.search.terms", this, ArticleSearchIndex::termCount)
+                .description("Distinct terms in the search index")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void catalogChanged(long version, OutboxEventType type, Long id, String name, String description) {
+        if (type == OutboxEventType.ARTICLE_CREATED) {
+            index(id, name, description);
+        }
+    }
+
+    // Used by the startup load, which may read an article the creation hook has already indexed
+    public void load(Long articleId, String name, String description) {
+        write(articleId, name, description, true);
+    }
+
+    // An article indexed again gets a new document; the old one is skipped by queries from then on
+    public void index(Long articleId, String name, String description) {
+        write(articleId, name, description, false);
+    }
+
+    public SearchHits search(String query, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        lock.readLock().lock();
+        try {
+            List<Postings> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list != null) {
+                    lists.add(list);
+                }
+            }
+            int live = documentsByArticle.size();
+            if (lists.isEmpty() || live == 0) {
+                return new SearchHits(List.of(), 0);
+            }
+            return collect(lists, live, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentsByArticle.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Long articleId, String name, String description, boolean onlyIfAbsent) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(name).forEach(term -> frequencies.merge(term, NAME_WEIGHT, Integer::sum));
+        tokenize(description).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            Integer previous = documentsByArticle.get(articleId);
+            if (previous != null) {
+                if (onlyIfAbsent) {
+                    return;
+                }
+                replaced.set(previous);
+                totalLength -= lengths[previous];
+            }
+            int document = documents++;
+            if (document == articleIds.length) {
+                articleIds = Arrays.copyOf(articleIds, document * 2);
+                lengths = Arrays.copyOf(lengths, document * 2);
+            }
+            articleIds[document] = articleId;
+            lengths[document] = length;
+            totalLength += length;
+            documentsByArticle.put(articleId, document);
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new Postings())
+                    .add(document, frequency));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Replaced documents still count in the document frequencies; they only exist once articles are edited
+    private SearchHits collect(List<Postings> lists, int live, int offset, int limit) {
+        int count = lists.size();
+        double[] idfs = new double[count];
+        for (int i = 0; i < count; i++) {
+            int frequency = lists.get(i).size;
+            idfs[i] = Math.log(1 + (live - frequency + 0.5) / (frequency + 0.5));
+        }
+        double averageLength = (double) totalLength / live;
+        int wanted = offset + limit;
+        PriorityQueue<ScoredDocument> best = new PriorityQueue<>(wanted + 1, WORST_FIRST);
+        int[] cursors = new int[count];
+        long total = 0;
+
+        while (true) {
+            int document = Integer.MAX_VALUE;
+            for (int i = 0; i < count; i++) {
+                Postings list = lists.get(i);
+                if (cursors[i] < list.size) {
+                    document = Math.min(document, list.documents[cursors[i]]);
+                }
+            }
+            if (document == Integer.MAX_VALUE) {
+                break;
+            }
+            double norm = K1 * (1 - B + B * lengths[document] / averageLength);
+            double score = 0;
+            for (int i = 0; i < count; i++) {
+                Postings list = lists.get(i);
+                if (cursors[i] < list.size && list.documents[cursors[i]] == document) {
+                    int frequency = list.frequencies[cursors[i]++];
+                    score += idfs[i] * frequency * (K1 + 1) / (frequency + norm);
+                }
+            }
+            if (replaced.get(document)) {
+                continue;
+            }
+            total++;
+            if (best.size() < wanted) {
+                best.add(new ScoredDocument(document, score));
+            } else if (WORST_FIRST.compare(new ScoredDocument(document, score), best.peek()) > 0) {
+                best.poll();
+                best.add(new ScoredDocument(document, score));
+            }
+        }
+
+        List<ScoredDocument> ranked = new ArrayList<>(best);
+        ranked.sort(WORST_FIRST.reversed());
+        List<Long> page = ranked.stream()
+                .skip(offset)
+                .map(scored -> articleIds[scored.document()])
+                .toList();
+        return new SearchHits(page, total);
+    }
+
+    // Lower case without accents, split on anything that is not a letter or a digit
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text.toLowerCase(Locale.ROOT), Normalizer.Form.NFD))
+                .replaceAll("");
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARATORS.split(folded)) {
+            if (token.length() >= MIN_TOKEN_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    public record SearchHits(List<Long> articleIds, long total) {
+    }
+
+    private record ScoredDocument(int document, double score) {
+    }
+
+    private static final class Postings {
+        private int[] documents = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private void add(int document, int frequency) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+}
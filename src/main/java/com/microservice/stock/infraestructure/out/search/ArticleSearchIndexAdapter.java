@@ -0,0 +1,31 @@
+package com.microservice.stock.infraestructure.out.search;
+
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.spi.IArticleSearchPersistencePort;
+import com.microservice.stock.domain.util.Pagination;
+import com.microservice.stock.infraestructure.out.jpa.adapter.ArticleDetailsLoader;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+// The index ranks the page; only its articles are read from the database
+@RequiredArgsConstructor
+public class ArticleSearchIndexAdapter implements IArticleSearchPersistencePort {
+
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleDetailsLoader articleDetailsLoader;
+
+    @Override
+    public Pagination<Article> searchArticles(String query, int pageNumber, int pageSize) {
+        ArticleSearchIndex.SearchHits hits = articleSearchIndex.search(query, pageNumber * pageSize, pageSize);
+        Map<Long, Article> articles = articleDetailsLoader.findArticles(hits.articleIds());
+        // An article deleted after it was indexed is left out of the page
+        List<Article> page = hits.articleIds().stream()
+                .map(articles::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new Pagination<>(page, pageNumber, pageSize, hits.total());
+    }
+}
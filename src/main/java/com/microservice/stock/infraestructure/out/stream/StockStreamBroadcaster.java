@@ -0,0 +1,263 @@
+package com.microservice.stock.infraestructure.out.stream;
+
+import com.microservice.stock.infraestructure.out.outbox.ICatalogChangeListener;
+import com.microservice.stock.infraestructure.out.outbox.IStockChangeListener;
+import com.microservice.stock.infraestructure.out.outbox.OutboxEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Fans committed stock and catalog changes out to the open SSE connections. A connection holds no thread: each change
+// is queued on every subscriber and a small dispatcher pool writes the queues out. A queue keeps one entry per article,
+// brand or category, so a slow subscriber gets the latest state instead of every step; one that falls behind by more
+// keys than its buffer holds is disconnected, and can catch up from the change feed after reconnecting. A send blocks
+// while the client does not read, so a drain stuck in one past the send timeout drops its subscriber and the pool
+// gets a thread in place of the stuck one until the send returns; a few stalled clients cannot starve the others.
+@Slf4j
+public class StockStreamBroadcaster implements IStockChangeListener, ICatalogChangeListener, AutoCloseable {
+    private static final long NO_TIMEOUT = 0L;
+    private static final String STOCK_EVENT = "stock";
+    private static final String CATALOG_EVENT = "catalog";
+    private static final String HEARTBEAT_KEY = "heartbeat";
+    private static final long NOT_SENDING = -1L;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final int bufferSize;
+    private final long heartbeatMillis;
+    private final long sendTimeoutMillis;
+    private final Executor dispatcher;
+    private final ScheduledExecutorService heartbeat;
+    private final Clock clock;
+    private final Counter coalesced;
+    private final Counter disconnects;
+    private final Counter stalls;
+    private boolean started;
+
+    public StockStreamBroadcaster(int bufferSize, int dispatcherThreads, Duration heartbeatInterval, Duration sendTimeout,
+                                  MeterRegistry meterRegistry) {
+        this(bufferSize, new ThreadPoolExecutor(dispatcherThreads, dispatcherThreads, 0L, TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(), daemonThreads("stock-stream-dispatcher-")),
+                heartbeatInterval, sendTimeout, Clock.systemUTC(), meterRegistry);
+    }
+
+    StockStreamBroadcaster(int bufferSize, Executor dispatcher, Duration heartbeatInterval, Duration sendTimeout,
+                           Clock clock, MeterRegistry meterRegistry) {
+        this.bufferSize = bufferSize;
+        this.heartbeatMillis = heartbeatInterval.toMillis();
+        this.sendTimeoutMillis = sendTimeout.toMillis();
+        this.dispatcher = dispatcher;
+        this.clock = clock;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemonThreads("stock-stream-heartbeat-"));
+        this.coalesced = Counter.builder("stock.stream.coalesced")
+                .description("Changes replaced by a newer one for the same key before a subscriber received them")
+                .register(meterRegistry);
+        this.disconnects = Counter.builder("stock.stream.disconnects")
+                .description("Subscribers disconnected for falling further behind than their buffer")
+                .register(meterRegistry);
+        this.stalls = Counter.builder("stock.stream.stalls")
+                .description("Subscribers dropped for a send that blocked longer than the send timeout")
+                .register(meterRegistry);
+        Gauge.builder("stock.stream.subscribers", subscribers, Set::size)
+                .description("Open stock stream connections")
+                .register(meterRegistry);
+    }
+
+    // Idle connections get a comment now and then, so the ones closed by the client are noticed and dropped
+    public synchronized void start() {
+        if (!started) {
+            started = true;
+            heartbeat.scheduleWithFixedDelay(() -> broadcast(HEARTBEAT_KEY, new Pending(null, null, 0)),
+                    heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+            heartbeat.scheduleWithFixedDelay(this::dropStalledSubscribers, sendTimeoutMillis, sendTimeoutMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public SseEmitter subscribe() {
+        return subscribe(new SseEmitter(NO_TIMEOUT));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @Override
+    public void stockChanged(long version, Long articleId, int quantity) {
+        broadcast("article:" + articleId, new Pending(STOCK_EVENT, new StockEvent(articleId, quantity, version), version));
+    }
+
+    @Override
+    public void catalogChanged(long version, OutboxEventType type, Long id, String name, String description) {
+        String aggregateType = type.getAggregateType();
+        broadcast(aggregateType + ":" + id,
+                new Pending(CATALOG_EVENT, new CatalogEvent(aggregateType, id, name, version), version));
+    }
+
+    @Override
+    public void close() {
+        heartbeat.shutdownNow();
+        if (dispatcher instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void broadcast(String key, Pending pending) {
+        for (Subscriber subscriber : subscribers) {
+            boolean schedule;
+            synchronized (subscriber) {
+                Pending previous = subscriber.queue.get(key);
+                if (previous == null && subscriber.queue.size() >= bufferSize) {
+                    subscriber.overflowed = true;
+                } else if (previous == null || previous.version <= pending.version) {
+                    // A late notification about an older change must not overwrite a newer one
+                    subscriber.queue.put(key, pending);
+                    if (previous != null) {
+                        coalesced.increment();
+                    }
+                }
+                schedule = !subscriber.draining;
+                subscriber.draining = true;
+            }
+            if (schedule) {
+                dispatcher.execute(() -> drain(subscriber));
+            }
+        }
+    }
+
+    // complete() waits for the emitter lock the blocked send holds, so the stuck drain closes the emitter itself once
+    // its send returns; until then the pool runs one more thread
+    void dropStalledSubscribers() {
+        long now = clock.millis();
+        for (Subscriber subscriber : subscribers) {
+            synchronized (subscriber) {
+                if (subscriber.sendingSince == NOT_SENDING || subscriber.stalled
+                        || now - subscriber.sendingSince < sendTimeoutMillis) {
+                    continue;
+                }
+                subscriber.stalled = true;
+                resizeDispatcher(1);
+            }
+            subscribers.remove(subscriber);
+            stalls.increment();
+        }
+    }
+
+    // Only one dispatcher thread drains a subscriber at a time, so its events go out in queue order
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            List<Pending> batch;
+            synchronized (subscriber) {
+                if (subscriber.stalled) {
+                    subscriber.emitter.complete();
+                    return;
+                }
+                if (subscriber.overflowed) {
+                    disconnect(subscriber);
+                    return;
+                }
+                if (subscriber.queue.isEmpty()) {
+                    subscriber.draining = false;
+                    return;
+                }
+                batch = new ArrayList<>(subscriber.queue.values());
+                subscriber.queue.clear();
+                subscriber.sendingSince = clock.millis();
+            }
+            try {
+                for (Pending pending : batch) {
+                    subscriber.emitter.send(pending.name == null
+                            ? SseEmitter.event().comment(HEARTBEAT_KEY)
+                            : SseEmitter.event().name(pending.name).data(pending.data));
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(subscriber);
+                log.debug("Dropping stock stream subscriber", e);
+                return;
+            } finally {
+                synchronized (subscriber) {
+                    subscriber.sendingSince = NOT_SENDING;
+                    if (subscriber.stalled) {
+                        resizeDispatcher(-1);
+                    }
+                }
+            }
+        }
+    }
+
+    // Grows the maximum before the core and shrinks them the other way round, so the core never exceeds the maximum
+    private synchronized void resizeDispatcher(int change) {
+        if (dispatcher instanceof ThreadPoolExecutor pool) {
+            if (change > 0) {
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + change);
+                pool.setCorePoolSize(pool.getCorePoolSize() + change);
+            } else {
+                pool.setCorePoolSize(pool.getCorePoolSize() + change);
+                pool.setMaximumPoolSize(pool.getMaximumPoolSize() + change);
+            }
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        subscriber.queue.clear();
+        disconnects.increment();
+        subscriber.emitter.complete();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    record StockEvent(Long articleId, int quantity, long version) {
+    }
+
+    record CatalogEvent(String type, Long id, String name, long version) {
+    }
+
+    private record Pending(String name, Object data, long version) {
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Map<String, Pending> queue = new LinkedHashMap<>();
+        private boolean draining;
+        private boolean overflowed;
+        private boolean stalled;
+        private long sendingSince = NOT_SENDING;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.microservice.stock.infraestructure.out.timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Timers keyed by string, kept in a few wheels of {@code wheelSize} buckets each. A bucket of level n spans
+ * {@code wheelSize^n} ticks; timers far away sit in a coarse bucket and move down one level when its turn
+ * comes, so scheduling, cancelling and expiring each cost O(1) amortized, whatever the number of timers.
+ * Deadlines are rounded up to the next tick, so a timer never fires early.
+ */
+public class HierarchicalTimerWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long[] levelSpans;
+    private final List<List<Set<String>>> levels;
+    private final Map<String, Timer> timers = new HashMap<>();
+    private long currentTick;
+
+    public HierarchicalTimerWheel(long tickMillis, int wheelSize, int levelCount, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.levelSpans = new long[levelCount];
+        this.levels = new ArrayList<>(levelCount);
+        long span = 1;
+        for (int level = 0; level < levelCount; level++) {
+            levelSpans[level] = span;
+            List<Set<String>> buckets = new ArrayList<>(wheelSize);
+            for (int bucket = 0; bucket < wheelSize; bucket++) {
+                buckets.add(new LinkedHashSet<>());
+            }
+            levels.add(buckets);
+            span *= wheelSize;
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    public synchronized void schedule(String key, long deadlineMillis) {
+        cancel(key);
+        long deadlineTick = Math.max((deadlineMillis + tickMillis - 1) / tickMillis, currentTick + 1);
+        place(new Timer(key, deadlineTick));
+    }
+
+    public synchronized boolean cancel(String key) {
+        Timer timer = timers.remove(key);
+        if (timer == null) {
+            return false;
+        }
+        levels.get(timer.level).get(timer.bucket).remove(key);
+        return true;
+    }
+
+    // Moves the wheel up to the given time and returns the keys whose deadline has passed
+    public synchronized List<String> advanceTo(long nowMillis) {
+        List<String> expired = new ArrayList<>();
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levels.size() - 1; level >= 0; level--) {
+                if (currentTick % levelSpans[level] == 0) {
+                    cascade(level, expired);
+                }
+            }
+            cascade(0, expired);
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return timers.size();
+    }
+
+    // Empties the bucket of the current tick: due timers expire, the others move down to a finer level
+    private void cascade(int level, List<String> expired) {
+        Set<String> bucket = levels.get(level).get(bucketIndex(currentTick, level));
+        List<String> keys = new ArrayList<>(bucket);
+        bucket.clear();
+        for (String key : keys) {
+            Timer timer = timers.get(key);
+            if (timer.deadlineTick <= currentTick) {
+                timers.remove(key);
+                expired.add(key);
+            } else {
+                place(timer);
+            }
+        }
+    }
+
+    // Lowest level whose bucket for the deadline is still ahead of the current one
+    private void place(Timer timer) {
+        int top = levels.size() - 1;
+        int level = 0;
+        while (level < top && slot(timer.deadlineTick, level) - slot(currentTick, level) >= wheelSize) {
+            level++;
+        }
+        // Beyond the top wheel: park in its last bucket and come back down from there
+        long slot = Math.min(slot(timer.deadlineTick, level), slot(currentTick, level) + wheelSize - 1);
+        timer.level = level;
+        timer.bucket = (int) (slot % wheelSize);
+        levels.get(level).get(timer.bucket).add(timer.key);
+        timers.put(timer.key, timer);
+    }
+
+    private long slot(long tick, int level) {
+        return tick / levelSpans[level];
+    }
+
+    private int bucketIndex(long tick, int level) {
+        return (int) (slot(tick, level) % wheelSize);
+    }
+
+    private static final class Timer {
+        private final String key;
+        private final long deadlineTick;
+        private int level;
+        private int bucket;
+
+        private Timer(String key, long deadlineTick) {
+            this.key = key;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.microservice.stock.infraestructure.out.timer;
+
+import com.microservice.stock.domain.spi.IReservationExpiryPort;
+import com.microservice.stock.infraestructure.out.transaction.TransactionHooks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// Reservation expiry on a timer wheel ticked by a single thread; the timers follow the transaction outcome
+@Slf4j
+public class TimerWheelExpiryAdapter implements IReservationExpiryPort, AutoCloseable {
+    private static final int WHEEL_SIZE = 64;
+    private static final int LEVELS = 4;
+    private static final long RETRY_DELAY_MILLIS = 5_000;
+
+    private final HierarchicalTimerWheel timerWheel;
+    private final Clock clock;
+    private final long tickMillis;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "reservation-expiry");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Consumer<String> expiryHandler;
+
+    public TimerWheelExpiryAdapter(Duration tick, Clock clock, MeterRegistry meterRegistry) {
+        this.tickMillis = tick.toMillis();
+        this.clock = clock;
+        this.timerWheel = new HierarchicalTimerWheel(tickMillis, WHEEL_SIZE, LEVELS, clock.millis());
+        Gauge.builder("stock.reservation.timers", timerWheel, HierarchicalTimerWheel::size)
+                .description("Reservations waiting for their expiry")
+                .register(meterRegistry);
+    }
+
+    public synchronized void start(Consumer<String> expiryHandler) {
+        if (this.expiryHandler == null) {
+            this.expiryHandler = expiryHandler;
+            ticker.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void scheduleExpiry(String reservationId, Instant expiresAt) {
+        TransactionHooks.afterCommit(() -> timerWheel.schedule(reservationId, expiresAt.toEpochMilli()));
+    }
+
+    @Override
+    public void cancelExpiry(String reservationId) {
+        TransactionHooks.afterCommit(() -> timerWheel.cancel(reservationId));
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    private void tick() {
+        for (String reservationId : timerWheel.advanceTo(clock.millis())) {
+            try {
+                expiryHandler.accept(reservationId);
+            } catch (RuntimeException e) {
+                // Keep the hold on the wheel so a database hiccup does not leave it reserved until a restart
+                log.warn("Could not expire reservation {}, retrying in {} ms", reservationId, RETRY_DELAY_MILLIS, e);
+                timerWheel.schedule(reservationId, clock.millis() + RETRY_DELAY_MILLIS);
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.microservice.stock.infraestructure.out.transaction;
+
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Change versions are microseconds since the epoch, bumped past the last one handed out. They keep growing within an
+// instance, stay close to wall-clock order across instances and cost no database round trip.
+public final class ChangeVersion {
+    private static final AtomicLong LAST = new AtomicLong();
+    // First version of every transaction still open in this instance, which is the smallest one it writes
+    private static final NavigableSet<Long> HELD = new TreeSet<>();
+    private static final Object HOLD_KEY = new Object();
+    // Longest a transaction may stay open after taking its first version; unlimited until configured
+    private static volatile long maxTransactionMicros = Long.MAX_VALUE;
+
+    private ChangeVersion() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static long next() {
+        return take(1);
+    }
+
+    // Hands out a block of consecutive versions and returns the first one
+    public static long reserve(long count) {
+        return take(count);
+    }
+
+    // The versions handed out at that instant, without advancing the sequence
+    public static long of(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000 + instant.getNano() / 1_000;
+    }
+
+    // Transactions that held their first version longer than this roll back at commit instead of landing behind a
+    // watermark. Every instance enforces it, so the settle time only has to exceed it plus the clock skew.
+    public static void limitTransactionTime(Duration maxTransactionTime) {
+        maxTransactionMicros = maxTransactionTime.toNanos() / 1_000;
+    }
+
+    // Versions up to this one are committed or rolled back: those of this instance because no open transaction holds
+    // an older one, however long it waits for a lock; those of other instances because their transactions commit
+    // within the time limit, which is shorter than the settle time
+    public static long watermark(Duration settleTime) {
+        long settled = currentMicros() - settleTime.toNanos() / 1_000;
+        synchronized (HELD) {
+            return HELD.isEmpty() ? settled : Math.min(settled, HELD.first() - 1);
+        }
+    }
+
+    private static long take(long count) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(HOLD_KEY)) {
+            return advance(count);
+        }
+        // Taken and held in one step, so a watermark never falls between the two
+        long first;
+        synchronized (HELD) {
+            first = advance(count);
+            HELD.add(first);
+        }
+        TransactionSynchronizationManager.bindResource(HOLD_KEY, first);
+        TransactionHooks.beforeCommit(() -> {
+            long heldMicros = currentMicros() - first;
+            if (heldMicros > maxTransactionMicros) {
+                throw new TransactionTimedOutException("Transaction held change version " + first + " for "
+                        + heldMicros / 1_000 + "ms, longer than the change feed allows");
+            }
+        });
+        TransactionHooks.afterCompletion(committed -> {
+            TransactionSynchronizationManager.unbindResourceIfPossible(HOLD_KEY);
+            synchronized (HELD) {
+                HELD.remove(first);
+            }
+        });
+        return first;
+    }
+
+    private static long advance(long count) {
+        long now = currentMicros();
+        long previous = LAST.getAndUpdate(last -> Math.max(last + 1, now) + count - 1);
+        return Math.max(previous + 1, now);
+    }
+
+    private static long currentMicros() {
+        return of(Instant.now());
+    }
+}
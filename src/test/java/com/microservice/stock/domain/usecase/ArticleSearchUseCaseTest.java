@@ -0,0 +1,63 @@
+package com.microservice.stock.domain.usecase;
+
+import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.spi.IArticleSearchPersistencePort;
+import com.microservice.stock.domain.util.DomainConstants;
+import com.microservice.stock.domain.util.Pagination;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchUseCaseTest {
+
+    @Mock
+    private IArticleSearchPersistencePort articleSearchPersistencePort;
+
+    private ArticleSearchUseCase articleSearchUseCase;
+
+    @BeforeEach
+    void setUp() {
+        articleSearchUseCase = new ArticleSearchUseCase(articleSearchPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException when the query is blank and the page is past the search window.")
+    void searchArticles_ThrowValidationException_WhenQueryBlankOrPageTooDeep() {
+        // When
+        ValidationException blank = assertThrows(ValidationException.class,
+                () -> articleSearchUseCase.searchArticles("  ", 0, 20));
+        ValidationException deep = assertThrows(ValidationException.class,
+                () -> articleSearchUseCase.searchArticles("laptop", 500, 20));
+
+        // Then
+        assertThat(blank.getErrors()).containsExactly(DomainConstants.SEARCH_QUERY_EMPTY_MESSAGE);
+        assertThat(deep.getErrors()).containsExactly(DomainConstants.SEARCH_WINDOW_MESSAGE);
+        Mockito.verifyNoInteractions(articleSearchPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Return the page found by the persistence port when the request is valid.")
+    void searchArticles_ReturnPage_WhenRequestIsValid() {
+        // Given
+        Pagination<Article> page = new Pagination<>(List.of(), 499, 20, 0);
+        Mockito.when(articleSearchPersistencePort.searchArticles("laptop", 499, 20)).thenReturn(page);
+
+        // When
+        Pagination<Article> result = articleSearchUseCase.searchArticles("laptop", 499, 20);
+
+        // Then
+        assertSame(page, result);
+    }
+}
@@ -2,8 +2,12 @@ package com.microservice.stock.domain.usecase;
 
 import com.microservice.stock.domain.exceptions.ValidationException;
 import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.model.ArticleBatchResult;
 import com.microservice.stock.domain.model.Brand;
 import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.model.StockAdjustment;
+import com.microservice.stock.domain.model.StockAdjustmentResult;
+import com.microservice.stock.domain.model.StockLevel;
 import com.microservice.stock.domain.spi.IArticlePersistencePort;
 import com.microservice.stock.domain.spi.IBrandPersistencePort;
 import com.microservice.stock.domain.spi.ICategoryPersistencePort;
@@ -18,7 +22,12 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -50,16 +59,16 @@ class ArticleUseCaseTest {
                 List.of(new Category(1L, null, null))
         );
         Mockito.when(articlePersistencePort.existByName("Article1")).thenReturn(false);
-        Mockito.when(brandPersistencePort.existById(article.getBrand().getId())).thenReturn(true);
-        Mockito.when(categoryPersistencePort.existById(article.getCategories().get(0).getId())).thenReturn(true);
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(article.getBrand().getId()))).thenReturn(Set.of());
+        Mockito.when(categoryPersistencePort.findMissingIds(Set.of(article.getCategories().get(0).getId()))).thenReturn(Set.of());
 
         // When
         articleUseCase.createArticle(article);
 
         // Then
         Mockito.verify(articlePersistencePort, times(1)).createArticle(article);
-        Mockito.verify(brandPersistencePort, times(1)).existById(article.getBrand().getId());
-        Mockito.verify(categoryPersistencePort, times(1)).existById(article.getCategories().get(0).getId());
+        Mockito.verify(brandPersistencePort, times(1)).findMissingIds(Set.of(article.getBrand().getId()));
+        Mockito.verify(categoryPersistencePort, times(1)).findMissingIds(Set.of(article.getCategories().get(0).getId()));
     }
 
     @Test
@@ -73,8 +82,8 @@ class ArticleUseCaseTest {
         );
 
         // When
-        Mockito.when(brandPersistencePort.existById(article.getBrand().getId())).thenReturn(true);
-        Mockito.when(categoryPersistencePort.existById(article.getCategories().get(0).getId())).thenReturn(true);
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(article.getBrand().getId()))).thenReturn(Set.of());
+        Mockito.when(categoryPersistencePort.findMissingIds(Set.of(article.getCategories().get(0).getId()))).thenReturn(Set.of());
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             articleUseCase.createArticle(article);
@@ -83,8 +92,8 @@ class ArticleUseCaseTest {
         //Then
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_NAME_NULL_MESSAGE);
         Mockito.verify(articlePersistencePort, Mockito.never()).createArticle(article);
-        Mockito.verify(brandPersistencePort, times(1)).existById(article.getBrand().getId());
-        Mockito.verify(categoryPersistencePort, times(1)).existById(article.getCategories().get(0).getId());
+        Mockito.verify(brandPersistencePort, times(1)).findMissingIds(Set.of(article.getBrand().getId()));
+        Mockito.verify(categoryPersistencePort, times(1)).findMissingIds(Set.of(article.getCategories().get(0).getId()));
     }
 
     @Test
@@ -98,8 +107,8 @@ class ArticleUseCaseTest {
         );
 
         // When
-        Mockito.when(brandPersistencePort.existById(article.getBrand().getId())).thenReturn(true);
-        Mockito.when(categoryPersistencePort.existById(article.getCategories().get(0).getId())).thenReturn(true);
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(article.getBrand().getId()))).thenReturn(Set.of());
+        Mockito.when(categoryPersistencePort.findMissingIds(Set.of(article.getCategories().get(0).getId()))).thenReturn(Set.of());
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             articleUseCase.createArticle(article);
@@ -108,8 +117,8 @@ class ArticleUseCaseTest {
         //Then
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_DESCRIPTION_NULL_MESSAGE);
         Mockito.verify(articlePersistencePort, Mockito.never()).createArticle(article);
-        Mockito.verify(brandPersistencePort, times(1)).existById(article.getBrand().getId());
-        Mockito.verify(categoryPersistencePort, times(1)).existById(article.getCategories().get(0).getId());
+        Mockito.verify(brandPersistencePort, times(1)).findMissingIds(Set.of(article.getBrand().getId()));
+        Mockito.verify(categoryPersistencePort, times(1)).findMissingIds(Set.of(article.getCategories().get(0).getId()));
     }
 
     @Test
@@ -123,8 +132,8 @@ class ArticleUseCaseTest {
         );
 
         // When
-        Mockito.when(brandPersistencePort.existById(article.getBrand().getId())).thenReturn(true);
-        Mockito.when(categoryPersistencePort.existById(article.getCategories().get(0).getId())).thenReturn(true);
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(article.getBrand().getId()))).thenReturn(Set.of());
+        Mockito.when(categoryPersistencePort.findMissingIds(Set.of(article.getCategories().get(0).getId()))).thenReturn(Set.of());
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             articleUseCase.createArticle(article);
@@ -133,8 +142,8 @@ class ArticleUseCaseTest {
         //Then
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PRICE_NOT_NULL_MESSAGE);
         Mockito.verify(articlePersistencePort, Mockito.never()).createArticle(article);
-        Mockito.verify(brandPersistencePort, times(1)).existById(article.getBrand().getId());
-        Mockito.verify(categoryPersistencePort, times(1)).existById(article.getCategories().get(0).getId());
+        Mockito.verify(brandPersistencePort, times(1)).findMissingIds(Set.of(article.getBrand().getId()));
+        Mockito.verify(categoryPersistencePort, times(1)).findMissingIds(Set.of(article.getCategories().get(0).getId()));
     }
 
     @Test
@@ -148,8 +157,8 @@ class ArticleUseCaseTest {
         );
 
         // When
-        Mockito.when(brandPersistencePort.existById(article.getBrand().getId())).thenReturn(true);
-        Mockito.when(categoryPersistencePort.existById(article.getCategories().get(0).getId())).thenReturn(true);
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(article.getBrand().getId()))).thenReturn(Set.of());
+        Mockito.when(categoryPersistencePort.findMissingIds(Set.of(article.getCategories().get(0).getId()))).thenReturn(Set.of());
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             articleUseCase.createArticle(article);
@@ -158,8 +167,8 @@ class ArticleUseCaseTest {
         //Then
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PRICE_NOT_POSITIVE_MESSAGE);
         Mockito.verify(articlePersistencePort, Mockito.never()).createArticle(article);
-        Mockito.verify(brandPersistencePort, times(1)).existById(article.getBrand().getId());
-        Mockito.verify(categoryPersistencePort, times(1)).existById(article.getCategories().get(0).getId());
+        Mockito.verify(brandPersistencePort, times(1)).findMissingIds(Set.of(article.getBrand().getId()));
+        Mockito.verify(categoryPersistencePort, times(1)).findMissingIds(Set.of(article.getCategories().get(0).getId()));
     }
 
     @Test
@@ -173,8 +182,8 @@ class ArticleUseCaseTest {
         );
 
         // When
-        Mockito.when(brandPersistencePort.existById(article.getBrand().getId())).thenReturn(true);
-        Mockito.when(categoryPersistencePort.existById(article.getCategories().get(0).getId())).thenReturn(true);
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(article.getBrand().getId()))).thenReturn(Set.of());
+        Mockito.when(categoryPersistencePort.findMissingIds(Set.of(article.getCategories().get(0).getId()))).thenReturn(Set.of());
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             articleUseCase.createArticle(article);
@@ -183,8 +192,8 @@ class ArticleUseCaseTest {
         //Then
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_PRICE_NOT_POSITIVE_MESSAGE);
         Mockito.verify(articlePersistencePort, Mockito.never()).createArticle(article);
-        Mockito.verify(brandPersistencePort, times(1)).existById(article.getBrand().getId());
-        Mockito.verify(categoryPersistencePort, times(1)).existById(article.getCategories().get(0).getId());
+        Mockito.verify(brandPersistencePort, times(1)).findMissingIds(Set.of(article.getBrand().getId()));
+        Mockito.verify(categoryPersistencePort, times(1)).findMissingIds(Set.of(article.getCategories().get(0).getId()));
     }
 
     @Test
@@ -198,8 +207,8 @@ class ArticleUseCaseTest {
         );
 
         // When
-        Mockito.when(brandPersistencePort.existById(article.getBrand().getId())).thenReturn(true);
-        Mockito.when(categoryPersistencePort.existById(article.getCategories().get(0).getId())).thenReturn(true);
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(article.getBrand().getId()))).thenReturn(Set.of());
+        Mockito.when(categoryPersistencePort.findMissingIds(Set.of(article.getCategories().get(0).getId()))).thenReturn(Set.of());
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             articleUseCase.createArticle(article);
@@ -208,8 +217,8 @@ class ArticleUseCaseTest {
         //Then
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_QUANTITY_NOT_NULL_MESSAGE);
         Mockito.verify(articlePersistencePort, Mockito.never()).createArticle(article);
-        Mockito.verify(brandPersistencePort, times(1)).existById(article.getBrand().getId());
-        Mockito.verify(categoryPersistencePort, times(1)).existById(article.getCategories().get(0).getId());
+        Mockito.verify(brandPersistencePort, times(1)).findMissingIds(Set.of(article.getBrand().getId()));
+        Mockito.verify(categoryPersistencePort, times(1)).findMissingIds(Set.of(article.getCategories().get(0).getId()));
     }
 
     @Test
@@ -223,8 +232,8 @@ class ArticleUseCaseTest {
         );
 
         // When
-        Mockito.when(brandPersistencePort.existById(article.getBrand().getId())).thenReturn(true);
-        Mockito.when(categoryPersistencePort.existById(article.getCategories().get(0).getId())).thenReturn(true);
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(article.getBrand().getId()))).thenReturn(Set.of());
+        Mockito.when(categoryPersistencePort.findMissingIds(Set.of(article.getCategories().get(0).getId()))).thenReturn(Set.of());
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             articleUseCase.createArticle(article);
@@ -233,8 +242,8 @@ class ArticleUseCaseTest {
         //Then
         assertThat(exception.getErrors()).contains(DomainConstants.FIELD_QUANTITY_NOT_POSITIVE_OR_ZERO_MESSAGE);
         Mockito.verify(articlePersistencePort, Mockito.never()).createArticle(article);
-        Mockito.verify(brandPersistencePort, times(1)).existById(article.getBrand().getId());
-        Mockito.verify(categoryPersistencePort, times(1)).existById(article.getCategories().get(0).getId());
+        Mockito.verify(brandPersistencePort, times(1)).findMissingIds(Set.of(article.getBrand().getId()));
+        Mockito.verify(categoryPersistencePort, times(1)).findMissingIds(Set.of(article.getCategories().get(0).getId()));
     }
 
     @Test
@@ -248,7 +257,7 @@ class ArticleUseCaseTest {
         );
 
         // When
-        Mockito.when(brandPersistencePort.existById(article.getBrand().getId())).thenReturn(true);
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(article.getBrand().getId()))).thenReturn(Set.of());
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             articleUseCase.createArticle(article);
@@ -257,7 +266,7 @@ class ArticleUseCaseTest {
         //Then
         assertThat(exception.getErrors()).contains(DomainConstants.CATEGORY_AT_LEAST_ONE_MESSAGE);
         Mockito.verify(articlePersistencePort, Mockito.never()).createArticle(article);
-        Mockito.verify(brandPersistencePort, times(1)).existById(article.getBrand().getId());
+        Mockito.verify(brandPersistencePort, times(1)).findMissingIds(Set.of(article.getBrand().getId()));
     }
 
     @Test
@@ -276,7 +285,7 @@ class ArticleUseCaseTest {
         );
 
         // When
-        Mockito.when(brandPersistencePort.existById(article.getBrand().getId())).thenReturn(true);
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(article.getBrand().getId()))).thenReturn(Set.of());
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             articleUseCase.createArticle(article);
@@ -285,7 +294,7 @@ class ArticleUseCaseTest {
         //Then
         assertThat(exception.getErrors()).contains(DomainConstants.CATEGORY_MORE_THAN_THREE_MESSAGE);
         Mockito.verify(articlePersistencePort, Mockito.never()).createArticle(article);
-        Mockito.verify(brandPersistencePort, times(1)).existById(article.getBrand().getId());
+        Mockito.verify(brandPersistencePort, times(1)).findMissingIds(Set.of(article.getBrand().getId()));
     }
 
     @Test
@@ -302,7 +311,7 @@ class ArticleUseCaseTest {
         );
 
         // When
-        Mockito.when(brandPersistencePort.existById(article.getBrand().getId())).thenReturn(true);
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(article.getBrand().getId()))).thenReturn(Set.of());
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             articleUseCase.createArticle(article);
@@ -311,7 +320,7 @@ class ArticleUseCaseTest {
         //Then
         assertThat(exception.getErrors()).contains(DomainConstants.CATEGORY_DUPLICATE_MESSAGE);
         Mockito.verify(articlePersistencePort, Mockito.never()).createArticle(article);
-        Mockito.verify(brandPersistencePort, times(1)).existById(article.getBrand().getId());
+        Mockito.verify(brandPersistencePort, times(1)).findMissingIds(Set.of(article.getBrand().getId()));
     }
 
     @Test
@@ -327,7 +336,8 @@ class ArticleUseCaseTest {
         );
 
         // When
-        Mockito.when(brandPersistencePort.existById(article.getBrand().getId())).thenReturn(true);
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(article.getBrand().getId()))).thenReturn(Set.of());
+        Mockito.when(categoryPersistencePort.findMissingIds(Set.of(article.getCategories().get(0).getId()))).thenReturn(Set.of(article.getCategories().get(0).getId()));
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             articleUseCase.createArticle(article);
@@ -336,7 +346,7 @@ class ArticleUseCaseTest {
         //Then
         assertThat(exception.getErrors()).contains(String.format(DomainConstants.CATEGORY_DOES_NOT_EXISTS, article.getCategories().get(0).getId()));
         Mockito.verify(articlePersistencePort, Mockito.never()).createArticle(article);
-        Mockito.verify(brandPersistencePort, times(1)).existById(article.getBrand().getId());
+        Mockito.verify(brandPersistencePort, times(1)).findMissingIds(Set.of(article.getBrand().getId()));
     }
 
     @Test
@@ -352,7 +362,8 @@ class ArticleUseCaseTest {
         );
 
         // When
-        Mockito.when(categoryPersistencePort.existById(article.getCategories().get(0).getId())).thenReturn(true);
+        Mockito.when(categoryPersistencePort.findMissingIds(Set.of(article.getCategories().get(0).getId()))).thenReturn(Set.of());
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(article.getBrand().getId()))).thenReturn(Set.of(article.getBrand().getId()));
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             articleUseCase.createArticle(article);
@@ -361,7 +372,7 @@ class ArticleUseCaseTest {
         //Then
         assertThat(exception.getErrors()).contains(String.format(DomainConstants.BRAND_DOES_NOT_EXISTS, article.getBrand().getId()));
         Mockito.verify(articlePersistencePort, Mockito.never()).createArticle(article);
-        Mockito.verify(categoryPersistencePort, times(1)).existById(article.getCategories().get(0).getId());
+        Mockito.verify(categoryPersistencePort, times(1)).findMissingIds(Set.of(article.getCategories().get(0).getId()));
     }
 
     @Test
@@ -378,8 +389,8 @@ class ArticleUseCaseTest {
 
         // When
         Mockito.when(articlePersistencePort.existByName("Article1")).thenReturn(true);
-        Mockito.when(brandPersistencePort.existById(article.getBrand().getId())).thenReturn(true);
-        Mockito.when(categoryPersistencePort.existById(article.getCategories().get(0).getId())).thenReturn(true);
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(article.getBrand().getId()))).thenReturn(Set.of());
+        Mockito.when(categoryPersistencePort.findMissingIds(Set.of(article.getCategories().get(0).getId()))).thenReturn(Set.of());
 
         ValidationException exception = assertThrows(ValidationException.class, () -> {
             articleUseCase.createArticle(article);
@@ -388,8 +399,8 @@ class ArticleUseCaseTest {
         //Then
         assertThat(exception.getErrors()).contains(DomainConstants.ARTICLE_EXISTS_MESSAGE);
         Mockito.verify(articlePersistencePort, Mockito.never()).createArticle(article);
-        Mockito.verify(categoryPersistencePort, times(1)).existById(article.getCategories().get(0).getId());
-        Mockito.verify(brandPersistencePort, times(1)).existById(article.getBrand().getId());
+        Mockito.verify(categoryPersistencePort, times(1)).findMissingIds(Set.of(article.getCategories().get(0).getId()));
+        Mockito.verify(brandPersistencePort, times(1)).findMissingIds(Set.of(article.getBrand().getId()));
     }
 
     @Test
@@ -490,4 +501,169 @@ class ArticleUseCaseTest {
         // Verify that the persistence port method was called once with the correct parameters
         Mockito.verify(articlePersistencePort, Mockito.times(1)).listArticles(0, 10, "name", "asc");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Create the valid articles of a batch and report the errors of the others by position.")
+    void createArticles_ShouldReportInvalidArticles_WithoutFailingTheBatch() {
+        // Given
+        Article valid = new Article(null, "Article1", "Description", 3, new BigDecimal("10.00"),
+                new Brand(1L, null, null), List.of(new Category(1L, null, null)));
+        Article repeated = new Article(null, "article1", "Description", 3, new BigDecimal("10.00"),
+                new Brand(1L, null, null), List.of(new Category(1L, null, null)));
+        Article existing = new Article(null, "Article2", "Description", 3, new BigDecimal("10.00"),
+                new Brand(1L, null, null), List.of(new Category(1L, null, null)));
+        Article withoutBrand = new Article(null, "Article3", "Description", 3, new BigDecimal("10.00"),
+                null, List.of(new Category(1L, null, null)));
+        List<Article> articles = Arrays.asList(valid, repeated, existing, withoutBrand, null);
+
+        Mockito.when(articlePersistencePort.findExistingNames(Mockito.anyCollection())).thenReturn(Set.of("ARTICLE2"));
+        Mockito.when(categoryPersistencePort.findMissingIds(Set.of(1L))).thenReturn(Set.of());
+        Mockito.when(brandPersistencePort.findMissingIds(Set.of(1L))).thenReturn(Set.of());
+
+        // When
+        ArticleBatchResult result = articleUseCase.createArticles(articles);
+
+        // Then
+        assertEquals(1, result.getCreated());
+        assertEquals(4, result.getFailed());
+        assertThat(result.getErrors().get(1)).containsExactly(DomainConstants.ARTICLE_DUPLICATE_IN_BATCH_MESSAGE);
+        assertThat(result.getErrors().get(2)).containsExactly(DomainConstants.ARTICLE_EXISTS_MESSAGE);
+        assertThat(result.getErrors().get(3)).containsExactly(DomainConstants.FIELD_BRAND_ID_NOT_NULL_MESSAGE);
+        assertThat(result.getErrors().get(4)).containsExactly(DomainConstants.ARTICLE_NULL_MESSAGE);
+        Mockito.verify(articlePersistencePort, times(1)).createArticles(List.of(valid));
+        Mockito.verify(brandPersistencePort, times(1)).findMissingIds(Set.of(1L));
+        Mockito.verify(categoryPersistencePort, times(1)).findMissingIds(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException when the batch exceeds the maximum size.")
+    void createArticles_ThrowValidationException_WhenBatchIsTooLarge() {
+        // Given
+        Article article = new Article(null, "Article1", "Description", 3, new BigDecimal("10.00"),
+                new Brand(1L, null, null), List.of(new Category(1L, null, null)));
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i <= DomainConstants.ARTICLE_BATCH_MAX; i++) {
+            articles.add(article);
+        }
+
+        // When
+        ValidationException exception = assertThrows(ValidationException.class, () -> articleUseCase.createArticles(articles));
+
+        // Then
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.ARTICLE_BATCH_SIZE_MESSAGE);
+        Mockito.verify(articlePersistencePort, Mockito.never()).createArticles(Mockito.anyList());
+    }
+
+    @Test
+    @DisplayName("Return the new quantity when the stock adjustment is applied.")
+    void adjustStock_ShouldReturnNewQuantity_WhenAdjustmentIsApplied() {
+        // Given
+        Mockito.when(articlePersistencePort.adjustQuantity(1L, -3)).thenReturn(Optional.of(7));
+
+        // When
+        int quantity = articleUseCase.adjustStock(1L, -3);
+
+        // Then
+        assertEquals(7, quantity);
+        Mockito.verify(articlePersistencePort, Mockito.never()).existById(Mockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException when the adjustment would leave the stock below zero.")
+    void adjustStock_ThrowValidationException_WhenStockIsInsufficient() {
+        // Given
+        Mockito.when(articlePersistencePort.adjustQuantity(1L, -30)).thenReturn(Optional.empty());
+        Mockito.when(articlePersistencePort.existById(1L)).thenReturn(true);
+
+        // When
+        ValidationException exception = assertThrows(ValidationException.class, () -> articleUseCase.adjustStock(1L, -30));
+
+        // Then
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.INSUFFICIENT_STOCK_MESSAGE, 1L));
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException when the article to adjust does not exist.")
+    void adjustStock_ThrowValidationException_WhenArticleDoesNotExist() {
+        // Given
+        Mockito.when(articlePersistencePort.adjustQuantity(99L, 5)).thenReturn(Optional.empty());
+        Mockito.when(articlePersistencePort.existById(99L)).thenReturn(false);
+
+        // When
+        ValidationException exception = assertThrows(ValidationException.class, () -> articleUseCase.adjustStock(99L, 5));
+
+        // Then
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.ARTICLE_DOES_NOT_EXISTS, 99L));
+    }
+
+    @Test
+    @DisplayName("Apply every line of a stock batch, chaining the lines of the same article.")
+    void adjustStocks_ShouldApplyAllLines_WhenEveryLineIsValid() {
+        // Given
+        List<StockAdjustment> adjustments = List.of(
+                new StockAdjustment(2L, -3),
+                new StockAdjustment(1L, 5),
+                new StockAdjustment(2L, -4)
+        );
+        Mockito.when(articlePersistencePort.lockStockLevels(Set.of(1L, 2L))).thenReturn(Map.of(
+                1L, new StockLevel(1L, 0, 0),
+                2L, new StockLevel(2L, 10, 2)
+        ));
+
+        // When
+        StockAdjustmentResult result = articleUseCase.adjustStocks(adjustments);
+
+        // Then
+        assertTrue(result.isApplied());
+        assertThat(result.getQuantities()).containsEntry(1L, 5).containsEntry(2L, 3);
+        Mockito.verify(articlePersistencePort).updateQuantities(Map.of(2L, 3, 1L, 5));
+    }
+
+    @Test
+    @DisplayName("Reject the whole stock batch and report the failing lines by position.")
+    void adjustStocks_ShouldRejectBatch_WhenAnyLineFails() {
+        // Given
+        List<StockAdjustment> adjustments = List.of(
+                new StockAdjustment(1L, -2),
+                new StockAdjustment(99L, 1),
+                new StockAdjustment(1L, -2)
+        );
+        Mockito.when(articlePersistencePort.lockStockLevels(Set.of(1L, 99L))).thenReturn(Map.of(
+                1L, new StockLevel(1L, 5, 2)
+        ));
+
+        // When
+        StockAdjustmentResult result = articleUseCase.adjustStocks(adjustments);
+
+        // Then
+        assertFalse(result.isApplied());
+        assertThat(result.getErrors()).containsOnlyKeys(1, 2);
+        assertThat(result.getErrors().get(1)).containsExactly(String.format(DomainConstants.ARTICLE_DOES_NOT_EXISTS, 99L));
+        assertThat(result.getErrors().get(2)).containsExactly(String.format(DomainConstants.INSUFFICIENT_STOCK_MESSAGE, 1L));
+        Mockito.verify(articlePersistencePort, Mockito.never()).updateQuantities(Mockito.anyMap());
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException when the number of stock slots is out of range.")
+    void shardStock_ThrowValidationException_WhenSlotsAreOutOfRange() {
+        // When
+        ValidationException exception = assertThrows(ValidationException.class, () -> articleUseCase.shardStock(1L, 1));
+
+        // Then
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.STOCK_SLOTS_RANGE_MESSAGE);
+        Mockito.verify(articlePersistencePort, Mockito.never()).shardStock(Mockito.anyLong(), Mockito.anyInt());
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException when the article to shard does not exist.")
+    void shardStock_ThrowValidationException_WhenArticleDoesNotExist() {
+        // Given
+        Mockito.when(articlePersistencePort.shardStock(99L, 8)).thenReturn(false);
+
+        // When
+        ValidationException exception = assertThrows(ValidationException.class, () -> articleUseCase.shardStock(99L, 8));
+
+        // Then
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.ARTICLE_DOES_NOT_EXISTS, 99L));
+    }
+}
@@ -3,11 +3,13 @@ package com.microservice.stock.domain.usecase;
 import com.microservice.stock.domain.exceptions.ValidationException;
 import com.microservice.stock.domain.model.Brand;
 import com.microservice.stock.domain.spi.IBrandPersistencePort;
+import com.microservice.stock.domain.util.Cursor;
 import com.microservice.stock.domain.util.DomainConstants;
 import com.microservice.stock.domain.util.Pagination;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -239,4 +241,44 @@ class BrandUseCaseTest {
         // Verify that the persistence port method was called once with the correct parameters
         Mockito.verify(brandPersistencePort, Mockito.times(1)).listBrands(0, 10, "name", "asc");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Throw a ValidationException when the cursor is not a valid token.")
+    void listBrandsAfter_ShouldThrowValidationException_WhenCursorIsInvalid(){
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
+            brandUseCase.listBrandsAfter(10, "name", "asc", "not a cursor");
+        });
+        assertThat(exception.getErrors()).contains(DomainConstants.INVALID_CURSOR_MESSAGE);
+        Mockito.verifyNoInteractions(brandPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Should decode the cursor and pass the seek position to the persistence port.")
+    void listBrandsAfter_ShouldPassDecodedCursor_WhenCursorIsValid(){
+        //Given
+        String after = new Cursor("Brand1", 1L).encode();
+        ArgumentCaptor<Cursor> cursorCaptor = ArgumentCaptor.forClass(Cursor.class);
+        Mockito.when(brandPersistencePort.listBrandsAfter(Mockito.eq(10), Mockito.eq("name"), Mockito.eq("asc"), cursorCaptor.capture()))
+                .thenReturn(new Pagination<>());
+
+        //When
+        brandUseCase.listBrandsAfter(10, "name", "asc", after);
+
+        //Then
+        assertEquals("Brand1", cursorCaptor.getValue().getSortKey());
+        assertEquals(1L, cursorCaptor.getValue().getId());
+    }
+
+    @Test
+    @DisplayName("Should request the first page when the cursor is empty.")
+    void listBrandsAfter_ShouldRequestFirstPage_WhenCursorIsEmpty(){
+        //Given
+        Mockito.when(brandPersistencePort.listBrandsAfter(10, "name", "asc", null)).thenReturn(new Pagination<>());
+
+        //When
+        brandUseCase.listBrandsAfter(10, "name", "asc", "");
+
+        //Then
+        Mockito.verify(brandPersistencePort, Mockito.times(1)).listBrandsAfter(10, "name", "asc", null);
+    }
+}
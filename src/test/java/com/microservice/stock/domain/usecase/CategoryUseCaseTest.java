@@ -232,5 +232,31 @@ class CategoryUseCaseTest {
         Mockito.verify(categoryPersistencePort, Mockito.times(1)).listCategory(0, 10, "name", "asc");
     }
 
+    @Test
+    @DisplayName("Throw a ValidationException when the page number is negative in slice mode.")
+    void listCategorySlice_ShouldThrowValidationException_WhenPageNumberIsNegative(){
+        ValidationException exception = assertThrows(ValidationException.class, () -> {
+            categoryUseCase.listCategorySlice(-1, 10, "name", "asc");
+        });
+        assertThat(exception.getErrors()).contains(DomainConstants.INVALID_PAGE_NUMBER_MESSAGE);
+        Mockito.verifyNoInteractions(categoryPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Should list categories without totals when the slice mode is requested.")
+    void listCategorySlice_ShouldDelegateToSliceQuery_WhenParametersAreValid(){
+        //Given
+        Pagination<Category> pagination = new Pagination<>();
+        pagination.setContent(List.of(new Category(1L, "Category1", "Description1")));
+        pagination.setTotalElements(DomainConstants.UNKNOWN_TOTAL);
+        Mockito.when(categoryPersistencePort.listCategorySlice(0, 10, "name", "asc")).thenReturn(pagination);
+
+        //When
+        Pagination<Category> result = categoryUseCase.listCategorySlice(0, 10, "name", "asc");
 
-}
\ No newline at end of file
+        //Then
+        assertFalse(result.isTotalKnown(), "The total should be reported as unknown.");
+        Mockito.verify(categoryPersistencePort, Mockito.times(1)).listCategorySlice(0, 10, "name", "asc");
+        Mockito.verify(categoryPersistencePort, Mockito.never()).listCategory(0, 10, "name", "asc");
+    }
+}
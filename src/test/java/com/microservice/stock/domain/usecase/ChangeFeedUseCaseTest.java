@@ -0,0 +1,59 @@
+package com.microservice.stock.domain.usecase;
+
+import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.domain.model.ChangeFeed;
+import com.microservice.stock.domain.spi.IChangeFeedPersistencePort;
+import com.microservice.stock.domain.util.DomainConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeFeedUseCaseTest {
+
+    @Mock
+    private IChangeFeedPersistencePort changeFeedPersistencePort;
+
+    private ChangeFeedUseCase changeFeedUseCase;
+
+    @BeforeEach
+    void setUp() {
+        changeFeedUseCase = new ChangeFeedUseCase(changeFeedPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException when the version is negative and the limit out of range.")
+    void listChanges_ThrowValidationException_WhenArgumentsAreInvalid() {
+        // When
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> changeFeedUseCase.listChanges(-1L, DomainConstants.CHANGE_LIMIT_MAX + 1));
+
+        // Then
+        assertThat(exception.getErrors())
+                .containsExactly(DomainConstants.CHANGE_VERSION_MESSAGE, DomainConstants.CHANGE_LIMIT_MESSAGE);
+        Mockito.verifyNoInteractions(changeFeedPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Return the changes after the given version.")
+    void listChanges_ReturnChanges_WhenArgumentsAreValid() {
+        // Given
+        ChangeFeed changeFeed = new ChangeFeed(List.of(), 42L);
+        Mockito.when(changeFeedPersistencePort.findChangesSince(10L, 100)).thenReturn(changeFeed);
+
+        // When
+        ChangeFeed result = changeFeedUseCase.listChanges(10L, 100);
+
+        // Then
+        assertThat(result).isSameAs(changeFeed);
+    }
+}
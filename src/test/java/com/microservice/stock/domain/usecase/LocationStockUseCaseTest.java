@@ -0,0 +1,97 @@
+package com.microservice.stock.domain.usecase;
+
+import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.domain.spi.IArticlePersistencePort;
+import com.microservice.stock.domain.spi.ILocationStockPersistencePort;
+import com.microservice.stock.domain.util.DomainConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class LocationStockUseCaseTest {
+
+    @Mock
+    private ILocationStockPersistencePort locationStockPersistencePort;
+
+    @Mock
+    private IArticlePersistencePort articlePersistencePort;
+
+    private LocationStockUseCase locationStockUseCase;
+
+    @BeforeEach
+    void setUp() {
+        locationStockUseCase = new LocationStockUseCase(locationStockPersistencePort, articlePersistencePort);
+    }
+
+    @Test
+    @DisplayName("Move the location and the article total by the same delta.")
+    void adjustLocationStock_ShouldAdjustTotal_WhenLocationHasStock() {
+        // Given
+        Mockito.when(articlePersistencePort.existById(1L)).thenReturn(true);
+        Mockito.when(locationStockPersistencePort.adjustLocationQuantity(1L, "BOG-01", -3)).thenReturn(true);
+        Mockito.when(articlePersistencePort.adjustQuantity(1L, -3)).thenReturn(Optional.of(7));
+
+        // When
+        int quantity = locationStockUseCase.adjustLocationStock(1L, " bog-01 ", -3);
+
+        // Then
+        assertEquals(7, quantity);
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException and leave the total alone when the location is short of stock.")
+    void adjustLocationStock_ThrowValidationException_WhenLocationIsShort() {
+        // Given
+        Mockito.when(articlePersistencePort.existById(1L)).thenReturn(true);
+        Mockito.when(locationStockPersistencePort.adjustLocationQuantity(1L, "BOG-01", -3)).thenReturn(false);
+
+        // When
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> locationStockUseCase.adjustLocationStock(1L, "BOG-01", -3));
+
+        // Then
+        assertThat(exception.getErrors())
+                .containsExactly(String.format(DomainConstants.INSUFFICIENT_LOCATION_STOCK_MESSAGE, "BOG-01", 1L));
+        Mockito.verify(articlePersistencePort, Mockito.never()).adjustQuantity(Mockito.anyLong(), Mockito.anyInt());
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException when transferring to the same location.")
+    void transferStock_ThrowValidationException_WhenLocationsAreTheSame() {
+        // When
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> locationStockUseCase.transferStock(1L, "BOG-01", "bog-01", 2));
+
+        // Then
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.TRANSFER_SAME_LOCATION_MESSAGE);
+        Mockito.verifyNoInteractions(locationStockPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException when the source location does not have enough stock.")
+    void transferStock_ThrowValidationException_WhenSourceIsShort() {
+        // Given
+        Mockito.when(articlePersistencePort.existById(1L)).thenReturn(true);
+        Mockito.when(locationStockPersistencePort.transfer(1L, "BOG-01", "MDE-01", 5)).thenReturn(false);
+
+        // When
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> locationStockUseCase.transferStock(1L, "BOG-01", "MDE-01", 5));
+
+        // Then
+        assertThat(exception.getErrors())
+                .containsExactly(String.format(DomainConstants.INSUFFICIENT_LOCATION_STOCK_MESSAGE, "BOG-01", 1L));
+        Mockito.verify(articlePersistencePort, Mockito.never()).adjustQuantity(Mockito.anyLong(), Mockito.anyInt());
+    }
+}
@@ -0,0 +1,124 @@
+package com.microservice.stock.domain.usecase;
+
+import com.microservice.stock.domain.exceptions.ConflictException;
+import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.domain.model.Reservation;
+import com.microservice.stock.domain.spi.IArticlePersistencePort;
+import com.microservice.stock.domain.spi.IReservationExpiryPort;
+import com.microservice.stock.domain.spi.IReservationPersistencePort;
+import com.microservice.stock.domain.util.DomainConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationUseCaseTest {
+
+    private static final Instant NOW = Instant.parse("2024-09-01T10:00:00Z");
+
+    @Mock
+    private IReservationPersistencePort reservationPersistencePort;
+
+    @Mock
+    private IArticlePersistencePort articlePersistencePort;
+
+    @Mock
+    private IReservationExpiryPort reservationExpiryPort;
+
+    private ReservationUseCase reservationUseCase;
+
+    @BeforeEach
+    void setUp() {
+        reservationUseCase = new ReservationUseCase(reservationPersistencePort, articlePersistencePort,
+                reservationExpiryPort, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Hold the units and schedule the expiry of the reservation.")
+    void reserve_ShouldScheduleExpiry_WhenStockIsAvailable() {
+        // Given
+        Mockito.when(reservationPersistencePort.reserve(Mockito.any(Reservation.class))).thenReturn(true);
+
+        // When
+        Reservation reservation = reservationUseCase.reserve(1L, 2, 300);
+
+        // Then
+        assertEquals(1L, reservation.getArticleId());
+        assertEquals(NOW.plusSeconds(300), reservation.getExpiresAt());
+        Mockito.verify(reservationExpiryPort).scheduleExpiry(reservation.getId(), NOW.plusSeconds(300));
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException when the article does not have enough available stock.")
+    void reserve_ThrowValidationException_WhenStockIsNotAvailable() {
+        // Given
+        Mockito.when(reservationPersistencePort.reserve(Mockito.any(Reservation.class))).thenReturn(false);
+        Mockito.when(articlePersistencePort.existById(1L)).thenReturn(true);
+
+        // When
+        ValidationException exception = assertThrows(ValidationException.class, () -> reservationUseCase.reserve(1L, 2, 300));
+
+        // Then
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.INSUFFICIENT_AVAILABLE_STOCK_MESSAGE, 1L));
+        Mockito.verifyNoInteractions(reservationExpiryPort);
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException when confirming a reservation past its deadline.")
+    void confirm_ThrowValidationException_WhenReservationHasExpired() {
+        // Given
+        Reservation reservation = new Reservation("r1", 1L, 2, NOW.minusSeconds(1));
+        Mockito.when(reservationPersistencePort.findReservation("r1")).thenReturn(Optional.of(reservation));
+
+        // When
+        ValidationException exception = assertThrows(ValidationException.class, () -> reservationUseCase.confirm("r1"));
+
+        // Then
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.RESERVATION_EXPIRED_MESSAGE, "r1"));
+        Mockito.verify(reservationPersistencePort, Mockito.never()).removeReservation(Mockito.any());
+        Mockito.verify(reservationPersistencePort, Mockito.never()).confirm(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Throw a ConflictException when the article no longer has the held units reserved.")
+    void confirm_ThrowConflictException_WhenReservedUnitsAreMissing() {
+        // Given
+        Reservation reservation = new Reservation("r1", 1L, 2, NOW.plusSeconds(60));
+        Mockito.when(reservationPersistencePort.findReservation("r1")).thenReturn(Optional.of(reservation));
+        Mockito.when(reservationPersistencePort.removeReservation("r1")).thenReturn(Optional.of(reservation));
+        Mockito.when(reservationPersistencePort.confirm(reservation)).thenReturn(false);
+
+        // When
+        ConflictException exception = assertThrows(ConflictException.class, () -> reservationUseCase.confirm("r1"));
+
+        // Then
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.RESERVATION_NOT_BACKED_MESSAGE, "r1", 1L));
+        Mockito.verifyNoInteractions(reservationExpiryPort);
+    }
+
+    @Test
+    @DisplayName("Do nothing when the reservation was already confirmed or released before it expired.")
+    void expire_ShouldDoNothing_WhenReservationIsGone() {
+        // Given
+        Mockito.when(reservationPersistencePort.removeReservation("r1")).thenReturn(Optional.empty());
+
+        // When
+        reservationUseCase.expire("r1");
+
+        // Then
+        Mockito.verify(reservationPersistencePort, Mockito.never()).release(Mockito.any());
+    }
+}
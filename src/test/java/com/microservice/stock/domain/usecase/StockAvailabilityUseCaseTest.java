@@ -0,0 +1,62 @@
+package com.microservice.stock.domain.usecase;
+
+import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.domain.model.StockAvailability;
+import com.microservice.stock.domain.spi.IStockAvailabilityPersistencePort;
+import com.microservice.stock.domain.util.DomainConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class StockAvailabilityUseCaseTest {
+
+    @Mock
+    private IStockAvailabilityPersistencePort stockAvailabilityPersistencePort;
+
+    private StockAvailabilityUseCase stockAvailabilityUseCase;
+
+    @BeforeEach
+    void setUp() {
+        stockAvailabilityUseCase = new StockAvailabilityUseCase(stockAvailabilityPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException when an article ID is null.")
+    void checkAvailability_ThrowValidationException_WhenArticleIdIsNull() {
+        // When
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> stockAvailabilityUseCase.checkAvailability(Arrays.asList(1L, null)));
+
+        // Then
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.FIELD_ARTICLE_ID_NOT_NULL_MESSAGE);
+        Mockito.verifyNoInteractions(stockAvailabilityPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Return each existing article once, in request order.")
+    void checkAvailability_ReturnDistinctExistingArticles_InRequestOrder() {
+        // Given
+        Mockito.when(stockAvailabilityPersistencePort.findQuantities(new LinkedHashSet<>(List.of(3L, 1L, 2L))))
+                .thenReturn(Map.of(1L, 5, 3L, 0));
+
+        // When
+        List<StockAvailability> availability = stockAvailabilityUseCase.checkAvailability(List.of(3L, 1L, 3L, 2L));
+
+        // Then
+        assertThat(availability).extracting(StockAvailability::getArticleId).containsExactly(3L, 1L);
+        assertThat(availability).extracting(StockAvailability::getQuantity).containsExactly(0, 5);
+    }
+}
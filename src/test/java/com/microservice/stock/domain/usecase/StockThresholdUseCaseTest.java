@@ -0,0 +1,55 @@
+package com.microservice.stock.domain.usecase;
+
+import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.domain.spi.IStockThresholdPersistencePort;
+import com.microservice.stock.domain.util.DomainConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class StockThresholdUseCaseTest {
+
+    @Mock
+    private IStockThresholdPersistencePort stockThresholdPersistencePort;
+
+    private StockThresholdUseCase stockThresholdUseCase;
+
+    @BeforeEach
+    void setUp() {
+        stockThresholdUseCase = new StockThresholdUseCase(stockThresholdPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException when the threshold is negative.")
+    void setThreshold_ThrowValidationException_WhenThresholdIsNegative() {
+        // When
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> stockThresholdUseCase.setThreshold(1L, -1));
+
+        // Then
+        assertThat(exception.getErrors()).containsExactly(DomainConstants.REORDER_THRESHOLD_MESSAGE);
+        Mockito.verifyNoInteractions(stockThresholdPersistencePort);
+    }
+
+    @Test
+    @DisplayName("Throw a ValidationException when the article does not exist.")
+    void setThreshold_ThrowValidationException_WhenArticleDoesNotExist() {
+        // Given
+        Mockito.when(stockThresholdPersistencePort.setThreshold(1L, 5)).thenReturn(false);
+
+        // When
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> stockThresholdUseCase.setThreshold(1L, 5));
+
+        // Then
+        assertThat(exception.getErrors()).containsExactly(String.format(DomainConstants.ARTICLE_DOES_NOT_EXISTS, 1L));
+    }
+}
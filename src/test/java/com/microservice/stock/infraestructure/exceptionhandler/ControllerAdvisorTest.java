@@ -0,0 +1,55 @@
+package com.microservice.stock.infraestructure.exceptionhandler;
+
+import com.microservice.stock.domain.util.DomainConstants;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ControllerAdvisorTest {
+
+    private final ControllerAdvisor controllerAdvisor = new ControllerAdvisor();
+
+    @Test
+    @DisplayName("Should answer 409 when the unique name key rejects a concurrent create")
+    void handleDataIntegrityViolationException_ShouldReturnConflict_WhenNameKeyIsViolated() {
+        // Given
+        DataIntegrityViolationException ex = violation("bd_stock.brand.uk_brand_name_key");
+
+        // When
+        ResponseEntity<Map<String, Object>> response = controllerAdvisor.handleDataIntegrityViolationException(ex);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(List.of(DomainConstants.NAME_ALREADY_TAKEN_MESSAGE), response.getBody().get("errors"));
+    }
+
+    @Test
+    @DisplayName("Should leave any other integrity violation to the default error handling")
+    void handleDataIntegrityViolationException_ShouldRethrow_WhenOtherConstraintIsViolated() {
+        // Given
+        DataIntegrityViolationException ex = violation("uk_location_stock_article_location");
+
+        // When
+        DataIntegrityViolationException thrown = assertThrows(DataIntegrityViolationException.class,
+                () -> controllerAdvisor.handleDataIntegrityViolationException(ex));
+
+        // Then
+        assertSame(ex, thrown);
+    }
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("Duplicate entry", new SQLException("Duplicate entry"), constraintName));
+    }
+}
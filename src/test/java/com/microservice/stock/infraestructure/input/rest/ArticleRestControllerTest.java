@@ -0,0 +1,44 @@
+package com.microservice.stock.infraestructure.input.rest;
+
+import com.microservice.stock.application.cache.CatalogVersions;
+import com.microservice.stock.application.handler.IArticleHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleRestControllerTest {
+
+    @Mock
+    private IArticleHandler articleHandler;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new ArticleRestController(articleHandler, new CatalogVersions()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 to the wildcard once the query is accepted")
+    void listArticles_ShouldReturnNotModified_WhenIfNoneMatchIsWildcard() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/article").param("page", "0").param("size", "10").param("includeTotal", "false")
+                        .header(HttpHeaders.IF_NONE_MATCH, "*"))
+                .andExpect(status().isNotModified())
+                .andExpect(header().exists(HttpHeaders.ETAG));
+        Mockito.verify(articleHandler).listArticlesSlice(0, 10, null, "asc");
+    }
+}
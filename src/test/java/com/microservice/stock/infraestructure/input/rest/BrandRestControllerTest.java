@@ -0,0 +1,114 @@
+package com.microservice.stock.infraestructure.input.rest;
+
+import com.microservice.stock.application.cache.CatalogVersions;
+import com.microservice.stock.application.cache.PageKey;
+import com.microservice.stock.application.dto.request.BrandRequest;
+import com.microservice.stock.application.handler.IBrandHandler;
+import com.microservice.stock.domain.exceptions.ValidationException;
+import com.microservice.stock.infraestructure.exceptionhandler.ControllerAdvisor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class BrandRestControllerTest {
+
+    @Mock
+    private IBrandHandler brandHandler;
+
+    private CatalogVersions catalogVersions;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersions = new CatalogVersions();
+        mockMvc = MockMvcBuilders.standaloneSetup(new BrandRestController(brandHandler, catalogVersions))
+                .setControllerAdvice(new ControllerAdvisor())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without a body when If-None-Match holds the current tag")
+    void listBrands_ShouldReturnNotModified_WhenTagMatches() throws Exception {
+        // Given
+        String eTag = listBrands(null).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Mockito.clearInvocations(brandHandler);
+
+        // When
+        ResultActions response = listBrands("W/" + eTag);
+
+        // Then
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should answer 400 to an invalid query even when If-None-Match holds its tag")
+    void listBrands_ShouldReturnBadRequest_WhenQueryIsInvalidAndTagMatches() throws Exception {
+        // Given
+        Mockito.when(brandHandler.listBrands(0, 10, "price", "asc"))
+                .thenThrow(new ValidationException(new ArrayList<>(List.of("Invalid sort field"))));
+        String eTag = ListETag.of(catalogVersions.tag(PageKey.BRAND), 0, 10, "price", "asc", null, true);
+
+        // When
+        ResultActions response = mockMvc.perform(get("/brand").param("page", "0").param("size", "10")
+                .param("sortBy", "price").header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // Then
+        response.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should read the page again when a brand was created after the tag was taken")
+    void listBrands_ShouldReturnPage_WhenBrandCreatedSinceTag() throws Exception {
+        // Given
+        // Stands in for the handler, which bumps the brand version once the create commits
+        Mockito.doAnswer(invocation -> {
+            catalogVersions.bump(PageKey.BRAND);
+            return null;
+        }).when(brandHandler).createBrand(Mockito.any(BrandRequest.class));
+        String eTag = listBrands(null).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(post("/brand/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Acme\",\"description\":\"Hand tools\"}"))
+                .andExpect(status().isCreated());
+
+        // When
+        ResultActions response = listBrands(eTag);
+
+        // Then
+        response.andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+        Mockito.verify(brandHandler, Mockito.times(2)).listBrands(0, 10, "name", "asc");
+    }
+
+    private ResultActions listBrands(String ifNoneMatch) throws Exception {
+        MockHttpServletRequestBuilder request = get("/brand").param("page", "0").param("size", "10").param("sortBy", "name");
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request);
+    }
+}
@@ -0,0 +1,48 @@
+package com.microservice.stock.infraestructure.input.rest;
+
+import com.microservice.stock.application.cache.CatalogVersions;
+import com.microservice.stock.application.handler.ICategoryHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryRestControllerTest {
+
+    @Mock
+    private ICategoryHandler categoryHandler;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new CategoryRestController(categoryHandler, new CatalogVersions()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for a cursor page when the current tag is in the If-None-Match list")
+    void listCategories_ShouldReturnNotModified_WhenTagIsInList() throws Exception {
+        // Given
+        String eTag = mockMvc.perform(get("/category").param("size", "5").param("after", ""))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Mockito.clearInvocations(categoryHandler);
+
+        // When & Then
+        mockMvc.perform(get("/category").param("size", "5").param("after", "")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\", " + eTag))
+                .andExpect(status().isNotModified());
+        Mockito.verify(categoryHandler).listCategoriesAfter(5, null, "asc", "");
+    }
+}
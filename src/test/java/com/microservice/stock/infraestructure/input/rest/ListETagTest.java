@@ -0,0 +1,31 @@
+package com.microservice.stock.infraestructure.input.rest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ListETagTest {
+
+    private final String eTag = ListETag.of("1f-3", 0, 10, "name", "asc", null, true);
+
+    @Test
+    @DisplayName("Should match the tag with a weak prefix, the wildcard and inside a comma-separated list")
+    void matches_ShouldAcceptWeakPrefixWildcardAndList() {
+        // Then
+        assertTrue(ListETag.matches(eTag, eTag));
+        assertTrue(ListETag.matches("W/" + eTag, eTag));
+        assertTrue(ListETag.matches("*", eTag));
+        assertTrue(ListETag.matches("\"1f-2-abc\", W/" + eTag + " ,\"other\"", eTag));
+    }
+
+    @Test
+    @DisplayName("Should not match a missing header, another version or another query")
+    void matches_ShouldReject_WhenVersionOrQueryDiffers() {
+        // Then
+        assertFalse(ListETag.matches(null, eTag));
+        assertFalse(ListETag.matches(ListETag.of("1f-4", 0, 10, "name", "asc", null, true), eTag));
+        assertFalse(ListETag.matches(ListETag.of("1f-3", 1, 10, "name", "asc", null, true), eTag));
+    }
+}
@@ -0,0 +1,127 @@
+package com.microservice.stock.infraestructure.out.availability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StockQuantityIndexTest {
+
+    private StockQuantityIndex stockQuantityIndex;
+
+    @BeforeEach
+    void setUp() {
+        stockQuantityIndex = new StockQuantityIndex(new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should add deltas to the loaded total and pass each total on with a growing version")
+    void stockAdjusted_ShouldAddDeltasToLoadedTotal() {
+        // Given
+        List<String> totals = new ArrayList<>();
+        stockQuantityIndex = new StockQuantityIndex(new SimpleMeterRegistry(),
+                List.of((version, articleId, quantity) -> totals.add(version + ":" + articleId + "=" + quantity)));
+        stockQuantityIndex.load(1L, 10, 0);
+
+        // When
+        stockQuantityIndex.stockAdjusted(1L, -1, 0);
+        stockQuantityIndex.stockAdjusted(1L, -1, 0);
+        stockQuantityIndex.load(1L, 9, 0);
+        stockQuantityIndex.articleCreated(2L, 4);
+
+        // Then
+        assertThat(stockQuantityIndex.findAvailableQuantities(List.of(1L, 2L))).containsExactlyInAnyOrderEntriesOf(
+                Map.of(1L, 8, 2L, 4));
+        assertThat(totals).containsExactly("1:1=9", "2:1=8", "3:2=4");
+    }
+
+    @Test
+    @DisplayName("Should leave held units out of the available quantity and pass on only quantity changes")
+    void stockAdjusted_ShouldSubtractReservedUnits() {
+        // Given
+        List<String> totals = new ArrayList<>();
+        stockQuantityIndex = new StockQuantityIndex(new SimpleMeterRegistry(),
+                List.of((version, articleId, quantity) -> totals.add(version + ":" + articleId + "=" + quantity)));
+        stockQuantityIndex.load(1L, 10, 2);
+
+        // When
+        stockQuantityIndex.stockAdjusted(1L, 0, 3);
+        stockQuantityIndex.stockAdjusted(1L, -3, -3);
+
+        // Then
+        assertThat(stockQuantityIndex.findAvailableQuantities(List.of(1L))).containsExactlyEntriesOf(Map.of(1L, 5));
+        assertThat(totals).containsExactly("1:1=7");
+    }
+
+    @Test
+    @DisplayName("Should drop deltas for an article it holds no total for")
+    void stockAdjusted_ShouldIgnoreUnknownArticle() {
+        // When
+        stockQuantityIndex.stockAdjusted(3L, 5, 0);
+
+        // Then
+        assertThat(stockQuantityIndex.findAvailableQuantities(List.of(3L))).isEmpty();
+        assertEquals(0, stockQuantityIndex.size());
+    }
+
+    @Test
+    @DisplayName("Should take refreshed totals, including those of articles it did not hold, and pass quantity changes on")
+    void refresh_ShouldReplaceTotals_WhenArticleUnchangedSinceRead() {
+        // Given
+        List<String> totals = new ArrayList<>();
+        stockQuantityIndex = new StockQuantityIndex(new SimpleMeterRegistry(),
+                List.of((version, articleId, quantity) -> totals.add(version + ":" + articleId + "=" + quantity)));
+        stockQuantityIndex.load(1L, 10, 0);
+        long readAfter = stockQuantityIndex.changeCount();
+
+        // When
+        stockQuantityIndex.refresh(1L, 7, 1, readAfter);
+        stockQuantityIndex.refresh(1L, 7, 1, readAfter);
+        stockQuantityIndex.refresh(2L, 4, 0, readAfter);
+        stockQuantityIndex.stockAdjusted(2L, -1, 0);
+
+        // Then
+        assertThat(stockQuantityIndex.findAvailableQuantities(List.of(1L, 2L))).containsExactlyInAnyOrderEntriesOf(
+                Map.of(1L, 6, 2L, 3));
+        assertThat(totals).containsExactly("1:1=7", "2:2=4", "3:2=3");
+    }
+
+    @Test
+    @DisplayName("Should keep the totals of an article changed here after the refresh read began")
+    void refresh_ShouldKeepTotals_WhenArticleChangedSinceRead() {
+        // Given
+        stockQuantityIndex.load(1L, 10, 0);
+        long readAfter = stockQuantityIndex.changeCount();
+        stockQuantityIndex.stockAdjusted(1L, 0, 2);
+
+        // When
+        stockQuantityIndex.refresh(1L, 10, 0, readAfter);
+
+        // Then
+        assertThat(stockQuantityIndex.findAvailableQuantities(List.of(1L))).containsExactlyEntriesOf(Map.of(1L, 8));
+    }
+
+    @Test
+    @DisplayName("Should keep every article after growing past its initial capacity")
+    void load_ShouldKeepAllArticles_WhenTableGrows() {
+        // Given
+        List<Long> articleIds = LongStream.rangeClosed(1, 200_000).boxed().toList();
+
+        // When
+        articleIds.forEach(articleId -> stockQuantityIndex.load(articleId, (int) (articleId % 1000), 0));
+
+        // Then
+        Map<Long, Integer> quantities = stockQuantityIndex.findAvailableQuantities(articleIds);
+        assertEquals(200_000, stockQuantityIndex.size());
+        assertEquals(200_000, quantities.size());
+        assertEquals(999, quantities.get(199_999L));
+    }
+}
@@ -0,0 +1,105 @@
+package com.microservice.stock.infraestructure.out.cache;
+
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.model.Brand;
+import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.spi.IArticlePersistencePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleNameFilterAdapterTest {
+
+    @Mock
+    private IArticlePersistencePort articlePersistencePort;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private ArticleNameFilterAdapter articleNameFilterAdapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        articleNameFilterAdapter = new ArticleNameFilterAdapter(articlePersistencePort, 1_000, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should ask the database while the existing names are not loaded")
+    void existByName_ShouldDelegate_WhenNotLoaded() {
+        // Given
+        when(articlePersistencePort.existByName("Article1")).thenReturn(true);
+
+        // When
+        boolean exists = articleNameFilterAdapter.existByName("Article1");
+
+        // Then
+        assertTrue(exists);
+        verify(articlePersistencePort, times(1)).existByName("Article1");
+    }
+
+    @Test
+    @DisplayName("Should answer absent names without going to the database")
+    void existByName_ShouldNotDelegate_WhenNameIsAbsent() {
+        // Given
+        articleNameFilterAdapter.addExistingNames(List.of("article1"));
+        articleNameFilterAdapter.markLoaded();
+
+        // When
+        boolean exists = articleNameFilterAdapter.existByName("Article2");
+
+        // Then
+        assertFalse(exists);
+        verify(articlePersistencePort, never()).existByName(anyString());
+        assertThat(meterRegistry.get("stock.article.name.filter.checks").tag("result", "absent").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should check the database for a name created after loading, ignoring case")
+    void existByName_ShouldDelegate_WhenNameWasCreated() {
+        // Given
+        articleNameFilterAdapter.markLoaded();
+        Article article = new Article(null, "Article1", "Description", 3, new BigDecimal("10.00"),
+                new Brand(1L, null, null), List.of(new Category(1L, null, null)));
+        articleNameFilterAdapter.createArticle(article);
+        when(articlePersistencePort.existByName("ARTICLE1")).thenReturn(true);
+
+        // When
+        boolean exists = articleNameFilterAdapter.existByName("ARTICLE1");
+
+        // Then
+        assertTrue(exists);
+        verify(articlePersistencePort, times(1)).createArticle(article);
+        verify(articlePersistencePort, times(1)).existByName("ARTICLE1");
+    }
+
+    @Test
+    @DisplayName("Should only send maybe present names of a batch to the database")
+    void findExistingNames_ShouldOnlyDelegateMaybePresentNames() {
+        // Given
+        articleNameFilterAdapter.addExistingNames(List.of("article1"));
+        articleNameFilterAdapter.markLoaded();
+        when(articlePersistencePort.findExistingNames(List.of("Article1"))).thenReturn(Set.of("Article1"));
+
+        // When
+        Set<String> existingNames = articleNameFilterAdapter.findExistingNames(List.of("Article1", "Article2", "Article3"));
+
+        // Then
+        assertThat(existingNames).containsExactly("Article1");
+        verify(articlePersistencePort, times(1)).findExistingNames(List.of("Article1"));
+    }
+}
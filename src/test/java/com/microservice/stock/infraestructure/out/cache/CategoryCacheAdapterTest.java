@@ -0,0 +1,131 @@
+package com.microservice.stock.infraestructure.out.cache;
+
+import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.spi.ICategoryPersistencePort;
+import com.microservice.stock.domain.util.Pagination;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCacheAdapterTest {
+
+    @Mock
+    private ICategoryPersistencePort categoryPersistencePort;
+
+    private CategoryCacheAdapter categoryCacheAdapter;
+
+    @BeforeEach
+    void setUp() {
+        categoryCacheAdapter = new CategoryCacheAdapter(categoryPersistencePort, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Should answer id checks for known categories from memory")
+    void findMissingIds_ShouldNotQueryDelegate_WhenIdsAreKnown() {
+        // Given
+        when(categoryPersistencePort.listCategoryAfter(500, "name", "asc", null))
+                .thenReturn(page(new Category(1L, "Electronics", "Description"), new Category(2L, "Books", "Description")));
+
+        // When
+        Set<Long> first = categoryCacheAdapter.findMissingIds(List.of(1L, 2L));
+        boolean exists = categoryCacheAdapter.existById(2L);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertTrue(exists);
+        verify(categoryPersistencePort, times(1)).listCategoryAfter(500, "name", "asc", null);
+        verify(categoryPersistencePort, never()).findMissingIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should remember ids the database did not have")
+    void findMissingIds_ShouldCacheUnknownIds() {
+        // Given
+        when(categoryPersistencePort.listCategoryAfter(500, "name", "asc", null))
+                .thenReturn(page(new Category(1L, "Electronics", "Description")));
+        when(categoryPersistencePort.findMissingIds(Set.of(99L))).thenReturn(Set.of(99L));
+
+        // When
+        Set<Long> first = categoryCacheAdapter.findMissingIds(List.of(1L, 99L));
+        Set<Long> second = categoryCacheAdapter.findMissingIds(List.of(99L));
+
+        // Then
+        assertThat(first).containsExactly(99L);
+        assertThat(second).containsExactly(99L);
+        verify(categoryPersistencePort, times(1)).findMissingIds(Set.of(99L));
+    }
+
+    @Test
+    @DisplayName("Should reload the index after a category is created")
+    void createCategory_ShouldInvalidateIndex() {
+        // Given
+        Category category = new Category(null, "Toys", "Description");
+        when(categoryPersistencePort.listCategoryAfter(500, "name", "asc", null))
+                .thenReturn(page(new Category(1L, "Electronics", "Description")))
+                .thenReturn(page(new Category(1L, "Electronics", "Description"), new Category(2L, "Toys", "Description")));
+        when(categoryPersistencePort.findMissingIds(Set.of(2L))).thenReturn(Set.of(2L));
+
+        // When
+        Set<Long> before = categoryCacheAdapter.findMissingIds(List.of(2L));
+        categoryCacheAdapter.createCategory(category);
+        Set<Long> after = categoryCacheAdapter.findMissingIds(List.of(2L));
+
+        // Then
+        assertThat(before).containsExactly(2L);
+        assertThat(after).isEmpty();
+        assertTrue(categoryCacheAdapter.existsByName("toys"));
+        verify(categoryPersistencePort).createCategory(category);
+        verify(categoryPersistencePort, times(2)).listCategoryAfter(500, "name", "asc", null);
+        verify(categoryPersistencePort, never()).existsByName(anyString());
+    }
+
+    @Test
+    @DisplayName("Should keep the index until the transaction creating the category commits")
+    void createCategory_ShouldInvalidateIndex_AfterCommit() {
+        // Given
+        Category category = new Category(null, "Toys", "Description");
+        when(categoryPersistencePort.listCategoryAfter(500, "name", "asc", null))
+                .thenReturn(page(new Category(1L, "Electronics", "Description")))
+                .thenReturn(page(new Category(1L, "Electronics", "Description"), new Category(2L, "Toys", "Description")));
+        categoryCacheAdapter.findMissingIds(List.of(1L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        boolean beforeCommit;
+        try {
+            categoryCacheAdapter.createCategory(category);
+            beforeCommit = categoryCacheAdapter.existsByName("toys");
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        boolean afterCommit = categoryCacheAdapter.existsByName("toys");
+
+        // Then
+        assertFalse(beforeCommit);
+        assertTrue(afterCommit);
+        verify(categoryPersistencePort, times(2)).listCategoryAfter(500, "name", "asc", null);
+    }
+
+    private Pagination<Category> page(Category... categories) {
+        Pagination<Category> pagination = new Pagination<>();
+        pagination.setContent(List.of(categories));
+        pagination.setLast(true);
+        return pagination;
+    }
+}
@@ -0,0 +1,92 @@
+package com.microservice.stock.infraestructure.out.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.stock.application.cache.CatalogVersions;
+import com.microservice.stock.application.cache.PageKey;
+import com.microservice.stock.application.dto.response.PaginationResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PaginationResponseCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private PaginationResponseCache paginationResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        paginationResponseCache = new PaginationResponseCache(DataSize.ofMegabytes(1), Duration.ofMinutes(1),
+                new ObjectMapper(), new CatalogVersions(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should build a page once and serve it from the cache afterwards")
+    void get_ShouldLoadOnce_WhenSameKeyIsRequested() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        PageKey key = PageKey.page(PageKey.BRAND, 0, 10, "name", "asc");
+
+        // When
+        PaginationResponse<String> first = paginationResponseCache.get(key, () -> page(loads, "Brand"));
+        PaginationResponse<String> second = paginationResponseCache.get(key, () -> page(loads, "Brand"));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should only drop the pages of the resource that changed")
+    void invalidate_ShouldDropPagesOfResource() {
+        // Given
+        AtomicInteger brandLoads = new AtomicInteger();
+        AtomicInteger categoryLoads = new AtomicInteger();
+        PageKey brandKey = PageKey.page(PageKey.BRAND, 0, 10, "name", "asc");
+        PageKey categoryKey = PageKey.page(PageKey.CATEGORY, 0, 10, "name", "asc");
+        paginationResponseCache.get(brandKey, () -> page(brandLoads, "Brand"));
+        paginationResponseCache.get(categoryKey, () -> page(categoryLoads, "Category"));
+
+        // When
+        paginationResponseCache.invalidateAfterCommit(PageKey.BRAND);
+        paginationResponseCache.get(brandKey, () -> page(brandLoads, "Brand"));
+        paginationResponseCache.get(categoryKey, () -> page(categoryLoads, "Category"));
+
+        // Then
+        assertThat(brandLoads).hasValue(2);
+        assertThat(categoryLoads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should load a page again once it has expired, even if no write was seen")
+    void get_ShouldReload_WhenPageExpired() throws InterruptedException {
+        // Given
+        paginationResponseCache = new PaginationResponseCache(DataSize.ofMegabytes(1), Duration.ofMillis(1),
+                new ObjectMapper(), new CatalogVersions(), meterRegistry);
+        AtomicInteger loads = new AtomicInteger();
+        PageKey key = PageKey.page(PageKey.ARTICLE, 0, 10, "name", "asc");
+        paginationResponseCache.get(key, () -> page(loads, "Article"));
+        Thread.sleep(20);
+
+        // When
+        paginationResponseCache.get(key, () -> page(loads, "Article"));
+
+        // Then
+        assertThat(loads).hasValue(2);
+    }
+
+    private PaginationResponse<String> page(AtomicInteger loads, String name) {
+        loads.incrementAndGet();
+        return new PaginationResponse<>(List.of(name), 0, 10, 1, 1, true, true, true, false, null);
+    }
+}
@@ -0,0 +1,147 @@
+package com.microservice.stock.infraestructure.out.changes;
+
+import com.microservice.stock.application.cache.IPaginationResponseCache;
+import com.microservice.stock.application.cache.PageKey;
+import com.microservice.stock.domain.model.LowStock;
+import com.microservice.stock.domain.spi.ILowStockListenerPort;
+import com.microservice.stock.infraestructure.out.availability.StockQuantityIndex;
+import com.microservice.stock.infraestructure.out.jpa.repository.ChangedRow;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IBrandRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.ICategoryRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSlotRepository;
+import com.microservice.stock.infraestructure.out.lowstock.LowStockIndex;
+import com.microservice.stock.infraestructure.out.search.ArticleSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RemoteChangePollerTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private IArticleRepository articleRepository;
+
+    @Mock
+    private IStockSlotRepository stockSlotRepository;
+
+    @Mock
+    private IBrandRepository brandRepository;
+
+    @Mock
+    private ICategoryRepository categoryRepository;
+
+    @Mock
+    private IPaginationResponseCache paginationResponseCache;
+
+    @Mock
+    private ILowStockListenerPort lowStockListenerPort;
+
+    private StockQuantityIndex stockQuantityIndex;
+
+    private LowStockIndex lowStockIndex;
+
+    private ArticleSearchIndex articleSearchIndex;
+
+    private RemoteChangePoller remoteChangePoller;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        stockQuantityIndex = new StockQuantityIndex(meterRegistry);
+        lowStockIndex = new LowStockIndex(lowStockListenerPort, meterRegistry);
+        articleSearchIndex = new ArticleSearchIndex(meterRegistry);
+        remoteChangePoller = new RemoteChangePoller(articleRepository, stockSlotRepository, brandRepository,
+                categoryRepository, stockQuantityIndex, lowStockIndex, articleSearchIndex, paginationResponseCache,
+                Instant.now(), Duration.ZERO, BATCH_SIZE, Duration.ofSeconds(1), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should hand articles changed elsewhere to the quantity, low stock and search indexes")
+    void pollBatch_ShouldRefreshIndexes_WhenArticlesChangedElsewhere() {
+        // Given
+        stockQuantityIndex.load(1L, 10, 0);
+        when(articleRepository.findChangedSince(anyLong(), anyLong(), any())).thenReturn(List.of(new Row(2L, 5L)));
+        when(stockSlotRepository.findChangedSince(anyLong(), anyLong(), any())).thenReturn(List.of(new Row(1L, 6L)));
+        when(articleRepository.findStatesByIdIn(Set.of(2L, 1L))).thenReturn(List.of(
+                new State(1L, 4L, 1, null, "Desk", "Oak desk"),
+                new State(2L, 3L, 0, 5, "Lamp", "Desk lamp")));
+
+        // When
+        int refreshed = remoteChangePoller.pollBatch();
+
+        // Then
+        assertEquals(2, refreshed);
+        assertThat(stockQuantityIndex.findAvailableQuantities(List.of(1L, 2L))).containsExactlyInAnyOrderEntriesOf(
+                Map.of(1L, 3, 2L, 3));
+        assertThat(lowStockIndex.findLowStock(10)).extracting(LowStock::getArticleId).containsExactly(2L);
+        assertThat(articleSearchIndex.search("lamp", 0, 10).articleIds()).containsExactly(2L);
+        verify(paginationResponseCache).invalidate(PageKey.ARTICLE);
+    }
+
+    @Test
+    @DisplayName("Should drop the list pages of a resource changed elsewhere, and only those")
+    void pollBatch_ShouldInvalidatePages_WhenResourceChangedElsewhere() {
+        // Given
+        when(brandRepository.findChangedSince(anyLong(), anyLong(), any())).thenReturn(List.of(new Row(7L, 5L)));
+
+        // When
+        int refreshed = remoteChangePoller.pollBatch();
+
+        // Then
+        assertEquals(0, refreshed);
+        verify(paginationResponseCache).invalidate(PageKey.BRAND);
+        verify(paginationResponseCache, never()).invalidate(PageKey.CATEGORY);
+        verify(paginationResponseCache, never()).invalidate(PageKey.ARTICLE);
+        verify(articleRepository, never()).findStatesByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should stop a full page before its last version and read from there on the next poll")
+    void pollBatch_ShouldResumeBeforeLastVersion_WhenPageIsFull() {
+        // Given
+        when(articleRepository.findChangedSince(anyLong(), anyLong(), any()))
+                .thenReturn(List.of(new Row(1L, 100L), new Row(2L, 200L), new Row(3L, 200L)))
+                .thenReturn(List.of());
+        when(stockSlotRepository.findChangedSince(anyLong(), anyLong(), any())).thenReturn(List.of());
+        when(articleRepository.findStatesByIdIn(anyCollection())).thenReturn(List.of());
+
+        // When
+        int first = remoteChangePoller.pollBatch();
+        remoteChangePoller.pollBatch();
+
+        // Then
+        assertEquals(1, first);
+        verify(articleRepository).findStatesByIdIn(Set.of(1L));
+        verify(articleRepository).findChangedSince(eq(100L), anyLong(), any());
+    }
+
+    private record Row(Long getId, Long getVersion) implements ChangedRow {
+    }
+
+    private record State(Long getId, Long getQuantity, Integer getReserved, Integer getThreshold, String getName,
+                         String getDescription) implements IArticleRepository.ArticleState {
+    }
+}
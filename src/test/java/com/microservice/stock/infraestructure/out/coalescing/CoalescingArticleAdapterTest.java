@@ -0,0 +1,70 @@
+package com.microservice.stock.infraestructure.out.coalescing;
+
+import com.microservice.stock.domain.spi.IArticlePersistencePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingArticleAdapterTest {
+
+    @Mock
+    private IArticlePersistencePort articlePersistencePort;
+
+    private CoalescingArticleAdapter coalescingArticleAdapter;
+
+    @BeforeEach
+    void setUp() {
+        coalescingArticleAdapter = new CoalescingArticleAdapter(articlePersistencePort,
+                TransactionOperations.withoutTransaction(), Duration.ofMillis(1), Duration.ofSeconds(5),
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("Should write a delta made inside a transaction in that transaction rather than coalescing it")
+    void adjustQuantity_ShouldNotCoalesce_WhenTransactionIsActive() {
+        // Given
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(articlePersistencePort.adjustQuantity(1L, -2)).thenReturn(Optional.of(8));
+
+        // When
+        Optional<Integer> result = coalescingArticleAdapter.adjustQuantity(1L, -2);
+
+        // Then
+        assertThat(result).contains(8);
+        verify(articlePersistencePort, never()).findAvailableQuantity(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should coalesce a delta made outside a transaction")
+    void adjustQuantity_ShouldCoalesce_WhenNoTransactionIsActive() {
+        // Given
+        when(articlePersistencePort.findAvailableQuantity(1L)).thenReturn(Optional.of(10));
+        when(articlePersistencePort.adjustQuantity(1L, -2)).thenReturn(Optional.of(8));
+
+        // When
+        Optional<Integer> result = coalescingArticleAdapter.adjustQuantity(1L, -2);
+
+        // Then
+        assertThat(result).contains(8);
+        verify(articlePersistencePort, times(2)).findAvailableQuantity(1L);
+    }
+}
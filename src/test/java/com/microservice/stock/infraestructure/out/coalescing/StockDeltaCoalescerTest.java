@@ -0,0 +1,160 @@
+package com.microservice.stock.infraestructure.out.coalescing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StockDeltaCoalescerTest {
+
+    private static final Long ARTICLE_ID = 1L;
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    @DisplayName("Should accept exactly the available stock under concurrent decrements with fewer writes than requests")
+    void adjust_ShouldCoalesceConcurrentDecrements() throws Exception {
+        // Given
+        int callers = 20;
+        AtomicInteger quantity = new AtomicInteger(10);
+        AtomicInteger writes = new AtomicInteger();
+        StockDeltaCoalescer coalescer = new StockDeltaCoalescer(
+                id -> Optional.of(quantity.get()),
+                (id, delta) -> {
+                    writes.incrementAndGet();
+                    synchronized (quantity) {
+                        if (quantity.get() + delta < 0) {
+                            return Optional.empty();
+                        }
+                        return Optional.of(quantity.addAndGet(delta));
+                    }
+                },
+                TransactionOperations.withoutTransaction(), Duration.ofMillis(50), FLUSH_TIMEOUT,
+                new SimpleMeterRegistry());
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<Integer>>> results = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return coalescer.adjust(ARTICLE_ID, -1);
+            }));
+        }
+        start.countDown();
+        int accepted = 0;
+        for (Future<Optional<Integer>> result : results) {
+            accepted += result.get().isPresent() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(10, accepted);
+        assertEquals(0, quantity.get());
+        assertTrue(writes.get() < callers);
+    }
+
+    @Test
+    @DisplayName("Should reject a decrement larger than the local available count without writing")
+    void adjust_ShouldRejectLocally_WhenAvailableStockIsShort() {
+        // Given
+        AtomicInteger writes = new AtomicInteger();
+        StockDeltaCoalescer coalescer = new StockDeltaCoalescer(
+                id -> Optional.of(2),
+                (id, delta) -> {
+                    writes.incrementAndGet();
+                    return Optional.of(2 + delta);
+                },
+                TransactionOperations.withoutTransaction(), Duration.ofMillis(1), FLUSH_TIMEOUT,
+                new SimpleMeterRegistry());
+
+        // When
+        Optional<Integer> result = coalescer.adjust(ARTICLE_ID, -3);
+
+        // Then
+        assertThat(result).isEmpty();
+        assertEquals(0, writes.get());
+    }
+
+    @Test
+    @DisplayName("Should retry the delta on its own when the database rejects the window")
+    void adjust_ShouldRetryAlone_WhenWindowUpdateIsRejected() {
+        // Given
+        List<Integer> writtenDeltas = new ArrayList<>();
+        StockDeltaCoalescer coalescer = new StockDeltaCoalescer(
+                id -> Optional.of(5),
+                (id, delta) -> {
+                    writtenDeltas.add(delta);
+                    return writtenDeltas.size() == 1 ? Optional.empty() : Optional.of(3);
+                },
+                TransactionOperations.withoutTransaction(), Duration.ofMillis(1), FLUSH_TIMEOUT,
+                new SimpleMeterRegistry());
+
+        // When
+        Optional<Integer> result = coalescer.adjust(ARTICLE_ID, -2);
+
+        // Then
+        assertThat(result).contains(3);
+        assertThat(writtenDeltas).containsExactly(-2, -2);
+    }
+
+    @Test
+    @DisplayName("Should write the delta on its own when the flusher does not reach its window in time")
+    void adjust_ShouldWriteAlone_WhenFlusherIsBusy() throws Exception {
+        // Given
+        Long busyArticleId = 2L;
+        CountDownLatch busyFlushStarted = new CountDownLatch(1);
+        CountDownLatch releaseBusyFlush = new CountDownLatch(1);
+        List<Integer> writtenDeltas = new CopyOnWriteArrayList<>();
+        StockDeltaCoalescer coalescer = new StockDeltaCoalescer(
+                id -> Optional.of(5),
+                (id, delta) -> {
+                    if (id.equals(busyArticleId)) {
+                        busyFlushStarted.countDown();
+                        await(releaseBusyFlush);
+                        return Optional.of(5 + delta);
+                    }
+                    writtenDeltas.add(delta);
+                    return Optional.of(5 + delta);
+                },
+                TransactionOperations.withoutTransaction(), Duration.ofMillis(1), Duration.ofMillis(50),
+                new SimpleMeterRegistry());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<Optional<Integer>> busy = executor.submit(() -> coalescer.adjust(busyArticleId, -1));
+        assertTrue(busyFlushStarted.await(5, TimeUnit.SECONDS));
+
+        // When
+        Optional<Integer> result = coalescer.adjust(ARTICLE_ID, -1);
+        releaseBusyFlush.countDown();
+
+        // Then
+        assertThat(result).contains(4);
+        assertThat(writtenDeltas).containsExactly(-1);
+        assertThat(busy.get()).contains(4);
+        executor.shutdown();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.microservice.stock.infraestructure.out.jdbc.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.util.Cursor;
+import com.microservice.stock.domain.util.Pagination;
+import com.microservice.stock.infraestructure.out.jpa.adapter.ArticleJpaAdapter;
+import com.microservice.stock.infraestructure.out.jpa.adapter.ShardedStock;
+import com.microservice.stock.infraestructure.out.jpa.entity.ArticleEntity;
+import com.microservice.stock.infraestructure.out.jpa.entity.BrandEntity;
+import com.microservice.stock.infraestructure.out.jpa.entity.CategoryEntity;
+import com.microservice.stock.infraestructure.out.jpa.mapper.ArticleEntityMapper;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IOutboxEventRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSlotRepository;
+import com.microservice.stock.infraestructure.out.outbox.OutboxWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class ArticleJdbcAdapterTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IOutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private IStockSlotRepository stockSlotRepository;
+
+    private ArticleJpaAdapter articleJpaAdapter;
+
+    private ArticleJdbcAdapter articleJdbcAdapter;
+
+    @BeforeEach
+    void setUp() {
+        articleJpaAdapter = new ArticleJpaAdapter(articleRepository, Mappers.getMapper(ArticleEntityMapper.class),
+                new OutboxWriter(outboxEventRepository, new ObjectMapper(), Clock.systemUTC()),
+                new ShardedStock(articleRepository, stockSlotRepository), TransactionOperations.withoutTransaction());
+        articleJdbcAdapter = new ArticleJdbcAdapter(jdbcTemplate, articleJpaAdapter);
+
+        List<BrandEntity> brands = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            brands.add(testEntityManager.persist(new BrandEntity(null, "Brand" + i, "Description")));
+        }
+        List<CategoryEntity> categories = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            categories.add(testEntityManager.persist(new CategoryEntity(null, "Category" + i, "Description")));
+        }
+        for (int i = 0; i < 12; i++) {
+            ArticleEntity article = new ArticleEntity(null, "Article" + (char) ('A' + i), "Description", i,
+                    new BigDecimal("10.00"),
+                    brands.get(i % brands.size()),
+                    List.of(categories.get(i % categories.size()))
+            );
+            article.setCategorySortName("category" + (i % categories.size()));
+            testEntityManager.persist(article);
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @ParameterizedTest
+    @CsvSource({"name, asc", "brandName, desc", "categoryName, asc"})
+    @DisplayName("Should return the same page as the JPA adapter")
+    void listArticles_ShouldMatchJpaAdapter(String sortBy, String sortDirection) {
+        // When
+        Pagination<Article> expected = articleJpaAdapter.listArticles(1, 5, sortBy, sortDirection);
+        Pagination<Article> result = articleJdbcAdapter.listArticles(1, 5, sortBy, sortDirection);
+
+        // Then
+        assertThat(summary(result.getContent())).isEqualTo(summary(expected.getContent()));
+        assertThat(result.getTotalElements()).isEqualTo(expected.getTotalElements());
+        assertThat(result.getTotalPages()).isEqualTo(expected.getTotalPages());
+        assertThat(result.isFirst()).isEqualTo(expected.isFirst());
+        assertThat(result.isLast()).isEqualTo(expected.isLast());
+    }
+
+    @Test
+    @DisplayName("Should walk every article with the cursor in the same order as the JPA adapter")
+    void listArticlesAfter_ShouldMatchJpaAdapter() {
+        // Given
+        List<String> expected = summary(articleJpaAdapter.listArticles(0, 12, "categoryName", "desc").getContent());
+        List<String> result = new ArrayList<>();
+
+        // When
+        Pagination<Article> page = articleJdbcAdapter.listArticlesAfter(5, "categoryName", "desc", null);
+        result.addAll(summary(page.getContent()));
+        while (page.getNextCursor() != null) {
+            page = articleJdbcAdapter.listArticlesAfter(5, "categoryName", "desc", Cursor.decode(page.getNextCursor()));
+            result.addAll(summary(page.getContent()));
+        }
+
+        // Then
+        assertThat(result).isEqualTo(expected);
+        assertThat(page.isLast()).isTrue();
+    }
+
+    private List<String> summary(List<Article> articles) {
+        return articles.stream()
+                .map(article -> article.getId() + " " + article.getName() + " " + article.getBrand().getName() + " "
+                        + article.getCategories().stream().map(Category::getName).toList())
+                .toList();
+    }
+}
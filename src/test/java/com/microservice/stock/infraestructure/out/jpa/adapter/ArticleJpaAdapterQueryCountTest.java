@@ -0,0 +1,103 @@
+package com.microservice.stock.infraestructure.out.jpa.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.stock.domain.model.Article;
+import com.microservice.stock.domain.util.Pagination;
+import com.microservice.stock.infraestructure.out.jpa.entity.ArticleEntity;
+import com.microservice.stock.infraestructure.out.jpa.entity.BrandEntity;
+import com.microservice.stock.infraestructure.out.jpa.entity.CategoryEntity;
+import com.microservice.stock.infraestructure.out.jpa.mapper.ArticleEntityMapper;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IOutboxEventRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSlotRepository;
+import com.microservice.stock.infraestructure.out.outbox.OutboxWriter;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ArticleJpaAdapterQueryCountTest {
+
+    private static final int ARTICLES = 30;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private IOutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private IStockSlotRepository stockSlotRepository;
+
+    private ArticleJpaAdapter articleJpaAdapter;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        articleJpaAdapter = new ArticleJpaAdapter(articleRepository, Mappers.getMapper(ArticleEntityMapper.class),
+                new OutboxWriter(outboxEventRepository, new ObjectMapper(), Clock.systemUTC()),
+                new ShardedStock(articleRepository, stockSlotRepository), TransactionOperations.withoutTransaction());
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        List<BrandEntity> brands = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            brands.add(testEntityManager.persist(new BrandEntity(null, "Brand" + i, "Description")));
+        }
+        List<CategoryEntity> categories = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            categories.add(testEntityManager.persist(new CategoryEntity(null, "Category" + i, "Description")));
+        }
+        for (int i = 0; i < ARTICLES; i++) {
+            testEntityManager.persist(new ArticleEntity(null, "Article" + i, "Description", i,
+                    new BigDecimal("10.00"),
+                    brands.get(i % brands.size()),
+                    List.of(categories.get(i % categories.size()), categories.get((i + 1) % categories.size()))
+            ));
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 10, 25})
+    @DisplayName("Should load a page of articles with brands and categories in a fixed number of queries")
+    void listArticles_ShouldUseFixedNumberOfQueries_RegardlessOfPageSize(int pageSize) {
+        // When
+        Pagination<Article> result = articleJpaAdapter.listArticles(0, pageSize, "name", "asc");
+
+        // Then
+        assertThat(result.getContent()).hasSize(pageSize);
+        assertThat(result.getTotalElements()).isEqualTo(ARTICLES);
+        result.getContent().forEach(article -> {
+            assertThat(article.getBrand().getName()).startsWith("Brand");
+            assertThat(article.getCategories()).hasSize(2);
+        });
+        // Page query with the brand joined, count query and one query for the categories of the page
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+    }
+}
@@ -3,6 +3,7 @@ package com.microservice.stock.infraestructure.out.jpa.adapter;
 import com.microservice.stock.domain.model.Article;
 import com.microservice.stock.domain.model.Brand;
 import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.util.NameKey;
 import com.microservice.stock.domain.util.Pagination;
 import com.microservice.stock.infraestructure.out.jpa.entity.ArticleEntity;
 import com.microservice.stock.infraestructure.out.jpa.entity.BrandEntity;
@@ -10,18 +11,24 @@ import com.microservice.stock.infraestructure.out.jpa.entity.CategoryEntity;
 import com.microservice.stock.infraestructure.out.jpa.mapper.ArticleEntityMapper;
 import com.microservice.stock.infraestructure.out.jpa.mapper.ArticlePageMapper;
 import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSlotRepository;
+import com.microservice.stock.infraestructure.out.outbox.OutboxWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,6 +44,12 @@ class ArticleJpaAdapterTest {
     @Mock
     private ArticleEntityMapper articleEntityMapper;
 
+    @Mock
+    private OutboxWriter outboxWriter;
+
+    @Mock
+    private IStockSlotRepository stockSlotRepository;
+
     @InjectMocks
     private ArticleJpaAdapter articleJpaAdapter;
 
@@ -45,7 +58,8 @@ class ArticleJpaAdapterTest {
     @BeforeEach
     void setUp(){
         articlePageMapper = new ArticlePageMapper(articleEntityMapper);
-        articleJpaAdapter = new ArticleJpaAdapter(articleRepository, articleEntityMapper);
+        articleJpaAdapter = new ArticleJpaAdapter(articleRepository, articleEntityMapper, outboxWriter,
+                new ShardedStock(articleRepository, stockSlotRepository), TransactionOperations.withoutTransaction());
     }
 
     @Test
@@ -56,12 +70,72 @@ class ArticleJpaAdapterTest {
                 new Brand(1L, null, null),
                 List.of(new Category(1L, null, null))
         );
-        ArticleEntity articleEntity = articleEntityMapper.toEntity(article);
+        ArticleEntity articleEntity = new ArticleEntity(1L, "Article1", "Description1", 3,
+                new BigDecimal("123.456"),
+                new BrandEntity(1L, null, null),
+                List.of(new CategoryEntity(1L, null, null))
+        );
+        given(articleEntityMapper.toEntity(article)).willReturn(articleEntity);
+        given(articleRepository.findCategorySortName(List.of(1L))).willReturn("shoes");
         given(articleRepository.save(articleEntity)).willReturn(articleEntity);
 
         articleJpaAdapter.createArticle(article);
 
+        assertEquals("shoes", articleEntity.getCategorySortName());
         verify(articleRepository, times(1)).save(articleEntity);
+        verify(outboxWriter, times(1)).articleCreated(articleEntity);
+    }
+
+    @Test
+    @DisplayName("Should save a chunk of articles with their managed categories and sort keys")
+    void createArticles_ShouldSaveAllAndFlush() {
+        // Given
+        Article article = new Article(null, "Article1", "Description1", 3,
+                new BigDecimal("10.00"),
+                new Brand(1L, null, null),
+                List.of(new Category(1L, null, null), new Category(2L, null, null))
+        );
+        ArticleEntity articleEntity = new ArticleEntity(null, "Article1", "Description1", 3,
+                new BigDecimal("10.00"),
+                new BrandEntity(1L, null, null),
+                List.of(new CategoryEntity(1L, null, null), new CategoryEntity(2L, null, null))
+        );
+        CategoryEntity shoes = new CategoryEntity(1L, "Shoes", "Description");
+        CategoryEntity boots = new CategoryEntity(2L, "boots", "Description");
+        given(articleRepository.findCategoriesByIdIn(Set.of(1L, 2L))).willReturn(List.of(shoes, boots));
+        given(articleEntityMapper.toEntity(article)).willReturn(articleEntity);
+        given(articleRepository.saveAll(List.of(articleEntity))).willReturn(List.of(articleEntity));
+
+        // When
+        articleJpaAdapter.createArticles(List.of(article));
+
+        // Then
+        assertThat(articleEntity.getCategories()).containsExactly(shoes, boots);
+        assertEquals("boots", articleEntity.getCategorySortName());
+        verify(articleRepository, times(1)).saveAll(List.of(articleEntity));
+        verify(outboxWriter, times(1)).articleCreated(articleEntity);
+        verify(articleRepository, times(1)).flush();
+    }
+
+    @Test
+    @DisplayName("Should write a stock event for every article whose quantity changed")
+    void updateQuantities_ShouldWriteStockEvents_ForChangedQuantities() {
+        // Given
+        ArticleEntity changed = new ArticleEntity(1L, "Article1", "Description1", 10,
+                new BigDecimal("10.00"), new BrandEntity(1L, null, null), List.of());
+        ArticleEntity unchanged = new ArticleEntity(2L, "Article2", "Description2", 4,
+                new BigDecimal("10.00"), new BrandEntity(1L, null, null), List.of());
+        given(articleRepository.getReferenceById(1L)).willReturn(changed);
+        given(articleRepository.getReferenceById(2L)).willReturn(unchanged);
+
+        // When
+        articleJpaAdapter.updateQuantities(Map.of(1L, 7, 2L, 4));
+
+        // Then
+        assertEquals(7, changed.getQuantity());
+        verify(outboxWriter, times(1)).stockChanged(1L, 7, -3);
+        verify(outboxWriter, never()).stockChanged(eq(2L), anyInt(), anyInt());
+        verify(articleRepository, times(1)).flush();
     }
 
     @Test
@@ -69,14 +143,14 @@ class ArticleJpaAdapterTest {
     void existsByName_ShouldReturnTrue_WhenArticleExists() {
         // Given
         String name = "Existing Article";
-        when(articleRepository.findByName(name)).thenReturn(Optional.of(new ArticleEntity()));
+        when(articleRepository.existsByNameKey(NameKey.of(name))).thenReturn(true);
 
         // When
         boolean exists = articleJpaAdapter.existByName(name);
 
         // Then
         assertTrue(exists);
-        verify(articleRepository, times(1)).findByName(name);
+        verify(articleRepository, times(1)).existsByNameKey(NameKey.of(name));
     }
 
     @Test
@@ -84,14 +158,14 @@ class ArticleJpaAdapterTest {
     void existsByName_ShouldReturnTrue_WhenArticleDoesNotExists() {
         // Given
         String name = "Non-Existing Article";
-        when(articleRepository.findByName(name)).thenReturn(Optional.empty());
+        when(articleRepository.existsByNameKey(NameKey.of(name))).thenReturn(false);
 
         // When
         boolean exists = articleJpaAdapter.existByName(name);
 
         // Then
         assertFalse(exists);
-        verify(articleRepository, times(1)).findByName(name);
+        verify(articleRepository, times(1)).existsByNameKey(NameKey.of(name));
     }
 
     @Test
@@ -405,4 +479,57 @@ class ArticleJpaAdapterTest {
 
         verify(articleRepository, times(1)).findAll(any(Pageable.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should delegate category name sorting to the database through the precomputed sort key")
+    void listArticles_ShouldSortByCategorySortName_WhenSortByCategoryName() {
+        // Given
+        Page<ArticleEntity> page = new PageImpl<>(List.of(), PageRequest.of(1, 5), 7);
+        when(articleRepository.findAll(any(Pageable.class))).thenReturn(page);
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+
+        // When
+        articleJpaAdapter.listArticles(1, 5, "categoryName", "desc");
+
+        // Then
+        verify(articleRepository).findAll(pageableCaptor.capture());
+        Pageable pageable = pageableCaptor.getValue();
+        assertEquals(1, pageable.getPageNumber());
+        assertEquals(Sort.Direction.DESC, pageable.getSort().getOrderFor("categorySortName").getDirection());
+        assertEquals(Sort.Direction.DESC, pageable.getSort().getOrderFor("id").getDirection());
+    }
+
+    @Test
+    @DisplayName("Should reject short stock on an unsharded article without locking its row")
+    void adjustQuantity_ShouldNotLockRow_WhenUnshardedArticleIsShort() {
+        // Given
+        when(articleRepository.findStockSlotsById(1L)).thenReturn(0);
+        when(articleRepository.adjustQuantity(eq(1L), eq(-5), anyLong())).thenReturn(0);
+
+        // When
+        Optional<Integer> result = articleJpaAdapter.adjustQuantity(1L, -5);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(articleRepository, never()).findForUpdateByIdIn(anyCollection());
+        verifyNoInteractions(outboxWriter, stockSlotRepository);
+    }
+
+    @Test
+    @DisplayName("Should move on to the slots when the article was sharded after its slot count was read")
+    void adjustQuantity_ShouldUseSlots_WhenArticleShardedSinceRead() {
+        // Given
+        when(articleRepository.findStockSlotsById(1L)).thenReturn(0, 4);
+        when(articleRepository.adjustQuantity(eq(1L), eq(-5), anyLong())).thenReturn(0);
+        when(stockSlotRepository.adjustSlot(eq(1L), anyInt(), eq(-5), anyLong())).thenReturn(1);
+        when(articleRepository.findQuantityById(1L)).thenReturn(15L);
+
+        // When
+        Optional<Integer> result = articleJpaAdapter.adjustQuantity(1L, -5);
+
+        // Then
+        assertThat(result).contains(15);
+        verify(articleRepository, never()).findForUpdateByIdIn(anyCollection());
+        verify(outboxWriter).stockChanged(1L, 15, -5);
+    }
+}
@@ -1,22 +1,26 @@
 package com.microservice.stock.infraestructure.out.jpa.adapter;
 
 import com.microservice.stock.domain.model.Brand;
+import com.microservice.stock.domain.util.Cursor;
+import com.microservice.stock.domain.util.DomainConstants;
+import com.microservice.stock.domain.util.NameKey;
 import com.microservice.stock.domain.util.Pagination;
 import com.microservice.stock.infraestructure.out.jpa.entity.BrandEntity;
 import com.microservice.stock.infraestructure.out.jpa.mapper.BrandEntityMapper;
 import com.microservice.stock.infraestructure.out.jpa.mapper.BrandPageMapper;
 import com.microservice.stock.infraestructure.out.jpa.repository.IBrandRepository;
+import com.microservice.stock.infraestructure.out.outbox.OutboxWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -33,6 +37,9 @@ class BrandJpaAdapterTest {
     @Mock
     private BrandEntityMapper brandEntityMapper;
 
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @InjectMocks
     private BrandJpaAdapter brandJpaAdapter;
 
@@ -41,19 +48,21 @@ class BrandJpaAdapterTest {
     @BeforeEach
     void setUp(){
         brandPageMapper = new BrandPageMapper(brandEntityMapper);
-        brandJpaAdapter = new BrandJpaAdapter(brandRepository, brandEntityMapper);
+        brandJpaAdapter = new BrandJpaAdapter(brandRepository, brandEntityMapper, outboxWriter);
     }
 
     @Test
-    @DisplayName("Should save the brand correctly in the database")
+    @DisplayName("Should save the brand and its outbox event in the database")
     void createBrand_ShouldSaveCategory() {
         Brand brand = new Brand(1L, "BrandName", "BrandDescription");
-        BrandEntity brandEntity = brandEntityMapper.toEntity(brand);
+        BrandEntity brandEntity = new BrandEntity(1L, "BrandName", "BrandDescription");
+        given(brandEntityMapper.toEntity(brand)).willReturn(brandEntity);
         given(brandRepository.save(brandEntity)).willReturn(brandEntity);
 
         brandJpaAdapter.createBrand(brand);
 
         verify(brandRepository, times(1)).save(brandEntity);
+        verify(outboxWriter, times(1)).brandCreated(brandEntity);
     }
 
     @Test
@@ -61,14 +70,14 @@ class BrandJpaAdapterTest {
     void existsByName_ShouldReturnTrue_WhenBrandExists() {
         // Given
         String name = "Existing Brand";
-        when(brandRepository.findByName(name)).thenReturn(Optional.of(new BrandEntity()));
+        when(brandRepository.existsByNameKey(NameKey.of(name))).thenReturn(true);
 
         // When
         boolean exists = brandJpaAdapter.existsByName(name);
 
         // Then
         assertTrue(exists);
-        verify(brandRepository, times(1)).findByName(name);
+        verify(brandRepository, times(1)).existsByNameKey(NameKey.of(name));
     }
 
     @Test
@@ -76,14 +85,14 @@ class BrandJpaAdapterTest {
     void existsByName_ShouldReturnFalse_WhenBrandDoesNotExist() {
         // Given
         String name = "Non-Existing Brand";
-        when(brandRepository.findByName(name)).thenReturn(Optional.empty());
+        when(brandRepository.existsByNameKey(NameKey.of(name))).thenReturn(false);
 
         // When
         boolean exists = brandJpaAdapter.existsByName(name);
 
         // Then
         assertFalse(exists);
-        verify(brandRepository, times(1)).findByName(name);
+        verify(brandRepository, times(1)).existsByNameKey(NameKey.of(name));
     }
 
     @Test
@@ -229,4 +238,48 @@ class BrandJpaAdapterTest {
         verify(brandEntityMapper, times(1)).toDomain(brandEntity2);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should seek past the cursor and return the cursor of the last row when more rows exist")
+    void listBrandsAfter_ShouldReturnNextCursor_WhenMoreRowsExist() {
+        // Given
+        BrandEntity brandEntity1 = new BrandEntity(1L, "Brand 1", "Description 1");
+        BrandEntity brandEntity2 = new BrandEntity(2L, "Brand 2", "Description 2");
+        when(brandRepository.findAfterNameAscending(eq("Brand 0"), eq(7L), any(Pageable.class)))
+                .thenReturn(List.of(brandEntity1, brandEntity2));
+        when(brandEntityMapper.toDomain(brandEntity1)).thenReturn(new Brand(1L, "Brand 1", "Description 1"));
+
+        //When
+        Pagination<Brand> result = brandJpaAdapter.listBrandsAfter(1, "name", "asc", new Cursor("Brand 0", 7L));
+
+        //Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isFirst()).isFalse();
+        assertThat(result.isLast()).isFalse();
+        assertThat(result.getTotalElements()).isEqualTo(DomainConstants.UNKNOWN_TOTAL);
+        Cursor next = Cursor.decode(result.getNextCursor());
+        assertThat(next.getSortKey()).isEqualTo("Brand 1");
+        assertThat(next.getId()).isEqualTo(1L);
+        verify(brandRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should read the first cursor page without a seek predicate and without counting")
+    void listBrandsAfter_ShouldReturnLastPage_WhenCursorIsNull() {
+        // Given
+        BrandEntity brandEntity1 = new BrandEntity(1L, "Brand 1", "Description 1");
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        when(brandRepository.findAllBy(pageableCaptor.capture())).thenReturn(List.of(brandEntity1));
+        when(brandEntityMapper.toDomain(brandEntity1)).thenReturn(new Brand(1L, "Brand 1", "Description 1"));
+
+        //When
+        Pagination<Brand> result = brandJpaAdapter.listBrandsAfter(5, "name", "desc", null);
+
+        //Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isFirst()).isTrue();
+        assertThat(result.isLast()).isTrue();
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(6);
+        assertThat(pageableCaptor.getValue().getSort().getOrderFor("name").isDescending()).isTrue();
+    }
+}
@@ -1,11 +1,14 @@
 package com.microservice.stock.infraestructure.out.jpa.adapter;
 
 import com.microservice.stock.domain.model.Category;
+import com.microservice.stock.domain.util.DomainConstants;
+import com.microservice.stock.domain.util.NameKey;
 import com.microservice.stock.domain.util.Pagination;
 import com.microservice.stock.infraestructure.out.jpa.entity.CategoryEntity;
 import com.microservice.stock.infraestructure.out.jpa.mapper.CategoryEntityMapper;
 import com.microservice.stock.infraestructure.out.jpa.mapper.CategoryPageMapper;
 import com.microservice.stock.infraestructure.out.jpa.repository.ICategoryRepository;
+import com.microservice.stock.infraestructure.out.outbox.OutboxWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,7 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -34,6 +37,9 @@ class CategoryJpaAdapterTest {
     @Mock
     private CategoryEntityMapper categoryEntityMapper;
 
+    @Mock
+    private OutboxWriter outboxWriter;
+
     @InjectMocks
     private CategoryJpaAdapter categoryJpaAdapter;
 
@@ -42,20 +48,21 @@ class CategoryJpaAdapterTest {
     @BeforeEach
     void setUp() {
         categoryPageMapper = new CategoryPageMapper(categoryEntityMapper);
-        categoryJpaAdapter = new CategoryJpaAdapter(categoryRepository, categoryEntityMapper);
+        categoryJpaAdapter = new CategoryJpaAdapter(categoryRepository, categoryEntityMapper, outboxWriter);
     }
 
     @Test
-    @DisplayName("Should correctly save the category in the database")
+    @DisplayName("Should correctly save the category and its outbox event in the database")
     void createCategory_ShouldSaveCategory() {
         Category category = new Category(1L, "CategoryName", "CategoryDescription");
-        CategoryEntity categoryEntity = categoryEntityMapper.toEntity(category);
+        CategoryEntity categoryEntity = new CategoryEntity(1L, "CategoryName", "CategoryDescription");
+        given(categoryEntityMapper.toEntity(category)).willReturn(categoryEntity);
         given(categoryRepository.save(categoryEntity)).willReturn(categoryEntity);
 
         categoryJpaAdapter.createCategory(category);
 
         verify(categoryRepository, times(1)).save(categoryEntity);
-
+        verify(outboxWriter, times(1)).categoryCreated(categoryEntity);
     }
 
     @Test
@@ -63,14 +70,14 @@ class CategoryJpaAdapterTest {
     void existsByName_ShouldReturnTrue_WhenCategoryExists() {
         // Given
         String name = "Existing Category";
-        when(categoryRepository.findByName(name)).thenReturn(Optional.of(new CategoryEntity()));
+        when(categoryRepository.existsByNameKey(NameKey.of(name))).thenReturn(true);
 
         // When
         boolean exists = categoryJpaAdapter.existsByName(name);
 
         // Then
         assertTrue(exists);
-        verify(categoryRepository, times(1)).findByName(name);
+        verify(categoryRepository, times(1)).existsByNameKey(NameKey.of(name));
     }
 
     @Test
@@ -78,14 +85,30 @@ class CategoryJpaAdapterTest {
     void existsByName_ShouldReturnFalse_WhenCategoryDoesNotExist() {
         // Given
         String name = "Non-Existing Category";
-        when(categoryRepository.findByName(name)).thenReturn(Optional.empty());
+        when(categoryRepository.existsByNameKey(NameKey.of(name))).thenReturn(false);
 
         // When
         boolean exists = categoryJpaAdapter.existsByName(name);
 
         // Then
         assertFalse(exists);
-        verify(categoryRepository, times(1)).findByName(name);
+        verify(categoryRepository, times(1)).existsByNameKey(NameKey.of(name));
+    }
+
+    @Test
+    @DisplayName("Should return the ids that are not stored with a single query")
+    void findMissingIds_ShouldReturnIdsNotFound() {
+        // Given
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(categoryRepository.findIdsByIdIn(ids)).thenReturn(List.of(2L));
+
+        // When
+        Set<Long> missingIds = categoryJpaAdapter.findMissingIds(ids);
+
+        // Then
+        assertThat(missingIds).containsExactly(1L, 3L);
+        verify(categoryRepository, times(1)).findIdsByIdIn(ids);
+        verify(categoryRepository, never()).findById(any());
     }
 
     @Test
@@ -230,4 +253,26 @@ class CategoryJpaAdapterTest {
         verify(categoryEntityMapper, times(1)).toDomain(categoryEntity1);
         verify(categoryEntityMapper, times(1)).toDomain(categoryEntity2);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should return a page without totals and without running the count query")
+    void listCategorySlice_ShouldReturnPageWithoutTotals() {
+        // Given
+        CategoryEntity categoryEntity1 = new CategoryEntity(1L, "Category 1", "Description 1");
+        Slice<CategoryEntity> slice = new SliceImpl<>(List.of(categoryEntity1), PageRequest.of(0, 1), true);
+
+        when(categoryRepository.findSliceBy(any(Pageable.class))).thenReturn(slice);
+        when(categoryEntityMapper.toDomain(categoryEntity1)).thenReturn(new Category(1L, "Category 1", "Description 1"));
+
+        // When
+        Pagination<Category> result = categoryJpaAdapter.listCategorySlice(0, 1, "name", "asc");
+
+        // Then
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isTotalKnown()).isFalse();
+        assertThat(result.getTotalElements()).isEqualTo(DomainConstants.UNKNOWN_TOTAL);
+        assertThat(result.isFirst()).isTrue();
+        assertThat(result.isLast()).isFalse();
+        verify(categoryRepository, never()).findAll(any(Pageable.class));
+    }
+}
@@ -0,0 +1,42 @@
+package com.microservice.stock.infraestructure.out.jpa.adapter;
+
+import com.microservice.stock.domain.model.CatalogChange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeFeedJpaAdapterTest {
+
+    @Test
+    @DisplayName("End the page before a version that does not fit in it completely.")
+    void cutAtVersionBoundary_DropTrailingVersion_WhenItIsSplit() {
+        // Given
+        List<ChangeFeedJpaAdapter.ChangedKey> keys = List.of(key(1L, 10), key(2L, 11), key(3L, 12), key(4L, 12));
+
+        // When
+        List<ChangeFeedJpaAdapter.ChangedKey> window = ChangeFeedJpaAdapter.cutAtVersionBoundary(keys, 3);
+
+        // Then
+        assertThat(window).extracting(ChangeFeedJpaAdapter.ChangedKey::version).containsExactly(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("Return the whole first version when it alone is larger than the page.")
+    void cutAtVersionBoundary_KeepFirstVersion_WhenItFillsThePage() {
+        // Given
+        List<ChangeFeedJpaAdapter.ChangedKey> keys = List.of(key(1L, 10), key(2L, 10), key(3L, 10), key(4L, 11));
+
+        // When
+        List<ChangeFeedJpaAdapter.ChangedKey> window = ChangeFeedJpaAdapter.cutAtVersionBoundary(keys, 2);
+
+        // Then
+        assertThat(window).hasSize(3);
+    }
+
+    private static ChangeFeedJpaAdapter.ChangedKey key(Long id, long version) {
+        return new ChangeFeedJpaAdapter.ChangedKey(new ChangeFeedJpaAdapter.RowKey(CatalogChange.Type.ARTICLE, id), version);
+    }
+}
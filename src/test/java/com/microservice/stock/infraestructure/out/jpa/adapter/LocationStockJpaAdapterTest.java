@@ -0,0 +1,87 @@
+package com.microservice.stock.infraestructure.out.jpa.adapter;
+
+import com.microservice.stock.infraestructure.out.jpa.entity.LocationStockEntity;
+import com.microservice.stock.infraestructure.out.jpa.mapper.LocationStockEntityMapper;
+import com.microservice.stock.infraestructure.out.jpa.repository.ILocationStockRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LocationStockJpaAdapterTest {
+
+    @Mock
+    private ILocationStockRepository locationStockRepository;
+
+    @Mock
+    private LocationStockEntityMapper locationStockEntityMapper;
+
+    @InjectMocks
+    private LocationStockJpaAdapter locationStockJpaAdapter;
+
+    @Test
+    @DisplayName("Should create the target location when a transfer reaches it for the first time")
+    void transfer_ShouldCreateTarget_WhenTargetIsMissing() {
+        LocationStockEntity source = new LocationStockEntity(1L, 10L, "BOG-01", 8);
+        given(locationStockRepository.findForUpdateByArticleIdAndLocationIn(10L, List.of("BOG-01", "MDE-01")))
+                .willReturn(List.of(source));
+
+        boolean transferred = locationStockJpaAdapter.transfer(10L, "BOG-01", "MDE-01", 5);
+
+        assertTrue(transferred);
+        assertEquals(3, source.getQuantity());
+        verify(locationStockRepository).addLocation(10L, "MDE-01", 5);
+    }
+
+    @Test
+    @DisplayName("Should leave both locations untouched when the source is short of stock")
+    void transfer_ShouldReturnFalse_WhenSourceIsShort() {
+        LocationStockEntity source = new LocationStockEntity(1L, 10L, "BOG-01", 2);
+        LocationStockEntity target = new LocationStockEntity(2L, 10L, "MDE-01", 4);
+        given(locationStockRepository.findForUpdateByArticleIdAndLocationIn(10L, List.of("BOG-01", "MDE-01")))
+                .willReturn(List.of(source, target));
+
+        boolean transferred = locationStockJpaAdapter.transfer(10L, "BOG-01", "MDE-01", 5);
+
+        assertFalse(transferred);
+        assertEquals(2, source.getQuantity());
+        assertEquals(4, target.getQuantity());
+    }
+
+    @Test
+    @DisplayName("Should not create a location for a negative delta")
+    void adjustLocationQuantity_ShouldReturnFalse_WhenLocationIsMissingAndDeltaIsNegative() {
+        given(locationStockRepository.adjustQuantity(10L, "BOG-01", -1)).willReturn(0);
+
+        boolean adjusted = locationStockJpaAdapter.adjustLocationQuantity(10L, "BOG-01", -1);
+
+        assertFalse(adjusted);
+        verify(locationStockRepository, never()).addLocation(anyLong(), anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should upsert the location when the first units are received")
+    void adjustLocationQuantity_ShouldAddLocation_WhenLocationIsMissing() {
+        given(locationStockRepository.adjustQuantity(10L, "BOG-01", 4)).willReturn(0);
+
+        boolean adjusted = locationStockJpaAdapter.adjustLocationQuantity(10L, "BOG-01", 4);
+
+        assertTrue(adjusted);
+        verify(locationStockRepository).addLocation(10L, "BOG-01", 4);
+    }
+}
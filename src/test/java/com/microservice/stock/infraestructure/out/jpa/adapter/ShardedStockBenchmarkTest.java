@@ -0,0 +1,177 @@
+package com.microservice.stock.infraestructure.out.jpa.adapter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.stock.infraestructure.out.availability.StockQuantityIndex;
+import com.microservice.stock.infraestructure.out.jpa.entity.ArticleEntity;
+import com.microservice.stock.infraestructure.out.jpa.entity.BrandEntity;
+import com.microservice.stock.infraestructure.out.jpa.entity.CategoryEntity;
+import com.microservice.stock.infraestructure.out.jpa.mapper.ArticleEntityMapper;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IBrandRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.ICategoryRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IOutboxEventRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSlotRepository;
+import com.microservice.stock.infraestructure.out.outbox.OutboxWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Run with ./gradlew benchmark; the regular test task skips it. It runs on the embedded H2 database, whose row locks
+// behave nothing like InnoDB's, so the logged timings are only a rough comparison and no speedup is asserted; the
+// numbers that matter come from running the same load against MySQL. What it does check is that no decrement is lost
+// or applied twice under 64 concurrent writers on either layout, and that the totals built from the committed deltas
+// end where the database does.
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ShardedStockBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedStockBenchmarkTest.class);
+    private static final int WRITERS = 64;
+    private static final int DECREMENTS_PER_WRITER = 200;
+    private static final int SLOTS = 16;
+
+    @Autowired
+    private IArticleRepository articleRepository;
+
+    @Autowired
+    private IBrandRepository brandRepository;
+
+    @Autowired
+    private ICategoryRepository categoryRepository;
+
+    @Autowired
+    private IStockSlotRepository stockSlotRepository;
+
+    @Autowired
+    private IOutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private StockQuantityIndex stockQuantityIndex;
+
+    private ArticleJpaAdapter articleJpaAdapter;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        stockQuantityIndex = new StockQuantityIndex(new SimpleMeterRegistry());
+        articleJpaAdapter = new ArticleJpaAdapter(articleRepository, Mappers.getMapper(ArticleEntityMapper.class),
+                new OutboxWriter(outboxEventRepository, new ObjectMapper(), Clock.systemUTC(),
+                        List.of(stockQuantityIndex), List.of()),
+                new ShardedStock(articleRepository, stockSlotRepository), TransactionOperations.withoutTransaction());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            stockSlotRepository.deleteAllInBatch();
+            outboxEventRepository.deleteAllInBatch();
+            articleRepository.deleteAll();
+            brandRepository.deleteAllInBatch();
+            categoryRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("Should apply every decrement to a single row and to sixteen slots under 64 writers")
+    void adjustQuantity_SingleRowVersusSharded() throws Exception {
+        // Given
+        int stock = WRITERS * DECREMENTS_PER_WRITER;
+        Long singleRowId = createArticle("SingleRow", stock);
+        Long shardedId = createArticle("Sharded", stock);
+        transactionTemplate.executeWithoutResult(status -> articleJpaAdapter.shardStock(shardedId, SLOTS));
+        stockQuantityIndex.load(singleRowId, stock, 0);
+        stockQuantityIndex.load(shardedId, stock, 0);
+
+        // When
+        AtomicInteger singleRowApplied = new AtomicInteger();
+        Duration singleRow = runWriters(singleRowId, singleRowApplied);
+        AtomicInteger shardedApplied = new AtomicInteger();
+        Duration sharded = runWriters(shardedId, shardedApplied);
+
+        // Then
+        log.info("{} writers x {} decrements: single row {} ms ({} ops/s), {} slots {} ms ({} ops/s)",
+                WRITERS, DECREMENTS_PER_WRITER,
+                singleRow.toMillis(), stock * 1000L / Math.max(1, singleRow.toMillis()),
+                SLOTS, sharded.toMillis(), stock * 1000L / Math.max(1, sharded.toMillis()));
+        assertEquals(stock, singleRowApplied.get());
+        assertEquals(stock, shardedApplied.get());
+        assertEquals(0L, quantity(singleRowId));
+        assertEquals(0L, quantity(shardedId));
+        assertEquals(Map.of(singleRowId, 0, shardedId, 0),
+                stockQuantityIndex.findAvailableQuantities(List.of(singleRowId, shardedId)));
+    }
+
+    private Duration runWriters(Long articleId, AtomicInteger applied) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < DECREMENTS_PER_WRITER; j++) {
+                    transactionTemplate.executeWithoutResult(status ->
+                            articleJpaAdapter.adjustQuantity(articleId, -1).ifPresent(quantity -> applied.incrementAndGet()));
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - begin);
+        executor.shutdown();
+        return elapsed;
+    }
+
+    private Long createArticle(String name, int quantity) {
+        return transactionTemplate.execute(status -> {
+            BrandEntity brand = brandRepository.save(new BrandEntity(null, name + "Brand", "Description"));
+            CategoryEntity category = categoryRepository.save(new CategoryEntity(null, name + "Category", "Description"));
+            return articleRepository.save(new ArticleEntity(null, name, "Description", quantity,
+                    new BigDecimal("10.00"), brand, List.of(category))).getId();
+        });
+    }
+
+    private Long quantity(Long articleId) {
+        return transactionTemplate.execute(status -> articleRepository.findQuantityById(articleId));
+    }
+}
@@ -0,0 +1,66 @@
+package com.microservice.stock.infraestructure.out.ledger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.stock.infraestructure.out.jpa.entity.StockMovementEntity;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockMovementRepository;
+import com.microservice.stock.infraestructure.out.outbox.InMemoryOutboxPublisher;
+import com.microservice.stock.infraestructure.out.outbox.OutboxMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerOutboxPublisherTest {
+
+    private static final Instant NOW = Instant.parse("2024-09-01T10:00:00Z");
+
+    @Mock
+    private IStockMovementRepository stockMovementRepository;
+
+    private InMemoryOutboxPublisher delegate;
+
+    private LedgerOutboxPublisher ledgerOutboxPublisher;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new InMemoryOutboxPublisher();
+        ledgerOutboxPublisher = new LedgerOutboxPublisher(delegate, stockMovementRepository, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Should record stock changes and initial quantities as movements and still publish every event")
+    void publish_ShouldAppendMovements_ForStockEvents() {
+        // Given
+        List<OutboxMessage> messages = List.of(
+                new OutboxMessage(1L, "article", 5L, "ARTICLE_CREATED",
+                        "{\"id\":5,\"name\":\"Mouse\",\"quantity\":12,\"price\":10.00,\"brandId\":1,\"categoryIds\":[1]}", NOW),
+                new OutboxMessage(2L, "brand", 1L, "BRAND_CREATED",
+                        "{\"id\":1,\"name\":\"Brand\",\"description\":\"Description\"}", NOW),
+                new OutboxMessage(3L, "article", 5L, "STOCK_CHANGED",
+                        "{\"articleId\":5,\"quantity\":9,\"delta\":-3}", NOW.plusSeconds(1))
+        );
+
+        // When
+        ledgerOutboxPublisher.publish(messages);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StockMovementEntity>> movements = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(stockMovementRepository).saveAll(movements.capture());
+        assertThat(movements.getValue())
+                .extracting(StockMovementEntity::getId, StockMovementEntity::getArticleId, StockMovementEntity::getDelta)
+                .containsExactly(tuple(1L, 5L, 12), tuple(3L, 5L, -3));
+        assertThat(delegate.getPublished()).hasSize(3);
+    }
+}
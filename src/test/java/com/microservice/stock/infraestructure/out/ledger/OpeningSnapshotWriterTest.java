@@ -0,0 +1,114 @@
+package com.microservice.stock.infraestructure.out.ledger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.stock.infraestructure.out.jpa.entity.OutboxEventEntity;
+import com.microservice.stock.infraestructure.out.jpa.entity.StockSnapshotEntity;
+import com.microservice.stock.infraestructure.out.jpa.repository.IArticleRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IOutboxEventRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockMovementRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSnapshotRepository;
+import com.microservice.stock.infraestructure.out.outbox.OutboxEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class OpeningSnapshotWriterTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2024-09-01T10:00:00Z");
+
+    @Mock
+    private IArticleRepository articleRepository;
+
+    @Mock
+    private IStockMovementRepository stockMovementRepository;
+
+    @Mock
+    private IStockSnapshotRepository stockSnapshotRepository;
+
+    @Mock
+    private IOutboxEventRepository outboxEventRepository;
+
+    private OpeningSnapshotWriter openingSnapshotWriter;
+
+    @BeforeEach
+    void setUp() {
+        openingSnapshotWriter = new OpeningSnapshotWriter(articleRepository, stockMovementRepository,
+                stockSnapshotRepository, outboxEventRepository, new ObjectMapper(),
+                TransactionOperations.withoutTransaction());
+    }
+
+    @Test
+    @DisplayName("Should open each article without a snapshot at its total minus the recorded and pending movements")
+    void writeOpeningSnapshots_ShouldSubtractRecordedAndPendingMovements() {
+        // Given
+        Mockito.when(articleRepository.findQuantitiesWithoutSnapshotAfter(Mockito.eq(0L), Mockito.any(Pageable.class)))
+                .thenReturn(List.of(quantity(1L, 30L), quantity(2L, 4L)));
+        Mockito.when(stockMovementRepository.sumByArticleIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(total(1L, 5L)));
+        Mockito.when(outboxEventRepository.findByEventTypeInAndAggregateIdIn(Mockito.anyCollection(),
+                Mockito.eq(List.of(1L, 2L)))).thenReturn(List.of(
+                event(7L, 1L, OutboxEventType.STOCK_CHANGED, "{\"articleId\":1,\"quantity\":28,\"delta\":-2}"),
+                event(8L, 2L, OutboxEventType.ARTICLE_CREATED, "{\"id\":2,\"name\":\"Lamp\",\"quantity\":4}")));
+
+        // When
+        int written = openingSnapshotWriter.writeOpeningSnapshots();
+
+        // Then
+        assertEquals(2, written);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StockSnapshotEntity>> snapshots = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(stockSnapshotRepository).saveAll(snapshots.capture());
+        assertThat(snapshots.getValue())
+                .extracting(StockSnapshotEntity::getArticleId, StockSnapshotEntity::getQuantity, StockSnapshotEntity::getTakenAt)
+                .containsExactly(
+                        tuple(1L, 27, Instant.EPOCH),
+                        tuple(2L, 0, Instant.EPOCH));
+    }
+
+    private static IArticleRepository.ArticleQuantity quantity(Long id, Long quantity) {
+        return new IArticleRepository.ArticleQuantity() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getQuantity() {
+                return quantity;
+            }
+        };
+    }
+
+    private static IStockMovementRepository.MovementTotal total(Long articleId, Long delta) {
+        return new IStockMovementRepository.MovementTotal() {
+            @Override
+            public Long getArticleId() {
+                return articleId;
+            }
+
+            @Override
+            public Long getDelta() {
+                return delta;
+            }
+        };
+    }
+
+    private static OutboxEventEntity event(Long id, Long articleId, OutboxEventType type, String payload) {
+        return new OutboxEventEntity(id, type.getAggregateType(), articleId, type.name(), payload, CREATED_AT);
+    }
+}
@@ -0,0 +1,107 @@
+package com.microservice.stock.infraestructure.out.ledger;
+
+import com.microservice.stock.infraestructure.out.jpa.entity.StockSnapshotEntity;
+import com.microservice.stock.infraestructure.out.jpa.repository.IOutboxEventRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockMovementRepository;
+import com.microservice.stock.infraestructure.out.jpa.repository.IStockSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class StockSnapshotJobTest {
+
+    private static final Instant NOW = Instant.parse("2024-09-01T10:00:00Z");
+    private static final Instant LAST_SNAPSHOT = NOW.minusSeconds(3600);
+    private static final Duration SETTLE_TIME = Duration.ofMinutes(1);
+
+    @Mock
+    private IStockMovementRepository stockMovementRepository;
+
+    @Mock
+    private IStockSnapshotRepository stockSnapshotRepository;
+
+    @Mock
+    private IOutboxEventRepository outboxEventRepository;
+
+    private StockSnapshotJob stockSnapshotJob;
+
+    @BeforeEach
+    void setUp() {
+        stockSnapshotJob = new StockSnapshotJob(stockMovementRepository, stockSnapshotRepository, outboxEventRepository,
+                TransactionOperations.withoutTransaction(), Duration.ofHours(1), SETTLE_TIME, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should add the movements since the last run to the previous snapshot of each article that moved")
+    void takeSnapshots_ShouldAddDeltasToPreviousSnapshot() {
+        // Given
+        Instant cutoff = NOW.minus(SETTLE_TIME);
+        Mockito.when(stockSnapshotRepository.findLatestTakenAt()).thenReturn(Optional.of(LAST_SNAPSHOT));
+        Mockito.when(outboxEventRepository.findOldestCreatedAt()).thenReturn(Optional.empty());
+        Mockito.when(stockMovementRepository.sumByArticleBetween(LAST_SNAPSHOT, cutoff))
+                .thenReturn(List.of(total(1L, -4L), total(2L, 7L)));
+        Mockito.when(stockSnapshotRepository.findLatestByArticleIdIn(Mockito.anyList()))
+                .thenReturn(List.of(new StockSnapshotEntity(10L, 1L, 20, LAST_SNAPSHOT)));
+
+        // When
+        int taken = stockSnapshotJob.takeSnapshots();
+
+        // Then
+        assertEquals(2, taken);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<StockSnapshotEntity>> snapshots = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(stockSnapshotRepository).saveAll(snapshots.capture());
+        assertThat(snapshots.getValue())
+                .extracting(StockSnapshotEntity::getArticleId, StockSnapshotEntity::getQuantity, StockSnapshotEntity::getTakenAt)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, 16, cutoff),
+                        tuple(2L, 7, cutoff));
+    }
+
+    @Test
+    @DisplayName("Should not move past the oldest event the relay has not turned into a movement yet")
+    void takeSnapshots_ShouldStopAtOldestPendingEvent() {
+        // Given
+        Mockito.when(stockSnapshotRepository.findLatestTakenAt()).thenReturn(Optional.of(LAST_SNAPSHOT));
+        Mockito.when(outboxEventRepository.findOldestCreatedAt()).thenReturn(Optional.of(LAST_SNAPSHOT));
+
+        // When
+        int taken = stockSnapshotJob.takeSnapshots();
+
+        // Then
+        assertEquals(0, taken);
+        Mockito.verifyNoInteractions(stockMovementRepository);
+    }
+
+    private static IStockMovementRepository.MovementTotal total(Long articleId, Long delta) {
+        return new IStockMovementRepository.MovementTotal() {
+            @Override
+            public Long getArticleId() {
+                return articleId;
+            }
+
+            @Override
+            public Long getDelta() {
+                return delta;
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.microservice.stock.infraestructure.out.lowstock;
+
+import com.microservice.stock.domain.model.LowStock;
+import com.microservice.stock.domain.spi.ILowStockListenerPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(MockitoExtension.class)
+class LowStockIndexTest {
+
+    @Mock
+    private ILowStockListenerPort lowStockListenerPort;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LowStockIndex lowStockIndex;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lowStockIndex = new LowStockIndex(lowStockListenerPort, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should notify once when the quantity crosses below the threshold, not on every change below it")
+    void stockChanged_ShouldNotifyOnce_WhenQuantityCrossesBelowThreshold() {
+        // Given
+        lowStockIndex.track(1L, 12, 10);
+
+        // When
+        lowStockIndex.stockChanged(1, 1L, 11);
+        lowStockIndex.stockChanged(2, 1L, 9);
+        lowStockIndex.stockChanged(3, 1L, 4);
+
+        // Then
+        ArgumentCaptor<LowStock> crossed = ArgumentCaptor.forClass(LowStock.class);
+        Mockito.verify(lowStockListenerPort).stockBelowThreshold(crossed.capture());
+        assertEquals(9, crossed.getValue().getQuantity());
+        assertEquals(1.0, meterRegistry.get("stock.low_stock.crossings").counter().count());
+        assertEquals(1.0, meterRegistry.get("stock.low_stock.articles").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should drop a change older than the one already applied")
+    void stockChanged_ShouldIgnoreStaleVersion() {
+        // Given
+        lowStockIndex.track(1L, 12, 10);
+        lowStockIndex.stockChanged(5, 1L, 15);
+
+        // When
+        lowStockIndex.stockChanged(4, 1L, 3);
+
+        // Then
+        assertThat(lowStockIndex.findLowStock(10)).isEmpty();
+        Mockito.verifyNoInteractions(lowStockListenerPort);
+    }
+
+    @Test
+    @DisplayName("Should keep a change that commits while the quantity of a newly tracked article is read")
+    void track_ShouldPreferChangeSeenSinceExpect() {
+        // Given
+        lowStockIndex.expect(1L);
+        lowStockIndex.stockChanged(7, 1L, 3);
+
+        // When
+        lowStockIndex.track(1L, 12, 10);
+        lowStockIndex.forget(1L);
+        lowStockIndex.stockChanged(6, 1L, 20);
+
+        // Then
+        assertThat(lowStockIndex.findLowStock(10)).extracting(LowStock::getQuantity).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("Should list only the articles below their threshold, furthest below first, up to the limit")
+    void findLowStock_ShouldReturnMostUrgentFirst() {
+        // Given
+        lowStockIndex.track(1L, 8, 10);
+        lowStockIndex.track(2L, 0, 10);
+        lowStockIndex.track(3L, 50, 10);
+        lowStockIndex.track(4L, 5, 10);
+
+        // When
+        List<LowStock> lowStock = lowStockIndex.findLowStock(2);
+
+        // Then
+        assertThat(lowStock).extracting(LowStock::getArticleId).containsExactly(2L, 4L);
+    }
+}
@@ -0,0 +1,113 @@
+package com.microservice.stock.infraestructure.out.outbox;
+
+import com.microservice.stock.infraestructure.out.jpa.entity.OutboxEventEntity;
+import com.microservice.stock.infraestructure.out.jpa.repository.IOutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final Instant NOW = Instant.parse("2024-09-01T10:00:00Z");
+
+    @Mock
+    private IOutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private IOutboxPublisher failingPublisher;
+
+    private InMemoryOutboxPublisher outboxPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxPublisher = new InMemoryOutboxPublisher();
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = relayWith(outboxPublisher);
+    }
+
+    @Test
+    @DisplayName("Should publish a batch in id order, delete it and record throughput, batch size and lag")
+    void relayBatch_ShouldPublishAndDelete_WhenEventsArePending() {
+        // Given
+        Mockito.when(outboxEventRepository.lockNextBatch(BATCH_SIZE)).thenReturn(List.of(
+                event(1L, NOW.minusSeconds(3)),
+                event(2L, NOW.minusSeconds(1))
+        ));
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertEquals(2, relayed);
+        assertThat(outboxPublisher.getPublished()).extracting(OutboxMessage::id).containsExactly(1L, 2L);
+        Mockito.verify(outboxEventRepository).deleteByIdIn(List.of(1L, 2L));
+        assertEquals(2.0, meterRegistry.get("stock.outbox.published").counter().count());
+        assertEquals(1, meterRegistry.get("stock.outbox.batch.size").summary().count());
+        assertEquals(3.0, meterRegistry.get("stock.outbox.lag").timeGauge().value(TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should keep the events in the outbox when the publisher fails")
+    void relayBatch_ShouldNotDelete_WhenPublisherFails() {
+        // Given
+        OutboxRelay relay = relayWith(failingPublisher);
+        Mockito.when(outboxEventRepository.lockNextBatch(BATCH_SIZE)).thenReturn(List.of(event(1L, NOW)));
+        Mockito.doThrow(new IllegalStateException("Broker unavailable")).when(failingPublisher).publish(anyList());
+
+        // When
+        assertThrows(IllegalStateException.class, relay::relayBatch);
+
+        // Then
+        Mockito.verify(outboxEventRepository, Mockito.never()).deleteByIdIn(any());
+        assertEquals(0.0, meterRegistry.get("stock.outbox.published").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should report no lag and publish nothing when the outbox is empty")
+    void relayBatch_ShouldReturnZero_WhenOutboxIsEmpty() {
+        // Given
+        Mockito.when(outboxEventRepository.lockNextBatch(BATCH_SIZE)).thenReturn(List.of());
+
+        // When
+        int relayed = outboxRelay.relayBatch();
+
+        // Then
+        assertEquals(0, relayed);
+        assertThat(outboxPublisher.getPublished()).isEmpty();
+        assertEquals(0.0, meterRegistry.get("stock.outbox.lag").timeGauge().value(TimeUnit.SECONDS));
+    }
+
+    private OutboxRelay relayWith(IOutboxPublisher publisher) {
+        return new OutboxRelay(outboxEventRepository, publisher, TransactionOperations.withoutTransaction(),
+                BATCH_SIZE, Duration.ofMillis(500), Clock.fixed(NOW, ZoneOffset.UTC), meterRegistry);
+    }
+
+    private static OutboxEventEntity event(Long id, Instant createdAt) {
+        return new OutboxEventEntity(id, "article", 7L, "STOCK_CHANGED", "{\"articleId\":7}", createdAt);
+    }
+}
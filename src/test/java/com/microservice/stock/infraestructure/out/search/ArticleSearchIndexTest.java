@@ -0,0 +1,60 @@
+package com.microservice.stock.infraestructure.out.search;
+
+import com.microservice.stock.infraestructure.out.outbox.OutboxEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ArticleSearchIndexTest {
+
+    private ArticleSearchIndex articleSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        articleSearchIndex = new ArticleSearchIndex(new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should rank name matches first, ignoring case and accents, and page through every match")
+    void search_ShouldRankAndPageMatches() {
+        // Given
+        articleSearchIndex.load(1L, "Cable USB", "Compatible con el port\u00e1til");
+        articleSearchIndex.load(2L, "Port\u00e1til Gamer", "Pantalla de 15 pulgadas");
+        articleSearchIndex.load(3L, "Mouse", "Inal\u00e1mbrico");
+        articleSearchIndex.catalogChanged(9, OutboxEventType.ARTICLE_CREATED, 4L, "Funda", "Para PORTATIL de 15");
+
+        // When
+        ArticleSearchIndex.SearchHits first = articleSearchIndex.search("portatil", 0, 2);
+        ArticleSearchIndex.SearchHits second = articleSearchIndex.search("portatil", 2, 2);
+
+        // Then
+        assertEquals(3, first.total());
+        assertEquals(2L, first.articleIds().get(0));
+        assertThat(first.articleIds()).hasSize(2);
+        assertThat(second.articleIds()).hasSize(1);
+        assertThat(articleSearchIndex.search("teclado", 0, 10).articleIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep a loaded article once indexed, and match only the new text after it is indexed again")
+    void index_ShouldReplacePreviousText() {
+        // Given
+        articleSearchIndex.index(1L, "Monitor", "Curvo");
+        articleSearchIndex.load(1L, "Stale", "Text");
+
+        // When
+        articleSearchIndex.index(1L, "Monitor plano", "Nuevo");
+
+        // Then
+        assertEquals(1, articleSearchIndex.size());
+        assertEquals(0, articleSearchIndex.search("curvo stale", 0, 10).total());
+        assertEquals(List.of(1L), articleSearchIndex.search("monitor plano", 0, 10).articleIds());
+        assertEquals(List.of("cafe", "nino", "15"), ArticleSearchIndex.tokenize("Caf\u00e9, NI\u00d1O a 15!"));
+    }
+}
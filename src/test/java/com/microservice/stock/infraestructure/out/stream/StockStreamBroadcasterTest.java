@@ -0,0 +1,141 @@
+package com.microservice.stock.infraestructure.out.stream;
+
+import com.microservice.stock.infraestructure.out.outbox.OutboxEventType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StockStreamBroadcasterTest {
+
+    private static final Instant NOW = Instant.parse("2024-09-01T10:00:00Z");
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(10);
+
+    private final Queue<Runnable> dispatches = new ArrayDeque<>();
+
+    private Instant now = NOW;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private StockStreamBroadcaster stockStreamBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+        // Drains run only when the test says so, which stands in for a subscriber that reads slowly
+        stockStreamBroadcaster = new StockStreamBroadcaster(2, dispatches::add, Duration.ofSeconds(30), SEND_TIMEOUT,
+                clock, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockStreamBroadcaster.close();
+    }
+
+    @Test
+    @DisplayName("Should keep only the latest change per article while a subscriber is behind")
+    void stockChanged_ShouldCoalescePerArticle_WhenSubscriberIsBehind() {
+        // Given
+        stockStreamBroadcaster.subscribe();
+
+        // When
+        stockStreamBroadcaster.stockChanged(1, 1L, 10);
+        stockStreamBroadcaster.stockChanged(2, 1L, 9);
+        stockStreamBroadcaster.stockChanged(3, 1L, 8);
+        stockStreamBroadcaster.catalogChanged(4, OutboxEventType.BRAND_CREATED, 7L, "Brand", "Description");
+        dispatches.forEach(Runnable::run);
+
+        // Then
+        assertEquals(1, dispatches.size());
+        assertEquals(2.0, meterRegistry.get("stock.stream.coalesced").counter().count());
+        assertEquals(1.0, meterRegistry.get("stock.stream.subscribers").gauge().value());
+        assertEquals(0.0, meterRegistry.get("stock.stream.disconnects").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber that falls behind by more articles than its buffer holds")
+    void stockChanged_ShouldDisconnect_WhenBufferOverflows() {
+        // Given
+        stockStreamBroadcaster.subscribe();
+
+        // When
+        stockStreamBroadcaster.stockChanged(1, 1L, 10);
+        stockStreamBroadcaster.stockChanged(2, 2L, 10);
+        stockStreamBroadcaster.stockChanged(3, 3L, 10);
+        dispatches.forEach(Runnable::run);
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("stock.stream.disconnects").counter().count());
+        assertEquals(0.0, meterRegistry.get("stock.stream.subscribers").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should drop a subscriber whose send has blocked past the send timeout")
+    void dropStalledSubscribers_ShouldDropSubscriber_WhenSendBlocksPastTimeout() throws Exception {
+        // Given
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        stockStreamBroadcaster.subscribe(new SseEmitter(0L) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                sending.countDown();
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Client gone");
+            }
+        });
+        stockStreamBroadcaster.stockChanged(1, 1L, 10);
+        Thread drain = new Thread(dispatches.poll());
+        drain.start();
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        // When
+        stockStreamBroadcaster.dropStalledSubscribers();
+        double beforeTimeout = meterRegistry.get("stock.stream.stalls").counter().count();
+        now = NOW.plus(SEND_TIMEOUT);
+        stockStreamBroadcaster.dropStalledSubscribers();
+
+        // Then
+        assertEquals(0.0, beforeTimeout);
+        assertEquals(1.0, meterRegistry.get("stock.stream.stalls").counter().count());
+        assertEquals(0.0, meterRegistry.get("stock.stream.subscribers").gauge().value());
+        unblock.countDown();
+        drain.join(5000);
+    }
+}
@@ -0,0 +1,77 @@
+package com.microservice.stock.infraestructure.out.timer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimerWheelTest {
+
+    private static final long TICK = 100;
+
+    private HierarchicalTimerWheel timerWheel;
+
+    @BeforeEach
+    void setUp() {
+        timerWheel = new HierarchicalTimerWheel(TICK, 8, 3, 0);
+    }
+
+    @Test
+    @DisplayName("Should expire each timer on the tick of its deadline across all levels")
+    void advanceTo_ShouldExpireTimersOnTheirTick() {
+        // Given
+        long[] deadlines = {100, 750, 800, 6_400, 6_450, 40_000};
+        for (long deadline : deadlines) {
+            timerWheel.schedule("t" + deadline, deadline);
+        }
+        List<String> order = new ArrayList<>();
+
+        // When
+        for (long now = TICK; now <= 60_000; now += TICK) {
+            for (String key : timerWheel.advanceTo(now)) {
+                long deadline = Long.parseLong(key.substring(1));
+                // Then
+                assertThat(now).isBetween(deadline, deadline + TICK - 1);
+                order.add(key);
+            }
+        }
+
+        // Then
+        assertThat(order).containsExactly("t100", "t750", "t800", "t6400", "t6450", "t40000");
+        assertThat(timerWheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not fire a cancelled timer")
+    void cancel_ShouldRemoveTimer() {
+        // Given
+        timerWheel.schedule("kept", 2_000);
+        timerWheel.schedule("cancelled", 2_000);
+
+        // When
+        boolean cancelled = timerWheel.cancel("cancelled");
+        List<String> expired = timerWheel.advanceTo(2_000);
+
+        // Then
+        assertThat(cancelled).isTrue();
+        assertThat(expired).containsExactly("kept");
+    }
+
+    @Test
+    @DisplayName("Should fire a timer already past its deadline on the next tick")
+    void schedule_ShouldFireOnNextTick_WhenDeadlineHasPassed() {
+        // Given
+        timerWheel.advanceTo(5_000);
+
+        // When
+        timerWheel.schedule("late", 1_000);
+
+        // Then
+        assertThat(timerWheel.advanceTo(5_000)).isEmpty();
+        assertThat(timerWheel.advanceTo(5_100)).containsExactly("late");
+    }
+}
@@ -0,0 +1,76 @@
+package com.microservice.stock.infraestructure.out.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChangeVersionTest {
+
+    @AfterEach
+    void tearDown() {
+        ChangeVersion.limitTransactionTime(Duration.ofDays(1));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Releases the versions still held, so no test pins the watermark of the next one
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the watermark below a version held by an open transaction until it completes")
+    void watermark_ShouldStayBelowHeldVersion_UntilTransactionCompletes() throws InterruptedException {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        long version = ChangeVersion.next();
+        long later = ChangeVersion.next();
+        Thread.sleep(5);
+
+        // When
+        long whileOpen = ChangeVersion.watermark(Duration.ZERO);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        long afterCompletion = ChangeVersion.watermark(Duration.ZERO);
+
+        // Then
+        assertThat(later).isGreaterThan(version);
+        assertThat(whileOpen).isLessThan(version);
+        assertThat(afterCompletion).isGreaterThanOrEqualTo(later);
+    }
+
+    @Test
+    @DisplayName("Should roll back a transaction that held its change version longer than the limit")
+    void beforeCommit_ShouldFail_WhenVersionIsHeldTooLong() throws InterruptedException {
+        // Given
+        ChangeVersion.limitTransactionTime(Duration.ofMillis(1));
+        TransactionSynchronizationManager.initSynchronization();
+        ChangeVersion.next();
+        Thread.sleep(5);
+
+        // When & Then
+        assertThrows(TransactionTimedOutException.class, () -> TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.beforeCommit(false)));
+    }
+
+    @Test
+    @DisplayName("Should commit a transaction that took its change version within the limit")
+    void beforeCommit_ShouldPass_WhenVersionIsHeldWithinLimit() {
+        // Given
+        ChangeVersion.limitTransactionTime(Duration.ofMinutes(1));
+        TransactionSynchronizationManager.initSynchronization();
+        ChangeVersion.next();
+
+        // When & Then
+        assertDoesNotThrow(() -> TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.beforeCommit(false)));
+    }
+}